@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart.example;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.GanttComposite;
+import org.eclipse.nebula.widgets.ganttchart.GanttEvent;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures how long the {@link GanttComposite} takes to paint a chart with many events, once after a full relayout
+ * (as after a zoom) and once after scrolling one day to the right, which only moves the events.
+ * <p>
+ * Usage: <code>GanttPaintBenchmark [events] [iterations]</code>, by default 10000 events and 20 iterations. The shell is
+ * opened and every paint is forced with {@link GanttComposite#update()}, so a display is needed. Run it on two revisions
+ * to compare them.
+ */
+public class GanttPaintBenchmark {
+
+	private static final int	WARMUP_ITERATIONS	= 5;
+
+	public static void main(String[] args) {
+		final int events = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+		final Display display = new Display();
+		final Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		shell.setSize(1200, 900);
+
+		final GanttChart chart = new GanttChart(shell, SWT.NONE);
+		final GanttComposite composite = chart.getGanttComposite();
+
+		final Random random = new Random(4711);
+		final Calendar today = Calendar.getInstance();
+		for (int i = 0; i < events; i++) {
+			final Calendar start = (Calendar) today.clone();
+			start.add(Calendar.DATE, random.nextInt(365) - 30);
+			final Calendar end = (Calendar) start.clone();
+			end.add(Calendar.DATE, 1 + random.nextInt(20));
+			new GanttEvent(chart, "Event " + i, start, end, random.nextInt(100));
+		}
+
+		shell.open();
+		composite.update();
+
+		report("relayout", events, measure(iterations, new Runnable() {
+			public void run() {
+				composite.heavyRedraw();
+				composite.update();
+			}
+		}));
+		report("scroll", events, measure(iterations, new Runnable() {
+			public void run() {
+				composite.nextDay();
+				composite.redraw();
+				composite.update();
+			}
+		}));
+
+		display.dispose();
+	}
+
+	// returns the sorted duration of each iteration in milliseconds
+	private static double[] measure(final int iterations, final Runnable paint) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			paint.run();
+		}
+
+		final double[] millis = new double[iterations];
+		for (int i = 0; i < iterations; i++) {
+			final long start = System.nanoTime();
+			paint.run();
+			millis[i] = (System.nanoTime() - start) / 1e6;
+		}
+		Arrays.sort(millis);
+		return millis;
+	}
+
+	private static void report(final String name, final int events, final double[] millis) {
+		System.out.println(String.format("%-10s %7d events  min %8.2f ms  median %8.2f ms  max %8.2f ms", name, Integer.valueOf(events), Double.valueOf(millis[0]), Double.valueOf(millis[millis.length / 2]), Double.valueOf(millis[millis.length - 1])));
+	}
+}
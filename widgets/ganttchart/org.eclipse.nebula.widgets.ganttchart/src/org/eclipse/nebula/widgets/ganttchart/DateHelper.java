@@ -21,6 +21,7 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 public class DateHelper {
 
@@ -100,40 +101,25 @@ public class DateHelper {
     }
     
     public static long daysBetween(Calendar start, Calendar end) {
-        // create copies
-        GregorianCalendar startDate = new GregorianCalendar(_locale);
-        GregorianCalendar endDate = new GregorianCalendar(_locale);
-
-        // switch calendars to pure Julian mode for correct day-between
-        // calculation, from the Java API:
-        // - To obtain a pure Julian calendar, set the change date to
-        // Date(Long.MAX_VALUE).
-        startDate.setGregorianChange(new Date(Long.MAX_VALUE));
-        endDate.setGregorianChange(new Date(Long.MAX_VALUE));
-
-        // set them
-        startDate.setTime(start.getTime());
-        endDate.setTime(end.getTime());
-
-        // force times to be exactly the same
-        startDate.set(Calendar.HOUR_OF_DAY, 12);
-        endDate.set(Calendar.HOUR_OF_DAY, 12);
-        startDate.set(Calendar.MINUTE, 0);
-        endDate.set(Calendar.MINUTE, 0);
-        startDate.set(Calendar.SECOND, 0);
-        endDate.set(Calendar.SECOND, 0);
-        startDate.set(Calendar.MILLISECOND, 0);
-        endDate.set(Calendar.MILLISECOND, 0);
-
-        // now we should be able to do a "safe" millisecond/day calculation to
-        // get the number of days, note that we need to include the timezone or daylights savings will get lost!! this is a huge issue
-        long endMilli = endDate.getTimeInMillis() + endDate.getTimeZone().getOffset(endDate.getTimeInMillis());
-        long startMilli = startDate.getTimeInMillis() + startDate.getTimeZone().getOffset(startDate.getTimeInMillis());
-
-        // calculate # of days, finally
-        long diff = (endMilli - startMilli) / MILLISECONDS_IN_DAY;
-
-        return diff;
+        // the day of the local date of both instants in the default time zone, which is what matters to the user. Both are
+        // counted in the same zone, so daylight savings time doesn't shift a date
+        TimeZone zone = TimeZone.getDefault();
+        return epochDay(end.getTimeInMillis(), zone) - epochDay(start.getTimeInMillis(), zone);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the local date of the given instant in the default time zone, so
+     * that <code>daysBetween(start, end) == epochDay(end) - epochDay(start)</code>.
+     * 
+     * @param millis milliseconds since the epoch
+     * @return epoch day
+     */
+    public static long epochDay(long millis) {
+        return epochDay(millis, TimeZone.getDefault());
+    }
+
+    private static long epochDay(long millis, TimeZone zone) {
+        return Math.floorDiv(millis + zone.getOffset(millis), MILLISECONDS_IN_DAY);
     }
 
     public static long daysBetweenxX(Calendar start, Calendar end) {
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.Calendar;
+
+/**
+ * A date of an event as plain numbers, so that the chart can turn it into an x position with integer arithmetic instead
+ * of creating and comparing calendars on every paint.
+ * <p>
+ * Events keep one instance per date and replace it through {@link #of(EpochTime, Calendar)}, which only creates a new
+ * instance once the calendar was replaced or changed. Changes to the date of an event therefore never need to be
+ * reported.
+ */
+final class EpochTime {
+
+	private final Calendar	_calendar;
+	private final long		_millis;
+	private final long		_epochDay;
+	private final int		_minuteOfDay;
+
+	private EpochTime(final Calendar calendar, final long millis) {
+		_calendar = calendar;
+		_millis = millis;
+		_epochDay = DateHelper.epochDay(millis);
+		_minuteOfDay = calendar.get(Calendar.HOUR_OF_DAY) * 60 + calendar.get(Calendar.MINUTE);
+	}
+
+	/**
+	 * Returns the time of a calendar.
+	 *
+	 * @param cached the time returned for this date before, may be null
+	 * @param calendar the calendar, may be null
+	 * @return <code>cached</code> if it is the time of the calendar as it is now, a new time otherwise, or null if the
+	 *         calendar is null
+	 */
+	static EpochTime of(final EpochTime cached, final Calendar calendar) {
+		if (calendar == null) {
+			return null;
+		}
+
+		final long millis = calendar.getTimeInMillis();
+		if (cached != null && cached._calendar == calendar && cached._millis == millis) {
+			return cached;
+		}
+
+		return new EpochTime(calendar, millis);
+	}
+
+	/**
+	 * Returns the calendar this time was taken from, which must not be changed.
+	 */
+	Calendar getCalendar() {
+		return _calendar;
+	}
+
+	long getMillis() {
+		return _millis;
+	}
+
+	/**
+	 * Returns the day of the date as counted by {@link DateHelper#daysBetween(Calendar, Calendar)}.
+	 */
+	long getEpochDay() {
+		return _epochDay;
+	}
+
+	/**
+	 * Returns the minutes since midnight.
+	 */
+	int getMinuteOfDay() {
+		return _minuteOfDay;
+	}
+}
@@ -53,6 +53,8 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Region;
+import org.eclipse.swt.graphics.Transform;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Display;
@@ -196,6 +198,15 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	// end calendar, is only used for reference internally
 	private Calendar _endCalendar;
 
+	// origin of the integer date to x conversions of EpochTimes, derived from _mainCalendar, the view and the days visible
+	// and updated by updateTimeOrigin() whenever one of them changes
+	private long _originMainMillis = Long.MIN_VALUE;
+	private int _originView = -1;
+	private int _originDaysVisible = -1;
+	private long _originMillis;
+	private long _originEpochDay;
+	private long _viewPortEndMillis;
+
 	// the number of days that will be visible in the current area. Is set after
 	// we're done drawing the chart
 	private int _daysVisible;
@@ -276,9 +287,29 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	private boolean _recalcScopes = true;
 	private boolean _recalcSecBounds = true;
 
+	// nesting depth of beginUpdate()/endUpdate(), and whether a full update was flagged while updating
+	private int _updateDepth;
+	private boolean _fullUpdateAfterUpdate;
+
 	private final Set<Object> _allEventsCombined;
 	// sections, in groups, or single
 
+	// rows of the laid out events and connections, so painting and hit testing can skip what isn't in the visible rows
+	private final GanttEventIndex _eventIndex = new GanttEventIndex();
+
+	// everything of the chart that isn't an event or a connection (header, fills, lines, phases, special date ranges and the section
+	// column), rendered once and reused as long as the date, the vertical scroll position, the zoom level and the size stay the same.
+	// redraw() throws it away, redrawEventsArea() keeps it
+	private Image _backgroundLayer;
+	private boolean _backgroundDirty = true;
+	private long _backgroundMainMillis;
+	private int _backgroundVScrollPos;
+	private int _backgroundZoomLevel;
+	private int _backgroundView;
+	// set when laying out the events moves the row of an event, the horizontal lines of the background are drawn at the rows of the
+	// previous layout then
+	private boolean _horizontalLinesMoved;
+
 	private final List<Integer> _verticalLineLocations;
 
 	// faster
@@ -321,6 +352,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	private boolean _savingChartImage = false;
 
+	// while drawing in regions: the bounds of the entire chart, whether that is the full chart, and the region being drawn once
+	// the chart is laid out, which limits the drawn events to the rows of the region
+	private Rectangle _regionChartBounds;
+	private boolean _regionFullChart;
+	private Rectangle _drawnRegion;
+
 	private final List<GanttPhase> _ganttPhases;
 
 	final private List<GanttSpecialDateRange> _specDateRanges;
@@ -543,6 +580,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		});
 
+		addListener(SWT.Dispose, new Listener() {
+			public void handleEvent(final Event event) {
+				disposeBackgroundLayer();
+			}
+		});
+
 		addMouseListener(this);
 		addMouseMoveListener(this);
 		addMouseTrackListener(this);
@@ -686,6 +729,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	void updateVerticalScrollBar(final boolean redraw) {
+		// the first paint after the update takes care of it
+		if (_updateDepth > 0) {
+			_forceSBUpdate = true;
+			return;
+		}
+
 		handleResize(redraw);
 	}
 
@@ -818,6 +867,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void hideLayer(final int layer) {
 		if (!_hiddenLayers.contains(new Integer(layer))) {
 			_hiddenLayers.add(new Integer(layer));
+			_eventIndex.invalidate();
 		}
 	}
 
@@ -829,6 +879,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void showLayer(final int layer) {
 		final boolean removed = _hiddenLayers.remove(new Integer(layer));
 		if (removed) {
+			_eventIndex.invalidate();
 			redrawEventsArea();
 		}
 	}
@@ -847,6 +898,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		_hiddenLayers.clear();
+		_eventIndex.invalidate();
 		redrawEventsArea();
 	}
 
@@ -862,6 +914,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		}
 
+		_eventIndex.invalidate();
 		redrawEventsArea();
 	}
 
@@ -1212,7 +1265,14 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		final boolean calcHeaderOnly = _settings.drawHeader() && _settings.lockHeaderOnVerticalScroll() || !_settings.drawHeader();
 
-		drawHeader(gc, calcHeaderOnly);
+		// when painting the control, everything but the events and connections comes out of the background layer, which is only
+		// drawn again when it is out of date. Images of the chart are always drawn in one go
+		final boolean useBackgroundLayer = boundsOverride == null && !_savingChartImage && bounds.width > 0 && bounds.height > 0;
+		final boolean drawBackground = !useBackgroundLayer || !isBackgroundLayerValid();
+		final GC backgroundGC = useBackgroundLayer && drawBackground ? createBackgroundLayer(gc) : gc;
+
+		// the header calculations are needed for the events, even if the header itself is taken from the background layer
+		drawHeader(backgroundGC, calcHeaderOnly || !drawBackground);
 
 		/*
 		 * // header
@@ -1232,8 +1292,108 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		 */
 		updateEventVisibilities(_visibleBounds);
 
-		// section drawing needs special treatment as we need to give sub-bounds to the various drawing methods
+		// without sections the events are drawn below the header
+		final Rectangle eventBounds = drawSections ? bounds : new Rectangle(bounds.x, getHeaderHeight(), bounds.width, bounds.height);
+
+		if (drawBackground) {
+			drawBackground(backgroundGC, bounds, eventBounds, boundsOverride);
+		}
+
 		if (drawSections) {
+			for (int i = 0; i < _ganttSections.size(); i++) {
+				final GanttSection section = _ganttSections.get(i);
+				_bottomMostY = Math.max(section.getBounds().y + section.getBounds().height, _bottomMostY);
+			}
+		}
+
+		if (useBackgroundLayer) {
+			if (drawBackground) {
+				drawForeground(backgroundGC, bounds, eventBounds);
+				backgroundGC.dispose();
+			}
+
+			gc.drawImage(_backgroundLayer, 0, 0);
+
+			// the section column and a locked header belong on top of the events, they are already in the background layer,
+			// so we just keep the events out of them
+			final Region paintClipping = new Region();
+			gc.getClipping(paintClipping);
+			final Region eventClipping = new Region();
+			gc.getClipping(eventClipping);
+			final int eventTop = _settings.lockHeaderOnVerticalScroll() && _settings.drawHeader() ? _lockedHeaderY + getHeaderHeight() : 0;
+			eventClipping.intersect(bounds.x, eventTop, bounds.width, super.getClientArea().height - eventTop);
+			gc.setClipping(eventClipping);
+
+			drawEventLayer(gc, eventBounds, boundsOverride);
+
+			gc.setClipping(paintClipping);
+			eventClipping.dispose();
+			paintClipping.dispose();
+		} else {
+			drawEventLayer(gc, eventBounds, boundsOverride);
+			drawForeground(gc, bounds, eventBounds);
+		}
+
+		// the horizontal lines are drawn before the events are laid out, so if the rows moved, the lines in the background layer are
+		// off and we paint once more with the new rows
+		if (_horizontalLinesMoved) {
+			_horizontalLinesMoved = false;
+			if (useBackgroundLayer && _drawHorizontalLines) {
+				redraw();
+			}
+		}
+
+		// zoom
+		if (_showZoomHelper && _settings.showZoomLevelBox()) {
+			drawZoomLevel(gc);
+		}
+
+		// last draw
+		if (_settings.enableLastDraw()) {
+			for (int i = 0; i < _eventListeners.size(); i++) {
+				final IGanttEventListener listener = _eventListeners.get(i);
+				listener.lastDraw(gc);
+			}
+		}
+
+		// by default these are on, we flag them off when we know for sure we don't need to recalculate bounds
+		_recalcScopes = false;
+		_recalcSecBounds = false;
+
+		if (_zoomLevelChanged) {
+			_zoomLevelChanged = false;
+			updateHorizontalScrollbar();
+
+			// on zoom level change we update the position, as otherwise the next prev/next horizontal bar click will make it check against
+			// the previous zoom level value, which is usually way off, and the entire chart jumps a huge distance which is obviously really bad.
+			// as the zoom level has changed, all we do is to say "update the scrollbar, set the new selection position to what it is now after the update"
+			// which solves the issue
+			_hScrollHandler.resetScrollPosition();
+		}
+
+		if (_forceSBUpdate) {
+			updateVerticalScrollBar(true);
+			updateHorizontalScrollbar();
+			_forceSBUpdate = false;
+		}
+
+		// long totaltime2 = System.currentTimeMillis();
+		// String redraw = "redraw: " + (totaltime2 - totaltime1);
+
+		// mRedrawCount++;
+		// total += (time2 - time1);
+		// System.err.println(redraw + " avg: " + (float) total / (float) redrawCount);
+		// System.err.println(redraw);
+
+		calculateVerticalInsertLocations();
+		drawVerticalInsertMarkers(gc);
+	}
+
+	// draws everything that is below the events: fills, phases, lines and special date ranges. Scopes and section bounds are
+	// calculated here too, as a recalculation always means that the background has to be drawn again
+	private void drawBackground(final GC gc, final Rectangle bounds, final Rectangle eventBounds, final Rectangle boundsOverride) {
+		// section drawing needs special treatment as we need to give sub-bounds to the various drawing methods
+		if (hasGanttSections()) {
 			if (_recalcSecBounds) {
 				calculateSectionBounds(gc, bounds);
 			}
@@ -1254,15 +1414,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					offset = getHeaderHeight();
 				}
 
-				if (hasGanttSections()) {
-					if (_settings.drawSectionBar()) {
-						startX -= _settings.getSectionBarWidth();
-						maxX += _settings.getSectionBarWidth();
-					}
-					if (_settings.drawSectionDetails()) {
-						startX -= _settings.getSectionDetailWidth();
-						maxX += _settings.getSectionDetailWidth();
-					}
+				if (_settings.drawSectionBar()) {
+					startX -= _settings.getSectionBarWidth();
+					maxX += _settings.getSectionBarWidth();
+				}
+				if (_settings.drawSectionDetails()) {
+					startX -= _settings.getSectionDetailWidth();
+					maxX += _settings.getSectionDetailWidth();
 				}
 
 				final int startY = bounds.y + getHeaderHeight() - offset;
@@ -1305,58 +1463,62 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				if (hasSpecialDateRanges()) {
 					drawGanttSpecialDateRanges(gc, gsBounds, section);
 				}
-
-				// draw events
-				drawEvents(gc, gsBounds, section);
-			}
-
-			// before we drew connections inside the loop below, which was totally pointless. We only need to draw connections once for the visible area,
-			// not once per section. This is way faster, connection drawing is not 0ms
-			drawConnections(gc);
-
-			// just because I have the feeling some user will want cross-section connections, we allow it by
-			// drawing the connecting lines _last_. Why? because the event bounds are not calculated until the event is drawn, and if we have
-			// a connection to a group/event that hasn't been drawn yet, it would draw an arrow into space..
-			for (int i = 0; i < _ganttSections.size(); i++) {
-				final GanttSection section = _ganttSections.get(i);
-				_bottomMostY = Math.max(section.getBounds().y + section.getBounds().height, _bottomMostY);
 			}
 		} else {
-			bounds = new Rectangle(bounds.x, getHeaderHeight(), bounds.width, bounds.height);
-
-			// long start = System.currentTimeMillis();
 			if (_recalcScopes) {
-				calculateAllScopes(bounds, null);
+				calculateAllScopes(eventBounds, null);
 			}
 
 			// draw fills
-			drawFills(gc, bounds);
+			drawFills(gc, eventBounds);
 
 			if (hasGanttPhases()) {
-				drawGanttPhases(gc, bounds, false, null);
+				drawGanttPhases(gc, eventBounds, false, null);
 			}
 
 			// draws vertical lines all over the chart
 			if (_drawVerticalLines) {
-				drawVerticalLines(gc, bounds, true);
+				drawVerticalLines(gc, eventBounds, true);
 			}
 
 			if (_drawHorizontalLines) {
-				drawHorizontalLines(gc, bounds);
+				drawHorizontalLines(gc, eventBounds);
 			}
 
 			if (hasSpecialDateRanges()) {
-				drawGanttSpecialDateRanges(gc, bounds, null);
+				drawGanttSpecialDateRanges(gc, eventBounds, null);
 			}
+		}
+	}
 
-			// draw the events
-			drawEvents(gc, bounds);
+	// draws the events and the connecting arrows, which is all that changes when events are dragged or selected
+	private void drawEventLayer(final GC gc, final Rectangle eventBounds, final Rectangle boundsOverride) {
+		if (hasGanttSections()) {
+			for (int i = 0; i < _ganttSections.size(); i++) {
+				final GanttSection section = _ganttSections.get(i);
+				final Rectangle gsBounds = section.getBounds();
 
-			// draw the connecting arrows
-			drawConnections(gc);
+				if (boundsOverride != null) {
+					gsBounds.width = boundsOverride.width;
+				}
+
+				drawEvents(gc, gsBounds, section);
+			}
+		} else {
+			drawEvents(gc, eventBounds);
 		}
 
-		if (drawSections) {
+		// before we drew connections once per section, which was totally pointless. We only need to draw connections once for the visible area,
+		// not once per section. This is way faster, connection drawing is not 0ms.
+		// Just because I have the feeling some user will want cross-section connections, we allow it by drawing the connecting lines _last_.
+		// Why? because the event bounds are not calculated until the event is drawn, and if we have a connection to a group/event that hasn't
+		// been drawn yet, it would draw an arrow into space..
+		drawConnections(gc);
+	}
+
+	// draws what goes on top of the events: the section column and a locked header
+	private void drawForeground(final GC gc, final Rectangle bounds, final Rectangle eventBounds) {
+		if (hasGanttSections()) {
 			drawSectionColumn(gc, bounds, false, false, false, false);
 		}
 
@@ -1365,53 +1527,57 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		if (_settings.lockHeaderOnVerticalScroll() && _settings.drawHeader()) {
 			drawHeader(gc, false);
 			// draw corner again
-			drawSectionColumn(gc, bounds, true, false, true, false);
-		}
-
-		// zoom
-		if (_showZoomHelper && _settings.showZoomLevelBox()) {
-			drawZoomLevel(gc);
+			drawSectionColumn(gc, eventBounds, true, false, true, false);
 		}
+	}
 
-		// last draw
-		if (_settings.enableLastDraw()) {
-			for (int i = 0; i < _eventListeners.size(); i++) {
-				final IGanttEventListener listener = _eventListeners.get(i);
-				listener.lastDraw(gc);
-			}
+	// whether the background layer still shows the chart as it is now
+	private boolean isBackgroundLayerValid() {
+		if (_backgroundDirty || _recalcScopes || _recalcSecBounds || _backgroundLayer == null) {
+			return false;
 		}
 
-		// by default these are on, we flag them off when we know for sure we don't need to recalculate bounds
-		_recalcScopes = false;
-		_recalcSecBounds = false;
+		final Rectangle area = super.getClientArea();
+		final Rectangle layer = _backgroundLayer.getBounds();
 
-		if (_zoomLevelChanged) {
-			_zoomLevelChanged = false;
-			updateHorizontalScrollbar();
+		return layer.width == area.width && layer.height == area.height && _backgroundMainMillis == _mainCalendar.getTimeInMillis() && _backgroundVScrollPos == _vScrollPos
+				&& _backgroundZoomLevel == _zoomLevel && _backgroundView == _currentView;
+	}
 
-			// on zoom level change we update the position, as otherwise the next prev/next horizontal bar click will make it check against
-			// the previous zoom level value, which is usually way off, and the entire chart jumps a huge distance which is obviously really bad.
-			// as the zoom level has changed, all we do is to say "update the scrollbar, set the new selection position to what it is now after the update"
-			// which solves the issue
-			_hScrollHandler.resetScrollPosition();
+	// (re)creates the background layer for the current state and returns a GC to draw it, which the caller disposes
+	private GC createBackgroundLayer(final GC gc) {
+		final Rectangle area = super.getClientArea();
+		if (_backgroundLayer != null) {
+			final Rectangle layer = _backgroundLayer.getBounds();
+			if (layer.width != area.width || layer.height != area.height) {
+				disposeBackgroundLayer();
+			}
 		}
-
-		if (_forceSBUpdate) {
-			updateVerticalScrollBar(true);
-			updateHorizontalScrollbar();
-			_forceSBUpdate = false;
+		if (_backgroundLayer == null) {
+			_backgroundLayer = new Image(getDisplay(), area.width, area.height);
 		}
 
-		// long totaltime2 = System.currentTimeMillis();
-		// String redraw = "redraw: " + (totaltime2 - totaltime1);
+		_backgroundDirty = false;
+		_backgroundMainMillis = _mainCalendar.getTimeInMillis();
+		_backgroundVScrollPos = _vScrollPos;
+		_backgroundZoomLevel = _zoomLevel;
+		_backgroundView = _currentView;
 
-		// mRedrawCount++;
-		// total += (time2 - time1);
-		// System.err.println(redraw + " avg: " + (float) total / (float) redrawCount);
-		// System.err.println(redraw);
+		final GC layerGC = new GC(_backgroundLayer);
+		layerGC.setFont(gc.getFont());
+		layerGC.setBackground(getBackground());
+		layerGC.fillRectangle(0, 0, area.width, area.height);
+		layerGC.setForeground(gc.getForeground());
+		layerGC.setBackground(gc.getBackground());
+		return layerGC;
+	}
 
-		calculateVerticalInsertLocations();
-		drawVerticalInsertMarkers(gc);
+	private void disposeBackgroundLayer() {
+		if (_backgroundLayer != null) {
+			_backgroundLayer.dispose();
+			_backgroundLayer = null;
+		}
+		_backgroundDirty = true;
 	}
 
 	/**
@@ -3687,6 +3853,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return;
 		}
 
+		if (useEventIndex()) {
+			internalDrawIndexedEvents(gc, bounds, gs);
+			return;
+		}
+
 		final Set alreadyDrawn = new HashSet();
 
 		List events = _ganttEvents;
@@ -3731,13 +3902,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// don't draw out of bounds events
 			if (ge.getVisibility() != Constants.EVENT_VISIBLE) {
 				// still calculate name extent, we need it to determine correct scrollbars for fixed scrollbars among other things
-				if (ge.getNameExtent() == null || ge.isNameChanged()) {
-					final String toDraw = getStringForEvent(ge);
-					// ge.setNameExtent(gc.stringExtent(toDraw));
-					ge.setNameExtent(gc.textExtent(toDraw));
-					ge.setParsedString(toDraw);
-					ge.setNameChanged(false);
-				}
+				updateNameExtent(gc, ge);
 				continue;
 			}
 
@@ -3749,6 +3914,62 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 	}
 
+	// same as above, but only looks at the events in the visible rows. The name extents of all other events were calculated
+	// by the last full draw, which happens whenever the events are laid out
+	private void internalDrawIndexedEvents(final GC gc, final Rectangle bounds, final GanttSection gs) {
+		final List events = _eventIndex.getEventsToDraw(gs, _visibleBounds.y, _visibleBounds.y + _visibleBounds.height);
+
+		// all events that are non-hidden are counted, in visible bounds or not. Hiding an event doesn't rebuild the index,
+		// so they are counted on every draw
+		_totVisEventCnt = 0;
+		final List allEvents = _eventIndex.getAllEventsToDraw(gs);
+		for (int i = 0; i < allEvents.size(); i++) {
+			if (!((GanttEvent) allEvents.get(i)).isHidden()) {
+				_totVisEventCnt++;
+			}
+		}
+
+		final Set alreadyDrawn = new HashSet();
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent ge = (GanttEvent) events.get(i);
+
+			if (ge.isHidden()) {
+				continue;
+			}
+
+			if (ge.getVisibility() != Constants.EVENT_VISIBLE) {
+				updateNameExtent(gc, ge);
+				continue;
+			}
+
+			alreadyDrawn.add(ge);
+			drawOneEvent(gc, ge, bounds);
+		}
+
+		// events that need to be drawn but aren't actually part of the section (vertical DND)
+		if (gs != null) {
+			final List dndEvents = gs.getDNDGanttEvents();
+			for (int i = 0; i < dndEvents.size(); i++) {
+				final GanttEvent ge = (GanttEvent) dndEvents.get(i);
+				if (ge.isHidden() || ge.getVisibility() != Constants.EVENT_VISIBLE || !alreadyDrawn.add(ge)) {
+					continue;
+				}
+
+				drawOneEvent(gc, ge, bounds);
+			}
+		}
+	}
+
+	private void updateNameExtent(final GC gc, final GanttEvent ge) {
+		if (ge.getNameExtent() == null || ge.isNameChanged()) {
+			final String toDraw = getStringForEvent(ge);
+			// ge.setNameExtent(gc.stringExtent(toDraw));
+			ge.setNameExtent(gc.textExtent(toDraw));
+			ge.setParsedString(toDraw);
+			ge.setNameChanged(false);
+		}
+	}
+
 	// draws one event onto the chart (or rather, delegates to the correct drawing method)
 	private void drawOneEvent(final GC gc, final GanttEvent ge, final Rectangle boundsToUse) {
 		final int xStart = ge.getX();
@@ -3807,7 +4028,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		// draw a little plaque saying how many days that this event is long
 		if (_showNumDays) {
-			final long days = DateHelper.daysBetween(ge.getActualStartDate(), ge.getActualEndDate()) + 1;
+			final long days = ge.getActualEndTime().getEpochDay() - ge.getActualStartTime().getEpochDay() + 1;
 			_paintManager.drawDaysOnChart(this, _settings, _colorManager, ge, gc, _threeDee, xStart, yDrawPos, xEventWidth, (int) days, bounds);
 		}
 
@@ -3838,11 +4059,47 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// updates all event visibilities, the bounds is the currently visible bounds, not the bounds that should be calculated
 	private void updateEventVisibilities(final Rectangle bounds) {
+		// only the events in the rows that were or are visible can change their visibility when the events haven't moved vertically
+		if (useEventIndex() && !_eventIndex.needsFullVisibilityUpdate()) {
+			final List events = _eventIndex.getEventsForVisibilityUpdate(_visibleBounds.y, _visibleBounds.y + _visibleBounds.height);
+			for (int i = 0; i < events.size(); i++) {
+				final GanttEvent ge = (GanttEvent) events.get(i);
+				ge.setVisibility(getEventVisibility(ge, bounds));
+			}
+			return;
+		}
+
 		final Object[] all = _allEventsCombined.toArray();
 		for (int i = 0; i < all.length; i++) {
 			final GanttEvent ge = (GanttEvent) all[i];
 			ge.setVisibility(getEventVisibility(ge, bounds));
 		}
+
+		if (_visibleBounds != null) {
+			_eventIndex.visibilityUpdated(_visibleBounds.y, _visibleBounds.y + _visibleBounds.height);
+		}
+	}
+
+	// the event index is only used once the events are laid out and not while saving the chart as image, when everything is visible
+	private boolean useEventIndex() {
+		if (_recalcScopes || _savingChartImage || _visibleBounds == null) {
+			return false;
+		}
+
+		if (!_eventIndex.isValid()) {
+			_eventIndex.build(_ganttEvents, hasGanttSections() ? _ganttSections : null, _allEventsCombined, _ganttConnections, _vScrollPos);
+		}
+
+		return true;
+	}
+
+	// returns the events whose rows cover the given vertical range of the control, in the order of the event list
+	private List getEventsInRows(final int yStart, final int yEnd) {
+		if (useEventIndex()) {
+			return _eventIndex.getEventsAt(yStart + _vScrollPos, yEnd + _vScrollPos);
+		}
+
+		return _ganttEvents;
 	}
 
 	private void calculateAllScopes(final Rectangle bounds, final GanttSection gs) {
@@ -3850,6 +4107,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return;
 		}
 
+		// events are about to move vertically
+		_eventIndex.invalidate();
+
 		int yStart = bounds.y + _settings.getEventsTopSpacer();// - mVerticalScrollPosition;
 
 		final Set allEventsInGroups = new HashSet();
@@ -3988,10 +4248,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				yDrawPos = ((Integer) groupLocations.get(ge.getGanttGroup())).intValue() - _vScrollPos;
 			}
 
-			if (fixedHeight) {
-				ge.setHorizontalLineBottomY(yDrawPos - _eventHeight + _vScrollPos);
-			} else {
-				ge.setHorizontalLineBottomY(yDrawPos + _eventHeight + _vScrollPos);
+			final int horizontalLineBottomY = fixedHeight ? yDrawPos - _eventHeight + _vScrollPos : yDrawPos + _eventHeight + _vScrollPos;
+			if (ge.getHorizontalLineBottomY() != horizontalLineBottomY) {
+				ge.setHorizontalLineBottomY(horizontalLineBottomY);
+				_horizontalLinesMoved = true;
 			}
 
 			// set event bounds
@@ -4154,6 +4414,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		con.setParentComposite(this);
 		if (!_ganttConnections.contains(con)) {
 			_ganttConnections.add(con);
+			_eventIndex.invalidate();
 		}
 	}
 
@@ -4168,6 +4429,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		checkWidget();
 
 		_ganttConnections.remove(conn);
+		_eventIndex.invalidate();
 	}
 
 	/**
@@ -4242,8 +4504,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		final int dw = getDayWidth();
 
-		for (int i = 0; i < _ganttConnections.size(); i++) {
-			final GanttConnection connection = _ganttConnections.get(i);
+		List connections = _ganttConnections;
+		if (useEventIndex()) {
+			connections = _eventIndex.getConnections(_visibleBounds.y, _visibleBounds.y + _visibleBounds.height);
+		}
+
+		for (int i = 0; i < connections.size(); i++) {
+			final GanttConnection connection = (GanttConnection) connections.get(i);
 
 			final GanttEvent ge1 = connection.getSource();
 			final GanttEvent ge2 = connection.getTarget();
@@ -5184,7 +5451,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void reindex(final GanttEvent event, final int newIndex) {
 		_ganttEvents.remove(event);
 		_ganttEvents.add(newIndex, event);
-		redrawEventsArea();
+		redraw();
 	}
 
 	/**
@@ -5196,7 +5463,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void reindex(final GanttSection section, final int newIndex) {
 		_ganttSections.remove(section);
 		_ganttSections.add(newIndex, section);
-		redrawEventsArea();
+		redraw();
 	}
 
 	/**
@@ -5209,7 +5476,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		checkWidget();
 		_ganttGroups.remove(group);
 		_ganttGroups.add(newIndex, group);
-		redrawEventsArea();
+		redraw();
 	}
 
 	/**
@@ -5401,6 +5668,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		for (int i = 0; i < toRemove.size(); i++) {
 			_ganttConnections.remove(toRemove.get(i));
 		}
+		_eventIndex.invalidate();
 
 		// eventNumbersChanged();
 		if (event.getScopeParent() != null) {
@@ -5414,7 +5682,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 		final boolean ret = _ganttEvents.remove(event);
 
-		redrawEventsArea();
+		redraw();
 
 		return ret;
 	}
@@ -5752,9 +6020,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		redraw();
 	}
 
-	// redraws only the area where the events are, only call when dates aren't changing
+	// redraws only the events and connections on top of the background layer, only call when nothing but the events'
+	// dates, selection or visibility changed
 	private void redrawEventsArea() {
-		redraw();
+		_paintManager.redrawStarting();
+		super.redraw();
 	}
 
 	/**
@@ -5771,8 +6041,17 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	// checks whether an event is visible in the current date range that is
 	// displayed on the screen
 	private int getEventVisibility(final GanttEvent event, final Rectangle bounds) {
-		// if we're saving the chart as an image, everything is visible unless it's truly hidden
+		// if we're saving the chart as an image, everything is visible unless it's truly hidden, or outside the rows of the region
+		// being drawn
 		if (_savingChartImage && !event.isHidden()) {
+			if (_drawnRegion != null && event.getY() != 0) {
+				if (event.getY() > _drawnRegion.y + _drawnRegion.height) {
+					return Constants.EVENT_OOB_BOTTOM;
+				}
+				if (event.getY() + event.getHeight() < _drawnRegion.y) {
+					return Constants.EVENT_OOB_TOP;
+				}
+			}
 			return Constants.EVENT_VISIBLE;
 		}
 
@@ -5782,7 +6061,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		// if event is missing dates, don't let it show, fix to #281983
-		if (event.getActualStartDate() == null || event.getActualEndDate() == null) {
+		if (event.getActualStartTime() == null || event.getActualEndTime() == null) {
 			return Constants.EVENT_NOT_VISIBLE;
 		}
 
@@ -5806,23 +6085,17 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		}
 
-		Calendar sCal = null;
-		Calendar eCal = null;
+		EpochTime sTime = null;
+		EpochTime eTime = null;
 
 		// bugfix #304819 - If planned dates are showing, visibility needs to take them into account and not just the normal dates
 		// thus, the earliest start and latest end matter instead as we're showing "everything".
 		if (isShowingPlannedDates()) {
-			sCal = event.getEarliestStartDate();
-			eCal = event.getLatestEndDate();
+			sTime = event.getEarliestStartTime();
+			eTime = event.getLatestEndTime();
 		} else {
-			sCal = event.getActualStartDate();
-			eCal = event.getActualEndDate();
-			if (sCal == null) {
-				sCal = event.getRevisedStart();
-			}
-			if (eCal == null) {
-				eCal = event.getRevisedEnd();
-			}
+			sTime = event.getActualStartTime();
+			eTime = event.getActualEndTime();
 		}
 
 		// scope checking
@@ -5830,13 +6103,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			final GanttEvent earliest = event.getEarliestScopeEvent();
 			final GanttEvent latest = event.getLatestScopeEvent();
 			if (earliest != null) {
-				sCal = earliest.getActualStartDate();
+				sTime = earliest.getActualStartTime();
 			}
 			if (latest != null) {
-				eCal = latest.getActualEndDate();
+				eTime = latest.getActualEndTime();
 			}
 
-			if (sCal == null || eCal == null) {
+			if (sTime == null || eTime == null) {
 				return Constants.EVENT_NOT_VISIBLE;
 			}
 		}
@@ -5847,60 +6120,52 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// the boundary box would not be drawn when the event was not in visible range, which would be very odd to the user
 		// as it would suddenly appear when the event became visible, but they could not view how far it expanded without zooming out.
 		if (event.hasMovementConstraints()) {
-			if (event.getNoMoveBeforeDate() != null && event.getNoMoveBeforeDate().before(sCal)) {
-				sCal = event.getNoMoveBeforeDate();
+			if (event.getNoMoveBeforeDate() != null && event.getNoMoveBeforeDate().getTimeInMillis() < sTime.getMillis()) {
+				sTime = EpochTime.of(null, event.getNoMoveBeforeDate());
 			}
-			if (event.getNoMoveAfterDate() != null && event.getNoMoveAfterDate().after(eCal)) {
-				eCal = event.getNoMoveAfterDate();
+			if (event.getNoMoveAfterDate() != null && event.getNoMoveAfterDate().getTimeInMillis() > eTime.getMillis()) {
+				eTime = EpochTime.of(null, event.getNoMoveAfterDate());
 			}
 		}
 
 		// if we don't have width, check using dates, this happens on the
 		// initial draw and when events are outside of the picture
 		if (event.getWidthWithText() == 0) {
-			final Date eventStart = sCal.getTime();
-			final Date eventEnd = eCal.getTime();
-			final Calendar temp = Calendar.getInstance(_defaultLocale);
-			temp.setTime(_mainCalendar.getTime());
+			final long eventStart = sTime.getMillis();
+			final long eventEnd = eTime.getMillis();
 
-			final long viewPortStart = temp.getTimeInMillis();
-			if (_daysVisible == 0) {
-				if (_endCalendar == null) {
-					// May happen when the widget is about to be created and not visible
-					if (_endCalendar==null) {
-						return Constants.EVENT_NOT_VISIBLE;
-					}
-				}
-				temp.setTime(_endCalendar.getTime());
-			} else {
-				temp.add(Calendar.DATE, _daysVisible);
+			if (_daysVisible == 0 && _endCalendar == null) {
+				// May happen when the widget is about to be created and not visible
+				return Constants.EVENT_NOT_VISIBLE;
 			}
 
-			final long viewPortEnd = temp.getTimeInMillis();
+			updateTimeOrigin();
+			final long viewPortStart = _originMainMillis;
+			final long viewPortEnd = _viewPortEndMillis;
 
 			// inside
-			// if (eventStart.getTime() >= viewPortStart && eventStart.getTime() <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
+			// if (eventStart >= viewPortStart && eventStart <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
 
-			// if (eventEnd.getTime() >= viewPortStart && eventEnd.getTime() <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
+			// if (eventEnd >= viewPortStart && eventEnd <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
 
 			// event starts before calendar-end-time and ends after calendar-start-time (inside)
-			if (eventStart.getTime() <= viewPortEnd && eventEnd.getTime() >= viewPortStart) {
+			if (eventStart <= viewPortEnd && eventEnd >= viewPortStart) {
 				return Constants.EVENT_VISIBLE;
 			}
 
 			// event spans entire screen, also fix to Bugzilla bug #236846 - https://bugs.eclipse.org/bugs/show_bug.cgi?id=236846
-			if (eventStart.getTime() <= viewPortStart && eventEnd.getTime() >= viewPortEnd) {
+			if (eventStart <= viewPortStart && eventEnd >= viewPortEnd) {
 				return Constants.EVENT_VISIBLE;
 			}
 
 			// event starts in screen and ends outside screen
-			if (eventStart.getTime() >= viewPortStart && eventStart.getTime() <= viewPortEnd && eventEnd.getTime() >= viewPortEnd) {
+			if (eventStart >= viewPortStart && eventStart <= viewPortEnd && eventEnd >= viewPortEnd) {
 				return Constants.EVENT_VISIBLE;
 			}
 
 		} else {
-			int xStart = getStartingXFor(sCal);
-			int xEnd = getXForDate(eCal);
+			int xStart = getStartingXFor(sTime);
+			int xEnd = getXForTime(eTime);
 
 			final int buffer = _settings.getArrowHeadEventSpacer();
 			xEnd += buffer;
@@ -5936,11 +6201,86 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// gets the x position for where the event bar should start
 	private int getStartingXFor(final GanttEvent event) {
-		if (_currentView == ISettings.VIEW_MINUTE || _currentView == ISettings.VIEW_DAY) {
-			return getStartingXForEventHours(event);
+		final EpochTime start = event.getActualStartTime();
+		if (start == null) {
+			return getStartingXFor((Calendar) null);
+		}
+
+		return getStartingXFor(start);
+	}
+
+	// brings the origin of the EpochTime conversions up to date with the current view
+	private void updateTimeOrigin() {
+		final long mainMillis = _mainCalendar.getTimeInMillis();
+		if (mainMillis == _originMainMillis && _currentView == _originView && _daysVisible == _originDaysVisible) {
+			if (_daysVisible == 0 && _endCalendar != null) {
+				_viewPortEndMillis = _endCalendar.getTimeInMillis();
+			}
+			return;
+		}
+
+		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
+		if (_currentView == ISettings.VIEW_YEAR) {
+			temp.set(Calendar.DAY_OF_MONTH, 1);
+		}
+		_originMillis = temp.getTimeInMillis();
+		_originEpochDay = DateHelper.epochDay(_originMillis);
+
+		if (_daysVisible == 0) {
+			_viewPortEndMillis = _endCalendar == null ? mainMillis : _endCalendar.getTimeInMillis();
 		} else {
-			return getStartingXFor(event.getActualStartDate());
+			temp.setTimeInMillis(mainMillis);
+			temp.add(Calendar.DATE, _daysVisible);
+			_viewPortEndMillis = temp.getTimeInMillis();
+		}
+
+		_originMainMillis = mainMillis;
+		_originView = _currentView;
+		_originDaysVisible = _daysVisible;
+	}
+
+	/**
+	 * Same as {@link #getStartingXFor(Calendar)}, but for the day based views the x position is calculated from the
+	 * epoch millis without any calendars.
+	 *
+	 * @param time the date
+	 * @return x position
+	 */
+	int getStartingXFor(final EpochTime time) {
+		if (_currentView == ISettings.VIEW_MINUTE || _currentView == ISettings.VIEW_DAY) {
+			return getStartingXForEventHours(time.getCalendar());
+		}
+
+		updateTimeOrigin();
+		final long secondsBetween = (int) ((time.getMillis() - _originMillis) / 1000);
+		final int dw = getDayWidth();
+		final float pps = dw / (24f * 60f * 60f);
+		return _mainBounds.x + (int) (secondsBetween * pps);
+	}
+
+	/**
+	 * Same as {@link #getXForDate(Calendar)}, but for the day based views the x position is calculated from the epoch
+	 * day without any calendars.
+	 *
+	 * @param time the date
+	 * @return x position
+	 */
+	int getXForTime(final EpochTime time) {
+		if (_currentView == ISettings.VIEW_MINUTE || _currentView == ISettings.VIEW_DAY) {
+			return getStartingXForEventHours(time.getCalendar());
+		}
+
+		updateTimeOrigin();
+		final int dw = getDayWidth();
+		final long days = time.getEpochDay() - _originEpochDay;
+
+		int extra = 0;
+		if (_drawToMinute) {
+			final float ppm = dw / (60f * 24f);
+			extra = (int) (time.getMinuteOfDay() * ppm);
 		}
+
+		return (int) days * dw + extra;
 	}
 
 	/**
@@ -5953,10 +6293,6 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return getStartingXFor(date);
 	}
 
-	private int getStartingXForEventHours(final GanttEvent event) {
-		return getStartingXForEventHours(event.getActualStartDate());
-	}
-
 	private int getStartingXForEventHours(final Calendar start) {
 		final Calendar temp = Calendar.getInstance(_defaultLocale);
 		temp.setTime(_mainCalendar.getTime());
@@ -6039,7 +6375,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	private int getXLengthForEventHours(final GanttEvent event) {
-		return getXForDate(event.getActualEndDate()) - getXForDate(event.getActualStartDate());
+		return getXForTime(event.getActualEndTime()) - getXForTime(event.getActualStartTime());
 	}
 
 	// gets the x position for where the event bar should end
@@ -6049,7 +6385,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 
-		final int secondsBetweenStartAndEnd = DateHelper.secondsBetween(event.getActualStartDate().getTime(), event.getActualEndDate().getTime(), false, false);
+		final int secondsBetweenStartAndEnd = (int) ((event.getActualEndTime().getMillis() - event.getActualStartTime().getMillis()) / 1000);
 
 		final int dw = this.getDayWidth();
 		final float pps = dw / (24f * 60f * 60f);
@@ -6099,8 +6435,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// it's in mouse-down mode, so we need to force it to not thinking that
 		killMouseState();
 
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List events = getEventsInRows(me.y, me.y);
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent event = (GanttEvent) events.get(i);
 
 			if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 				for (int j = 0; j < _eventListeners.size(); j++) {
@@ -6155,8 +6492,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return;
 		}
 
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent ge = _ganttEvents.get(i);
+		final List events = getEventsInRows(rect.y, rect.y + rect.height);
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent ge = (GanttEvent) events.get(i);
 			if (ge.isScope()) {
 				continue;
 			}
@@ -6171,7 +6509,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			listener.eventSelected(null, _selectedEvents, me);
 		}
 
-		redraw();
+		redrawEventsArea();
 	}
 
 	public void mouseDown(final MouseEvent me) {
@@ -6253,8 +6591,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		// deal with selection
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List events = getEventsInRows(me.y, me.y);
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent event = (GanttEvent) events.get(i);
 
 			if (event.isScope() && !_settings.allowScopeMenu()) {
 				continue;
@@ -6453,6 +6792,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					// event is not allowed to be on these dates, undo
 					if (!range.canEventOccupy(ge.getActualStartDate(), ge.getActualEndDate())) {
 						ge.moveCancelled();
+						_eventIndex.invalidate();
 						_dragEvents.remove(ge);
 						needsRedraw = true;
 						failedMoves.add(ge);
@@ -6584,6 +6924,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				final GanttEvent ge = (GanttEvent) _dragEvents.get(i);
 				if (ge.getGanttSection() != null && targetSection != null && ge.getGanttSection() == targetSection) {
 					ge.undoVerticalDragging();
+					_eventIndex.invalidate();
 					ignoreDrag.add(ge);
 				}
 			}
@@ -6929,6 +7270,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				for (int i = 0; i < _dragEvents.size(); i++) {
 					final GanttEvent ge = (GanttEvent) _dragEvents.get(i);
 					ge.moveCancelled();
+					_eventIndex.invalidate();
 					if (ge.getScopeParent() != null && !scopeEventsToUpdate.contains(ge.getScopeParent())) {
 						scopeEventsToUpdate.add(ge.getScopeParent());
 					}
@@ -7154,8 +7496,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 			if (_mainBounds == null || me.x >= _mainBounds.x) {
 				// check if cursor is inside the area of an event
-				for (int i = 0; i < _ganttEvents.size(); i++) {
-					final GanttEvent event = _ganttEvents.get(i);
+				final List events = getEventsInRows(me.y, me.y);
+				for (int i = 0; i < events.size(); i++) {
+					final GanttEvent event = (GanttEvent) events.get(i);
 					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 						insideAnyEvent = true;
 
@@ -8076,11 +8419,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					_freeDragging = true;
 				}
 				event.updateY(me.y);
+				_eventIndex.invalidate();
 			} else {
 				// this makes the event "snap" back to where it was before as we undo the vertical Y
 				// if it's within range of our original position
 				if (_freeDragging) {
 					event.undoVerticalDragging();
+					_eventIndex.invalidate();
 					redraw();
 				}
 			}
@@ -8233,7 +8578,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// System.err.println(ge.getParentScopeChain());
 
 			ge.calculateScope();
-			final int newStartX = getXForDate(ge.getEarliestScopeEvent().getActualStartDate());
+			final int newStartX = getXForTime(ge.getEarliestScopeEvent().getActualStartTime());
 			final int newWidth = getXLengthForEvent(ge);
 			ge.updateX(newStartX);
 			ge.updateWidth(newWidth);
@@ -8494,8 +8839,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		if (_mainBounds == null || me.x >= _mainBounds.x) {
-			for (int i = 0; i < _ganttEvents.size(); i++) {
-				final GanttEvent event = _ganttEvents.get(i);
+			final List events = getEventsInRows(me.y, me.y);
+			for (int i = 0; i < events.size(); i++) {
+				final GanttEvent event = (GanttEvent) events.get(i);
 				if (!event.isHidden()) {
 					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 						showTooltip(event, me);
@@ -8779,63 +9125,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// as we may accidentally move the current chart when saving, don't show the user, we'll be drawing on a different canvas anyway
 			setRedraw(false);
 
-			final GanttEvent geLeft = getEvent(true, true);
-			final Rectangle fullBounds = new Rectangle(0, 0, 0, 0);
-			final GanttEvent geRight = getEvent(false, true);
-
-			if (geRight == null || geLeft == null) {
+			final Rectangle fullBounds = layOutFullChart();
+			if (fullBounds == null) {
 				return getImage();
 			}
 
-			// set calendar to earliest date
 			final boolean drawSections = hasGanttSections();
-			int extraX = 0;
-			int extraW = 0;
-			if (drawSections) {
-				if (_settings.drawSectionBar()) {
-					if (_settings.getSectionSide() == SWT.LEFT) {
-						extraX -= _settings.getSectionBarWidth();
-					}
-					extraW += _settings.getSectionBarWidth();
-				}
-				if (_settings.drawSectionDetails()) {
-					if (_settings.getSectionSide() == SWT.LEFT) {
-						extraX -= _settings.getSectionDetailWidth();
-					} else {
-						extraW += _settings.getSectionDetailWidth() / 2;
-					}
-				}
-			}
-
-			int leftBound = geLeft.getActualBounds().x;
-			if (_settings.getPeriodStart() != null) {
-				leftBound = Math.min(leftBound, getStartingXFor(_settings.getPeriodStart()));
-			}
-
-			// add spacing of 3 days to the left
-			final int dw = getDayWidth();
-			extraX -= dw * 3;
-
-			_mainCalendar = getDateAt(leftBound + extraX);
-
-			final Rectangle rBounds = geRight.getActualBounds();
-
-			int rightBound = rBounds.x + rBounds.width + extraW;
-			if (_settings.getPeriodEnd() != null) {
-				rightBound = Math.max(rightBound, getStartingXFor(_settings.getPeriodEnd()));
-			}
-
-			// the zoom level has impact on the start position of the gantt rendering
-			// therefore we need to take that into account
-			if (_currentView == ISettings.VIEW_YEAR) {
-				extraW += _mainCalendar.get(Calendar.DAY_OF_MONTH) * dw;
-			}
-
-			// add spacing of 3 days to the right
-			extraW += dw * 3;
-
-			fullBounds.width = rightBound - leftBound - extraX + extraW;
-			fullBounds.height = _bottomMostY;
 
 			// set chart bounds to be the fake bounds
 			_mainBounds = fullBounds;
@@ -8881,6 +9176,70 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return null;
 	}
 
+	// moves the chart to the earliest date an image of the entire chart starts at and returns the bounds of that image, or null
+	// if there are no events. The caller has to restore the date
+	private Rectangle layOutFullChart() {
+		final GanttEvent geLeft = getEvent(true, true);
+		final Rectangle fullBounds = new Rectangle(0, 0, 0, 0);
+		final GanttEvent geRight = getEvent(false, true);
+
+		if (geRight == null || geLeft == null) {
+			return null;
+		}
+
+		// set calendar to earliest date
+		final boolean drawSections = hasGanttSections();
+		int extraX = 0;
+		int extraW = 0;
+		if (drawSections) {
+			if (_settings.drawSectionBar()) {
+				if (_settings.getSectionSide() == SWT.LEFT) {
+					extraX -= _settings.getSectionBarWidth();
+				}
+				extraW += _settings.getSectionBarWidth();
+			}
+			if (_settings.drawSectionDetails()) {
+				if (_settings.getSectionSide() == SWT.LEFT) {
+					extraX -= _settings.getSectionDetailWidth();
+				} else {
+					extraW += _settings.getSectionDetailWidth() / 2;
+				}
+			}
+		}
+
+		int leftBound = geLeft.getActualBounds().x;
+		if (_settings.getPeriodStart() != null) {
+			leftBound = Math.min(leftBound, getStartingXFor(_settings.getPeriodStart()));
+		}
+
+		// add spacing of 3 days to the left
+		final int dw = getDayWidth();
+		extraX -= dw * 3;
+
+		_mainCalendar = getDateAt(leftBound + extraX);
+
+		final Rectangle rBounds = geRight.getActualBounds();
+
+		int rightBound = rBounds.x + rBounds.width + extraW;
+		if (_settings.getPeriodEnd() != null) {
+			rightBound = Math.max(rightBound, getStartingXFor(_settings.getPeriodEnd()));
+		}
+
+		// the zoom level has impact on the start position of the gantt rendering
+		// therefore we need to take that into account
+		if (_currentView == ISettings.VIEW_YEAR) {
+			extraW += _mainCalendar.get(Calendar.DAY_OF_MONTH) * dw;
+		}
+
+		// add spacing of 3 days to the right
+		extraW += dw * 3;
+
+		fullBounds.width = rightBound - leftBound - extraX + extraW;
+		fullBounds.height = _bottomMostY;
+
+		return fullBounds;
+	}
+
 	/**
 	 * Returns the chart as an image for the given bounds.
 	 *
@@ -8919,6 +9278,108 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return null;
 	}
 
+	/**
+	 * Draws the chart region by region instead of into one image like {@link #getFullImage()},
+	 * {@link #getVerticallyFullImage()} and {@link #getImage()} do, so that charts that are too big for an image can be printed
+	 * or exported. The chart is laid out as for the image and handed to the drawer, which draws the regions it needs with
+	 * {@link #drawChartRegion(GC, Rectangle, int, int)}. Only the events in the rows of a region are drawn, so drawing a chart in
+	 * regions takes about as long as drawing it in one go.
+	 *
+	 * @param full true to draw the entire chart, as {@link #getFullImage()}
+	 * @param verticallyFull if not full, true to draw the visible horizontal area but everything vertically, as
+	 *            {@link #getVerticallyFullImage()}, false to draw the visible area, as {@link #getImage()}
+	 * @param drawer Drawer of the regions
+	 */
+	public void drawInRegions(final boolean full, final boolean verticallyFull, final IChartRegionDrawer drawer) {
+		checkWidget();
+
+		// same as getFullImage(), we pretend to be at scroll position 0 and restore everything at the end
+		_savingChartImage = true;
+		final int oldVscroll = _vScrollPos;
+		if (full) {
+			_vScrollPos = 0;
+			moveYBounds(-oldVscroll);
+		}
+		final Rectangle oldBounds = _mainBounds;
+		final Calendar currentCalendar = DateHelper.getNewCalendar(_mainCalendar);
+		try {
+			setRedraw(false);
+
+			Rectangle chartBounds = full ? layOutFullChart() : null;
+			if (chartBounds != null) {
+				_mainBounds = chartBounds;
+				_regionFullChart = true;
+				flagForceFullUpdate();
+			} else if (full || !verticallyFull) {
+				chartBounds = new Rectangle(_visibleBounds.x, _visibleBounds.y, _visibleBounds.width, _visibleBounds.height);
+			} else {
+				chartBounds = new Rectangle(_visibleBounds.x, 0, _visibleBounds.width, _bottomMostY);
+			}
+
+			_regionChartBounds = chartBounds;
+			drawer.drawRegions(this, new Point(chartBounds.width, chartBounds.height));
+		} finally {
+			_regionChartBounds = null;
+			_regionFullChart = false;
+			_drawnRegion = null;
+			_vScrollPos = oldVscroll;
+			if (full) {
+				moveYBounds(_vScrollPos);
+			}
+			_savingChartImage = false;
+			_mainBounds = oldBounds;
+			_mainCalendar = currentCalendar;
+			flagForceFullUpdate();
+			setRedraw(true);
+			redraw();
+		}
+	}
+
+	/**
+	 * Draws a region of the chart at the given location of a GC. Can only be called by the {@link IChartRegionDrawer} passed
+	 * to {@link #drawInRegions(boolean, boolean, IChartRegionDrawer)}. The transform of the GC is taken into account, so a
+	 * printer GC can be scaled to the resolution of the printer.
+	 *
+	 * @param gc GC to draw on
+	 * @param region Region of the chart to draw, in pixels of the entire chart
+	 * @param x Horizontal location of the region on the GC
+	 * @param y Vertical location of the region on the GC
+	 */
+	public void drawChartRegion(final GC gc, final Rectangle region, final int x, final int y) {
+		checkWidget();
+		if (_regionChartBounds == null) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+
+		final Transform oldTransform = new Transform(gc.getDevice());
+		gc.getTransform(oldTransform);
+		final Transform transform = new Transform(gc.getDevice());
+		gc.getTransform(transform);
+		transform.translate(x - region.x, y - region.y);
+		gc.setTransform(transform);
+		gc.setClipping(region);
+
+		// the first region lays the chart out, which moves the events, so only the ones after that can skip rows
+		_drawnRegion = _recalcScopes || _recalcSecBounds ? null : region;
+		try {
+			drawChartOntoGC(gc, _regionChartBounds);
+			if (_regionFullChart) {
+				drawHeader(gc, false);
+			}
+
+			// same as for images, the section column on the right is drawn last
+			if (hasGanttSections() && _settings.getSectionSide() == SWT.RIGHT) {
+				drawSectionColumn(gc, _regionChartBounds, false, true, false, true);
+			}
+		} finally {
+			_drawnRegion = null;
+			gc.setClipping((Rectangle) null);
+			gc.setTransform(oldTransform);
+			transform.dispose();
+			oldTransform.dispose();
+		}
+	}
+
 	private List<Object> getEventsDependingOn(GanttEvent ge) {
 		if (_ganttConnections.isEmpty()) {
 			return new ArrayList<>();
@@ -9118,12 +9579,82 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	void flagForceFullUpdate() {
 		_recalcScopes = true;
 		_recalcSecBounds = true;
+		_eventIndex.invalidate();
+		_forceSBUpdate = true;
+
+		// while updating, every added or removed event gets here, so the events are only flagged once when the update ends
+		if (_updateDepth > 0) {
+			_fullUpdateAfterUpdate = true;
+			return;
+		}
 
 		for (int i = 0; i < _ganttEvents.size(); i++) {
 			_ganttEvents.get(i).setBoundsSet(false);
 		}
+	}
 
-		_forceSBUpdate = true;
+	/**
+	 * Starts a batch of changes to the chart, such as adding many events, groups, sections and connections. Until the
+	 * matching {@link #endUpdate()} the chart is not redrawn, the layout of the events and the vertical scroll bar are not
+	 * recalculated and connections are not routed, all of which happens once when the batch ends. Undo/redo commands that
+	 * are recorded in the meantime are undone and redone together as one {@link ClusteredCommand}.
+	 * <p>
+	 * Calls may be nested, only the outermost {@link #endUpdate()} ends the batch. Prefer {@link #runBatch(Runnable)},
+	 * which can't miss the end.
+	 *
+	 * @see #endUpdate()
+	 * @see #runBatch(Runnable)
+	 */
+	public void beginUpdate() {
+		checkWidget();
+		if (_updateDepth++ == 0) {
+			setRedraw(false);
+			_undoRedoManager.beginCluster();
+		}
+	}
+
+	/**
+	 * Ends a batch of changes started with {@link #beginUpdate()}. Ending the outermost batch lays the chart out again and
+	 * redraws it. Does nothing if no batch was started.
+	 */
+	public void endUpdate() {
+		checkWidget();
+		if (_updateDepth == 0 || --_updateDepth > 0) {
+			return;
+		}
+
+		_undoRedoManager.endCluster();
+
+		if (_fullUpdateAfterUpdate) {
+			_fullUpdateAfterUpdate = false;
+			flagForceFullUpdate();
+		}
+
+		setRedraw(true);
+		redraw();
+	}
+
+	/**
+	 * Runs the given changes as one batch, see {@link #beginUpdate()}. The batch is ended even if the runnable throws.
+	 *
+	 * @param changes Changes to the chart
+	 */
+	public void runBatch(final Runnable changes) {
+		beginUpdate();
+		try {
+			changes.run();
+		} finally {
+			endUpdate();
+		}
+	}
+
+	/**
+	 * Whether changes are being batched between {@link #beginUpdate()} and {@link #endUpdate()}.
+	 *
+	 * @return true if updating
+	 */
+	public boolean isUpdating() {
+		return _updateDepth > 0;
 	}
 
 	public IViewPortHandler getViewPortHandler() {
@@ -9340,6 +9871,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	// override so we can tell paint manager to reset
 	@Override
 	public void redraw() {
+		_backgroundDirty = true;
 		_paintManager.redrawStarting();
 		super.redraw();
 	}
@@ -9419,7 +9951,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_selectedEvents.add(all[i]);
 		}
 
-		redraw();
+		redrawEventsArea();
 	}
 
 	/**
@@ -9427,7 +9959,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void deselectAll() {
 		_selectedEvents.clear();
-		redraw();
+		redrawEventsArea();
 	}
 
 	// as from:
@@ -149,6 +149,12 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
 
     private Rectangle       _preVerticalDragBounds;
 
+    // the dates as used when painting, see EpochTime
+    private EpochTime       _actualStartTime;
+    private EpochTime       _actualEndTime;
+    private EpochTime       _earliestStartTime;
+    private EpochTime       _latestEndTime;
+
     /**
      * Creates a new GanttEvent.
      * 
@@ -451,6 +457,46 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
         return _endDate.after(_revisedEnd) ? _endDate : _revisedEnd;
     }
 
+    /**
+     * Returns the actual start date without copying it, see {@link #getActualStartDate()}.
+     * 
+     * @return time or null
+     */
+    EpochTime getActualStartTime() {
+        _actualStartTime = EpochTime.of(_actualStartTime, _revisedStart == null ? _startDate : _revisedStart);
+        return _actualStartTime;
+    }
+
+    /**
+     * Returns the actual end date without copying it, see {@link #getActualEndDate()}.
+     * 
+     * @return time or null
+     */
+    EpochTime getActualEndTime() {
+        _actualEndTime = EpochTime.of(_actualEndTime, _revisedEnd == null ? _endDate : _revisedEnd);
+        return _actualEndTime;
+    }
+
+    /**
+     * Returns the earliest start date, see {@link #getEarliestStartDate()}.
+     * 
+     * @return time or null
+     */
+    EpochTime getEarliestStartTime() {
+        _earliestStartTime = EpochTime.of(_earliestStartTime, getEarliestStartDate());
+        return _earliestStartTime;
+    }
+
+    /**
+     * Returns the latest end date, see {@link #getLatestEndDate()}.
+     * 
+     * @return time or null
+     */
+    EpochTime getLatestEndTime() {
+        _latestEndTime = EpochTime.of(_latestEndTime, getLatestEndDate());
+        return _latestEndTime;
+    }
+
     /**
      * Sets the end date of this event.
      * 
@@ -587,12 +633,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
         //if (_name.indexOf("2") > -1)
         //System.err.println("Updatebounds " + mName + " " + getBounds());
 
-        if (getEarliestStartDate() != null) {
-            setEarliestStartX(_parentComposite.getStartingXFor(getEarliestStartDate()));
-        }
-        if (getLatestEndDate() != null) {
-            setLatestEndX(_parentComposite.getXForDate(getLatestEndDate()) + _parentComposite.getDayWidth());
-        }
+        updateOtherXs();
     }
 
     void updateX(final int x) {
@@ -602,11 +643,13 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     }
 
     private void updateOtherXs() {
-        if (getEarliestStartDate() != null) {
-            setEarliestStartX(_parentComposite.getStartingXFor(getEarliestStartDate()));
+        final EpochTime earliestStart = getEarliestStartTime();
+        if (earliestStart != null) {
+            setEarliestStartX(_parentComposite.getStartingXFor(earliestStart));
         }
-        if (getLatestEndDate() != null) {
-            setLatestEndX(_parentComposite.getXForDate(getLatestEndDate()) + _parentComposite.getDayWidth());
+        final EpochTime latestEnd = getLatestEndTime();
+        if (latestEnd != null) {
+            setLatestEndX(_parentComposite.getXForTime(latestEnd) + _parentComposite.getDayWidth());
         }
     }
 
@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interval index over the rows of the laid out events and connections of a {@link GanttComposite}, so painting and hit
+ * testing only have to look at the events in the visible rows instead of all events.
+ * <p>
+ * The rows are indexed by the y location of an event plus the vertical scroll position, which is where the event would
+ * be if the chart was not scrolled. Scrolling moves the events and the scroll position by the same amount, so the index
+ * stays valid until the events are laid out again or moved vertically some other way, at which point the composite
+ * invalidates it and it is rebuilt on its next use. Events which have not been laid out yet (y is 0) are returned by
+ * every query.
+ * <p>
+ * Horizontally nothing is indexed, as the x location of an event follows from its dates and the current view, both of
+ * which change on every horizontal scroll or zoom. The visibility check of the composite is cheap once it only runs for
+ * the events in the visible rows.
+ */
+class GanttEventIndex {
+
+	// sorted rows of events and connections
+	private static final class Rows {
+
+		private final Object[]	_items;
+		// order of each item, only used to sort query results
+		private final int[]		_orders;
+
+		// item indexes sorted by top, with the tops, bottoms and running maximum of the bottoms in the same order
+		private final int[]		_sorted;
+		private final int[]		_tops;
+		private final int[]		_bottoms;
+		private final int[]		_maxBottoms;
+
+		// item indexes which are returned by every query
+		private final int[]		_unplaced;
+
+		private Rows(final List<Object> items, final int[] orders, final int[] tops, final int[] bottoms, final boolean[] placed) {
+			final int count = items.size();
+			_items = items.toArray();
+			_orders = Arrays.copyOf(orders, count);
+
+			int placedCount = 0;
+			for (int i = 0; i < count; i++) {
+				if (placed[i]) {
+					placedCount++;
+				}
+			}
+
+			// sort by top, ties are kept in insertion order
+			final long[] keys = new long[placedCount];
+			_unplaced = new int[count - placedCount];
+			int k = 0;
+			int u = 0;
+			for (int i = 0; i < count; i++) {
+				if (placed[i]) {
+					keys[k++] = (long) tops[i] << 32 | i;
+				} else {
+					_unplaced[u++] = i;
+				}
+			}
+			Arrays.sort(keys);
+
+			_sorted = new int[placedCount];
+			_tops = new int[placedCount];
+			_bottoms = new int[placedCount];
+			_maxBottoms = new int[placedCount];
+			int maxBottom = Integer.MIN_VALUE;
+			for (int i = 0; i < placedCount; i++) {
+				final int item = (int) keys[i];
+				_sorted[i] = item;
+				_tops[i] = tops[item];
+				_bottoms[i] = bottoms[item];
+				maxBottom = Math.max(maxBottom, bottoms[item]);
+				_maxBottoms[i] = maxBottom;
+			}
+		}
+
+		/**
+		 * Returns the items whose rows intersect the given range, including both ends.
+		 *
+		 * @param from top of the range
+		 * @param to bottom of the range
+		 * @param sorted whether the items are returned in their order
+		 * @param orderedOnly whether items with a negative order are left out
+		 */
+		private List<Object> query(final int from, final int to, final boolean sorted, final boolean orderedOnly) {
+			// the first item that may reach down to the range, as the running maximum never decreases
+			int start = 0;
+			int end = _maxBottoms.length;
+			while (start < end) {
+				final int mid = (start + end) >>> 1;
+				if (_maxBottoms[mid] < from) {
+					start = mid + 1;
+				} else {
+					end = mid;
+				}
+			}
+
+			// the first item below the range
+			int low = start;
+			end = _tops.length;
+			while (low < end) {
+				final int mid = (low + end) >>> 1;
+				if (_tops[mid] <= to) {
+					low = mid + 1;
+				} else {
+					end = mid;
+				}
+			}
+
+			final long[] keys = new long[low - start + _unplaced.length];
+			int count = 0;
+			for (int i = start; i < low; i++) {
+				if (_bottoms[i] >= from) {
+					count = add(keys, count, _sorted[i], orderedOnly);
+				}
+			}
+			for (int i = 0; i < _unplaced.length; i++) {
+				count = add(keys, count, _unplaced[i], orderedOnly);
+			}
+
+			if (sorted) {
+				Arrays.sort(keys, 0, count);
+			}
+
+			final List<Object> result = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				result.add(_items[(int) keys[i]]);
+			}
+			return result;
+		}
+
+		private int add(final long[] keys, final int count, final int item, final boolean orderedOnly) {
+			if (orderedOnly && _orders[item] < 0) {
+				return count;
+			}
+			keys[count] = (long) _orders[item] << 32 | item;
+			return count + 1;
+		}
+	}
+
+	// collects the items of one Rows instance
+	private static final class RowsBuilder {
+
+		private final List<Object>	_items		= new ArrayList<>();
+		private int[]				_orders		= new int[16];
+		private int[]				_tops		= new int[16];
+		private int[]				_bottoms	= new int[16];
+		private boolean[]			_placed		= new boolean[16];
+
+		private void add(final Object item, final int order, final int top, final int bottom, final boolean placed) {
+			final int i = _items.size();
+			if (i == _orders.length) {
+				_orders = Arrays.copyOf(_orders, i * 2);
+				_tops = Arrays.copyOf(_tops, i * 2);
+				_bottoms = Arrays.copyOf(_bottoms, i * 2);
+				_placed = Arrays.copyOf(_placed, i * 2);
+			}
+			_items.add(item);
+			_orders[i] = order;
+			_tops[i] = top;
+			_bottoms[i] = bottom;
+			_placed[i] = placed;
+		}
+
+		private void add(final GanttEvent ge, final int order, final int vScrollPos) {
+			final int top = ge.getY() + vScrollPos;
+			add(ge, order, top, top + ge.getHeight(), ge.getY() != 0);
+		}
+
+		private int size() {
+			return _items.size();
+		}
+
+		private Rows build() {
+			return new Rows(_items, _orders, _tops, _bottoms, _placed);
+		}
+	}
+
+	private boolean						_valid;
+
+	// all events, ordered by their index in the event list of the composite (-1 if they are not in it)
+	private Rows						_allEvents;
+
+	// events of each section (key null when there are no sections), ordered like they are drawn
+	private final Map<Object, Rows>		_drawnEvents		= new IdentityHashMap<>();
+
+	private Rows						_connections;
+
+	// largest event height, by which connection queries are widened as the lines are drawn around the events
+	private int							_maxEventHeight;
+
+	private boolean						_fullVisibilityUpdate;
+	private int							_lastVisibleFrom;
+	private int							_lastVisibleTo;
+
+	/**
+	 * Flags the index to be rebuilt before it is used next.
+	 */
+	void invalidate() {
+		_valid = false;
+	}
+
+	boolean isValid() {
+		return _valid;
+	}
+
+	/**
+	 * Rebuilds the index from the current locations of the events.
+	 *
+	 * @param ganttEvents the event list of the composite
+	 * @param ganttSections the sections of the composite, or null if it doesn't use any
+	 * @param allEvents all events including group members
+	 * @param connections all connections
+	 * @param vScrollPos the current vertical scroll position
+	 */
+	void build(final List<GanttEvent> ganttEvents, final List<GanttSection> ganttSections, final Collection<?> allEvents, final List<GanttConnection> connections, final int vScrollPos) {
+		final Map<GanttEvent, Integer> listIndexes = new IdentityHashMap<>();
+		for (int i = 0; i < ganttEvents.size(); i++) {
+			final Object obj = ganttEvents.get(i);
+			if (obj instanceof GanttEvent && !listIndexes.containsKey(obj)) {
+				listIndexes.put((GanttEvent) obj, Integer.valueOf(i));
+			}
+		}
+
+		_maxEventHeight = 0;
+		final RowsBuilder all = new RowsBuilder();
+		for (final Object obj : allEvents) {
+			final GanttEvent ge = (GanttEvent) obj;
+			final Integer listIndex = listIndexes.get(ge);
+			all.add(ge, listIndex == null ? -1 : listIndex.intValue(), vScrollPos);
+			_maxEventHeight = Math.max(_maxEventHeight, ge.getHeight());
+		}
+		_allEvents = all.build();
+
+		_drawnEvents.clear();
+		if (ganttSections == null) {
+			addDrawnEvents(null, ganttEvents, vScrollPos);
+		} else {
+			for (int i = 0; i < ganttSections.size(); i++) {
+				final GanttSection gs = ganttSections.get(i);
+				addDrawnEvents(gs, gs.getEvents(), vScrollPos);
+			}
+		}
+
+		final RowsBuilder cons = new RowsBuilder();
+		for (int i = 0; i < connections.size(); i++) {
+			final GanttConnection connection = connections.get(i);
+			final GanttEvent source = connection.getSource();
+			final GanttEvent target = connection.getTarget();
+			if (source == null || target == null) {
+				continue;
+			}
+
+			final int top = Math.min(source.getY(), target.getY()) + vScrollPos;
+			final int bottom = Math.max(source.getY() + source.getHeight(), target.getY() + target.getHeight()) + vScrollPos;
+			cons.add(connection, i, top - _maxEventHeight, bottom + _maxEventHeight, source.getY() != 0 && target.getY() != 0);
+		}
+		_connections = cons.build();
+
+		_valid = true;
+		_fullVisibilityUpdate = true;
+	}
+
+	// adds the events of one section in the order GanttComposite draws them, with group members in place of the group
+	private void addDrawnEvents(final GanttSection gs, final List<?> events, final int vScrollPos) {
+		final RowsBuilder drawn = new RowsBuilder();
+		final Map<GanttEvent, Boolean> added = new IdentityHashMap<>();
+		for (int i = 0; i < events.size(); i++) {
+			final Object obj = events.get(i);
+			final List<?> members = obj instanceof GanttGroup ? ((GanttGroup) obj).getEventMembers() : Collections.singletonList(obj);
+			for (int j = 0; j < members.size(); j++) {
+				final GanttEvent ge = (GanttEvent) members.get(j);
+				if (added.put(ge, Boolean.TRUE) != null) {
+					continue;
+				}
+
+				drawn.add(ge, drawn.size(), vScrollPos);
+			}
+		}
+		_drawnEvents.put(gs, drawn.build());
+	}
+
+	/**
+	 * Whether the visibility of all events needs to be updated, which is the case once after the index was built.
+	 */
+	boolean needsFullVisibilityUpdate() {
+		return _fullVisibilityUpdate;
+	}
+
+	/**
+	 * Records that the visibility of all events was updated for the given visible rows.
+	 */
+	void visibilityUpdated(final int from, final int to) {
+		_fullVisibilityUpdate = false;
+		_lastVisibleFrom = from;
+		_lastVisibleTo = to;
+	}
+
+	/**
+	 * Returns the events whose visibility may have changed since the last update, which are the events in the rows
+	 * visible now or at the last update, and in between. All other events were above or below the visible rows both
+	 * times.
+	 *
+	 * @param from top of the visible rows
+	 * @param to bottom of the visible rows
+	 */
+	List<Object> getEventsForVisibilityUpdate(final int from, final int to) {
+		final List<Object> result = _allEvents.query(Math.min(from, _lastVisibleFrom), Math.max(to, _lastVisibleTo), false, false);
+		visibilityUpdated(from, to);
+		return result;
+	}
+
+	/**
+	 * Returns the events of a section in the given rows, in the order they are drawn.
+	 *
+	 * @param gs the section, or null if the composite doesn't use sections
+	 */
+	List<Object> getEventsToDraw(final GanttSection gs, final int from, final int to) {
+		final Rows rows = _drawnEvents.get(gs);
+		return rows == null ? Collections.emptyList() : rows.query(from, to, true, false);
+	}
+
+	/**
+	 * Returns all events of a section in the order they are drawn, in the visible rows or not.
+	 *
+	 * @param gs the section, or null if the composite doesn't use sections
+	 */
+	List<Object> getAllEventsToDraw(final GanttSection gs) {
+		final Rows rows = _drawnEvents.get(gs);
+		return rows == null ? Collections.emptyList() : Arrays.asList(rows._items);
+	}
+
+	/**
+	 * Returns the events of the event list of the composite in the given rows, in the order of that list.
+	 */
+	List<Object> getEventsAt(final int from, final int to) {
+		return _allEvents.query(from, to, true, true);
+	}
+
+	/**
+	 * Returns the connections which may cross the given rows, in the order of the connection list of the composite.
+	 */
+	List<Object> getConnections(final int from, final int to) {
+		return _connections.query(from, to, true, false);
+	}
+}
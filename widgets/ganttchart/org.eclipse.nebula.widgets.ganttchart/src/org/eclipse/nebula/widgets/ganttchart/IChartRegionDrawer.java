@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Draws a chart region by region, for example page by page onto a printer or tile by tile into image files, so that the
+ * chart never has to fit into one image.
+ *
+ * @see GanttComposite#drawInRegions(boolean, boolean, IChartRegionDrawer)
+ */
+public interface IChartRegionDrawer {
+
+	/**
+	 * Called once the chart is laid out for drawing. Until this method returns, any number of regions of the chart can be
+	 * drawn with {@link GanttComposite#drawChartRegion(GC, Rectangle, int, int)}.
+	 *
+	 * @param composite the chart
+	 * @param size the size of the entire chart in pixels
+	 */
+	void drawRegions(GanttComposite composite, Point size);
+}
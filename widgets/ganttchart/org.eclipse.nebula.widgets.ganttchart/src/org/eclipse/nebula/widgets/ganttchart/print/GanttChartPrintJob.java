@@ -17,9 +17,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.GanttComposite;
+import org.eclipse.nebula.widgets.ganttchart.IChartRegionDrawer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.graphics.Transform;
@@ -73,12 +74,13 @@ public class GanttChartPrintJob implements Runnable {
 	
 	public void run() {
 		if (printer.startJob(jobName)) {
-			GC gc = new GC(printer);
+			final GC gc = new GC(printer);
 
-			int currentPage = 1;
-			for (GanttChart ganttChart : this.ganttCharts) {
+			final int[] currentPage = { 1 };
+			for (final GanttChart ganttChart : this.ganttCharts) {
 				
-				Image printerImage = null;
+				// the chart is drawn page by page instead of into one image first, so that charts of any size can be printed
+				boolean full = true;
 				if (printer.getPrinterData().scope == PrinterData.SELECTION) {
 					//the user selected to only print the selected area
 					//as this is quite difficult in GanttChart, we specify that
@@ -87,75 +89,14 @@ public class GanttChartPrintJob implements Runnable {
 					//area means: 
 					// - really only the visible area horizontally and vertically
 					// - only the horizontal visible area, but vertically everything
-					printerImage = ganttChart.getSettings().printSelectedVerticallyComplete() ? 
-							ganttChart.getGanttComposite().getVerticallyFullImage() : ganttChart.getGanttComposite().getImage();
-				}
-				else {
-					printerImage = ganttChart.getGanttComposite().getFullImage();
+					full = false;
 				}
 				
-				final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
-				final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
-				final Point pageCount = PrintUtils.getPageCount(printer, printerImage);
-
-				// Print pages Left to Right and then Top to Down
-				for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
-
-					for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
-
-						// Calculate bounds for the next page
-						int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
-								(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
-						Rectangle printBounds = new Rectangle((printerClientArea.width / scaleFactor.x) * horizontalPageNumber,
-						                                      (printerClientAreaHeight / scaleFactor.y) * verticalPageNumber,
-						                                      printerClientArea.width / scaleFactor.x,
-						                                      printerClientAreaHeight / scaleFactor.y);
-
-						if (shouldPrint(printer.getPrinterData(), currentPage)) {
-							printer.startPage();
-
-							Transform printerTransform = new Transform(printer);
-
-							// Adjust for DPI difference between display and printer
-							printerTransform.scale(scaleFactor.x, scaleFactor.y);
-
-							// Adjust for margins
-							printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
-
-							// GanttChart will not automatically print the pages at the left margin.
-							// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
-							// Adjust to print from the left page margin. i.e x = 0
-							printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
-							gc.setTransform(printerTransform);
-
-							int imgWidthClipping = printBounds.width;
-							if (((horizontalPageNumber * printBounds.width)+printBounds.width) > printerImage.getImageData().width) {
-								imgWidthClipping = printerImage.getImageData().width - (horizontalPageNumber * printBounds.width);
-							}
-							
-							int imgHeightClipping = printBounds.height;
-							if (((verticalPageNumber * printBounds.height)+printBounds.height) > printerImage.getImageData().height) {
-								imgHeightClipping = printerImage.getImageData().height - (verticalPageNumber * printBounds.height);
-							}
-							
-							gc.drawImage(printerImage, 
-									horizontalPageNumber * printBounds.width, 
-									verticalPageNumber * printBounds.height, 
-									imgWidthClipping, imgHeightClipping,
-									printBounds.x, printBounds.y, imgWidthClipping, imgHeightClipping);
-							
-							if (ganttChart.getSettings().printFooter())
-								printFooter(gc, ganttChart, currentPage, printBounds);
-
-							printer.endPage();
-							printerTransform.dispose();
-							
-						}
-						currentPage++;
+				ganttChart.getGanttComposite().drawInRegions(full, ganttChart.getSettings().printSelectedVerticallyComplete(), new IChartRegionDrawer() {
+					public void drawRegions(GanttComposite composite, Point chartSize) {
+						currentPage[0] = printPages(gc, ganttChart, composite, chartSize, currentPage[0]);
 					}
-				}
-				
-				printerImage.dispose();
+				});
 			}
 			
 			printer.endJob();
@@ -168,6 +109,82 @@ public class GanttChartPrintJob implements Runnable {
 		}
 	}
 
+	/**
+	 * Prints the pages of one chart.
+	 * @param gc The graphical context that is used for printing
+	 * @param ganttChart The GanttChart which is currently printed.
+	 * @param composite The laid out chart to draw the pages from
+	 * @param chartSize The size of the chart
+	 * @param firstPage The number of the first page of the chart
+	 * @return The number of the page after the last page of the chart
+	 */
+	private int printPages(GC gc, GanttChart ganttChart, GanttComposite composite, Point chartSize, int firstPage) {
+		int currentPage = firstPage;
+
+		final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
+		final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
+		final Point pageCount = PrintUtils.getPageCount(printer, chartSize);
+
+		// Print pages Left to Right and then Top to Down
+		for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
+
+			for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
+
+				// Calculate bounds for the next page
+				int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
+						(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
+				Rectangle printBounds = new Rectangle((printerClientArea.width / scaleFactor.x) * horizontalPageNumber,
+				                                      (printerClientAreaHeight / scaleFactor.y) * verticalPageNumber,
+				                                      printerClientArea.width / scaleFactor.x,
+				                                      printerClientAreaHeight / scaleFactor.y);
+
+				if (shouldPrint(printer.getPrinterData(), currentPage)) {
+					printer.startPage();
+
+					Transform printerTransform = new Transform(printer);
+
+					// Adjust for DPI difference between display and printer
+					printerTransform.scale(scaleFactor.x, scaleFactor.y);
+
+					// Adjust for margins
+					printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
+
+					// GanttChart will not automatically print the pages at the left margin.
+					// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
+					// Adjust to print from the left page margin. i.e x = 0
+					printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
+					gc.setTransform(printerTransform);
+
+					int imgWidthClipping = printBounds.width;
+					if (((horizontalPageNumber * printBounds.width)+printBounds.width) > chartSize.x) {
+						imgWidthClipping = chartSize.x - (horizontalPageNumber * printBounds.width);
+					}
+					
+					int imgHeightClipping = printBounds.height;
+					if (((verticalPageNumber * printBounds.height)+printBounds.height) > chartSize.y) {
+						imgHeightClipping = chartSize.y - (verticalPageNumber * printBounds.height);
+					}
+					
+					// the chart is drawn with the display font, which the transform scales to the printer
+					gc.setFont(Display.getCurrent().getSystemFont());
+					composite.drawChartRegion(gc, 
+							new Rectangle(horizontalPageNumber * printBounds.width, verticalPageNumber * printBounds.height, imgWidthClipping, imgHeightClipping),
+							printBounds.x, printBounds.y);
+					
+					if (ganttChart.getSettings().printFooter())
+						printFooter(gc, ganttChart, currentPage, printBounds);
+
+					printer.endPage();
+					printerTransform.dispose();
+					
+				}
+				currentPage++;
+			}
+		}
+
+		return currentPage;
+	}
+
 	/**
 	 * Render the footer to a print page.
 	 * @param gc The graphical context that is used for printing
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart.print;
+
+import java.io.File;
+
+import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.GanttComposite;
+import org.eclipse.nebula.widgets.ganttchart.IChartRegionDrawer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * This class is used to export a GanttChart as PNG files, one file per tile of the chart.
+ * Only one tile is held in memory at a time, so charts of any size can be exported, where
+ * {@link GanttComposite#getFullImage()} would need memory for every pixel of the chart.
+ * <p>
+ * The tiles are named <code>&lt;prefix&gt;_&lt;row&gt;_&lt;column&gt;.png</code>, counting
+ * from 0, and are at most as big as the configured tile size.
+ */
+public class GanttChartTileExporter {
+
+	/**
+	 * The default width and height of a tile.
+	 */
+	public static final int DEFAULT_TILE_SIZE = 2048;
+
+	private final GanttChart ganttChart;
+
+	private int tileWidth = DEFAULT_TILE_SIZE;
+	private int tileHeight = DEFAULT_TILE_SIZE;
+
+	/**
+	 * Creates a new GanttChartTileExporter for the given GanttChart.
+	 * @param ganttChart The GanttChart that should be exported by this GanttChartTileExporter.
+	 */
+	public GanttChartTileExporter(GanttChart ganttChart) {
+		this.ganttChart = ganttChart;
+	}
+
+	/**
+	 * Sets the maximum size of a tile.
+	 * @param width The maximum width of a tile in pixels, must be greater than 0
+	 * @param height The maximum height of a tile in pixels, must be greater than 0
+	 */
+	public void setTileSize(int width, int height) {
+		if (width <= 0 || height <= 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		this.tileWidth = width;
+		this.tileHeight = height;
+	}
+
+	/**
+	 * Exports the entire chart, as {@link GanttComposite#getFullImage()} would show it.
+	 * @param directory The directory to write the tiles to
+	 * @param prefix The prefix of the file names of the tiles
+	 * @return The number of tile columns and rows that were written
+	 */
+	public Point export(File directory, String prefix) {
+		return export(directory, prefix, true, true);
+	}
+
+	/**
+	 * Exports the chart.
+	 * @param directory The directory to write the tiles to
+	 * @param prefix The prefix of the file names of the tiles
+	 * @param full <code>true</code> to export the entire chart, <code>false</code> to only
+	 * 			export the visible horizontal area
+	 * @param verticallyFull If not full, <code>true</code> to export everything vertically,
+	 * 			<code>false</code> to only export the visible area
+	 * @return The number of tile columns and rows that were written
+	 * @see GanttComposite#drawInRegions(boolean, boolean, IChartRegionDrawer)
+	 */
+	public Point export(final File directory, final String prefix, boolean full, boolean verticallyFull) {
+		final Point tiles = new Point(0, 0);
+
+		this.ganttChart.getGanttComposite().drawInRegions(full, verticallyFull, new IChartRegionDrawer() {
+			public void drawRegions(GanttComposite composite, Point chartSize) {
+				tiles.x = (chartSize.x + tileWidth - 1) / tileWidth;
+				tiles.y = (chartSize.y + tileHeight - 1) / tileHeight;
+
+				for (int row = 0; row < tiles.y; row++) {
+					for (int column = 0; column < tiles.x; column++) {
+						Rectangle region = new Rectangle(column * tileWidth, row * tileHeight, 
+								Math.min(tileWidth, chartSize.x - column * tileWidth), 
+								Math.min(tileHeight, chartSize.y - row * tileHeight));
+
+						writeTile(composite, region, new File(directory, prefix + "_" + row + "_" + column + ".png")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					}
+				}
+			}
+		});
+
+		return tiles;
+	}
+
+	/**
+	 * Draws one region of the chart into an image and writes it as PNG file.
+	 * @param composite The laid out chart
+	 * @param region The region of the chart to write
+	 * @param file The file to write the region to
+	 */
+	private void writeTile(GanttComposite composite, Rectangle region, File file) {
+		final Image tile = new Image(composite.getDisplay(), region.width, region.height);
+		try {
+			final GC gc = new GC(tile);
+			try {
+				composite.drawChartRegion(gc, region, 0, 0);
+			} finally {
+				gc.dispose();
+			}
+
+			final ImageLoader loader = new ImageLoader();
+			loader.data = new ImageData[] { tile.getImageData() };
+			loader.save(file.getAbsolutePath(), SWT.IMAGE_PNG);
+		} finally {
+			tile.dispose();
+		}
+	}
+}
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.ganttchart.print;
 
+import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.GanttComposite;
+import org.eclipse.nebula.widgets.ganttchart.IChartRegionDrawer;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -87,16 +90,44 @@ public class PrintUtils {
 	 */
 	public static Point getPageCount(Printer printer, Image image){
 		Rectangle ganttArea = getVisibleGanttChartArea(image);
+		return getPageCount(printer, new Point(ganttArea.width, ganttArea.height));
+	}
+
+	/**
+	 * Calculate number of horizontal and vertical pages needed
+	 * to print a chart of the given size.
+	 * @param printer The printer that will be used to print the chart
+	 * @param chartSize The size of the chart that should be printed.
+	 * @return The number of horizontal and vertical pages that will be
+	 * 			printed.
+	 */
+	public static Point getPageCount(Printer printer, Point chartSize){
 		Rectangle printArea = PrintUtils.computePrintArea(printer);
 		Point scaleFactor = PrintUtils.computeScaleFactor(printer);
 		
-		int numOfHorizontalPages = ganttArea.width / (printArea.width / scaleFactor.x);
-		int numOfVerticalPages = ganttArea.height / (printArea.height / scaleFactor.y);
+		int numOfHorizontalPages = chartSize.x / (printArea.width / scaleFactor.x);
+		int numOfVerticalPages = chartSize.y / (printArea.height / scaleFactor.y);
 		
 		// Adjusting for 0 index
 		return new Point(numOfHorizontalPages + 1, numOfVerticalPages + 1);
 	}
 
+	/**
+	 * 
+	 * @param ganttChart The chart that should be printed.
+	 * @return The size of the entire chart, as it would be printed,
+	 * 			without drawing it.
+	 */
+	public static Point getFullChartSize(GanttChart ganttChart) {
+		final Point[] result = new Point[1];
+		ganttChart.getGanttComposite().drawInRegions(true, true, new IChartRegionDrawer() {
+			public void drawRegions(GanttComposite composite, Point size) {
+				result[0] = size;
+			}
+		});
+		return result[0];
+	}
+
 	/**
 	 * 
 	 * @param image The image of the chart that should be printed.
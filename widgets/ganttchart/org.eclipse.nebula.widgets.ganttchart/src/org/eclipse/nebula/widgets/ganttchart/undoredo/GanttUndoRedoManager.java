@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.ganttchart.GanttComposite;
+import org.eclipse.nebula.widgets.ganttchart.undoredo.commands.ClusteredCommand;
 import org.eclipse.nebula.widgets.ganttchart.undoredo.commands.IUndoRedoCommand;
 
 /**
@@ -34,6 +35,8 @@ public class GanttUndoRedoManager {
     private int                  _maxStackSize;
     private final GanttComposite _comp;
     private final List           _listeners;
+    private ClusteredCommand     _cluster;
+    private int                  _clusterDepth;
 
     public GanttUndoRedoManager(final GanttComposite parent, final int maxStackSize) {
         _comp = parent;
@@ -73,6 +76,11 @@ public class GanttUndoRedoManager {
      * @param command
      */
     public void record(final IUndoRedoCommand command) {
+        if (_cluster != null) {
+            _cluster.addCommand(command);
+            return;
+        }
+
         // ensure size etc
         fixStack();
 
@@ -89,6 +97,31 @@ public class GanttUndoRedoManager {
         updateListeners();
     }
 
+    /**
+     * Starts collecting recorded commands into one {@link ClusteredCommand} instead of recording them one by one. Calls
+     * may be nested, the cluster is recorded when the outermost {@link #endCluster()} is called.
+     */
+    public void beginCluster() {
+        if (_clusterDepth++ == 0) {
+            _cluster = new ClusteredCommand();
+        }
+    }
+
+    /**
+     * Ends collecting commands started with {@link #beginCluster()} and records the collected commands as one command, if
+     * there were any.
+     */
+    public void endCluster() {
+        if (_clusterDepth == 0 || --_clusterDepth > 0) { return; }
+
+        final ClusteredCommand cluster = _cluster;
+        _cluster = null;
+
+        if (cluster.size() > 0) {
+            record(cluster);
+        }
+    }
+
     private void updateListeners() {
         // notify listeners
         for (int i = 0; i < _listeners.size(); i++) {
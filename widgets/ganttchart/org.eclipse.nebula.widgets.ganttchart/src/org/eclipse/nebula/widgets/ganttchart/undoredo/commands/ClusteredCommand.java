@@ -102,8 +102,11 @@ public class ClusteredCommand extends AbstractUndoRedoCommand {
         }
     }
 
+    /**
+     * Undoes the commands in reverse order, so that commands which depend on earlier ones are undone first.
+     */
     public void undo() {
-        for (int i = 0; i < _commands.size(); i++) {
+        for (int i = _commands.size() - 1; i >= 0; i--) {
             ((IUndoRedoCommand)_commands.get(i)).undo();
         }
     }
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ColumnarDataVisualizer_Test {
+
+  private Display display;
+  private Shell shell;
+  private ColumnarDataVisualizer visualizer;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    visualizer = new ColumnarDataVisualizer( display.getSystemColor( SWT.COLOR_WHITE ),
+                                             display.getSystemColor( SWT.COLOR_BLACK ),
+                                             null );
+    grid = new Grid( visualizer, shell, SWT.NONE );
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testDefaults() {
+    createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = createGridItems( grid, 1, 0 )[ 0 ];
+
+    assertEquals( "", item.getText( 1 ) );
+    assertNull( item.getToolTipText( 1 ) );
+    assertSame( visualizer.getDefaultBackground(), item.getBackground( 1 ) );
+    assertFalse( item.getChecked( 1 ) );
+    assertTrue( item.getCheckable( 1 ) );
+    assertEquals( 0, item.getColumnSpan( 1 ) );
+  }
+
+  @Test
+  public void testSetValues() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 2, 0 );
+    Color red = display.getSystemColor( SWT.COLOR_RED );
+
+    items[ 0 ].setText( 2, "foo" );
+    items[ 1 ].setBackground( 1, red );
+    items[ 1 ].setChecked( 0, true );
+    items[ 1 ].setCheckable( 2, false );
+    items[ 0 ].setColumnSpan( 1, 1 );
+
+    assertEquals( "foo", items[ 0 ].getText( 2 ) );
+    assertEquals( "", items[ 1 ].getText( 2 ) );
+    assertSame( red, items[ 1 ].getBackground( 1 ) );
+    assertSame( visualizer.getDefaultBackground(), items[ 0 ].getBackground( 1 ) );
+    assertTrue( items[ 1 ].getChecked( 0 ) );
+    assertFalse( items[ 0 ].getChecked( 0 ) );
+    assertFalse( items[ 1 ].getCheckable( 2 ) );
+    assertEquals( 1, items[ 0 ].getColumnSpan( 1 ) );
+  }
+
+  @Test
+  public void testDisposedItemReleasesSlot() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 2, 0 );
+    items[ 0 ].setText( "foo" );
+    items[ 0 ].setChecked( true );
+
+    items[ 0 ].dispose();
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    assertEquals( "", item.getText() );
+    assertFalse( item.getChecked() );
+  }
+
+  @Test
+  public void testInsertAndRemoveColumn() {
+    GridColumn[] columns = createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = createGridItems( grid, 1, 0 )[ 0 ];
+    item.setText( 0, "first" );
+    item.setText( 1, "second" );
+
+    new GridColumn( grid, SWT.NONE, 0 );
+    assertEquals( "", item.getText( 0 ) );
+    assertEquals( "first", item.getText( 1 ) );
+    assertEquals( "second", item.getText( 2 ) );
+
+    columns[ 0 ].dispose();
+    assertEquals( "second", item.getText( 1 ) );
+  }
+
+  @Test
+  public void testInternTexts() {
+    visualizer.setInternTexts( true );
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 2, 0 );
+
+    items[ 0 ].setText( new String( "foo" ) );
+    items[ 1 ].setText( new String( "foo" ) );
+
+    assertSame( items[ 0 ].getText(), items[ 1 ].getText() );
+  }
+
+  @Test
+  public void testClearAll() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem item = createGridItems( grid, 1, 0 )[ 0 ];
+    item.setText( "foo" );
+
+    visualizer.clearAll();
+
+    assertEquals( "", item.getText() );
+  }
+
+  @Test
+  public void testEqualColorsShareEntry() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 2, 0 );
+
+    items[ 0 ].setBackground( new Color( display, 1, 2, 3 ) );
+    items[ 1 ].setBackground( new Color( display, 1, 2, 3 ) );
+
+    assertSame( items[ 0 ].getBackground(), items[ 1 ].getBackground() );
+  }
+
+  @Test
+  public void testReplacedColorsAreReleased() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem item = createGridItems( grid, 1, 0 )[ 0 ];
+
+    for( int i = 0; i < 70000; i++ ) {
+      item.setBackground( new Color( display, i & 0xFF, i >> 8 & 0xFF, i >> 16 ) );
+    }
+
+    assertEquals( new Color( display, 69999 & 0xFF, 69999 >> 8 & 0xFF, 1 ), item.getBackground() );
+  }
+
+  @Test
+  public void testTooManyColorsFallBackToReferences() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 70000, 0 );
+
+    for( int i = 0; i < items.length; i++ ) {
+      items[ i ].setBackground( new Color( display, i & 0xFF, i >> 8 & 0xFF, i >> 16 ) );
+    }
+
+    assertEquals( new Color( display, 0, 0, 0 ), items[ 0 ].getBackground() );
+    assertEquals( new Color( display, 69999 & 0xFF, 69999 >> 8 & 0xFF, 1 ), items[ 69999 ].getBackground() );
+  }
+}
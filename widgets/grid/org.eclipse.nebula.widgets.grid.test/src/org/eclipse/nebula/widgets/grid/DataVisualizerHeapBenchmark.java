@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+
+/**
+ * Compares the heap used by the {@link DataVisualizer} implementations for a
+ * grid of 1,000,000 rows and 20 columns. Rows and columns can be given as
+ * arguments. Run with a large heap, e.g. <code>-Xmx8g</code>.
+ */
+public class DataVisualizerHeapBenchmark {
+
+  private static final int DISTINCT_TEXTS = 1000;
+
+  public static void main( String[] args ) {
+    int rows = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 1000000;
+    int columns = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 20;
+    Display display = new Display();
+    Color white = display.getSystemColor( SWT.COLOR_WHITE );
+    Color black = display.getSystemColor( SWT.COLOR_BLACK );
+    Color[] palette = {
+      display.getSystemColor( SWT.COLOR_RED ),
+      display.getSystemColor( SWT.COLOR_GREEN ),
+      display.getSystemColor( SWT.COLOR_BLUE )
+    };
+
+    measure( "GridItemDataVisualizer", new GridItemDataVisualizer( white, black, null ), display, rows, columns, palette );
+    measure( "AdaptedDataVisualizer", new AdaptedDataVisualizer(), display, rows, columns, palette );
+    measure( "ColumnarDataVisualizer", new ColumnarDataVisualizer( white, black, null ), display, rows, columns, palette );
+    ColumnarDataVisualizer interning = new ColumnarDataVisualizer( white, black, null );
+    interning.setInternTexts( true );
+    measure( "ColumnarDataVisualizer (interned)", interning, display, rows, columns, palette );
+    display.dispose();
+  }
+
+  private static void measure( String name,
+                               DataVisualizer visualizer,
+                               Display display,
+                               int rows,
+                               int columns,
+                               Color[] palette )
+  {
+    Shell shell = new Shell( display );
+    Grid grid = new Grid( visualizer, shell, SWT.NONE );
+    for( int i = 0; i < columns; i++ ) {
+      new GridColumn( grid, SWT.NONE );
+    }
+    GridItem[] items = new GridItem[ rows ];
+    for( int i = 0; i < rows; i++ ) {
+      items[ i ] = new GridItem( grid, SWT.NONE );
+    }
+    long before = usedHeap();
+    long start = System.nanoTime();
+    for( int row = 0; row < rows; row++ ) {
+      GridItem item = items[ row ];
+      for( int column = 0; column < columns; column++ ) {
+        // texts are created per cell, as a label provider would do
+        item.setText( column, "Value " + ( ( row * 31 + column ) % DISTINCT_TEXTS ) );
+        item.setChecked( column, ( row + column ) % 2 == 0 );
+        if( column % 4 == 0 ) {
+          item.setBackground( column, palette[ row % palette.length ] );
+        }
+      }
+    }
+    long millis = ( System.nanoTime() - start ) / 1000000;
+    long used = usedHeap() - before;
+    System.out.println( String.format( "%-36s %,8d KB  %,6d ms", name, Long.valueOf( used / 1024 ), Long.valueOf( millis ) ) );
+    shell.dispose();
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 3; i++ ) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,395 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+
+
+/**
+ * Measures the hot paths of the {@link Grid}: painting, <code>setItemCount</code>,
+ * the row range computation behind scrolling, sorting a virtual grid by a
+ * column, expanding and collapsing deep trees and cell selection.
+ * <p>
+ * Painting is done into an offscreen {@link Image}, so the shell is never
+ * opened. A {@link Display} is still required, i.e. on Linux the benchmarks
+ * need an X server such as Xvfb.
+ * <p>
+ * Usage: <code>GridBenchmarks [-rows 10000,100000,1000000] [-iterations 10]
+ * [-label 1.1.0] [-out grid-benchmarks.csv] [benchmark...]</code>
+ * <p>
+ * Each result is appended as a line to the CSV file, labeled with the given
+ * label (e.g. the release), so that results of different releases can be
+ * compared to find regressions. Run with a large heap, e.g.
+ * <code>-Xmx4g</code>.
+ */
+public class GridBenchmarks {
+
+  private static final String CSV_HEADER
+    = "label,timestamp,java,swt,benchmark,rows,iterations,min_ms,median_ms,max_ms";
+  private static final int COLUMNS = 10;
+  private static final int WIDTH = 1200;
+  private static final int HEIGHT = 900;
+  private static final int WARMUP_ITERATIONS = 3;
+
+  private final Display display;
+  private final int iterations;
+  private final String label;
+  private final File out;
+  private final Random random = new Random( 4711 );
+  private Shell shell;
+  private Grid grid;
+  private Image image;
+  private GC gc;
+
+  public static void main( String[] args ) throws IOException {
+    int[] rows = { 10000, 100000, 1000000 };
+    int iterations = 10;
+    String label = "dev";
+    File out = new File( "grid-benchmarks.csv" );
+    List<String> names = new ArrayList<>();
+    for( int i = 0; i < args.length; i++ ) {
+      if( "-rows".equals( args[ i ] ) ) {
+        rows = Arrays.stream( args[ ++i ].split( "," ) ).mapToInt( Integer::parseInt ).toArray();
+      } else if( "-iterations".equals( args[ i ] ) ) {
+        iterations = Integer.parseInt( args[ ++i ] );
+      } else if( "-label".equals( args[ i ] ) ) {
+        label = args[ ++i ];
+      } else if( "-out".equals( args[ i ] ) ) {
+        out = new File( args[ ++i ] );
+      } else {
+        names.add( args[ i ] );
+      }
+    }
+    Display display = new Display();
+    try {
+      GridBenchmarks benchmarks = new GridBenchmarks( display, iterations, label, out );
+      for( Benchmark benchmark : benchmarks.createBenchmarks() ) {
+        if( names.isEmpty() || names.contains( benchmark.name ) ) {
+          for( int count : rows ) {
+            benchmarks.run( benchmark, count );
+          }
+        }
+      }
+    } finally {
+      display.dispose();
+    }
+  }
+
+  GridBenchmarks( Display display, int iterations, String label, File out ) {
+    this.display = display;
+    this.iterations = iterations;
+    this.label = label;
+    this.out = out;
+  }
+
+  List<Benchmark> createBenchmarks() {
+    List<Benchmark> result = new ArrayList<>();
+    result.add( new Benchmark( "paint" ) {
+      @Override
+      void setUp( int rows ) {
+        createVirtualGrid( SWT.NONE, rows );
+      }
+
+      @Override
+      void run() {
+        grid.setTopIndex( random.nextInt( grid.getItemCount() ) );
+        paint();
+      }
+    } );
+    result.add( new Benchmark( "setItemCount" ) {
+      private int rows;
+
+      @Override
+      void setUp( int rows ) {
+        this.rows = rows;
+      }
+
+      @Override
+      void beforeEach() {
+        createVirtualGrid( SWT.NONE, 0 );
+      }
+
+      @Override
+      void run() {
+        grid.setItemCount( rows );
+      }
+
+      @Override
+      void afterEach() {
+        disposeGrid();
+      }
+    } );
+    result.add( new Benchmark( "rowRange" ) {
+      @Override
+      void setUp( int rows ) {
+        createVirtualGrid( SWT.NONE, rows );
+        // variable row heights to defeat any uniform height shortcut
+        for( int i = 0; i < rows; i += 7 ) {
+          grid.getItem( i ).setHeight( grid.getItemHeight() * 2 );
+        }
+      }
+
+      @Override
+      void run() {
+        for( int i = 0; i < 1000; i++ ) {
+          grid.setTopIndex( random.nextInt( grid.getItemCount() ) );
+          grid.getBottomIndex();
+        }
+        grid.getGridHeight();
+      }
+    } );
+    result.add( new Benchmark( "sortByColumn" ) {
+      private int[] values;
+      private GridColumn column;
+
+      @Override
+      void setUp( int rows ) {
+        values = new int[ rows ];
+        createGrid( SWT.VIRTUAL );
+        grid.addListener( SWT.SetData, event -> {
+          GridItem item = ( GridItem )event.item;
+          int index = column.getSort() == SWT.DOWN ? values.length - 1 - event.index : event.index;
+          for( int i = 0; i < COLUMNS; i++ ) {
+            item.setText( i, Integer.toString( values[ index ] + i ) );
+          }
+        } );
+        column = grid.getColumn( 0 );
+        grid.setItemCount( rows );
+      }
+
+      @Override
+      void beforeEach() {
+        for( int i = 0; i < values.length; i++ ) {
+          values[ i ] = random.nextInt();
+        }
+      }
+
+      @Override
+      void run() {
+        Arrays.sort( values );
+        column.setSort( column.getSort() == SWT.UP ? SWT.DOWN : SWT.UP );
+        grid.clearAll( true );
+        paint();
+      }
+    } );
+    result.add( new Benchmark( "expandCollapse" ) {
+      private final List<GridItem> roots = new ArrayList<>();
+      private final List<GridItem> parents = new ArrayList<>();
+
+      @Override
+      void setUp( int rows ) {
+        createGrid( SWT.NONE );
+        roots.clear();
+        parents.clear();
+        // subtrees of 1 + 3 + 9 + 27 = 40 items with a depth of 4
+        for( int i = 0; i < rows / 40; i++ ) {
+          GridItem root = new GridItem( grid, SWT.NONE );
+          root.setText( "root " + i );
+          roots.add( root );
+          createChildren( root, 3 );
+        }
+      }
+
+      private void createChildren( GridItem parent, int depth ) {
+        parents.add( parent );
+        for( int i = 0; i < 3; i++ ) {
+          GridItem child = new GridItem( parent, SWT.NONE );
+          child.setText( "child " + i );
+          if( depth > 1 ) {
+            createChildren( child, depth - 1 );
+          }
+        }
+      }
+
+      @Override
+      void run() {
+        for( GridItem parent : parents ) {
+          parent.setExpanded( true );
+        }
+        for( GridItem root : roots ) {
+          root.setExpanded( false );
+        }
+      }
+
+      @Override
+      void afterEach() {
+        for( GridItem parent : parents ) {
+          parent.setExpanded( false );
+        }
+      }
+    } );
+    result.add( new Benchmark( "cellSelection" ) {
+      @Override
+      void setUp( int rows ) {
+        createVirtualGrid( SWT.MULTI, rows );
+        grid.setCellSelectionEnabled( true );
+      }
+
+      @Override
+      void run() {
+        grid.selectAllCells();
+        grid.getCellSelectionCount();
+        grid.deselectAllCells();
+        for( int i = 0; i < 1000; i++ ) {
+          int row = random.nextInt( grid.getItemCount() );
+          grid.selectCell( new Point( i % COLUMNS, row ) );
+        }
+        grid.getCellSelection();
+        grid.deselectAllCells();
+      }
+    } );
+    return result;
+  }
+
+  void run( Benchmark benchmark, int rows ) throws IOException {
+    shell = new Shell( display );
+    image = new Image( display, WIDTH, HEIGHT );
+    gc = new GC( image );
+    try {
+      benchmark.setUp( rows );
+      for( int i = 0; i < WARMUP_ITERATIONS; i++ ) {
+        measure( benchmark );
+      }
+      long[] times = new long[ iterations ];
+      for( int i = 0; i < iterations; i++ ) {
+        times[ i ] = measure( benchmark );
+      }
+      Arrays.sort( times );
+      record( benchmark.name, rows, times );
+    } finally {
+      gc.dispose();
+      image.dispose();
+      shell.dispose();
+      grid = null;
+    }
+  }
+
+  private long measure( Benchmark benchmark ) {
+    benchmark.beforeEach();
+    long start = System.nanoTime();
+    benchmark.run();
+    long time = System.nanoTime() - start;
+    benchmark.afterEach();
+    return time;
+  }
+
+  private void record( String name, int rows, long[] sortedTimes ) throws IOException {
+    String line = String.join( ",",
+                               label,
+                               Instant.now().toString(),
+                               System.getProperty( "java.version" ),
+                               Integer.toString( SWT.getVersion() ),
+                               name,
+                               Integer.toString( rows ),
+                               Integer.toString( sortedTimes.length ),
+                               millis( sortedTimes[ 0 ] ),
+                               millis( sortedTimes[ sortedTimes.length / 2 ] ),
+                               millis( sortedTimes[ sortedTimes.length - 1 ] ) );
+    System.out.println( String.format( "%-16s %,10d rows  median %s ms",
+                                       name,
+                                       Integer.valueOf( rows ),
+                                       millis( sortedTimes[ sortedTimes.length / 2 ] ) ) );
+    boolean header = !out.exists() || out.length() == 0;
+    try( PrintWriter writer = new PrintWriter( new FileWriter( out, true ) ) ) {
+      if( header ) {
+        writer.println( CSV_HEADER );
+      }
+      writer.println( line );
+    }
+  }
+
+  private static String millis( long nanos ) {
+    return String.format( Locale.ROOT, "%.3f", Double.valueOf( nanos / 1000000.0 ) );
+  }
+
+  private void createGrid( int style ) {
+    disposeGrid();
+    grid = new Grid( shell, style | SWT.V_SCROLL | SWT.H_SCROLL );
+    grid.setHeaderVisible( true );
+    grid.setSize( WIDTH, HEIGHT );
+    for( int i = 0; i < COLUMNS; i++ ) {
+      GridColumn column = new GridColumn( grid, SWT.NONE );
+      column.setText( "Column " + i );
+      column.setWidth( WIDTH / COLUMNS );
+    }
+  }
+
+  private void createVirtualGrid( int style, int rows ) {
+    createGrid( style | SWT.VIRTUAL );
+    grid.addListener( SWT.SetData, event -> {
+      GridItem item = ( GridItem )event.item;
+      for( int i = 0; i < COLUMNS; i++ ) {
+        item.setText( i, event.index + "/" + i );
+      }
+    } );
+    grid.setItemCount( rows );
+  }
+
+  private void disposeGrid() {
+    if( grid != null ) {
+      grid.dispose();
+      grid = null;
+    }
+  }
+
+  private void paint() {
+    Event event = new Event();
+    event.gc = gc;
+    event.width = WIDTH;
+    event.height = HEIGHT;
+    grid.notifyListeners( SWT.Paint, event );
+  }
+
+  abstract static class Benchmark {
+
+    final String name;
+
+    Benchmark( String name ) {
+      this.name = name;
+    }
+
+    /**
+     * Prepares the benchmark for the given number of rows, not measured.
+     */
+    abstract void setUp( int rows );
+
+    /**
+     * Called before each measured iteration, not measured.
+     */
+    void beforeEach() {
+    }
+
+    abstract void run();
+
+    /**
+     * Called after each measured iteration, not measured.
+     */
+    void afterEach() {
+    }
+  }
+}
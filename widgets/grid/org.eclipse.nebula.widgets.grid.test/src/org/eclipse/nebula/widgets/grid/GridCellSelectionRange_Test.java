@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for the bulk cell selection methods of {@link Grid}.
+ */
+public class GridCellSelectionRange_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    shell.pack();
+    shell.open();
+    while( display.readAndDispatch() ) {
+      // drain pending events
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if( shell != null && !shell.isDisposed() ) {
+      shell.dispose();
+    }
+  }
+
+  @Test
+  public void testSelectColumn_CellSelection() {
+    grid = new Grid( shell, SWT.MULTI );
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 1000, 0 );
+    createGridColumns( grid, 2, SWT.NONE );
+
+    grid.selectColumn( 1 );
+
+    assertEquals( 1000, grid.getCellSelectionCount() );
+    assertTrue( grid.isCellSelected( new Point( 1, 0 ) ) );
+    assertTrue( grid.isCellSelected( new Point( 1, 999 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 0, 0 ) ) );
+    assertEquals( new Point( 1, 0 ), grid.getCellSelection()[ 0 ] );
+  }
+
+  @Test
+  public void testSelectColumn_SkipsCollapsedItems() {
+    grid = new Grid( shell, SWT.MULTI );
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 3, 2 );
+
+    grid.selectColumn( 0 );
+
+    assertEquals( 3, grid.getCellSelectionCount() );
+    assertTrue( grid.isCellSelected( new Point( 0, 3 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 0, 1 ) ) );
+  }
+
+  @Test
+  public void testSelectAllCells() {
+    grid = new Grid( shell, SWT.MULTI );
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 1000, 0 );
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    columns[ 0 ].setVisible( false );
+    columns[ 1 ].setCellSelectionEnabled( false );
+
+    grid.selectAllCells();
+
+    assertEquals( 2000, grid.getCellSelectionCount() );
+    assertTrue( grid.isCellSelected( new Point( 0, 999 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 1, 0 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 2, 0 ) ) );
+    assertTrue( grid.isCellSelected( new Point( 3, 500 ) ) );
+    assertEquals( new Point( 0, 0 ), grid.getCellSelection()[ 0 ] );
+  }
+
+  @Test
+  public void testSelectByRange_CellSelection() {
+    grid = new Grid( shell, SWT.MULTI );
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 100, 0 );
+    createGridColumns( grid, 1, SWT.NONE );
+
+    grid.select( 10, 19 );
+    grid.select( 95, 120 );
+
+    assertEquals( 30, grid.getCellSelectionCount() );
+    assertEquals( 15, grid.getSelectionCount() );
+    assertTrue( grid.isSelected( 10 ) );
+    assertTrue( grid.isSelected( 99 ) );
+    assertFalse( grid.isSelected( 20 ) );
+
+    grid.setSelection( 0, 4 );
+
+    assertEquals( 10, grid.getCellSelectionCount() );
+    assertFalse( grid.isSelected( 10 ) );
+  }
+}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link GridCellSelection}.
+ */
+public class GridCellSelection_Test {
+
+  private GridCellSelection selection;
+
+  @Before
+  public void setUp() {
+    selection = new GridCellSelection();
+  }
+
+  @Test
+  public void testEmpty() {
+    assertTrue( selection.isEmpty() );
+    assertEquals( 0, selection.size() );
+    assertNull( selection.getFirst() );
+    assertFalse( selection.contains( 0, 0 ) );
+    assertEquals( 0, selection.toArray().length );
+  }
+
+  @Test
+  public void testAddAndRemove() {
+    assertTrue( selection.add( 2, 5 ) );
+    assertFalse( selection.add( 2, 5 ) );
+    assertTrue( selection.add( 0, 1 ) );
+
+    assertEquals( 2, selection.size() );
+    assertTrue( selection.contains( 2, 5 ) );
+    assertTrue( selection.contains( 0, 1 ) );
+    assertFalse( selection.contains( 1, 5 ) );
+    assertFalse( selection.contains( -1, 5 ) );
+
+    assertTrue( selection.remove( 2, 5 ) );
+    assertFalse( selection.remove( 2, 5 ) );
+    assertEquals( 1, selection.size() );
+  }
+
+  @Test
+  public void testFirstIsOldestRemainingCell() {
+    selection.add( 3, 7 );
+    selection.add( 1, 9 );
+    selection.add( 0, 2 );
+
+    assertEquals( new Point( 3, 7 ), selection.getFirst() );
+    assertEquals( new Point( 3, 7 ), selection.toArray()[ 0 ] );
+
+    selection.remove( 3, 7 );
+
+    // (0,2) is the lowest cell, but (1,9) was selected before it
+    assertEquals( new Point( 1, 9 ), selection.getFirst() );
+
+    selection.remove( 1, 9 );
+
+    assertEquals( new Point( 0, 2 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testFirst_CellSelectedAgainIsNewest() {
+    selection.add( 0, 0 );
+    selection.add( 1, 1 );
+    selection.add( 2, 2 );
+    selection.remove( 1, 1 );
+    selection.add( 1, 1 );
+
+    selection.remove( 0, 0 );
+
+    assertEquals( new Point( 2, 2 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testFirst_RangeSelectedAgainIsNewest() {
+    selection.addRange( 0, 0, 9 );
+    selection.add( 1, 20 );
+    selection.removeRows( 0, 4 );
+    selection.addRange( 0, 0, 2 );
+
+    assertEquals( new Point( 0, 5 ), selection.getFirst() );
+
+    selection.removeRows( 5, 9 );
+
+    assertEquals( new Point( 1, 20 ), selection.getFirst() );
+
+    selection.remove( 1, 20 );
+
+    assertEquals( new Point( 0, 0 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testFirst_AfterRemoveAll() {
+    GridCellSelection other = new GridCellSelection();
+    other.add( 5, 5 );
+    selection.add( 5, 5 );
+    selection.add( 4, 8 );
+    selection.add( 2, 3 );
+
+    selection.removeAll( other );
+
+    assertEquals( new Point( 4, 8 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testToArray_RowThenColumnOrder() {
+    selection.add( 1, 1 );
+    selection.add( 2, 0 );
+    selection.add( 0, 1 );
+    selection.add( 0, 0 );
+
+    Point[] expected = new Point[] {
+      new Point( 1, 1 ), new Point( 0, 0 ), new Point( 2, 0 ), new Point( 0, 1 )
+    };
+    assertArrayEquals( expected, selection.toArray() );
+  }
+
+  @Test
+  public void testAddRange() {
+    selection.add( 1, 3 );
+    selection.addRange( 1, 0, 199999 );
+
+    assertEquals( 200000, selection.size() );
+    assertTrue( selection.contains( 1, 0 ) );
+    assertTrue( selection.contains( 1, 199999 ) );
+    assertFalse( selection.contains( 1, 200000 ) );
+    assertEquals( new Point( 1, 3 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testRowQueries() {
+    selection.add( 0, 4 );
+    selection.add( 3, 4 );
+    selection.add( 1, 8 );
+
+    assertTrue( selection.isRowSelected( 4 ) );
+    assertFalse( selection.isRowSelected( 5 ) );
+    assertEquals( 2, selection.getSelectedRows().cardinality() );
+    assertTrue( selection.isColumnSelected( 3 ) );
+    assertFalse( selection.isColumnSelected( 2 ) );
+  }
+
+  @Test
+  public void testRemoveRow() {
+    selection.add( 0, 4 );
+    selection.add( 3, 4 );
+    selection.add( 1, 8 );
+
+    assertTrue( selection.removeRow( 4 ) );
+    assertFalse( selection.removeRow( 4 ) );
+
+    assertEquals( 1, selection.size() );
+    assertTrue( selection.contains( 1, 8 ) );
+    assertEquals( new Point( 1, 8 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testRemoveRows() {
+    selection.add( 0, 2 );
+    selection.add( 3, 4 );
+    selection.add( 1, 5 );
+    selection.add( 1, 8 );
+
+    assertTrue( selection.removeRows( 2, 5 ) );
+    assertFalse( selection.removeRows( 2, 5 ) );
+
+    assertEquals( 1, selection.size() );
+    assertTrue( selection.contains( 1, 8 ) );
+    assertEquals( new Point( 1, 8 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testRemoveColumn_ShiftsFollowingColumns() {
+    selection.add( 0, 0 );
+    selection.add( 1, 0 );
+    selection.add( 2, 1 );
+
+    assertTrue( selection.removeColumn( 1 ) );
+
+    assertEquals( 2, selection.size() );
+    assertTrue( selection.contains( 0, 0 ) );
+    assertTrue( selection.contains( 1, 1 ) );
+    assertFalse( selection.contains( 2, 1 ) );
+  }
+
+  @Test
+  public void testRemoveColumn_UnselectedTrailingColumn() {
+    selection.add( 0, 0 );
+
+    assertFalse( selection.removeColumn( 3 ) );
+    assertEquals( 1, selection.size() );
+  }
+
+  @Test
+  public void testSetAll() {
+    GridCellSelection other = new GridCellSelection();
+    other.add( 4, 4 );
+    other.add( 0, 2 );
+    selection.add( 1, 1 );
+
+    selection.setAll( other );
+
+    assertEquals( 2, selection.size() );
+    assertFalse( selection.contains( 1, 1 ) );
+    assertEquals( new Point( 4, 4 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testSetAll_KeepsOrder() {
+    GridCellSelection other = new GridCellSelection();
+    other.add( 3, 7 );
+    other.add( 1, 9 );
+    other.add( 0, 2 );
+
+    selection.setAll( other );
+    selection.remove( 3, 7 );
+
+    assertEquals( new Point( 1, 9 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testRemoveColumn_KeepsOrder() {
+    selection.add( 1, 0 );
+    selection.add( 3, 9 );
+    selection.add( 0, 2 );
+
+    selection.removeColumn( 1 );
+
+    assertEquals( new Point( 2, 9 ), selection.getFirst() );
+  }
+
+  @Test
+  public void testHasSameCells() {
+    GridCellSelection other = new GridCellSelection();
+    other.add( 1, 1 );
+    other.add( 0, 0 );
+    selection.add( 0, 0 );
+    selection.add( 1, 1 );
+
+    assertTrue( selection.hasSameCells( other ) );
+    other.remove( 0, 0 );
+    assertFalse( selection.hasSameCells( other ) );
+    assertTrue( selection.containsAll( other ) );
+    other.add( 2, 2 );
+    assertFalse( selection.hasSameCells( other ) );
+  }
+
+  @Test
+  public void testSelectionOperations() {
+    GridCellSelection other = new GridCellSelection();
+    other.addRange( 1, 0, 9 );
+    other.add( 2, 3 );
+    selection.addRange( 1, 0, 19 );
+
+    assertFalse( selection.containsAll( other ) );
+    selection.add( 2, 3 );
+    assertTrue( selection.containsAll( other ) );
+    assertFalse( selection.hasSameCells( other ) );
+
+    assertTrue( selection.removeAll( other ) );
+    assertEquals( 10, selection.size() );
+    assertEquals( new Point( 1, 10 ), selection.getFirst() );
+    assertFalse( selection.removeAll( other ) );
+
+    other.clearColumn( 1 );
+    assertEquals( 1, other.size() );
+    assertEquals( new Point( 2, 3 ), other.getFirst() );
+    other.addRange( 1, 10, 19 );
+    other.remove( 2, 3 );
+    assertTrue( selection.hasSameCells( other ) );
+  }
+}
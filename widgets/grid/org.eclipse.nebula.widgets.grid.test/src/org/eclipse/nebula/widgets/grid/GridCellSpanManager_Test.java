@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link GridCellSpanManager}.
+ */
+public class GridCellSpanManager_Test {
+
+  private GridCellSpanManager manager;
+
+  @Before
+  public void setUp() {
+    manager = new GridCellSpanManager();
+  }
+
+  @Test
+  public void testSkipCoveredCells() {
+    // cell (1, 0) spans 2 more columns and 1 more row
+    manager.addCellSpanInfo( 1, 0, 2, 1 );
+
+    assertFalse( manager.skipCell( 0, 0 ) );
+    assertTrue( manager.skipCell( 2, 0 ) );
+    assertTrue( manager.skipCell( 3, 1 ) );
+    assertFalse( manager.skipCell( 4, 1 ) );
+    assertFalse( manager.skipCell( 1, 2 ) );
+  }
+
+  @Test
+  public void testConsumeLastCellRemovesSpan() {
+    manager.addCellSpanInfo( 0, 0, 1, 1 );
+
+    assertTrue( manager.skipCell( 0, 1 ) );
+    manager.consumeCell( 0, 1 );
+    assertTrue( manager.skipCell( 1, 1 ) );
+    manager.consumeCell( 1, 1 );
+
+    assertFalse( manager.skipCell( 0, 1 ) );
+    assertFalse( manager.skipCell( 1, 1 ) );
+  }
+
+  @Test
+  public void testGetSpanAt() {
+    manager.addCellSpanInfo( 0, 0, 0, 3 );
+    manager.addCellSpanInfo( 2, 1, 1, 0 );
+    manager.addCellSpanInfo( 1, 5, 0, 1 );
+
+    assertEquals( new Rectangle( 0, 0, 1, 4 ), manager.getSpanAt( 0, 3 ) );
+    assertEquals( new Rectangle( 2, 1, 2, 1 ), manager.getSpanAt( 3, 1 ) );
+    assertEquals( new Rectangle( 1, 5, 1, 2 ), manager.getSpanAt( 1, 6 ) );
+    assertNull( manager.getSpanAt( 0, 4 ) );
+    assertNull( manager.getSpanAt( 1, 4 ) );
+  }
+
+  @Test
+  public void testSnapshotKeepsConsumedSpans() {
+    manager.addCellSpanInfo( 0, 0, 0, 1 );
+    manager.skipCell( 0, 1 );
+    manager.consumeCell( 0, 1 );
+
+    GridCellSpanManager snapshot = manager.snapshot();
+
+    assertEquals( new Rectangle( 0, 0, 1, 2 ), snapshot.getSpanAt( 0, 1 ) );
+    assertFalse( snapshot.skipCell( 0, 1 ) );
+  }
+
+  @Test
+  public void testGetSpanAt_ManySpans() {
+    for( int row = 0; row < 10000; row += 2 ) {
+      manager.addCellSpanInfo( row % 7, row, 0, 1 );
+    }
+
+    assertEquals( new Rectangle( 0, 9996, 1, 2 ), manager.getSpanAt( 0, 9997 ) );
+    assertEquals( new Rectangle( 5, 9994, 1, 2 ), manager.getSpanAt( 5, 9995 ) );
+    assertNull( manager.getSpanAt( 1, 9997 ) );
+  }
+}
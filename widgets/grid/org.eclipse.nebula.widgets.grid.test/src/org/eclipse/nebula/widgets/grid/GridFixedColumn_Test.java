@@ -22,6 +22,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
@@ -140,6 +142,46 @@ public class GridFixedColumn_Test {
                  hit == columns[ 0 ] );
   }
 
+  @Test
+  public void testGetCell_RowSpanInFrozenOverlay() {
+    GridColumn[] columns = createGridColumns( grid, 10, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 20, 0 );
+    // not the first column, so its position in the overlay differs from its
+    // display position
+    columns[ 3 ].setFixed( true );
+    items[ 2 ].setRowSpan( 3, 2 );
+
+    int actualScroll = scrollHorizontallyTo( 150 );
+    assertTrue( "scrollbar must accept some non-zero selection for the overlay to be active",
+                actualScroll > 0 );
+    paintToImage();
+
+    int rowY = 3 * ( grid.getItemHeight() + 1 ) + 1;
+    assertSame( columns[ 3 ], grid.getColumn( new Point( 5, rowY ) ) );
+    assertEquals( new Point( 3, 2 ), grid.getCell( new Point( 5, rowY ) ) );
+    assertEquals( new Point( 3, 2 ), grid.getCell( new Point( 5, rowY + grid.getItemHeight() + 1 ) ) );
+  }
+
+  /**
+   * Paints the grid onto an image, so that the spans of the painted frame are
+   * known even when the widget is not realized.
+   */
+  private void paintToImage() {
+    Point size = grid.getSize();
+    Image image = new Image( display, size.x, size.y );
+    GC gc = new GC( image );
+    try {
+      Event event = new Event();
+      event.gc = gc;
+      event.width = size.x;
+      event.height = size.y;
+      grid.notifyListeners( SWT.Paint, event );
+    } finally {
+      gc.dispose();
+      image.dispose();
+    }
+  }
+
   /**
    * Drains pending paint events so {@link Grid#updateScrollbars()} has a
    * chance to run on platforms where the widget is realized during event
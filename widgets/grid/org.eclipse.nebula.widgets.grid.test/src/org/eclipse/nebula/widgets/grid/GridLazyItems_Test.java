@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for the lazy {@link SWT#VIRTUAL} mode of {@link Grid}, see
+ * {@link Grid#setLazyItems(boolean)}.
+ */
+public class GridLazyItems_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    shell.pack();
+    shell.open();
+    while( display.readAndDispatch() ) {
+      // drain pending events
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if( shell != null && !shell.isDisposed() ) {
+      shell.dispose();
+    }
+  }
+
+  @Test
+  public void testSetLazyItems() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    assertTrue( grid.isLazyItems() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetLazyItems_NotVirtual() {
+    grid.setLazyItems( true );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetLazyItems_NotEmpty() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    createGridItems( grid, 1, 0 );
+    grid.setLazyItems( true );
+  }
+
+  @Test
+  public void testLazyItems_SetItemCountCreatesNoItems() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    final List<Integer> requested = new ArrayList<Integer>();
+    grid.addListener( SWT.SetData, new Listener() {
+
+      public void handleEvent( Event event ) {
+        requested.add( Integer.valueOf( event.index ) );
+        ( ( GridItem )event.item ).setText( "item " + event.index );
+      }
+    } );
+    grid.setLazyItemCacheSize( 10 );
+    grid.setItemCount( 1000000 );
+    requested.clear();
+
+    assertEquals( 1000000, grid.getItemCount() );
+    assertEquals( "item 500000", grid.getItem( 500000 ).getText() );
+    assertEquals( 500000, grid.getItem( 500000 ).getRowIndex() );
+    assertEquals( Arrays.asList( Integer.valueOf( 500000 ) ), requested );
+  }
+
+  @Test
+  public void testLazyItems_EvictsLeastRecentlyUsedItems() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    grid.setLazyItemCacheSize( 2 );
+    grid.setItemCount( 100 );
+
+    GridItem first = grid.getItem( 10 );
+    grid.getItem( 11 );
+    grid.getItem( 12 );
+
+    assertTrue( first.isDisposed() );
+    assertNotSame( first, grid.getItem( 10 ) );
+  }
+
+  @Test
+  public void testLazyItems_KeepsSelectionOfEvictedItems() {
+    grid = new Grid( shell, SWT.VIRTUAL | SWT.MULTI );
+    grid.setLazyItems( true );
+    grid.setLazyItemCacheSize( 2 );
+    grid.setItemCount( 100 );
+
+    grid.select( 10 );
+    GridItem selected = grid.getItem( 10 );
+    for( int i = 20; i < 30; i++ ) {
+      grid.getItem( i );
+    }
+
+    assertTrue( selected.isDisposed() );
+    assertTrue( grid.isSelected( 10 ) );
+    assertTrue( grid.isSelected( grid.getItem( 10 ) ) );
+    assertArrayEquals( new int[] { 10 }, grid.getSelectionIndices() );
+  }
+
+  @Test
+  public void testLazyItems_SelectAllCreatesNoItems() {
+    grid = new Grid( shell, SWT.VIRTUAL | SWT.MULTI );
+    grid.setLazyItems( true );
+    final List<Integer> requested = new ArrayList<Integer>();
+    grid.addListener( SWT.SetData, new Listener() {
+
+      public void handleEvent( Event event ) {
+        requested.add( Integer.valueOf( event.index ) );
+      }
+    } );
+    grid.setItemCount( 1000000 );
+
+    grid.selectAll();
+    grid.deselect( 5 );
+    grid.select( 5, 5 );
+
+    assertEquals( 1000000, grid.getSelectionCount() );
+    assertEquals( 0, grid.getSelectionIndex() );
+    assertTrue( grid.isSelected( 999999 ) );
+    assertEquals( Arrays.asList( Integer.valueOf( 5 ) ), requested );
+  }
+
+  @Test
+  public void testLazyItems_SelectionFollowsInsertAndRemove() {
+    grid = new Grid( shell, SWT.VIRTUAL | SWT.MULTI );
+    grid.setLazyItems( true );
+    grid.setItemCount( 10 );
+    grid.select( 3, 4 );
+
+    new GridItem( grid, SWT.NONE, 2 );
+    assertArrayEquals( new int[] { 4, 5 }, grid.getSelectionIndices() );
+
+    grid.remove( 4 );
+    assertArrayEquals( new int[] { 4 }, grid.getSelectionIndices() );
+
+    grid.setItemCount( 4 );
+    assertEquals( 0, grid.getSelectionCount() );
+  }
+
+  @Test
+  public void testLazyItems_InsertAndRemove() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    grid.setItemCount( 10 );
+    GridItem item = grid.getItem( 5 );
+
+    new GridItem( grid, SWT.NONE, 2 );
+    assertEquals( 11, grid.getItemCount() );
+    assertEquals( 6, item.getRowIndex() );
+    assertSame( item, grid.getItem( 6 ) );
+
+    grid.getItem( 0 ).dispose();
+    assertEquals( 10, grid.getItemCount() );
+    assertEquals( 5, item.getRowIndex() );
+  }
+
+  @Test
+  public void testLazyItems_ShrinkDisposesLoadedItems() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    grid.setItemCount( 10 );
+    GridItem item = grid.getItem( 8 );
+
+    grid.setItemCount( 5 );
+
+    assertEquals( 5, grid.getItemCount() );
+    assertTrue( item.isDisposed() );
+  }
+
+  @Test
+  public void testLazyItems_SetItemHeightResizesUnloadedRows() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    grid.setItemCount( 1000 );
+    grid.getItem( 0 );
+
+    grid.setItemHeight( 30 );
+
+    assertEquals( 500 * 31, grid.getRowHeightIndex().getOffset( 500 ) );
+    assertEquals( 1000 * 31, grid.getRowHeightIndex().getTotalOffset() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testLazyItems_ChildItem() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setLazyItems( true );
+    grid.setItemCount( 1 );
+    new GridItem( grid.getItem( 0 ), SWT.NONE );
+  }
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for the throttled repaint of {@link Grid}, see
+ * {@link Grid#setMaxRepaintsPerSecond(int)}.
+ */
+public class GridRepaint_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    shell.pack();
+    shell.open();
+    while( display.readAndDispatch() ) {
+      // drain pending events
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if( shell != null && !shell.isDisposed() ) {
+      shell.dispose();
+    }
+  }
+
+  @Test
+  public void testMaxRepaintsPerSecond_Default() {
+    assertEquals( 0, grid.getMaxRepaintsPerSecond() );
+  }
+
+  @Test
+  public void testSetMaxRepaintsPerSecond() {
+    grid.setMaxRepaintsPerSecond( 30 );
+
+    assertEquals( 30, grid.getMaxRepaintsPerSecond() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetMaxRepaintsPerSecond_Negative() {
+    grid.setMaxRepaintsPerSecond( -1 );
+  }
+
+  @Test
+  public void testSetMaxRepaintsPerSecond_ItemChanges() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 10, 0 );
+    grid.setMaxRepaintsPerSecond( 10 );
+
+    items[ 2 ].setText( 1, "foo" );
+    items[ 3 ].setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+    items[ 5 ].dispose();
+    grid.setMaxRepaintsPerSecond( 0 );
+
+    assertEquals( "foo", items[ 2 ].getText( 1 ) );
+    assertEquals( 9, grid.getItemCount() );
+  }
+
+  @Test
+  public void testSetMaxRepaintsPerSecond_CoalescesDamage() {
+    final List<Rectangle> damage = new ArrayList<Rectangle>();
+    grid.dispose();
+    grid = new Grid( shell, SWT.V_SCROLL ) {
+      @Override
+      public void redraw() {
+        damage.add( getClientArea() );
+        super.redraw();
+      }
+
+      @Override
+      public void redraw( int x, int y, int width, int height, boolean all ) {
+        damage.add( new Rectangle( x, y, width, height ) );
+        super.redraw( x, y, width, height, all );
+      }
+    };
+    grid.setSize( 200, 200 );
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 10, 0 );
+    while( display.readAndDispatch() );
+
+    damage.clear();
+    items[ 2 ].setText( 1, "foo" );
+    items[ 2 ].setText( 1, "bar" );
+    assertEquals( 2, damage.size() );
+
+    grid.setMaxRepaintsPerSecond( 10 );
+    damage.clear();
+    items[ 2 ].setText( 1, "foo" );
+    items[ 2 ].setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+    items[ 4 ].setText( 0, "foo" );
+    items[ 4 ].setText( 0, "bar" );
+    assertTrue( damage.isEmpty() );
+
+    waitForRepaint( damage );
+
+    // the changed row once and the changed cell of the other row once
+    Point rowOrigin = grid.getOrigin( columns[ 0 ], items[ 2 ] );
+    Point cellOrigin = grid.getOrigin( columns[ 0 ], items[ 4 ] );
+    assertEquals( 2, damage.size() );
+    assertEquals( new Rectangle( 0, rowOrigin.y - 1, grid.getClientArea().width, items[ 2 ].getHeight() + 2 ),
+                  damage.get( 0 ) );
+    assertEquals( new Rectangle( cellOrigin.x - 1,
+                                 cellOrigin.y - 1,
+                                 columns[ 0 ].getWidth() + 2,
+                                 items[ 4 ].getHeight() + 2 ),
+                  damage.get( 1 ) );
+  }
+
+  @Test
+  public void testCellDamage_ScrolledFixedColumn() {
+    final List<Rectangle> damage = new ArrayList<Rectangle>();
+    grid.dispose();
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL ) {
+      @Override
+      public void redraw( int x, int y, int width, int height, boolean all ) {
+        damage.add( new Rectangle( x, y, width, height ) );
+        super.redraw( x, y, width, height, all );
+      }
+    };
+    grid.setSize( 200, 200 );
+    // widths 20, 40, 60, ..., the fixed column starts at 60
+    GridColumn[] columns = createGridColumns( grid, 10, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 10, 0 );
+    columns[ 2 ].setFixed( true );
+    while( display.readAndDispatch() );
+    grid.getHorizontalBar().setVisible( true );
+    grid.getHorizontalBar().setValues( 30, 0, 2000, 100, 10, 100 );
+    int scroll = grid.getHorizontalBar().getSelection();
+    assertTrue( scroll > 0 && scroll <= 60 );
+
+    // not scrolled past the fixed column yet, so it is not pinned
+    damage.clear();
+    items[ 1 ].setText( 2, "foo" );
+    assertEquals( 1, damage.size() );
+    assertEquals( 60 - scroll - 1, damage.get( 0 ).x );
+    assertEquals( columns[ 2 ].getWidth() + 2, damage.get( 0 ).width );
+
+    // scrolled past it, the fixed column is pinned to the left edge
+    grid.getHorizontalBar().setSelection( 200 );
+    damage.clear();
+    items[ 1 ].setText( 2, "bar" );
+    assertEquals( 1, damage.size() );
+    assertEquals( -1, damage.get( 0 ).x );
+  }
+
+  private void waitForRepaint( List<Rectangle> damage ) {
+    long timeout = System.currentTimeMillis() + 5000;
+    while( damage.isEmpty() && System.currentTimeMillis() < timeout ) {
+      if( !display.readAndDispatch() ) {
+        display.sleep();
+      }
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link GridRowHeightIndex}.
+ */
+public class GridRowHeightIndex_Test {
+
+  // extents (height + 1 separator) of rows 0..5, row 2 and 4 are hidden
+  private static final int[] EXTENTS = { 10, 20, 0, 5, 0, 30 };
+
+  private GridRowHeightIndex index;
+
+  @Before
+  public void setUp() {
+    index = new GridRowHeightIndex();
+    index.rebuild( EXTENTS.length, row -> EXTENTS[ row ] );
+  }
+
+  @Test
+  public void testInvalidate() {
+    assertTrue( index.isValid() );
+
+    index.invalidate();
+
+    assertFalse( index.isValid() );
+  }
+
+  @Test
+  public void testOffsets() {
+    assertEquals( 0, index.getOffset( 0 ) );
+    assertEquals( 10, index.getOffset( 1 ) );
+    assertEquals( 30, index.getOffset( 2 ) );
+    assertEquals( 30, index.getOffset( 3 ) );
+    assertEquals( 35, index.getOffset( 5 ) );
+    assertEquals( 65, index.getTotalOffset() );
+  }
+
+  @Test
+  public void testVisibleCounts() {
+    assertEquals( 0, index.getVisibleCount( 0 ) );
+    assertEquals( 2, index.getVisibleCount( 3 ) );
+    assertEquals( 4, index.getVisibleCount() );
+  }
+
+  @Test
+  public void testGetRowAtOffset() {
+    assertEquals( 0, index.getRowAtOffset( 0 ) );
+    assertEquals( 0, index.getRowAtOffset( 9 ) );
+    assertEquals( 1, index.getRowAtOffset( 10 ) );
+    assertEquals( 3, index.getRowAtOffset( 30 ) );
+    assertEquals( 5, index.getRowAtOffset( 35 ) );
+    assertEquals( 5, index.getRowAtOffset( 64 ) );
+    assertEquals( -1, index.getRowAtOffset( 65 ) );
+    assertEquals( -1, index.getRowAtOffset( -1 ) );
+  }
+
+  @Test
+  public void testVisibleRowNavigation() {
+    assertEquals( 0, index.getVisibleRow( 0 ) );
+    assertEquals( 3, index.getVisibleRow( 2 ) );
+    assertEquals( 5, index.getVisibleRow( 3 ) );
+    assertEquals( -1, index.getVisibleRow( 4 ) );
+    assertEquals( 1, index.getPreviousVisibleRow( 3 ) );
+    assertEquals( -1, index.getPreviousVisibleRow( 0 ) );
+    assertEquals( 5, index.getNextVisibleRow( 3 ) );
+    assertEquals( -1, index.getNextVisibleRow( 5 ) );
+  }
+
+  @Test
+  public void testUpdate() {
+    index.update( 2, 7 );
+    index.update( 0, 0 );
+
+    assertEquals( 0, index.getOffset( 1 ) );
+    assertEquals( 27, index.getOffset( 3 ) );
+    assertEquals( 4, index.getVisibleCount() );
+    assertEquals( 1, index.getVisibleRow( 0 ) );
+  }
+
+  @Test
+  public void testAppendAndTruncate() {
+    index.truncate( 4 );
+
+    assertEquals( 35, index.getTotalOffset() );
+    assertEquals( 3, index.getVisibleCount() );
+
+    index.append( 8 );
+    index.append( 0 );
+    index.append( 2 );
+
+    assertEquals( 45, index.getTotalOffset() );
+    assertEquals( 5, index.getVisibleCount() );
+    assertEquals( 6, index.getRowAtOffset( 44 ) );
+  }
+
+  @Test
+  public void testAppendMatchesRebuild() {
+    Random random = new Random( 42 );
+    int[] extents = new int[ 1000 ];
+    GridRowHeightIndex appended = new GridRowHeightIndex();
+    appended.rebuild( 0, row -> 0 );
+    for( int i = 0; i < extents.length; i++ ) {
+      extents[ i ] = random.nextInt( 4 ) == 0 ? 0 : 1 + random.nextInt( 40 );
+      appended.append( extents[ i ] );
+    }
+    index.rebuild( extents.length, row -> extents[ row ] );
+
+    for( int row = 0; row <= extents.length; row++ ) {
+      assertEquals( index.getOffset( row ), appended.getOffset( row ) );
+      assertEquals( index.getVisibleCount( row ), appended.getVisibleCount( row ) );
+    }
+  }
+
+  @Test
+  public void testHideAndShow() {
+    index.hide( 1, 4 );
+
+    assertEquals( 10, index.getOffset( 4 ) );
+    assertEquals( 40, index.getTotalOffset() );
+    assertEquals( 2, index.getVisibleCount() );
+    assertEquals( 5, index.getVisibleRow( 1 ) );
+    assertEquals( 5, index.getNextVisibleRow( 0 ) );
+    assertEquals( 5, index.getRowAtOffset( 10 ) );
+
+    index.show( 1, 4 );
+
+    assertEquals( 65, index.getTotalOffset() );
+    assertEquals( 4, index.getVisibleCount() );
+    assertEquals( 1, index.getNextVisibleRow( 0 ) );
+  }
+
+  @Test
+  public void testNestedHide() {
+    index.hide( 1, 6 );
+    index.hide( 3, 5 );
+    index.show( 1, 6 );
+
+    assertEquals( 3, index.getVisibleCount() );
+    assertEquals( 60, index.getTotalOffset() );
+    assertEquals( 5, index.getNextVisibleRow( 1 ) );
+    assertTrue( index.isVisible( 1 ) );
+    assertFalse( index.isVisible( 3 ) );
+  }
+
+  @Test
+  public void testUpdateHiddenRow() {
+    index.hide( 0, 2 );
+    index.update( 1, 50 );
+
+    assertEquals( 35, index.getTotalOffset() );
+
+    index.show( 0, 2 );
+
+    assertEquals( 95, index.getTotalOffset() );
+  }
+
+  @Test
+  public void testAppendAfterHide() {
+    index.hide( 0, 6 );
+    for( int i = 0; i < 20; i++ ) {
+      index.append( 3 );
+    }
+
+    assertEquals( 60, index.getTotalOffset() );
+    assertEquals( 6, index.getVisibleRow( 0 ) );
+
+    index.show( 0, 6 );
+
+    assertEquals( 125, index.getTotalOffset() );
+    assertEquals( 0, index.getVisibleRow( 0 ) );
+  }
+
+  @Test
+  public void testHideMatchesRebuild() {
+    Random random = new Random( 4711 );
+    int count = 1000;
+    int[] extents = new int[ count ];
+    int[] hidden = new int[ count ];
+    for( int i = 0; i < count; i++ ) {
+      extents[ i ] = 1 + random.nextInt( 40 );
+    }
+    index.rebuild( count, row -> extents[ row ] );
+    for( int i = 0; i < 200; i++ ) {
+      int from = random.nextInt( count );
+      int to = from + random.nextInt( count - from + 1 );
+      int delta = random.nextBoolean() ? 1 : -1;
+      for( int row = from; row < to; row++ ) {
+        if( hidden[ row ] + delta < 0 ) {
+          delta = 1;
+        }
+      }
+      for( int row = from; row < to; row++ ) {
+        hidden[ row ] += delta;
+      }
+      if( delta > 0 ) {
+        index.hide( from, to );
+      } else {
+        index.show( from, to );
+      }
+    }
+    GridRowHeightIndex rebuilt = new GridRowHeightIndex();
+    rebuilt.rebuild( count, row -> extents[ row ], row -> hidden[ row ] );
+
+    for( int row = 0; row <= count; row++ ) {
+      assertEquals( rebuilt.getOffset( row ), index.getOffset( row ) );
+      assertEquals( rebuilt.getVisibleCount( row ), index.getVisibleCount( row ) );
+    }
+    for( int offset = 0; offset < rebuilt.getTotalOffset(); offset += 7 ) {
+      assertEquals( rebuilt.getRowAtOffset( offset ), index.getRowAtOffset( offset ) );
+    }
+  }
+
+  @Test
+  public void testUpdateIgnoredWhileInvalid() {
+    index.invalidate();
+    index.update( 0, 100 );
+    index.append( 100 );
+    index.rebuild( EXTENTS.length, row -> EXTENTS[ row ] );
+
+    assertEquals( 65, index.getTotalOffset() );
+  }
+}
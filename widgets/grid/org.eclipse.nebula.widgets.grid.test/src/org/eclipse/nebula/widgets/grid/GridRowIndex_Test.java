@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for the row indices of {@link GridItem}s when items are inserted or
+ * removed in bulk.
+ */
+public class GridRowIndex_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    shell.pack();
+    shell.open();
+    while( display.readAndDispatch() ) {
+      // drain pending events
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if( shell != null && !shell.isDisposed() ) {
+      shell.dispose();
+    }
+  }
+
+  @Test
+  public void testRemoveItems() {
+    createGridItems( grid, 3, 3 );
+    grid.removeItems( 3, 9 );
+    assertEquals( 3, grid.getItemCount() );
+    assertEquals( 1, grid.getRootItemCount() );
+    assertRowIndicesConsistent();
+  }
+
+  @Test
+  public void testRemoveItems_KeepsFollowingItems() {
+    GridItem[] items = createGridItems( grid, 20, 0 );
+    grid.removeItems( 5, 14 );
+    assertEquals( 10, grid.getItemCount() );
+    assertSame( items[ 15 ], grid.getItem( 5 ) );
+    assertEquals( 5, grid.indexOf( items[ 15 ] ) );
+    assertRowIndicesConsistent();
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testRemoveItems_InvalidRange() {
+    createGridItems( grid, 3, 3 );
+    grid.removeItems( 3, 60 );
+  }
+
+  @Test
+  public void testInsertItems() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.insertItems( 1, 2 );
+    assertEquals( 8, grid.getItemCount() );
+    assertEquals( 5, grid.getRootItemCount() );
+    assertSame( items[ 2 ], grid.getItem( 4 ) );
+    assertEquals( 4, grid.indexOf( items[ 2 ] ) );
+    assertSame( grid.getItem( 2 ), grid.getRootItem( 1 ) );
+    assertSame( grid.getItem( 3 ), grid.getRootItem( 2 ) );
+    assertRowIndicesConsistent();
+  }
+
+  @Test
+  public void testInsertItems_Append() {
+    createGridItems( grid, 3, 0 );
+    grid.insertItems( 3, 4 );
+    assertEquals( 7, grid.getItemCount() );
+    assertRowIndicesConsistent();
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testInsertItems_InvalidIndex() {
+    createGridItems( grid, 3, 0 );
+    grid.insertItems( 4, 1 );
+  }
+
+  private void assertRowIndicesConsistent() {
+    for( int i = 0; i < grid.getItemCount(); i++ ) {
+      assertEquals( i, grid.getItem( i ).getRowIndex() );
+    }
+  }
+}
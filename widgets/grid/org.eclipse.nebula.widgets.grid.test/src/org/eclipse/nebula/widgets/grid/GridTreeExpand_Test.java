@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for expanding and collapsing tree items of {@link Grid}.
+ */
+public class GridTreeExpand_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    shell.pack();
+    shell.open();
+    while( display.readAndDispatch() ) {
+      // drain pending events
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if( shell != null && !shell.isDisposed() ) {
+      shell.dispose();
+    }
+  }
+
+  @Test
+  public void testGetNextVisibleItem_NestedCollapsedItem() {
+    GridItem root = new GridItem( grid, SWT.NONE );
+    GridItem child = new GridItem( root, SWT.NONE );
+    GridItem grandChild = new GridItem( child, SWT.NONE );
+    GridItem sibling = new GridItem( grid, SWT.NONE );
+
+    root.setExpanded( true );
+
+    assertSame( child, grid.getNextVisibleItem( root ) );
+    assertSame( sibling, grid.getNextVisibleItem( child ) );
+    assertFalse( grandChild.isVisible() );
+
+    child.setExpanded( true );
+    root.setExpanded( false );
+    root.setExpanded( true );
+
+    assertTrue( grandChild.isVisible() );
+    assertSame( grandChild, grid.getPreviousVisibleItem( sibling ) );
+  }
+
+  @Test
+  public void testSetExpanded_DeselectsDescendants() {
+    grid = new Grid( shell, SWT.MULTI );
+    GridItem[] items = createGridItems( grid, 2, 3 );
+    items[ 0 ].setExpanded( true );
+    grid.select( new int[] { 0, 2, 3, 4 } );
+
+    items[ 0 ].setExpanded( false );
+
+    assertArrayEquals( new int[] { 0, 4 }, grid.getSelectionIndices() );
+  }
+}
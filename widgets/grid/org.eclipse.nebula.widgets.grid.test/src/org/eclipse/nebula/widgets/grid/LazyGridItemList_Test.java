@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link LazyGridItemList}.
+ */
+public class LazyGridItemList_Test {
+
+  private Set<GridItem> pinned;
+  private List<GridItem> evicted;
+  private int pinnedChecks;
+  private LazyGridItemList list;
+
+  @Before
+  public void setUp() {
+    pinned = new HashSet<GridItem>();
+    evicted = new ArrayList<GridItem>();
+    list = new LazyGridItemList( row -> mock( GridItem.class ), item -> {
+      pinnedChecks++;
+      return pinned.contains( item );
+    }, evicted::add, 3 );
+    list.setSize( 1000 );
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    GridItem first = list.get( 0 );
+    list.get( 1 );
+    list.get( 2 );
+    list.get( 0 );
+    GridItem fourth = list.get( 3 );
+
+    assertEquals( 1, evicted.size() );
+    assertSame( first, list.getLoaded( 0 ) );
+    assertSame( fourth, list.getLoaded( 3 ) );
+    assertEquals( null, list.getLoaded( 1 ) );
+  }
+
+  @Test
+  public void testKeepsPinnedItems() {
+    GridItem first = list.get( 0 );
+    pinned.add( first );
+    for( int i = 1; i < 10; i++ ) {
+      list.get( i );
+    }
+
+    assertFalse( evicted.contains( first ) );
+    assertSame( first, list.get( 0 ) );
+    assertEquals( 3, list.getLoadedItems().size() );
+  }
+
+  @Test
+  public void testPinnedItemsAreNotScannedOnEveryAccess() {
+    for( int i = 0; i < 500; i++ ) {
+      pinned.add( list.get( i ) );
+    }
+    pinnedChecks = 0;
+
+    for( int i = 500; i < 1000; i++ ) {
+      list.get( i );
+    }
+
+    assertTrue( "pinned checks: " + pinnedChecks, pinnedChecks < 5000 );
+    assertEquals( 501, list.getLoadedItems().size() );
+  }
+
+  @Test
+  public void testEvictsParkedItemsOnceUnpinned() {
+    for( int i = 0; i < 10; i++ ) {
+      pinned.add( list.get( i ) );
+    }
+    pinned.clear();
+
+    for( int i = 10; i < 30; i++ ) {
+      list.get( i );
+    }
+
+    assertEquals( 3, list.getLoadedItems().size() );
+    assertEquals( 27, evicted.size() );
+  }
+
+  @Test
+  public void testRemoveParkedItem() {
+    GridItem first = list.get( 0 );
+    pinned.add( first );
+    for( int i = 1; i < 5; i++ ) {
+      list.get( i );
+    }
+
+    assertSame( first, list.remove( 0 ) );
+    assertEquals( 999, list.size() );
+    assertFalse( list.getLoadedItems().contains( first ) );
+  }
+}
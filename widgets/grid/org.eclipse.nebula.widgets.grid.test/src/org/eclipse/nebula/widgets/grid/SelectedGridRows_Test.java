@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SelectedGridRows}.
+ */
+public class SelectedGridRows_Test {
+
+  private LazyGridItemList items;
+  private SelectedGridRows selection;
+
+  @Before
+  public void setUp() {
+    items = new LazyGridItemList( row -> {
+      GridItem item = mock( GridItem.class );
+      when( Integer.valueOf( item.getCachedRowIndex() ) ).thenReturn( Integer.valueOf( row ) );
+      return item;
+    }, item -> false, item -> {}, 1000 );
+    items.setSize( 1000000 );
+    selection = new SelectedGridRows( items );
+  }
+
+  @Test
+  public void testAddRangeCreatesNoItems() {
+    selection.addRange( 0, 999999 );
+
+    assertEquals( 1000000, selection.size() );
+    assertTrue( selection.isRowSelected( 999999 ) );
+    assertTrue( items.getLoadedItems().isEmpty() );
+  }
+
+  @Test
+  public void testAddAndContainsLoadedItem() {
+    GridItem item = items.get( 7 );
+
+    assertFalse( selection.contains( item ) );
+    selection.add( item );
+
+    assertTrue( selection.contains( item ) );
+    assertTrue( selection.isRowSelected( 7 ) );
+    assertEquals( 0, selection.indexOf( item ) );
+  }
+
+  @Test
+  public void testGetInRowOrder() {
+    selection.addRow( 30 );
+    selection.addRow( 10 );
+    selection.addRow( 20 );
+
+    assertSame( items.get( 10 ), selection.get( 0 ) );
+    assertSame( items.get( 20 ), selection.get( 1 ) );
+    assertSame( items.get( 30 ), selection.get( 2 ) );
+    assertSame( items.get( 10 ), selection.get( 0 ) );
+    assertEquals( 10, selection.getFirstRow() );
+    assertEquals( 30, selection.getLastRow() );
+  }
+
+  @Test
+  public void testRemoveItem() {
+    selection.addRange( 5, 7 );
+
+    assertTrue( selection.remove( items.get( 6 ) ) );
+    assertFalse( selection.remove( items.get( 6 ) ) );
+    assertArrayEquals( new int[] { 5, 7 }, selection.getRows() );
+    assertEquals( 2, selection.size() );
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    selection.addRange( 1, 4 );
+
+    Iterator<GridItem> iterator = selection.iterator();
+    while( iterator.hasNext() ) {
+      if( iterator.next() == items.get( 2 ) ) {
+        iterator.remove();
+      }
+    }
+
+    assertArrayEquals( new int[] { 1, 3, 4 }, selection.getRows() );
+  }
+
+  @Test
+  public void testInsertRowShiftsFollowingRows() {
+    selection.addRow( 2 );
+    selection.addRow( 5 );
+
+    selection.insertRow( 3 );
+
+    assertArrayEquals( new int[] { 2, 6 }, selection.getRows() );
+    assertEquals( 2, selection.size() );
+  }
+
+  @Test
+  public void testRemoveRowShiftsFollowingRows() {
+    selection.addRow( 2 );
+    selection.addRow( 3 );
+    selection.addRow( 5 );
+
+    assertTrue( selection.removeRow( 3 ) );
+    assertFalse( selection.removeRow( 0 ) );
+
+    assertArrayEquals( new int[] { 1, 3 }, selection.getRows() );
+    assertEquals( 2, selection.size() );
+  }
+
+  @Test
+  public void testTruncate() {
+    selection.addRange( 0, 99 );
+
+    selection.truncate( 40 );
+
+    assertEquals( 40, selection.size() );
+    assertEquals( 39, selection.getLastRow() );
+  }
+
+  @Test
+  public void testClear() {
+    selection.addRange( 0, 99 );
+
+    selection.clear();
+
+    assertTrue( selection.isEmpty() );
+    assertEquals( -1, selection.getFirstRow() );
+  }
+}
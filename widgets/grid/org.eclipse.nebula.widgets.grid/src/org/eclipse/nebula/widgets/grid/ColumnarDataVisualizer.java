@@ -0,0 +1,772 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * A {@link DataVisualizer} which stores the values column by column in
+ * primitive arrays, to keep the memory footprint of large grids low.
+ * <p>
+ * Every {@link GridItem} which receives a value is assigned a storage slot,
+ * which is released again when the row is cleared. Per column, texts and tool
+ * tips are kept in <code>String</code> arrays indexed by slot. Colors, fonts
+ * and images are kept in a palette per kind and stored as 16 bit palette
+ * indices, the flags as {@link BitSet}s and the spans as <code>int</code>
+ * arrays. Arrays are only allocated for the attributes which are actually
+ * used.
+ * <p>
+ * Palettes compare their values with <code>equals()</code>, so equal colors
+ * share an entry, and reuse the entries no cell refers to anymore. A column
+ * which needs more than 65535 distinct values of one kind at a time stores
+ * that kind as plain references instead. Texts can optionally be interned (see
+ * {@link #setInternTexts(boolean)}), which pays off when many cells share the
+ * same text.
+ */
+public class ColumnarDataVisualizer implements DataVisualizer {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Values of one column, indexed by slot.
+	 */
+	private static class ColumnData {
+		String[] texts;
+		String[] toolTipTexts;
+		PaletteColumn<Color> backgrounds;
+		PaletteColumn<Color> foregrounds;
+		PaletteColumn<Font> fonts;
+		PaletteColumn<Image> images;
+		int[] columnSpans;
+		int[] rowSpans;
+		final BitSet checked = new BitSet();
+		final BitSet grayed = new BitSet();
+		final BitSet notCheckable = new BitSet();
+
+		void clear(final int slot) {
+			if (texts != null && slot < texts.length) {
+				texts[slot] = null;
+			}
+			if (toolTipTexts != null && slot < toolTipTexts.length) {
+				toolTipTexts[slot] = null;
+			}
+			clear(backgrounds, slot);
+			clear(foregrounds, slot);
+			clear(fonts, slot);
+			clear(images, slot);
+			if (columnSpans != null && slot < columnSpans.length) {
+				columnSpans[slot] = 0;
+			}
+			if (rowSpans != null && slot < rowSpans.length) {
+				rowSpans[slot] = 0;
+			}
+			checked.clear(slot);
+			grayed.clear(slot);
+			notCheckable.clear(slot);
+		}
+
+		/**
+		 * Releases the palette entries used by this column.
+		 */
+		void release() {
+			release(backgrounds);
+			release(foregrounds);
+			release(fonts);
+			release(images);
+		}
+
+		private static void clear(final PaletteColumn<?> values, final int slot) {
+			if (values != null) {
+				values.clear(slot);
+			}
+		}
+
+		private static void release(final PaletteColumn<?> values) {
+			if (values != null) {
+				values.release();
+			}
+		}
+	}
+
+	/**
+	 * Distinct values of one kind, compared by {@link Object#equals(Object)}.
+	 * Index 0 stands for <code>null</code>. Every entry counts the cells using
+	 * it and is reused for another value once no cell uses it anymore.
+	 */
+	private static class Palette<T> {
+		/**
+		 * Returned by {@link #acquire(Object)} if all indices are in use.
+		 */
+		static final int FULL = -1;
+
+		private final List<T> values = new ArrayList<>();
+		private final Map<T, Character> indices = new HashMap<>();
+		private int[] counts = new int[INITIAL_CAPACITY];
+		private char[] freeIndices = new char[INITIAL_CAPACITY];
+		private int freeIndexCount;
+
+		Palette() {
+			values.add(null);
+		}
+
+		/**
+		 * Returns the index of the given value and counts one more use of it.
+		 *
+		 * @return the index or {@link #FULL} if the value is not in the palette
+		 *         and there is no index left for it
+		 */
+		int acquire(final T value) {
+			if (value == null) {
+				return 0;
+			}
+			final Character index = indices.get(value);
+			if (index != null) {
+				counts[index.charValue()]++;
+				return index.charValue();
+			}
+			final char newIndex;
+			if (freeIndexCount > 0) {
+				newIndex = freeIndices[--freeIndexCount];
+				values.set(newIndex, value);
+			} else if (values.size() > Character.MAX_VALUE) {
+				return FULL;
+			} else {
+				newIndex = (char) values.size();
+				values.add(value);
+				if (newIndex == counts.length) {
+					counts = Arrays.copyOf(counts, capacityFor(newIndex, counts.length));
+				}
+			}
+			indices.put(value, Character.valueOf(newIndex));
+			counts[newIndex] = 1;
+			return newIndex;
+		}
+
+		/**
+		 * Counts one use less of the value at the given index, and frees the
+		 * index if the value is not used anymore.
+		 */
+		void release(final char index) {
+			if (index == 0 || --counts[index] > 0) {
+				return;
+			}
+			final T value = values.set(index, null);
+			final Character key = Character.valueOf(index);
+			if (!indices.remove(value, key)) {
+				// the hash code of a disposed resource may have changed
+				indices.values().remove(key);
+			}
+			if (freeIndexCount == freeIndices.length) {
+				freeIndices = Arrays.copyOf(freeIndices, freeIndices.length * 2);
+			}
+			freeIndices[freeIndexCount++] = index;
+		}
+
+		T get(final char index) {
+			return values.get(index);
+		}
+
+		void clear() {
+			values.subList(1, values.size()).clear();
+			indices.clear();
+			Arrays.fill(counts, 0);
+			freeIndexCount = 0;
+		}
+	}
+
+	/**
+	 * Values of one kind in one column, stored as palette indices. If the
+	 * palette is full, the column falls back to storing the values themselves.
+	 */
+	private static class PaletteColumn<T> {
+		private final Palette<T> palette;
+		private char[] indices;
+		private Object[] values;
+
+		PaletteColumn(final Palette<T> palette) {
+			this.palette = palette;
+		}
+
+		@SuppressWarnings("unchecked")
+		T get(final int slot) {
+			if (values != null) {
+				return slot >= 0 && slot < values.length ? (T) values[slot] : null;
+			}
+			return palette.get(ColumnarDataVisualizer.get(indices, slot));
+		}
+
+		void set(final int slot, final T value) {
+			if (values == null) {
+				final int index = palette.acquire(value);
+				if (index != Palette.FULL) {
+					indices = ensure(indices, slot);
+					palette.release(indices[slot]);
+					indices[slot] = (char) index;
+					return;
+				}
+				values = new Object[capacityFor(slot, indices == null ? 0 : indices.length)];
+				for (int i = 0; indices != null && i < indices.length; i++) {
+					values[i] = palette.get(indices[i]);
+				}
+				release();
+			}
+			values = ensure(values, slot);
+			values[slot] = value;
+		}
+
+		void clear(final int slot) {
+			if (values != null) {
+				if (slot < values.length) {
+					values[slot] = null;
+				}
+			} else if (indices != null && slot < indices.length) {
+				palette.release(indices[slot]);
+				indices[slot] = 0;
+			}
+		}
+
+		/**
+		 * Releases the palette entries used by this column, the indices are
+		 * dropped.
+		 */
+		void release() {
+			if (indices != null) {
+				for (final char index : indices) {
+					palette.release(index);
+				}
+				indices = null;
+			}
+		}
+	}
+
+	private final List<ColumnData> columns = new ArrayList<>();
+
+	private final Palette<Color> colors = new Palette<>();
+	private final Palette<Font> fontPalette = new Palette<>();
+	private final Palette<Image> imagePalette = new Palette<>();
+
+	private final Map<String, String> internedTexts = new HashMap<>();
+	private boolean internTexts;
+
+	private int slotCount;
+	private int[] freeSlots = new int[INITIAL_CAPACITY];
+	private int freeSlotCount;
+
+	private Color defaultBackground;
+	private Color defaultForeground;
+	private Font defaultFont;
+
+	/**
+	 * Create {@link ColumnarDataVisualizer} with default value
+	 *
+	 * @param defaultBackground the default background color
+	 * @param defaultForeground the default foreground color
+	 * @param defaultFont       the default font
+	 */
+	public ColumnarDataVisualizer(final Color defaultBackground, final Color defaultForeground,
+			final Font defaultFont) {
+		this.defaultBackground = defaultBackground;
+		this.defaultForeground = defaultForeground;
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * Sets whether equal texts are stored as a single instance. Interning costs a
+	 * hash lookup per text and keeps every distinct text until
+	 * {@link #clearAll()} is called, it saves memory when texts repeat a lot.
+	 *
+	 * @param internTexts <code>true</code> to intern texts and tool tips
+	 */
+	public void setInternTexts(final boolean internTexts) {
+		this.internTexts = internTexts;
+		if (!internTexts) {
+			internedTexts.clear();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if texts are interned
+	 * @see #setInternTexts(boolean)
+	 */
+	public boolean isInternTexts() {
+		return internTexts;
+	}
+
+	/**
+	 * @return the column data of the given column or <code>null</code> if
+	 *         nothing has been stored for it
+	 */
+	private ColumnData columnOf(final int column) {
+		if (column < 0 || column >= columns.size()) {
+			return null;
+		}
+		return columns.get(column);
+	}
+
+	/**
+	 * @return the column data of the given column, created if necessary
+	 */
+	private ColumnData ensureColumn(final int column) {
+		while (column >= columns.size()) {
+			columns.add(null);
+		}
+		ColumnData data = columns.get(column);
+		if (data == null) {
+			data = new ColumnData();
+			columns.set(column, data);
+		}
+		return data;
+	}
+
+	/**
+	 * @return the slot of the given item, assigned if necessary
+	 */
+	private int ensureSlot(final GridItem gridItem) {
+		if (gridItem.dataSlot < 0) {
+			gridItem.dataSlot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : slotCount++;
+		}
+		return gridItem.dataSlot;
+	}
+
+	private static int capacityFor(final int slot, final int length) {
+		int capacity = Math.max(length, INITIAL_CAPACITY);
+		while (capacity <= slot) {
+			capacity = capacity + (capacity >> 1);
+		}
+		return capacity;
+	}
+
+	private static String[] ensure(final String[] values, final int slot) {
+		if (values == null) {
+			return new String[capacityFor(slot, 0)];
+		}
+		return slot < values.length ? values : Arrays.copyOf(values, capacityFor(slot, values.length));
+	}
+
+	private static Object[] ensure(final Object[] values, final int slot) {
+		if (values == null) {
+			return new Object[capacityFor(slot, 0)];
+		}
+		return slot < values.length ? values : Arrays.copyOf(values, capacityFor(slot, values.length));
+	}
+
+	private static char[] ensure(final char[] values, final int slot) {
+		if (values == null) {
+			return new char[capacityFor(slot, 0)];
+		}
+		return slot < values.length ? values : Arrays.copyOf(values, capacityFor(slot, values.length));
+	}
+
+	private static int[] ensure(final int[] values, final int slot) {
+		if (values == null) {
+			return new int[capacityFor(slot, 0)];
+		}
+		return slot < values.length ? values : Arrays.copyOf(values, capacityFor(slot, values.length));
+	}
+
+	private static String get(final String[] values, final int slot) {
+		return values != null && slot >= 0 && slot < values.length ? values[slot] : null;
+	}
+
+	private static char get(final char[] values, final int slot) {
+		return values != null && slot >= 0 && slot < values.length ? values[slot] : 0;
+	}
+
+	private static <T> T get(final PaletteColumn<T> values, final int slot) {
+		return values != null ? values.get(slot) : null;
+	}
+
+	private static int get(final int[] values, final int slot) {
+		return values != null && slot >= 0 && slot < values.length ? values[slot] : 0;
+	}
+
+	private String intern(final String text) {
+		if (!internTexts || text == null) {
+			return text;
+		}
+		final String interned = internedTexts.putIfAbsent(text, text);
+		return interned != null ? interned : text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultBackground()
+	 */
+	@Override
+	public Color getDefaultBackground() {
+		return defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultForeground()
+	 */
+	@Override
+	public Color getDefaultForeground() {
+		return defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultFont()
+	 */
+	@Override
+	public Font getDefaultFont() {
+		return defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getBackground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getBackground(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		final Color color = data == null ? null : get(data.backgrounds, gridItem.dataSlot);
+		return color != null ? color : defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getForeground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getForeground(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		final Color color = data == null ? null : get(data.foregrounds, gridItem.dataSlot);
+		return color != null ? color : defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getFont(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Font getFont(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		final Font font = data == null ? null : get(data.fonts, gridItem.dataSlot);
+		return font != null ? font : defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getImage(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Image getImage(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data == null ? null : get(data.images, gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getText(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		final String text = data == null ? null : get(data.texts, gridItem.dataSlot);
+		return text != null ? text : "";
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getToolTipText(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data == null ? null : get(data.toolTipTexts, gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getColumnSpan(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data == null ? 0 : get(data.columnSpans, gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getRowSpan(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data == null ? 0 : get(data.rowSpans, gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getChecked(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getChecked(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data != null && gridItem.dataSlot >= 0 && data.checked.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getGrayed(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getGrayed(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data != null && gridItem.dataSlot >= 0 && data.grayed.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getCheckable(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getCheckable(final GridItem gridItem, final int column) {
+		final ColumnData data = columnOf(column);
+		return data == null || gridItem.dataSlot < 0 || !data.notCheckable.get(gridItem.dataSlot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setBackground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setBackground(final GridItem gridItem, final int column, final Color color) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		if (data.backgrounds == null) {
+			data.backgrounds = new PaletteColumn<>(colors);
+		}
+		data.backgrounds.set(slot, color);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setForeground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setForeground(final GridItem gridItem, final int column, final Color foreground) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		if (data.foregrounds == null) {
+			data.foregrounds = new PaletteColumn<>(colors);
+		}
+		data.foregrounds.set(slot, foreground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setFont(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setFont(final GridItem gridItem, final int column, final Font font) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		if (data.fonts == null) {
+			data.fonts = new PaletteColumn<>(fontPalette);
+		}
+		data.fonts.set(slot, font);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setImage(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Image)
+	 */
+	@Override
+	public void setImage(final GridItem gridItem, final int column, final Image image) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		if (data.images == null) {
+			data.images = new PaletteColumn<>(imagePalette);
+		}
+		data.images.set(slot, image);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setText(final GridItem gridItem, final int column, final String text) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		data.texts = ensure(data.texts, slot);
+		data.texts[slot] = intern(text);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setToolTipText(final GridItem gridItem, final int column, final String tooltip) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		data.toolTipTexts = ensure(data.toolTipTexts, slot);
+		data.toolTipTexts[slot] = intern(tooltip);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setColumnSpan(final GridItem gridItem, final int column, final int span) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		data.columnSpans = ensure(data.columnSpans, slot);
+		data.columnSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setRowSpan(final GridItem gridItem, final int column, final int span) {
+		if (column < 0) {
+			return;
+		}
+		final int slot = ensureSlot(gridItem);
+		final ColumnData data = ensureColumn(column);
+		data.rowSpans = ensure(data.rowSpans, slot);
+		data.rowSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setChecked(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setChecked(final GridItem gridItem, final int column, final boolean checked) {
+		if (column < 0) {
+			return;
+		}
+		ensureColumn(column).checked.set(ensureSlot(gridItem), checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setGrayed(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setGrayed(final GridItem gridItem, final int column, final boolean grayed) {
+		if (column < 0) {
+			return;
+		}
+		ensureColumn(column).grayed.set(ensureSlot(gridItem), grayed);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setCheckable(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setCheckable(final GridItem gridItem, final int column, final boolean checked) {
+		if (column < 0) {
+			return;
+		}
+		ensureColumn(column).notCheckable.set(ensureSlot(gridItem), !checked);
+	}
+
+	/**
+	 * Releases the slot of the given item, it is reused for the next item.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearRow(GridItem)
+	 */
+	@Override
+	public void clearRow(final GridItem gridItem) {
+		final int slot = gridItem.dataSlot;
+		if (slot < 0) {
+			return;
+		}
+		for (final ColumnData data : columns) {
+			if (data != null) {
+				data.clear(slot);
+			}
+		}
+		if (freeSlotCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+		}
+		freeSlots[freeSlotCount++] = slot;
+		gridItem.dataSlot = -1;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearColumn(int)
+	 */
+	@Override
+	public void clearColumn(final int column) {
+		if (column >= 0 && column < columns.size()) {
+			final ColumnData data = columns.remove(column);
+			if (data != null) {
+				data.release();
+			}
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#addColumn(int)
+	 */
+	@Override
+	public void addColumn(final int column) {
+		if (column >= 0 && column < columns.size()) {
+			columns.add(column, null);
+		}
+	}
+
+	/**
+	 * Removes all values. Slots stay assigned to their items, they are released
+	 * when the rows are cleared.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearAll()
+	 */
+	@Override
+	public void clearAll() {
+		columns.clear();
+		colors.clear();
+		fontPalette.clear();
+		imagePalette.clear();
+		internedTexts.clear();
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultBackground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultBackground(final Color defaultBackground) {
+		this.defaultBackground = defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultForeground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultForeground(final Color defaultForeground) {
+		this.defaultForeground = defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultFont(org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setDefaultFont(final Font defaultFont) {
+		this.defaultFont = defaultFont;
+	}
+}
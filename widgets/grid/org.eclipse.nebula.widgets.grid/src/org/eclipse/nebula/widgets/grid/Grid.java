@@ -29,11 +29,14 @@ package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.Vector;
 import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
 
@@ -78,6 +81,7 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Region;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
@@ -159,6 +163,7 @@ public class Grid extends Canvas {
 	public void clearItems() {
 		items.clear();
 		rootItems.clear();
+		rowHeightIndex.invalidate();
 		deselectAll();
 		redraw();
 	}
@@ -253,17 +258,41 @@ public class Grid extends Canvas {
 	/**
 	 * All items in the table, not just root items.
 	 */
-	private final List<GridItem> items = new ArrayList<>();
+	private List<GridItem> items = new ArrayList<>();
 
 	/**
 	 * All root items.
 	 */
-	private final List<GridItem> rootItems = new ArrayList<>();
+	private List<GridItem> rootItems = new ArrayList<>();
+
+	/**
+	 * Item list used in lazy virtual mode (see {@link #setLazyItems(boolean)}),
+	 * <code>null</code> otherwise. Both {@link #items} and {@link #rootItems}
+	 * refer to it when set.
+	 */
+	private LazyGridItemList lazyItems;
+
+	/**
+	 * Number of items kept by {@link #lazyItems}.
+	 */
+	private int lazyItemCacheSize = 512;
+
+	/**
+	 * Row index of the item which is currently created by {@link #lazyItems}, or
+	 * -1.
+	 */
+	private int materializingRow = -1;
 
 	/**
 	 * List of selected items.
 	 */
-	private final List<GridItem> selectedItems = new ArrayList<>();
+	private List<GridItem> selectedItems = new SelectedGridItemList();
+
+	/**
+	 * Row selection used in lazy virtual mode, <code>null</code> otherwise.
+	 * {@link #selectedItems} refers to it when set.
+	 */
+	private SelectedGridRows selectedRows;
 
 	/**
 	 * Reference to the item in focus.
@@ -273,8 +302,8 @@ public class Grid extends Canvas {
 	private boolean cellSelectionEnabled = false;
 	private boolean cellDragSelectionEnabled = true;
 
-	private final List<Point> selectedCells = new ArrayList<>();
-	private final List<Point> selectedCellsBeforeRangeSelect = new ArrayList<>();
+	private final GridCellSelection selectedCells = new GridCellSelection();
+	private final GridCellSelection selectedCellsBeforeRangeSelect = new GridCellSelection();
 
 	private boolean cellDragSelectionOccuring = false;
 	private boolean cellRowDragSelectionOccuring = false;
@@ -638,12 +667,94 @@ public class Grid extends Canvas {
 	 */
 	boolean hasDifferingHeights = false;
 
+	/**
+	 * Prefix sums over the row heights, used when {@link #isTree} or
+	 * {@link #hasDifferingHeights} is set.
+	 */
+	private final GridRowHeightIndex rowHeightIndex = new GridRowHeightIndex();
+
+	/**
+	 * True while {@link #insertItems(int, int)} or {@link #removeItems(int, int)}
+	 * is running. The row indices of the items after an insertion or removal are
+	 * then renumbered once at the end instead of on every single change.
+	 */
+	private boolean rowBatch = false;
+
+	/**
+	 * Lowest row index whose following items need to be renumbered at the end of
+	 * the current row batch.
+	 */
+	private int renumberRowsFrom = Integer.MAX_VALUE;
+
+	/**
+	 * Flat row index where the next item created by
+	 * {@link #insertItems(int, int)} is inserted, or -1.
+	 */
+	private int batchInsertRow = -1;
+
 	/**
 	 * True if three is at least one cell spanning columns. This is used in various
 	 * places for optimizatoin.
 	 */
 	private boolean hasSpanning = false;
 
+	/**
+	 * Items which have been given a row span, see
+	 * {@link #addRowSpanningItem(GridItem)}.
+	 */
+	private final Set<GridItem> rowSpanningItems = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Cell spans of the last painted frame, used to hit-test cells covered by a
+	 * span. <code>null</code> if nothing has been painted yet.
+	 */
+	private GridCellSpanManager paintedCellSpans;
+
+	/**
+	 * Cell spans of the fixed columns painted over the scrolled area in the last
+	 * painted frame, by position in {@link #paintedFixedColumns}.
+	 * <code>null</code> if the fixed columns were not painted over the scrolled
+	 * area.
+	 */
+	private GridCellSpanManager paintedFixedCellSpans;
+
+	/**
+	 * Fixed columns painted over the scrolled area in the last painted frame.
+	 */
+	private List<GridColumn> paintedFixedColumns;
+
+	/**
+	 * Damaged region of the paint event which is currently processed, or
+	 * <code>null</code>.
+	 */
+	private Region paintDamage;
+
+	/**
+	 * Maximum number of repaints per second caused by item changes, 0 if not
+	 * limited.
+	 */
+	private int maxRepaintsPerSecond = 0;
+
+	/**
+	 * Cells which have changed since the last throttled repaint.
+	 */
+	private final GridCellSelection dirtyCells = new GridCellSelection();
+
+	/**
+	 * Rows which have changed since the last throttled repaint.
+	 */
+	private final BitSet dirtyRows = new BitSet();
+
+	/**
+	 * True if a throttled repaint is scheduled.
+	 */
+	private boolean repaintScheduled = false;
+
+	/**
+	 * Time of the last throttled repaint in milliseconds.
+	 */
+	private long lastRepaint = 0;
+
 	/**
 	 * Index of first visible item. The value must never be read directly. It is
 	 * cached and updated when appropriate. #getTopIndex should be called for every
@@ -1334,7 +1445,7 @@ public class Grid extends Canvas {
 			}
 
 			if (item != null) {
-				final int displayColIndex = displayOrderedColumns.indexOf(overThis);
+				final int displayColIndex = displayIndexOf(overThis);
 
 				// track back all previous columns and check their spanning
 				for (int i = 0; i < displayColIndex; i++) {
@@ -1571,10 +1682,34 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * This method is used for clearing columns displayed ordering cache
+	 * This method is used for clearing columns displayed ordering cache and
+	 * renumbering the display order index of the columns. It must be called
+	 * whenever {@link #displayOrderedColumns} changes.
 	 */
 	private void clearDisplayOrderedCache() {
 		columnOrders = null;
+		for (int i = 0; i < displayOrderedColumns.size(); i++) {
+			displayOrderedColumns.get(i).displayOrderIndex = i;
+		}
+	}
+
+	/**
+	 * Returns the position of the given column in the display order.
+	 *
+	 * @param column column or <code>null</code>
+	 * @return display order index or -1 if the column is <code>null</code> or not
+	 *         displayed by the receiver
+	 */
+	private int displayIndexOf(final GridColumn column) {
+		if (column == null) {
+			return -1;
+		}
+		final int index = column.displayOrderIndex;
+		if (index >= 0 && index < displayOrderedColumns.size() && displayOrderedColumns.get(index) == column) {
+			return index;
+		}
+		// not renumbered yet
+		return displayOrderedColumns.indexOf(column);
 	}
 
 	/**
@@ -1913,20 +2048,22 @@ public class Grid extends Canvas {
 
 		GridItem itemToReturn = null;
 
-		int row = getTopIndex();
-		while (row < items.size() && y2 <= getClientArea().height) {
-			final GridItem currItem = items.get(row);
-			if (currItem.isVisible()) {
-				final int currItemHeight = currItem.getHeight();
-
-				if (p.y >= y2 && p.y < y2 + currItemHeight + 1) {
-					itemToReturn = currItem;
-					break;
-				}
-
-				y2 += currItemHeight + 1;
+		final int topRow = getTopIndex();
+		if (p.y >= y2 && topRow < items.size()) {
+			int row;
+			int rowY;
+			if (isTree || hasDifferingHeights) {
+				final GridRowHeightIndex index = getRowHeightIndex();
+				final int topOffset = index.getOffset(topRow);
+				row = index.getRowAtOffset(topOffset + p.y - y2);
+				rowY = row == -1 ? 0 : y2 + index.getOffset(row) - topOffset;
+			} else {
+				row = topRow + (p.y - y2) / (itemHeight + 1);
+				rowY = y2 + (row - topRow) * (itemHeight + 1);
+			}
+			if (row != -1 && row < items.size() && rowY <= getClientArea().height) {
+				itemToReturn = items.get(row);
 			}
-			row++;
 		}
 
 		if (hasSpanning) {
@@ -1934,7 +2071,7 @@ public class Grid extends Canvas {
 				final int itemIndex = getIndexOfItem(itemToReturn);
 
 				final GridColumn gridColumn = getColumn(itemToReturn, point);
-				final int displayColIndex = displayOrderedColumns.indexOf(gridColumn);
+				final int displayColIndex = displayIndexOf(gridColumn);
 
 				// track back all previous columns and check their spanning
 				int indexNextItemToCheck = 0;
@@ -2037,9 +2174,13 @@ public class Grid extends Canvas {
 		}
 		itemHeight = height;
 		userModifiedItemHeight = true;
-		for (final GridItem item : items) {
+		for (final GridItem item : getLoadedItems()) {
 			item.setHeight(height);
 		}
+		if (lazyItems != null) {
+			// rows which are not loaded take the new default height
+			rowHeightIndex.invalidate();
+		}
 		hasDifferingHeights = false;
 		setScrollValuesObsolete();
 		redraw();
@@ -2197,6 +2338,10 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		int index = item.getRowIndex();
+		if (isTree) {
+			final int next = getRowHeightIndex().getNextVisibleRow(index);
+			return next == -1 ? null : items.get(next);
+		}
 		if (items.size() == index + 1) {
 			return null;
 		}
@@ -2242,6 +2387,10 @@ public class Grid extends Canvas {
 				return null;
 			}
 		}
+		if (isTree) {
+			final int previous = getRowHeightIndex().getPreviousVisibleRow(index);
+			return previous == -1 ? null : items.get(previous);
+		}
 
 		GridItem prevItem = items.get(index - 1);
 
@@ -2274,7 +2423,7 @@ public class Grid extends Canvas {
 	public GridColumn getPreviousVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == 0) {
 			return null;
@@ -2313,7 +2462,7 @@ public class Grid extends Canvas {
 	public GridColumn getNextVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == displayOrderedColumns.size() - 1) {
 			return null;
@@ -2438,18 +2587,14 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.toArray(new GridItem[selectedItems.size()]);
 		} else {
-			final Vector<GridItem> items = new Vector<>();
+			final BitSet rows = selectedCells.getSelectedRows();
 			final int itemCount = getItemCount();
+			final List<GridItem> items = new ArrayList<>(rows.cardinality());
 
-			for (final Point cell : selectedCells) {
-				if (cell.y >= 0 && cell.y < itemCount) {
-					final GridItem item = getItem(cell.y);
-					if (!items.contains(item)) {
-						items.add(item);
-					}
-				}
+			for (int row = rows.nextSetBit(0); row >= 0 && row < itemCount; row = rows.nextSetBit(row + 1)) {
+				items.add(getItem(row));
 			}
-			return items.toArray(new GridItem[] {});
+			return items.toArray(new GridItem[items.size()]);
 		}
 	}
 
@@ -2474,14 +2619,7 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.size();
 		} else {
-			final Vector<GridItem> items = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!items.contains(item)) {
-					items.add(item);
-				}
-			}
-			return items.size();
+			return selectedCells.getSelectedRows().cardinality();
 		}
 	}
 
@@ -2526,13 +2664,17 @@ public class Grid extends Canvas {
 				return -1;
 			}
 
+			if (selectedRows != null) {
+				return selectedRows.getFirstRow();
+			}
+
 			return selectedItems.get(0).getRowIndex();
 		} else {
-			if (selectedCells.size() == 0) {
+			if (selectedCells.isEmpty()) {
 				return -1;
 			}
 
-			return selectedCells.get(0).y;
+			return selectedCells.getFirst().y;
 		}
 	}
 
@@ -2561,6 +2703,9 @@ public class Grid extends Canvas {
 		checkWidget();
 
 		if (!cellSelectionEnabled) {
+			if (selectedRows != null) {
+				return selectedRows.getRows();
+			}
 			final int[] indices = new int[selectedItems.size()];
 			int i = 0;
 			for (final GridItem item : selectedItems) {
@@ -2569,20 +2714,7 @@ public class Grid extends Canvas {
 			}
 			return indices;
 		} else {
-			final Vector<GridItem> selectedRows = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!selectedRows.contains(item)) {
-					selectedRows.add(item);
-				}
-			}
-			final int[] indices = new int[selectedRows.size()];
-			int i = 0;
-			for (final GridItem item : selectedRows) {
-				indices[i] = item.getRowIndex();
-				i++;
-			}
-			return indices;
+			return selectedCells.getSelectedRows().stream().toArray();
 		}
 	}
 
@@ -2615,29 +2747,13 @@ public class Grid extends Canvas {
 			int firstVisibleIndex = vScroll.getSelection();
 
 			if (isTree) {
-				final Iterator<GridItem> itemsIter = items.iterator();
-				int row = firstVisibleIndex + 1;
-
-				while (row > 0 && itemsIter.hasNext()) {
-					final GridItem item = itemsIter.next();
-
-					if (item.isVisible()) {
-						row--;
-						if (row == 0) {
-							firstVisibleIndex = item.getRowIndex();
-						}
-					}
+				final int row = getRowHeightIndex().getVisibleRow(firstVisibleIndex);
+				if (row != -1) {
+					firstVisibleIndex = row;
 				}
 			}
 
 			topIndex = firstVisibleIndex;
-
-			/*
-			 * MOPR here lies more potential for increasing performance for the case (isTree
-			 * || hasDifferingHeights) the topIndex could be derived from the previous value
-			 * depending on a delta of the vScroll.getSelection() instead of being
-			 * calculated completely anew
-			 */
 		}
 
 		return topIndex;
@@ -2699,23 +2815,17 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	private RowRange getRowRange(int startIndex, int endIndex) {
+		final boolean useIndex = isTree || hasDifferingHeights;
 
 		// parameter preparation
 		if (startIndex == -1) {
-			// search frist visible item
-			do {
-				startIndex++;
-			} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-			if (startIndex == items.size()) {
+			startIndex = getFirstVisibleRow(useIndex);
+			if (startIndex == -1) {
 				return null;
 			}
 		}
 		if (endIndex == -1) {
-			// search last visible item
-			endIndex = items.size();
-			do {
-				endIndex--;
-			} while (endIndex >= 0 && !items.get(endIndex).isVisible());
+			endIndex = getLastVisibleRow(useIndex);
 			if (endIndex == -1) {
 				return null;
 			}
@@ -2731,18 +2841,12 @@ public class Grid extends Canvas {
 		range.startIndex = startIndex;
 		range.endIndex = endIndex;
 
-		if (isTree || hasDifferingHeights) {
-			for (int idx = startIndex; idx <= endIndex; idx++) {
-				final GridItem currItem = items.get(idx);
-
-				if (currItem.isVisible()) {
-					if (range.rows > 0) {
-						range.height++; // height of horizontal row separator
-					}
-					range.height += currItem.getHeight();
-					range.rows++;
-				}
-			}
+		if (useIndex) {
+			final GridRowHeightIndex index = getRowHeightIndex();
+			range.rows = index.getVisibleCount(endIndex + 1) - index.getVisibleCount(startIndex);
+			// the extents include one separator line per row, but the last one is not
+			// part of the range
+			range.height = index.getOffset(endIndex + 1) - index.getOffset(startIndex) - 1;
 		} else {
 			range.rows = range.endIndex - range.startIndex + 1;
 			range.height = (itemHeight + 1) * range.rows - 1;
@@ -2777,25 +2881,13 @@ public class Grid extends Canvas {
 	 */
 	private RowRange getRowRange(int startIndex, final int availableHeight, final boolean forceEndCompletelyInside,
 			final boolean inverse) {
+		final boolean useIndex = isTree || hasDifferingHeights;
+
 		// parameter preparation
 		if (startIndex == -1) {
-			if (!inverse) {
-				// search frist visible item
-				do {
-					startIndex++;
-				} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-				if (startIndex == items.size()) {
-					return null;
-				}
-			} else {
-				// search last visible item
-				startIndex = items.size();
-				do {
-					startIndex--;
-				} while (startIndex >= 0 && !items.get(startIndex).isVisible());
-				if (startIndex == -1) {
-					return null;
-				}
+			startIndex = !inverse ? getFirstVisibleRow(useIndex) : getLastVisibleRow(useIndex);
+			if (startIndex == -1) {
+				return null;
 			}
 		}
 
@@ -2815,70 +2907,52 @@ public class Grid extends Canvas {
 			return range;
 		}
 
-		if (isTree || hasDifferingHeights) {
-			int otherIndex = startIndex; // tentative end index
-			int consumedItems = 0;
-			int consumedHeight = 0;
-
-			// consume height for startEnd (note: no separator pixel added here)
-			consumedItems++;
-			consumedHeight += items.get(otherIndex).getHeight();
-
-			// note: we use "+2" in next line, because we only try to add another row if
-			// there
-			// is room for the separator line + at least one pixel row for the additional
-			// item
-			while (consumedHeight + 2 <= availableHeight) {
-				// STEP 1:
-				// try to find a visible item we can add
+		if (useIndex) {
+			// The extent of a visible row is its height plus one separator line. The
+			// range grows row by row as long as there is room for the separator plus one
+			// pixel of the next row, or, if forceEndCompletelyInside is set, for the
+			// separator plus the complete next row.
+			final GridRowHeightIndex index = getRowHeightIndex();
+			int otherIndex;
 
-				int nextIndex = otherIndex;
-				GridItem nextItem;
-
-				do {
-					if (!inverse) {
-						nextIndex++;
-					} else {
-						nextIndex--;
-					}
-
-					if (nextIndex >= 0 && nextIndex < items.size()) {
-						nextItem = items.get(nextIndex);
-					} else {
-						nextItem = null;
-					}
-				} while (nextItem != null && !nextItem.isVisible());
-
-				if (nextItem == null) {
-					// no visible item found
-					break;
+			if (!inverse) {
+				final int start = index.getOffset(startIndex);
+				final int row;
+				if (!forceEndCompletelyInside) {
+					row = index.getRowAtOffset(start + availableHeight - 1);
+					otherIndex = row;
+				} else {
+					row = index.getRowAtOffset(start + availableHeight + 1);
+					otherIndex = index.getPreviousVisibleRow(row);
 				}
-
-				if (forceEndCompletelyInside) {
-					// must lie completely within the allowed height
-					if (!(consumedHeight + 1 + nextItem.getHeight() <= availableHeight)) {
-						break;
-					}
+				if (row == -1) {
+					// the available height reaches beyond the last visible item
+					otherIndex = index.getPreviousVisibleRow(items.size());
 				}
-
-				// we found one !!
-
-				// STEP 2:
-				// Consume height for this item
-
-				consumedItems++;
-				consumedHeight += 1; // height of separator line
-				consumedHeight += nextItem.getHeight();
-
-				// STEP 3:
-				// make this item it the current guess for the other end
-				otherIndex = nextIndex;
+				otherIndex = Math.max(otherIndex, startIndex);
+			} else {
+				final int end = index.getOffset(startIndex + 1);
+				final int row;
+				if (!forceEndCompletelyInside) {
+					row = index.getRowAtOffset(end - availableHeight);
+					otherIndex = row;
+				} else {
+					row = index.getRowAtOffset(end - availableHeight - 2);
+					otherIndex = row == -1 ? -1 : index.getNextVisibleRow(row);
+				}
+				if (row == -1) {
+					// the available height reaches beyond the first visible item
+					otherIndex = index.getVisibleRow(0);
+				} else if (otherIndex == -1) {
+					otherIndex = startIndex;
+				}
+				otherIndex = Math.min(otherIndex, startIndex);
 			}
 
 			range.startIndex = !inverse ? startIndex : otherIndex;
 			range.endIndex = !inverse ? otherIndex : startIndex;
-			range.rows = consumedItems;
-			range.height = consumedHeight;
+			range.rows = index.getVisibleCount(range.endIndex + 1) - index.getVisibleCount(range.startIndex);
+			range.height = index.getOffset(range.endIndex + 1) - index.getOffset(range.startIndex) - 1;
 		} else {
 			int availableRows = (availableHeight + 1) / (itemHeight + 1);
 
@@ -2921,14 +2995,70 @@ public class Grid extends Canvas {
 	int getGridHeight() {
 		final RowRange range = getRowRange(-1, -1);
 		return range != null ? range.height : 0;
-		/*
-		 * MOPR currently this method is only used in #getTableSize() ; if it will be
-		 * used for more important things in the future (e.g. the max value for
-		 * vScroll.setValues() when doing pixel-by-pixel vertical scrolling) then this
-		 * value should at least be cached or even updated incrementally when grid items
-		 * are added/removed or expaned/collapsed (similar as #currentVisibleItems).
-		 * (this is only necessary in the case (isTree || hasDifferingHeights))
-		 */
+	}
+
+	/**
+	 * Returns the index of the first visible item.
+	 *
+	 * @param useIndex true to look it up in the row height index
+	 * @return index of the first visible item or -1
+	 */
+	private int getFirstVisibleRow(final boolean useIndex) {
+		if (useIndex) {
+			return getRowHeightIndex().getVisibleRow(0);
+		}
+		int index = 0;
+		while (index < items.size() && !items.get(index).isVisible()) {
+			index++;
+		}
+		return index < items.size() ? index : -1;
+	}
+
+	/**
+	 * Returns the index of the last visible item.
+	 *
+	 * @param useIndex true to look it up in the row height index
+	 * @return index of the last visible item or -1
+	 */
+	private int getLastVisibleRow(final boolean useIndex) {
+		if (useIndex) {
+			return getRowHeightIndex().getPreviousVisibleRow(items.size());
+		}
+		int index = items.size() - 1;
+		while (index >= 0 && !items.get(index).isVisible()) {
+			index--;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the row height index, rebuilding it first if items have been
+	 * inserted or removed since it was last used.
+	 *
+	 * @return the row height index
+	 */
+	GridRowHeightIndex getRowHeightIndex() {
+		if (!rowHeightIndex.isValid()) {
+			if (lazyItems != null) {
+				// rows which are not loaded have the default height
+				rowHeightIndex.rebuild(items.size(), row -> itemHeight + 1);
+				for (final GridItem item : lazyItems.getLoadedItems()) {
+					rowHeightIndex.update(item.getCachedRowIndex(), item);
+				}
+			} else {
+				rowHeightIndex.rebuild(items);
+			}
+		}
+		return rowHeightIndex;
+	}
+
+	/**
+	 * Updates the row height index after the height of the given item changed.
+	 *
+	 * @param item item
+	 */
+	void updateRowHeightIndex(final GridItem item) {
+		rowHeightIndex.update(item.getRowIndex(), item);
 	}
 
 	/**
@@ -3056,6 +3186,10 @@ public class Grid extends Canvas {
 			return -1;
 		}
 
+		final int row = item.getCachedRowIndex();
+		if (row >= 0 && row < items.size() && items.get(row) == item) {
+			return row;
+		}
 		return items.indexOf(item);
 	}
 
@@ -3103,14 +3237,12 @@ public class Grid extends Canvas {
 		}
 
 		if (!cellSelectionEnabled) {
+			if (selectedRows != null) {
+				return selectedRows.isRowSelected(index);
+			}
 			return isSelected(items.get(index));
 		} else {
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.isRowSelected(index);
 		}
 	}
 
@@ -3143,12 +3275,7 @@ public class Grid extends Canvas {
 			if (index == -1) {
 				return false;
 			}
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.isRowSelected(index);
 		}
 	}
 
@@ -3178,7 +3305,7 @@ public class Grid extends Canvas {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 
-		return selectedCells.contains(cell);
+		return selectedCells.contains(cell.x, cell.y);
 	}
 
 	/**
@@ -3247,18 +3374,22 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * Removes the items from the receiver's list at the given zero-relative
-	 * indices.
+	 * Removes the items from the receiver which are between the given zero-relative
+	 * start and end indices (inclusive), together with all their descendants.
+	 * <p>
+	 * Unlike {@link #remove(int, int)}, the row indices of the remaining items are
+	 * only updated once after all items have been removed, so removing large
+	 * ranges takes time proportional to the number of items in the receiver rather
+	 * than to the product of both.
 	 *
-	 * @param indices the array of indices of the items
+	 * @param start the start of the range
+	 * @param end   the end of the range
 	 * @throws IllegalArgumentException
 	 *                                      <ul>
-	 *                                      <li>ERROR_INVALID_RANGE - if the index
-	 *                                      is not between 0 and the number of
-	 *                                      elements in the list minus 1
+	 *                                      <li>ERROR_INVALID_RANGE - if either the
+	 *                                      start or end are not between 0 and the
+	 *                                      number of elements in the list minus 1
 	 *                                      (inclusive)</li>
-	 *                                      <li>ERROR_NULL_ARGUMENT - if the indices
-	 *                                      array is null</li>
 	 *                                      </ul>
 	 * @throws org.eclipse.swt.SWTException
 	 *                                      <ul>
@@ -3269,32 +3400,52 @@ public class Grid extends Canvas {
 	 *                                      receiver</li>
 	 *                                      </ul>
 	 */
-	public void remove(final int[] indices) {
+	public void removeItems(final int start, int end) {
 		checkWidget();
 
-		if (indices == null) {
-			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		if (start > end) {
+			return;
+		}
+		if (start < 0 || end > items.size() - 1) {
+			SWT.error(SWT.ERROR_INVALID_RANGE);
 		}
 
-		final GridItem[] removeThese = new GridItem[indices.length];
-		for (int i = 0; i < indices.length; i++) {
-			final int j = indices[i];
-			if (j < items.size() && j >= 0) {
-				removeThese[i] = items.get(j);
-			} else {
-				SWT.error(SWT.ERROR_INVALID_RANGE);
-			}
-
+		// descendants of the last items in the range follow them directly; include
+		// them so that every item is removed before its parent
+		while (end + 1 < items.size() && isDescendantOfRange(items.get(end + 1), start, end)) {
+			end++;
 		}
-		for (final GridItem item : removeThese) {
-			item.dispose();
+
+		setRedraw(false);
+		rowBatch = true;
+		try {
+			for (int i = end; i >= start; i--) {
+				items.get(i).dispose();
+			}
+		} finally {
+			endRowBatch();
+			setRedraw(true);
 		}
-		redraw();
 	}
 
 	/**
-	 * Removes all of the items from the receiver.
+	 * Inserts the given number of new root items into the receiver, starting at
+	 * the given zero-relative index among the root items.
+	 * <p>
+	 * The row indices of the following items are only updated once after all
+	 * items have been created, so inserting many items in front of existing ones
+	 * takes time proportional to the number of items in the receiver.
 	 *
+	 * @param index the index among the root items at which the first new item is
+	 *              inserted
+	 * @param count the number of items to insert
+	 * @throws IllegalArgumentException
+	 *                                      <ul>
+	 *                                      <li>ERROR_INVALID_RANGE - if the index
+	 *                                      is not between 0 and the number of root
+	 *                                      items (inclusive) or the count is
+	 *                                      negative</li>
+	 *                                      </ul>
 	 * @throws org.eclipse.swt.SWTException
 	 *                                      <ul>
 	 *                                      <li>ERROR_WIDGET_DISPOSED - if the
@@ -3303,37 +3454,148 @@ public class Grid extends Canvas {
 	 *                                      called from the thread that created the
 	 *                                      receiver</li>
 	 *                                      </ul>
-	 *                                      Call {@link Grid} disposeAllItems and
-	 *                                      clearItems.. Is faster
 	 */
-	@Deprecated
-	public void removeAll() {
+	public void insertItems(final int index, final int count) {
 		checkWidget();
 
-		while (items.size() > 0) {
-			items.get(0).dispose();
+		if (index < 0 || index > rootItems.size() || count < 0) {
+			SWT.error(SWT.ERROR_INVALID_RANGE);
+		}
+		if (count == 0) {
+			return;
+		}
+
+		setRedraw(false);
+		rowBatch = true;
+		if (index < rootItems.size()) {
+			batchInsertRow = rootItems.get(index).getRowIndex();
+		}
+		try {
+			for (int i = 0; i < count; i++) {
+				new GridItem(this, SWT.NONE, index + i);
+			}
+		} finally {
+			endRowBatch();
+			setRedraw(true);
 		}
-		deselectAll();
-		redraw();
+	}
+
+	private boolean isDescendantOfRange(final GridItem item, final int start, final int end) {
+		for (GridItem parent = item.getParentItem(); parent != null; parent = parent.getParentItem()) {
+			final int row = parent.getRowIndex();
+			if (row >= start && row <= end) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
-	 * All items needs to call the disposeOnly method
+	 * Ends a batch of insertions or removals and renumbers the affected items.
 	 */
-	public void disposeAllItems() {
-		checkWidget();
-
-		final GridItem[] items = getItems();
-		for (final GridItem gridItem : items) {
-			gridItem.disposeOnly();
+	private void endRowBatch() {
+		rowBatch = false;
+		batchInsertRow = -1;
+		for (int i = renumberRowsFrom; i < items.size(); i++) {
+			items.get(i).setRow(i);
 		}
-		clearItems();
+		renumberRowsFrom = Integer.MAX_VALUE;
 		scrollValuesObsolete = true;
 		topIndex = -1;
 		bottomIndex = -1;
-		currentVisibleItems = 0;
-		updateColumnSelection();
-		focusItem = null;
+	}
+
+	/**
+	 * Removes the items from the receiver's list at the given zero-relative
+	 * indices.
+	 *
+	 * @param indices the array of indices of the items
+	 * @throws IllegalArgumentException
+	 *                                      <ul>
+	 *                                      <li>ERROR_INVALID_RANGE - if the index
+	 *                                      is not between 0 and the number of
+	 *                                      elements in the list minus 1
+	 *                                      (inclusive)</li>
+	 *                                      <li>ERROR_NULL_ARGUMENT - if the indices
+	 *                                      array is null</li>
+	 *                                      </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *                                      <ul>
+	 *                                      <li>ERROR_WIDGET_DISPOSED - if the
+	 *                                      receiver has been disposed</li>
+	 *                                      <li>ERROR_THREAD_INVALID_ACCESS - if not
+	 *                                      called from the thread that created the
+	 *                                      receiver</li>
+	 *                                      </ul>
+	 */
+	public void remove(final int[] indices) {
+		checkWidget();
+
+		if (indices == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+
+		final GridItem[] removeThese = new GridItem[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			final int j = indices[i];
+			if (j < items.size() && j >= 0) {
+				removeThese[i] = items.get(j);
+			} else {
+				SWT.error(SWT.ERROR_INVALID_RANGE);
+			}
+
+		}
+		for (final GridItem item : removeThese) {
+			item.dispose();
+		}
+		redraw();
+	}
+
+	/**
+	 * Removes all of the items from the receiver.
+	 *
+	 * @throws org.eclipse.swt.SWTException
+	 *                                      <ul>
+	 *                                      <li>ERROR_WIDGET_DISPOSED - if the
+	 *                                      receiver has been disposed</li>
+	 *                                      <li>ERROR_THREAD_INVALID_ACCESS - if not
+	 *                                      called from the thread that created the
+	 *                                      receiver</li>
+	 *                                      </ul>
+	 *                                      Call {@link Grid} disposeAllItems and
+	 *                                      clearItems.. Is faster
+	 */
+	@Deprecated
+	public void removeAll() {
+		checkWidget();
+
+		if (lazyItems != null) {
+			setItemCount(0);
+		}
+		while (items.size() > 0) {
+			items.get(0).dispose();
+		}
+		deselectAll();
+		redraw();
+	}
+
+	/**
+	 * All items needs to call the disposeOnly method
+	 */
+	public void disposeAllItems() {
+		checkWidget();
+
+		final Collection<GridItem> items = lazyItems != null ? lazyItems.getLoadedItems() : Arrays.asList(getItems());
+		for (final GridItem gridItem : items) {
+			gridItem.disposeOnly();
+		}
+		clearItems();
+		scrollValuesObsolete = true;
+		topIndex = -1;
+		bottomIndex = -1;
+		currentVisibleItems = 0;
+		updateColumnSelection();
+		focusItem = null;
 		selectedItems.clear();
 		redraw();
 		// Need to update the scrollbars see see 375327
@@ -3423,7 +3685,7 @@ public class Grid extends Canvas {
 
 			selectedItems.add(item);
 		} else {
-			selectCells(getCells(item));
+			selectCells(getCells(index, index));
 		}
 
 		redraw();
@@ -3465,10 +3727,19 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		if (!cellSelectionEnabled) {
-			if (selectionType == GridSelectionType.SINGLE) {
-				selectedItems.clear();
-			}
+		if (cellSelectionEnabled) {
+			selectCells(getCells(Math.max(start, 0), Math.min(end, items.size() - 1)));
+			return;
+		}
+
+		if (selectionType == GridSelectionType.SINGLE) {
+			selectedItems.clear();
+		}
+
+		if (selectedRows != null) {
+			selectedRows.addRange(Math.max(start, 0), Math.min(end, items.size() - 1));
+			redraw();
+			return;
 		}
 
 		for (int i = start; i <= end; i++) {
@@ -3481,12 +3752,8 @@ public class Grid extends Canvas {
 
 			final GridItem item = items.get(i);
 
-			if (!cellSelectionEnabled) {
-				if (!selectedItems.contains(item)) {
-					selectedItems.add(item);
-				}
-			} else {
-				selectCells(getCells(item));
+			if (!selectedItems.contains(item)) {
+				selectedItems.add(item);
 			}
 		}
 
@@ -3542,6 +3809,7 @@ public class Grid extends Canvas {
 			}
 		}
 
+		final GridCellSelection cells = new GridCellSelection();
 		for (final int j : indices) {
 			if (j >= 0 && j < items.size()) {
 				final GridItem item = items.get(j);
@@ -3551,10 +3819,13 @@ public class Grid extends Canvas {
 						selectedItems.add(item);
 					}
 				} else {
-					selectCells(getCells(item));
+					getCells(item, cells);
 				}
 			}
 		}
+		if (cellSelectionEnabled) {
+			selectCells(cells);
+		}
 		redraw();
 	}
 
@@ -3563,6 +3834,9 @@ public class Grid extends Canvas {
 	 * <p>
 	 * If the receiver is single-select, do nothing. If cell selection is enabled,
 	 * all cells are selected.
+	 * <p>
+	 * In lazy virtual mode, only the row indices are selected and no item is
+	 * created, see {@link #setLazyItems(boolean)}.
 	 *
 	 * @throws org.eclipse.swt.SWTException
 	 *                                      <ul>
@@ -3590,7 +3864,11 @@ public class Grid extends Canvas {
 		}
 
 		selectedItems.clear();
-		selectedItems.addAll(items);
+		if (selectedRows != null) {
+			selectedRows.addRange(0, items.size() - 1);
+		} else {
+			selectedItems.addAll(items);
+		}
 		redraw();
 	}
 
@@ -3955,7 +4233,7 @@ public class Grid extends Canvas {
 				redraw();
 			} else {
 				selectedCells.clear();
-				selectCells(getCells(items.get(index)));
+				selectCells(getCells(index, index));
 			}
 		}
 	}
@@ -3995,10 +4273,18 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		if (!cellSelectionEnabled) {
-			selectedItems.clear();
-		} else {
+		if (cellSelectionEnabled) {
 			selectedCells.clear();
+			selectCells(getCells(Math.max(start, 0), Math.min(end, items.size() - 1)));
+			return;
+		}
+
+		selectedItems.clear();
+
+		if (selectedRows != null) {
+			selectedRows.addRange(Math.max(start, 0), Math.min(end, items.size() - 1));
+			redraw();
+			return;
 		}
 
 		for (int i = start; i <= end; i++) {
@@ -4009,13 +4295,7 @@ public class Grid extends Canvas {
 				break;
 			}
 
-			final GridItem item = items.get(i);
-
-			if (!cellSelectionEnabled) {
-				selectedItems.add(item);
-			} else {
-				selectCells(getCells(item));
-			}
+			selectedItems.add(items.get(i));
 		}
 		redraw();
 	}
@@ -4086,6 +4366,7 @@ public class Grid extends Canvas {
 			selectedCells.clear();
 		}
 
+		final GridCellSelection cells = new GridCellSelection();
 		for (final int j : indices) {
 			if (j < 0) {
 				continue;
@@ -4099,9 +4380,12 @@ public class Grid extends Canvas {
 			if (!cellSelectionEnabled) {
 				selectedItems.add(item);
 			} else {
-				selectCells(getCells(item));
+				getCells(item, cells);
 			}
 		}
+		if (cellSelectionEnabled) {
+			selectCells(cells);
+		}
 		redraw();
 	}
 
@@ -4154,6 +4438,7 @@ public class Grid extends Canvas {
 			selectedCells.clear();
 		}
 
+		final GridCellSelection cells = new GridCellSelection();
 		for (final GridItem item : _items) {
 			if (item == null) {
 				continue;
@@ -4168,9 +4453,12 @@ public class Grid extends Canvas {
 			if (!cellSelectionEnabled) {
 				selectedItems.add(item);
 			} else {
-				selectCells(getCells(item));
+				getCells(item, cells);
 			}
 		}
+		if (cellSelectionEnabled) {
+			selectCells(cells);
+		}
 
 		redraw();
 	}
@@ -4205,13 +4493,7 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		int vScrollAmount = 0;
-
-		for (int i = 0; i < index; i++) {
-			if (items.get(i).isVisible()) {
-				vScrollAmount++;
-			}
-		}
+		final int vScrollAmount = isTree ? getRowHeightIndex().getVisibleCount(index) : index;
 
 		vScroll.setSelection(vScrollAmount);
 		topIndex = -1;
@@ -4314,7 +4596,7 @@ public class Grid extends Canvas {
 			}
 		} else {
 			if (x < firstVisibleX || col.getWidth() > getClientArea().width - firstVisibleX) {
-				final int sel = displayOrderedColumns.indexOf(col);
+				final int sel = displayIndexOf(col);
 				hScroll.setSelection(sel);
 			} else {
 				int availableWidth = getClientArea().width - firstVisibleX - col.getWidth();
@@ -4324,7 +4606,7 @@ public class Grid extends Canvas {
 
 				while (true) {
 					if (prevCol == null || prevCol.getWidth() > availableWidth) {
-						final int sel = displayOrderedColumns.indexOf(currentScrollTo);
+						final int sel = displayIndexOf(currentScrollTo);
 						hScroll.setSelection(sel);
 						break;
 					} else {
@@ -4461,12 +4743,13 @@ public class Grid extends Canvas {
 
 			showItem(selectedItems.get(0));
 		} else {
-			if (selectedCells.size() == 0) {
+			if (selectedCells.isEmpty()) {
 				return;
 			}
 
-			showItem(getItem(selectedCells.get(0).y));
-			showColumn(getColumn(selectedCells.get(0).x));
+			final Point cell = selectedCells.getFirst();
+			showItem(getItem(cell.y));
+			showColumn(getColumn(cell.x));
 		}
 
 	}
@@ -4837,10 +5120,11 @@ public class Grid extends Canvas {
 		if (dragDropBeforeColumn != columnBeingPushed && dragDropAfterColumn != columnBeingPushed
 				&& (columnGroups.length == 0 || dragDropPointValid)) {
 
-			int notifyFrom = displayOrderedColumns.indexOf(columnBeingPushed);
+			int notifyFrom = displayIndexOf(columnBeingPushed);
 			int notifyTo = notifyFrom;
 
-			displayOrderedColumns.remove(columnBeingPushed);
+			displayOrderedColumns.remove(notifyFrom);
+			clearDisplayOrderedCache();
 
 			if (dragDropBeforeColumn == null) {
 
@@ -4859,15 +5143,15 @@ public class Grid extends Canvas {
 					// cols
 
 					if (dragDropBeforeColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+						insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 					} else if (dragDropAfterColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropAfterColumn) + 1;
+						insertAtIndex = displayIndexOf(dragDropAfterColumn) + 1;
 					} else {
 						if (dragDropBeforeColumn.getColumnGroup() == null) {
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 						} else {
 							final GridColumnGroup beforeGroup = dragDropBeforeColumn.getColumnGroup();
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 							while (insertAtIndex > 0
 									&& displayOrderedColumns.get(insertAtIndex - 1).getColumnGroup() == beforeGroup) {
 								insertAtIndex--;
@@ -4876,17 +5160,18 @@ public class Grid extends Canvas {
 						}
 					}
 				} else {
-					insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+					insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 				}
 				displayOrderedColumns.add(insertAtIndex, columnBeingPushed);
 				notifyFrom = Math.min(notifyFrom, insertAtIndex);
 				notifyTo = Math.max(notifyTo, insertAtIndex);
 			}
 
+			// renumber first, Moved listeners may query the column order
+			clearDisplayOrderedCache();
 			for (int i = notifyFrom; i <= notifyTo; i++) {
 				displayOrderedColumns.get(i).fireMoved();
 			}
-			clearDisplayOrderedCache();
 		}
 		redraw();
 	}
@@ -5068,7 +5353,7 @@ public class Grid extends Canvas {
 	}
 
 	void fireColumnsMoved() {
-		for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+		for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 				.size(); index++) {
 			final GridColumn col = displayOrderedColumns.get(index);
 			if (col.isVisible()) {
@@ -5082,7 +5367,7 @@ public class Grid extends Canvas {
 
 		if (getHorizontalBar() != null) {
 			if (!getHorizontalBar().isVisible()) {
-				index = displayOrderedColumns.indexOf(column);
+				index = displayIndexOf(column);
 			}
 		}
 
@@ -5306,18 +5591,72 @@ public class Grid extends Canvas {
 		final GridColumn column = getColumn(point);
 
 		if (item != null && column != null) {
+			final Point spanOrigin = getSpanOrigin(column, item.getRowIndex());
+			if (spanOrigin != null) {
+				return spanOrigin;
+			}
 			return new Point(column.index, item.getRowIndex());
 		}
 
 		return null;
 	}
 
+	/**
+	 * Returns the cell at the origin of the row span which covers the given cell,
+	 * as painted last.
+	 *
+	 * @param column column of the cell
+	 * @param row    row index of the cell
+	 * @return the origin of the covering span or <code>null</code> if the cell is
+	 *         not covered by a row span
+	 */
+	private Point getSpanOrigin(final GridColumn column, final int row) {
+		if (!hasSpanning || paintedCellSpans == null) {
+			return null;
+		}
+		// fixed columns painted over the scrolled area have their own spans
+		final boolean overlay = paintedFixedCellSpans != null && paintedFixedColumns.contains(column);
+		final List<GridColumn> paintedColumns = overlay ? paintedFixedColumns : displayOrderedColumns;
+		final int position = overlay ? paintedFixedColumns.indexOf(column) : displayIndexOf(column);
+		final Rectangle span = (overlay ? paintedFixedCellSpans : paintedCellSpans).getSpanAt(position, row);
+		if (span == null || span.y == row || span.x >= paintedColumns.size() || span.y >= items.size()) {
+			return null;
+		}
+		// ignore spans which changed since the last paint
+		final GridColumn originColumn = paintedColumns.get(span.x);
+		final GridItem originItem = items.get(span.y);
+		if (originItem.getRowSpan(originColumn.index) != span.height - 1
+				|| originItem.getColumnSpan(originColumn.index) != span.width - 1) {
+			return null;
+		}
+		return new Point(originColumn.index, span.y);
+	}
+
 	/**
 	 * Paints.
 	 *
 	 * @param event paint event
 	 */
 	private void onPaint(final PaintEvent event) {
+		paintDamage = new Region(getDisplay());
+		event.gc.getClipping(paintDamage);
+		try {
+			paintGrid(event);
+		} finally {
+			paintDamage.dispose();
+			paintDamage = null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the given area needs to be painted by the
+	 *         current paint event
+	 */
+	private boolean isDamaged(final int x, final int y, final int width, final int height) {
+		return paintDamage == null || paintDamage.intersects(x, y, width, height);
+	}
+
+	private void paintGrid(final PaintEvent event) {
 		final InsertMark insertMark = new InsertMark(); // we will populate these values while drawing the cells
 
 		final GridCellSpanManager cellSpanManager = new GridCellSpanManager();
@@ -5336,7 +5675,9 @@ public class Grid extends Canvas {
 		int y = 0;
 		final int extraFill = getExtraFill(controlSize);
 		if (columnHeadersVisible) {
-			paintHeader(gc, extraFill);
+			if (isDamaged(0, 0, controlSize.x, headerHeight)) {
+				paintHeader(gc, extraFill);
+			}
 			y += headerHeight;
 		}
 
@@ -5357,42 +5698,15 @@ public class Grid extends Canvas {
 
 		final List<GridColumn> cols = displayOrderedColumns;
 		if (hasSpanning) {
-			// We need to find the first Item to draw. An earlier item can row-span the
-			// first visible item.
-			for (int rowIndex = 0; rowIndex < firstVisibleIndex && rowIndex < items.size(); rowIndex++) {
-				int colIndex = 0;
-
-				int maxRowSpanForItem = 0;
-				for (final GridColumn column : cols) {
-
-					if (!column.isVisible()) {
-						colIndex++;
-						continue;
-					}
-
-					final int rowSpan = items.get(rowIndex).getRowSpan(colIndex);
-					maxRowSpanForItem = rowSpan > maxRowSpanForItem ? rowSpan : maxRowSpanForItem;
-					colIndex++;
-				}
-
-				if (rowIndex + maxRowSpanForItem >= firstVisibleIndex) {
-					firstItemToDraw = rowIndex;
-					break;
-				} else {
-					rowIndex += maxRowSpanForItem;
-				}
-			}
-
-			for (int rowIndex = firstItemToDraw; rowIndex < firstVisibleIndex && rowIndex < items.size(); rowIndex++) {
-				final GridItem itemForRow = items.get(rowIndex);
-				if (itemForRow.isVisible()) {
-					y = y - itemForRow.getHeight() - 1;
-				}
-			}
+			// An earlier item can row-span the first visible item
+			firstItemToDraw = getFirstRowToPaint(firstVisibleIndex);
+			final GridRowHeightIndex heights = getRowHeightIndex();
+			y -= heights.getOffset(firstVisibleIndex) - heights.getOffset(firstItemToDraw);
 		}
 		final int hscroll = getHScrollSelectionInPixels();
 		paintRows(cols, false, firstItemToDraw, visibleRows, hscroll, cellSpanManager, gc, originalClipping, y,
 				clientArea, firstVisibleIndex, insertMark, extraFill);
+		paintedCellSpans = hasSpanning ? cellSpanManager.snapshot() : null;
 
 		// draw drop point
 		if (draggingColumn) {
@@ -5415,6 +5729,8 @@ public class Grid extends Canvas {
 				dropPointRenderer.paint(gc, null);
 			}
 		}
+		paintedFixedCellSpans = null;
+		paintedFixedColumns = null;
 		final FixedGridColumns fixed = getFixedGridColumns();
 		if (fixed.hasColumns() && hscroll > fixed.offset()) {
 			// Clip the entire fixed-overlay pass to the on-screen rectangle of
@@ -5428,12 +5744,19 @@ public class Grid extends Canvas {
 			final Rectangle fixedClipping = originalClipping.intersection(fixedRect);
 			final Rectangle priorClipping = gc.getClipping();
 			gc.setClipping(fixedClipping);
+			// the fixed columns are numbered by their position in the fixed list, so
+			// their spans must not mix with those of the scrolled area
+			final GridCellSpanManager fixedCellSpanManager = new GridCellSpanManager();
 			try {
-				paintRows(fixed.columns(), true, firstItemToDraw, visibleRows, 0, cellSpanManager, gc, fixedClipping, y,
-						clientArea, firstVisibleIndex, insertMark, extraFill);
+				paintRows(fixed.columns(), true, firstItemToDraw, visibleRows, 0, fixedCellSpanManager, gc,
+						fixedClipping, y, clientArea, firstVisibleIndex, insertMark, extraFill);
 			} finally {
 				gc.setClipping(priorClipping);
 			}
+			if (hasSpanning) {
+				paintedFixedCellSpans = fixedCellSpanManager.snapshot();
+				paintedFixedColumns = fixed.columns();
+			}
 		}
 
 		// draw insertion mark
@@ -5445,11 +5768,61 @@ public class Grid extends Canvas {
 					new Rectangle(insertMark.posX1, insertMark.posY, insertMark.posX2 - insertMark.posX1, 0));
 		}
 
-		if (columnFootersVisible) {
+		if (columnFootersVisible && isDamaged(0, clientArea.height - footerHeight, controlSize.x, footerHeight)) {
 			paintFooter(gc);
 		}
 	}
 
+	/**
+	 * Returns the first row to paint, which is the given top index unless a row
+	 * above it spans into the visible area. Only the items which have been given
+	 * a row span are visited, so no item is created in lazy virtual mode.
+	 *
+	 * @param topIndex index of the first visible row
+	 * @return index of the first row to paint
+	 */
+	private int getFirstRowToPaint(final int topIndex) {
+		int first = topIndex;
+		final Iterator<GridItem> iterator = rowSpanningItems.iterator();
+		while (iterator.hasNext()) {
+			final GridItem item = iterator.next();
+			if (item.isDisposed()) {
+				iterator.remove();
+				continue;
+			}
+			final int row = item.getRowIndex();
+			if (row < 0 || row >= first) {
+				continue;
+			}
+			int maxRowSpan = 0;
+			boolean spanning = false;
+			for (final GridColumn column : displayOrderedColumns) {
+				final int rowSpan = item.getRowSpan(column.index);
+				spanning |= rowSpan > 0;
+				if (column.isVisible() && rowSpan > maxRowSpan) {
+					maxRowSpan = rowSpan;
+				}
+			}
+			if (!spanning) {
+				iterator.remove();
+			} else if (row + maxRowSpan >= topIndex) {
+				first = row;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Records that the given item has been given a row span, so that painting
+	 * finds the rows spanning into the visible area without visiting all rows
+	 * above it. Items are dropped again once they are disposed or no longer span.
+	 *
+	 * @param item item with a row span
+	 */
+	void addRowSpanningItem(final GridItem item) {
+		rowSpanningItems.add(item);
+	}
+
 	private FixedGridColumns getFixedGridColumns() {
 		final List<GridColumn> fixedColumns = new ArrayList<>();
 		int fixedOffset = 0;
@@ -5527,46 +5900,49 @@ public class Grid extends Canvas {
 						if (x + width >= 0 && x < clientArea.width) {
 							final Point sizeOfColumn = cellSize;
 
-							column.getCellRenderer().setBounds(x, y, width, sizeOfColumn.y);
-							final int cellInHeaderDelta = columnHeadersVisible ? headerHeight - y : 0;
-							if (cellInHeaderDelta > 0) {
-								final Rectangle cellRect = new Rectangle(x - 1, y + cellInHeaderDelta, width + 1,
-										sizeOfColumn.y + 2 - cellInHeaderDelta);
-								gc.setClipping(originalClipping.intersection(cellRect));
-							} else {
-								final Rectangle cellRect = new Rectangle(x - 1, y - 1, width + 1, sizeOfColumn.y + 2);
-								gc.setClipping(originalClipping.intersection(cellRect));
+							final boolean cellSelected = selectedCells.contains(indexOfColumn, row);
+							if (cellSelected) {
+								cellInRowSelected = true;
 							}
 
-							column.getCellRenderer().setRow(i + 1);
+							// the bounds are also needed for the insert mark position
+							column.getCellRenderer().setBounds(x, y, width, sizeOfColumn.y);
+							if (isDamaged(x - 1, y - 1, width + 1, sizeOfColumn.y + 2)) {
+								final int cellInHeaderDelta = columnHeadersVisible ? headerHeight - y : 0;
+								if (cellInHeaderDelta > 0) {
+									final Rectangle cellRect = new Rectangle(x - 1, y + cellInHeaderDelta, width + 1,
+											sizeOfColumn.y + 2 - cellInHeaderDelta);
+									gc.setClipping(originalClipping.intersection(cellRect));
+								} else {
+									final Rectangle cellRect = new Rectangle(x - 1, y - 1, width + 1, sizeOfColumn.y + 2);
+									gc.setClipping(originalClipping.intersection(cellRect));
+								}
+
+								column.getCellRenderer().setRow(i + 1);
 
-							column.getCellRenderer().setSelected(selectedItems.contains(item));
-							column.getCellRenderer().setFocus(isFocusControl());
-							column.getCellRenderer().setRowFocus(focusItem == item);
-							column.getCellRenderer()
-									.setCellFocus(cellSelectionEnabled && focusItem == item && focusColumn == column);
+								column.getCellRenderer().setSelected(selectedItems.contains(item));
+								column.getCellRenderer().setFocus(isFocusControl());
+								column.getCellRenderer().setRowFocus(focusItem == item);
+								column.getCellRenderer()
+										.setCellFocus(cellSelectionEnabled && focusItem == item && focusColumn == column);
 
-							column.getCellRenderer().setRowHover(hoveringItem == item);
-							column.getCellRenderer().setColumnHover(hoveringColumn == column);
+								column.getCellRenderer().setRowHover(hoveringItem == item);
+								column.getCellRenderer().setColumnHover(hoveringColumn == column);
 
-							column.getCellRenderer().setColumn(indexOfColumn);
+								column.getCellRenderer().setColumn(indexOfColumn);
 
-							if (selectedCells.contains(new Point(indexOfColumn, row))) {
-								column.getCellRenderer().setCellSelected(true);
-								cellInRowSelected = true;
-							} else {
-								column.getCellRenderer().setCellSelected(false);
-							}
+								column.getCellRenderer().setCellSelected(cellSelected);
 
-							if (hoveringItem == item && hoveringColumn == column) {
-								column.getCellRenderer().setHoverDetail(hoveringDetail);
-							} else {
-								column.getCellRenderer().setHoverDetail("");
-							}
+								if (hoveringItem == item && hoveringColumn == column) {
+									column.getCellRenderer().setHoverDetail(hoveringDetail);
+								} else {
+									column.getCellRenderer().setHoverDetail("");
+								}
 
-							column.getCellRenderer().paint(gc, item);
+								column.getCellRenderer().paint(gc, item);
 
-							gc.setClipping(originalClipping);
+								gc.setClipping(originalClipping);
+							}
 
 							// collect the insertMark position
 							if (!insertMark.posFound && insertMarkItem == item
@@ -5610,7 +5986,7 @@ public class Grid extends Canvas {
 						insertMark.posX2 = x;
 					}
 
-					if (!fixed) {
+					if (!fixed && isDamaged(x, y, clientArea.width - x + 1, item.getHeight())) {
 						emptyCellRenderer.setSelected(selectedItems.contains(item));
 						emptyCellRenderer.setFocus(isFocusControl());
 						emptyCellRenderer.setRow(i + 1);
@@ -5629,7 +6005,8 @@ public class Grid extends Canvas {
 					} else {
 						rowHeaderRenderer.setSelected(cellInRowSelected);
 					}
-					if (!columnHeadersVisible || y >= headerHeight) {
+					if ((!columnHeadersVisible || y >= headerHeight)
+							&& isDamaged(0, y, rowHeaderWidth, item.getHeight() + 1)) {
 						rowHeaderRenderer.setBounds(0, y, rowHeaderWidth, item.getHeight() + 1);
 						rowHeaderRenderer.paint(gc, item);
 					}
@@ -5969,8 +6346,8 @@ public class Grid extends Canvas {
 			if (group != previousPaintedGroup) {
 				int groupWidth = width;
 				GridColumn nextCol = null;
-				if (displayOrderedColumns.indexOf(column) + 1 < displayOrderedColumns.size()) {
-					nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(column) + 1);
+				if (displayIndexOf(column) + 1 < displayOrderedColumns.size()) {
+					nextCol = displayOrderedColumns.get(displayIndexOf(column) + 1);
 				}
 
 				while (nextCol != null && nextCol.getColumnGroup() == group) {
@@ -5981,8 +6358,8 @@ public class Grid extends Canvas {
 						groupWidth += nextCol.getWidth(extraFill);
 					}
 
-					if (displayOrderedColumns.indexOf(nextCol) + 1 < displayOrderedColumns.size()) {
-						nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(nextCol) + 1);
+					if (displayIndexOf(nextCol) + 1 < displayOrderedColumns.size()) {
+						nextCol = displayOrderedColumns.get(displayIndexOf(nextCol) + 1);
 					} else {
 						nextCol = null;
 					}
@@ -6370,9 +6747,9 @@ public class Grid extends Canvas {
 	 */
 	private Event updateCellSelection(final Point newCell, final int stateMask, final boolean dragging,
 			final boolean reverseDuplicateSelections) {
-		final Vector<Point> v = new Vector<>();
-		v.add(newCell);
-		return updateCellSelection(v, stateMask, dragging, reverseDuplicateSelections);
+		final GridCellSelection cells = new GridCellSelection();
+		cells.add(newCell.x, newCell.y);
+		return updateCellSelection(cells, stateMask, dragging, reverseDuplicateSelections);
 	}
 
 	/**
@@ -6387,7 +6764,7 @@ public class Grid extends Canvas {
 	 *
 	 * @return selection event that will need to be fired or null.
 	 */
-	private Event updateCellSelection(final Vector<Point> newCells, final int stateMask, final boolean dragging,
+	private Event updateCellSelection(final GridCellSelection newCells, final int stateMask, final boolean dragging,
 			final boolean reverseDuplicateSelections) {
 		boolean shift = false;
 		boolean ctrl = false;
@@ -6404,18 +6781,16 @@ public class Grid extends Canvas {
 		}
 
 		if (!shift && !ctrl) {
-			if (newCells.equals(selectedCells)) {
+			if (selectedCells.hasSameCells(newCells)) {
 				return null;
 			}
 
 			selectedCells.clear();
-			for (final Point newCell : newCells) {
-				addToCellSelection(newCell);
-			}
+			addToCellSelection(newCells);
 
 		} else if (shift) {
 
-			final Point newCell = newCells.get(0); // shift selection should only occur with one
+			final Point newCell = newCells.getFirst(); // shift selection should only occur with one
 			// cell, ignoring others
 
 			if (focusColumn == null || focusItem == null) {
@@ -6426,8 +6801,7 @@ public class Grid extends Canvas {
 			shiftSelectionAnchorItem = getItem(newCell.y);
 
 			if (ctrl) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.setAll(selectedCellsBeforeRangeSelect);
 			} else {
 				selectedCells.clear();
 			}
@@ -6451,46 +6825,49 @@ public class Grid extends Canvas {
 				endItem = temp;
 			}
 
-			boolean firstLoop = true;
-
-			do {
-				if (!firstLoop) {
-					currentItem = getNextVisibleItem(currentItem);
-				}
+			if (!hasSpanning && selectionType != GridSelectionType.SINGLE) {
+				addToCellSelection(currentItem, endItem, startCol, endColumn);
+			} else {
+				boolean firstLoop = true;
 
-				firstLoop = false;
+				do {
+					if (!firstLoop) {
+						currentItem = getNextVisibleItem(currentItem);
+					}
 
-				boolean firstLoop2 = true;
+					firstLoop = false;
 
-				currentColumn = startCol;
+					boolean firstLoop2 = true;
 
-				do {
-					if (!firstLoop2) {
-						final int index = displayOrderedColumns.indexOf(currentColumn) + 1;
+					currentColumn = startCol;
 
-						if (index < displayOrderedColumns.size()) {
-							currentColumn = getVisibleColumn_DegradeRight(currentItem,
-									displayOrderedColumns.get(index));
-						} else {
-							currentColumn = null;
-						}
+					do {
+						if (!firstLoop2) {
+							final int index = displayIndexOf(currentColumn) + 1;
 
-						if (currentColumn != null) {
-							if (displayOrderedColumns.indexOf(currentColumn) > displayOrderedColumns
-									.indexOf(endColumn)) {
+							if (index < displayOrderedColumns.size()) {
+								currentColumn = getVisibleColumn_DegradeRight(currentItem,
+										displayOrderedColumns.get(index));
+							} else {
 								currentColumn = null;
 							}
+
+							if (currentColumn != null) {
+								if (displayIndexOf(currentColumn) > displayIndexOf(endColumn)) {
+									currentColumn = null;
+								}
+							}
 						}
-					}
 
-					firstLoop2 = false;
+						firstLoop2 = false;
 
-					if (currentColumn != null) {
-						final Point cell = new Point(currentColumn.index, currentItem.getRowIndex());
-						addToCellSelection(cell);
-					}
-				} while (currentColumn != endColumn && currentColumn != null);
-			} while (currentItem != endItem);
+						if (currentColumn != null) {
+							final Point cell = new Point(currentColumn.index, currentItem.getRowIndex());
+							addToCellSelection(cell);
+						}
+					} while (currentColumn != endColumn && currentColumn != null);
+				} while (currentItem != endItem);
+			}
 		} else if (ctrl) {
 			boolean reverse = reverseDuplicateSelections;
 			if (!selectedCells.containsAll(newCells)) {
@@ -6498,16 +6875,13 @@ public class Grid extends Canvas {
 			}
 
 			if (dragging) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.setAll(selectedCellsBeforeRangeSelect);
 			}
 
 			if (reverse) {
 				selectedCells.removeAll(newCells);
 			} else {
-				for (final Point newCell : newCells) {
-					addToCellSelection(newCell);
-				}
+				addToCellSelection(newCells);
 			}
 		}
 
@@ -6525,26 +6899,6 @@ public class Grid extends Canvas {
 		return e;
 	}
 
-	/**
-	 * Adds Point objects from the itemsToBeAdded list that do not currently exist
-	 * in the sourceList.
-	 *
-	 * @param sourceList     the source list to add items to
-	 * @param itemsToBeAdded the list of items to be added
-	 */
-	private void addCellstThatDoNotAlreadyExist(final List<Point> sourceList, final List<Point> itemsToBeAdded) {
-		if (itemsToBeAdded.size() > 0) {
-			// add all the cells from the itemsToBeAdded list that don't already exist in
-			// the sourceList
-			for (final Point cell : itemsToBeAdded) {
-				if (!sourceList.contains(cell)) {
-					sourceList.add(cell);
-				}
-
-			}
-		}
-	}
-
 	private void addToCellSelection(final Point newCell) {
 		if (newCell.x < 0 || newCell.x >= columns.size()) {
 			return;
@@ -6555,29 +6909,103 @@ public class Grid extends Canvas {
 		}
 
 		if (getColumn(newCell.x).getCellSelectionEnabled()) {
-			boolean found = false;
-			for (final Point p : selectedCells) {
-				if (newCell.equals(p)) {
-					found = true;
-					break;
+			if (!selectedCells.contains(newCell.x, newCell.y)) {
+				if (selectionType == GridSelectionType.SINGLE && !selectedCells.isEmpty()) {
+					return;
 				}
+				selectedCells.add(newCell.x, newCell.y);
 			}
+		}
+	}
 
-			if (!found) {
-				if (selectionType == GridSelectionType.SINGLE && selectedCells.size() > 0) {
-					return;
-				}
-				selectedCells.add(newCell);
+	/**
+	 * Adds the given cells to the selection, skipping cells of columns whose cell
+	 * selection is disabled. The given selection is modified.
+	 */
+	private void addToCellSelection(final GridCellSelection cells) {
+		if (selectionType == GridSelectionType.SINGLE) {
+			for (final Point cell : cells.toArray()) {
+				addToCellSelection(cell);
+			}
+			return;
+		}
+
+		for (int column = 0; column < cells.getColumnBound(); column++) {
+			if (column >= columns.size() || !getColumn(column).getCellSelectionEnabled()) {
+				cells.clearColumn(column);
 			}
 		}
+		cells.removeRows(items.size(), Integer.MAX_VALUE - 1);
+		selectedCells.addAll(cells);
+	}
+
+	/**
+	 * Adds the cells between the given items and columns to the selection, one
+	 * range of rows per column. Only valid while no cell spans columns.
+	 */
+	private void addToCellSelection(final GridItem fromItem, final GridItem toItem, final GridColumn fromColumn,
+			final GridColumn toColumn) {
+		final BitSet rows = getRows(fromItem, toItem);
+		final GridCellSelection cells = new GridCellSelection();
+
+		addRanges(cells, fromColumn.index, rows);
+		final int last = displayIndexOf(toColumn);
+		for (int i = displayIndexOf(fromColumn) + 1; i <= last; i++) {
+			final GridColumn column = displayOrderedColumns.get(i);
+			if (column.isVisible()) {
+				addRanges(cells, column.index, rows);
+			}
+		}
+		addToCellSelection(cells);
+	}
+
+	/**
+	 * Returns the row indices of the given items and of all visible items between
+	 * them.
+	 */
+	private BitSet getRows(final GridItem fromItem, final GridItem toItem) {
+		final int fromRow = Math.min(fromItem.getRowIndex(), toItem.getRowIndex());
+		final int toRow = Math.max(fromItem.getRowIndex(), toItem.getRowIndex());
+		final BitSet rows = new BitSet();
+		if (currentVisibleItems == items.size()) {
+			rows.set(fromRow, toRow + 1);
+			return rows;
+		}
+
+		GridItem item = fromRow == fromItem.getRowIndex() ? fromItem : toItem;
+		final GridItem lastItem = item == fromItem ? toItem : fromItem;
+		while (item != null) {
+			rows.set(item.getRowIndex());
+			if (item == lastItem) {
+				break;
+			}
+			item = getNextVisibleItem(item);
+		}
+		return rows;
+	}
+
+	/**
+	 * Adds the cells of the given column in the given rows, one range per run of
+	 * consecutive rows.
+	 */
+	private static void addRanges(final GridCellSelection cells, final int column, final BitSet rows) {
+		int from = rows.nextSetBit(0);
+		while (from >= 0) {
+			final int to = rows.nextClearBit(from) - 1;
+			cells.addRange(column, from, to);
+			from = rows.nextSetBit(to + 1);
+		}
 	}
 
 	void updateColumnSelection() {
 		// Update the list of which columns have all their cells selected
 		selectedColumns.clear();
 
-		for (final Point cell : selectedCells) {
-			selectedColumns.add(getColumn(cell.x));
+		final int bound = Math.min(selectedCells.getColumnBound(), columns.size());
+		for (int i = 0; i < bound; i++) {
+			if (selectedCells.isColumnSelected(i)) {
+				selectedColumns.add(getColumn(i));
+			}
 		}
 	}
 
@@ -6702,7 +7130,7 @@ public class Grid extends Canvas {
 
 		cellHeaderSelectionBackground.dispose();
 
-		for (final GridItem item : items) {
+		for (final GridItem item : getLoadedItems()) {
 			item.dispose();
 		}
 
@@ -6810,7 +7238,7 @@ public class Grid extends Canvas {
 				final GridColumn col = getColumn(new Point(e.x, e.y));
 				boolean isSelectedCell = false;
 				if (col != null) {
-					isSelectedCell = selectedCells.contains(new Point(col.index, item.getRowIndex()));
+					isSelectedCell = selectedCells.contains(col.index, item.getRowIndex());
 				}
 
 				if (e.button == 1 || e.button == 3 && col != null && !isSelectedCell) {
@@ -6835,7 +7263,7 @@ public class Grid extends Canvas {
 								ctrl = (e.stateMask & SWT.MOD1) != 0;
 							}
 
-							final Vector<Point> cells = new Vector<>();
+							final GridCellSelection cells = new GridCellSelection();
 
 							if (shift) {
 								getCells(item, focusItem, cells);
@@ -6914,7 +7342,7 @@ public class Grid extends Canvas {
 				return;
 			}
 
-			final Vector<Point> cells = new Vector<>();
+			final GridCellSelection cells = new GridCellSelection();
 
 			final GridColumnGroup group = col.getColumnGroup();
 			if (group != null && e.y < groupHeaderHeight) {
@@ -6971,7 +7399,7 @@ public class Grid extends Canvas {
 		if (hoveringOnColumnResizer) {
 			columnBeingResized.pack();
 			columnBeingResized.fireResized();
-			for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+			for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 					.size(); index++) {
 				final GridColumn col = displayOrderedColumns.get(index);
 				if (col.isVisible()) {
@@ -7129,8 +7557,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.setAll(selectedCells);
 					}
 				}
 				if (!cellRowDragSelectionOccuring && cellRowSelectedOnLastMouseDown) {
@@ -7138,8 +7565,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.setAll(selectedCells);
 					}
 				}
 
@@ -7148,8 +7574,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = (e.stateMask & SWT.MOD1) != 0;
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.setAll(selectedCells);
 					}
 				}
 
@@ -7203,7 +7628,7 @@ public class Grid extends Canvas {
 						}
 					}
 
-					final Vector<Point> cells = new Vector<>();
+					final GridCellSelection cells = new GridCellSelection();
 
 					getCells(intentItem, focusItem, cells);
 
@@ -7227,10 +7652,9 @@ public class Grid extends Canvas {
 
 					GridColumn iterCol = intentCol;
 
-					final Vector<Point> newSelected = new Vector<>();
+					final GridCellSelection newSelected = new GridCellSelection();
 
-					final boolean decreasing = displayOrderedColumns.indexOf(iterCol) > displayOrderedColumns
-							.indexOf(focusColumn);
+					final boolean decreasing = displayIndexOf(iterCol) > displayIndexOf(focusColumn);
 
 					do {
 						getCells(iterCol, newSelected);
@@ -7420,7 +7844,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					int index = displayIndexOf(impliedFocusColumn);
 
 					int jumpAhead = impliedFocusItem.getColumnSpan(impliedFocusColumn.index);
 
@@ -7455,7 +7879,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					final int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					final int index = displayIndexOf(impliedFocusColumn);
 
 					if (index != 0) {
 						newColumnFocus = displayOrderedColumns.get(index - 1);
@@ -7731,9 +8155,11 @@ public class Grid extends Canvas {
 			x += rowHeaderWidth;
 		}
 
-		// Fixed columns are pinned to their unscrolled position so cell
-		// editors and bounds queries align with the painted overlay.
-		if (column == null || !column.isFixed()) {
+		// Fixed columns are pinned to their unscrolled position while the
+		// overlay is painted, so cell editors, bounds queries and repaints
+		// align with it. Before that, they scroll like the other columns.
+		final boolean pinned = column != null && column.isFixed() && isFixedOverlayActive();
+		if (!pinned) {
 			x -= getHScrollSelectionInPixels();
 		}
 
@@ -7744,9 +8170,9 @@ public class Grid extends Canvas {
 			}
 
 			if (colIter.isVisible()) {
-				// When laying out a fixed column, only sum widths of
+				// When laying out a pinned column, only sum widths of
 				// preceding fixed columns; scrollable ones sit behind it.
-				if (column != null && column.isFixed() && !colIter.isFixed()) {
+				if (pinned && !colIter.isFixed()) {
 					continue;
 				}
 				x += colIter.getWidth();
@@ -7766,20 +8192,11 @@ public class Grid extends Canvas {
 				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 			}
 
-			while (currIndex != itemIndex) {
-				if (currIndex < itemIndex) {
-					final GridItem currItem = items.get(currIndex);
-					if (currItem.isVisible()) {
-						y += currItem.getHeight() + 1;
-					}
-					currIndex++;
-				} else if (currIndex > itemIndex) {
-					currIndex--;
-					final GridItem currItem = items.get(currIndex);
-					if (currItem.isVisible()) {
-						y -= currItem.getHeight() + 1;
-					}
-				}
+			if (isTree || hasDifferingHeights) {
+				final GridRowHeightIndex index = getRowHeightIndex();
+				y += index.getOffset(itemIndex) - index.getOffset(currIndex);
+			} else {
+				y += (itemIndex - currIndex) * (itemHeight + 1);
 			}
 		} else {
 			if (column.getColumnGroup() != null) {
@@ -7790,6 +8207,155 @@ public class Grid extends Canvas {
 		return new Point(x, y);
 	}
 
+	/**
+	 * Sets the maximum number of repaints per second caused by changes of item
+	 * attributes like texts or colors. Changes are collected and the affected
+	 * cells are repainted together at most this often, which keeps the UI thread
+	 * responsive for grids that are updated at high rates.
+	 *
+	 * @param maxRepaintsPerSecond the maximum number of repaints per second or 0
+	 *                             to repaint changed cells immediately
+	 *
+	 * @exception IllegalArgumentException
+	 *                                     <ul>
+	 *                                     <li>ERROR_INVALID_ARGUMENT - if the
+	 *                                     value is negative</li>
+	 *                                     </ul>
+	 * @exception org.eclipse.swt.SWTException
+	 *                                         <ul>
+	 *                                         <li>ERROR_WIDGET_DISPOSED - if the
+	 *                                         receiver has been disposed</li>
+	 *                                         <li>ERROR_THREAD_INVALID_ACCESS - if
+	 *                                         not called from the thread that
+	 *                                         created the receiver</li>
+	 *                                         </ul>
+	 */
+	public void setMaxRepaintsPerSecond(final int maxRepaintsPerSecond) {
+		checkWidget();
+		if (maxRepaintsPerSecond < 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		this.maxRepaintsPerSecond = maxRepaintsPerSecond;
+		if (maxRepaintsPerSecond == 0) {
+			repaintDirtyCells();
+		}
+	}
+
+	/**
+	 * @return the maximum number of repaints per second caused by changes of
+	 *         item attributes or 0 if not limited
+	 * @see #setMaxRepaintsPerSecond(int)
+	 */
+	public int getMaxRepaintsPerSecond() {
+		checkWidget();
+		return maxRepaintsPerSecond;
+	}
+
+	/**
+	 * Repaints the given cell after one of its attributes changed.
+	 *
+	 * @param item        item of the cell
+	 * @param columnIndex column index of the cell
+	 */
+	void redrawCell(final GridItem item, final int columnIndex) {
+		if (hasSpanning || columnIndex < 0 || columnIndex >= columns.size()) {
+			// the cell may be painted across other cells
+			redrawRow(item);
+			return;
+		}
+		final int row = item.getRowIndex();
+		if (maxRepaintsPerSecond > 0) {
+			if (dirtyCells.add(columnIndex, row)) {
+				scheduleRepaint();
+			}
+		} else {
+			redrawDamage(item, columns.get(columnIndex));
+		}
+	}
+
+	/**
+	 * Repaints the given row after one of its attributes changed.
+	 *
+	 * @param item item to repaint
+	 */
+	void redrawRow(final GridItem item) {
+		if (hasSpanning) {
+			// cells of other rows may span into the row
+			redraw();
+			return;
+		}
+		final int row = item.getRowIndex();
+		if (maxRepaintsPerSecond > 0) {
+			if (row >= 0 && !dirtyRows.get(row)) {
+				dirtyRows.set(row);
+				scheduleRepaint();
+			}
+		} else {
+			redrawDamage(item, null);
+		}
+	}
+
+	/**
+	 * Invalidates the on screen area of the given cell or of the whole row if the
+	 * column is <code>null</code>. Nothing happens if the row is not visible.
+	 */
+	private void redrawDamage(final GridItem item, final GridColumn column) {
+		if (isDisposed() || !getVisible() || item.isDisposed() || !item.isVisible() || column != null && !column.isVisible()) {
+			return;
+		}
+		final int row = item.getRowIndex();
+		if (row < getTopIndex() || row > getBottomIndex()) {
+			return;
+		}
+		final Point origin = getOrigin(column, item);
+		if (column == null) {
+			redraw(0, origin.y - 1, getClientArea().width, item.getHeight() + 2, false);
+		} else {
+			redraw(origin.x - 1, origin.y - 1, column.getWidth() + 2, item.getHeight() + 2, false);
+		}
+	}
+
+	private void scheduleRepaint() {
+		if (repaintScheduled) {
+			return;
+		}
+		repaintScheduled = true;
+		final long interval = 1000 / maxRepaintsPerSecond;
+		final long delay = Math.max(0, lastRepaint + interval - System.currentTimeMillis());
+		getDisplay().timerExec((int) delay, () -> {
+			repaintScheduled = false;
+			if (!isDisposed()) {
+				lastRepaint = System.currentTimeMillis();
+				repaintDirtyCells();
+			}
+		});
+	}
+
+	/**
+	 * Invalidates all cells and rows which have changed since the last throttled
+	 * repaint.
+	 */
+	private void repaintDirtyCells() {
+		for (int row = dirtyRows.nextSetBit(0); row >= 0; row = dirtyRows.nextSetBit(row + 1)) {
+			if (row < items.size()) {
+				final GridItem item = getLoadedItem(row);
+				if (item != null) {
+					redrawDamage(item, null);
+				}
+			}
+		}
+		for (final Point cell : dirtyCells.toArray()) {
+			if (cell.y < items.size() && cell.x < columns.size() && !dirtyRows.get(cell.y)) {
+				final GridItem item = getLoadedItem(cell.y);
+				if (item != null) {
+					redrawDamage(item, columns.get(cell.x));
+				}
+			}
+		}
+		dirtyRows.clear();
+		dirtyCells.clear();
+	}
+
 	/**
 	 * Determines (which cell/if a cell) has been clicked (mouse down really) and
 	 * notifies the appropriate renderer. Returns true when a cell has responded to
@@ -8039,6 +8605,8 @@ public class Grid extends Canvas {
 			column.index = size;
 			columns.add(column);
 			displayOrderedColumns.add(column);
+			column.displayOrderIndex = displayOrderedColumns.size() - 1;
+			columnOrders = null;
 		} else {
 			column.index = index;
 			columns.add(index, column);
@@ -8046,6 +8614,7 @@ public class Grid extends Canvas {
 				columns.get(i).index = i;
 			}
 			displayOrderedColumns.add(index, column);
+			clearDisplayOrderedCache();
 
 			dataVisualizer.addColumn(index);
 			for (int i = 0; i < size; i++) {
@@ -8060,13 +8629,12 @@ public class Grid extends Canvas {
 
 		updatePrimaryCheckColumn();
 
-		for (final GridItem item : items) {
+		for (final GridItem item : getLoadedItems()) {
 			item.columnAdded(index);
 		}
 
 		scrollValuesObsolete = true;
 		redraw();
-		clearDisplayOrderedCache();
 		return size - 1;
 	}
 
@@ -8081,25 +8649,9 @@ public class Grid extends Canvas {
 		final int index = column.index;
 
 		if (cellSelectionEnabled) {
-			final Vector<Point> removeSelectedCells = new Vector<>();
-
-			for (final Point cell : selectedCells) {
-				if (cell.x == index) {
-					removeSelectedCells.add(cell);
-				}
-			}
-
-			if (removeSelectedCells.size() > 0) {
-				selectedCells.removeAll(removeSelectedCells);
+			if (selectedCells.removeColumn(index)) {
 				selectionModified = true;
 			}
-
-			for (final Point cell : selectedCells) {
-				if (cell.x >= index) {
-					cell.x--;
-					selectionModified = true;
-				}
-			}
 		}
 
 		columns.remove(column);
@@ -8108,6 +8660,8 @@ public class Grid extends Canvas {
 			columns.get(i).index = i;
 		}
 		displayOrderedColumns.remove(column);
+		column.displayOrderIndex = -1;
+		clearDisplayOrderedCache();
 		dataVisualizer.clearColumn(index);
 
 		if (focusColumn == column) {
@@ -8129,7 +8683,6 @@ public class Grid extends Canvas {
 		if (selectionModified && !disposing) {
 			updateColumnSelection();
 		}
-		clearDisplayOrderedCache();
 	}
 
 	/**
@@ -8149,6 +8702,10 @@ public class Grid extends Canvas {
 	}
 
 	void newRootItem(final GridItem item, final int index) {
+		if (lazyItems != null) {
+			// rootItems is the same list as items
+			return;
+		}
 		if (index == -1 || index >= rootItems.size()) {
 			rootItems.add(item);
 		} else {
@@ -8157,7 +8714,14 @@ public class Grid extends Canvas {
 	}
 
 	void removeRootItem(final GridItem item) {
-		rootItems.remove(item);
+		if (lazyItems != null) {
+			return;
+		}
+		// items are usually removed from the end, so search backwards
+		final int index = rootItems.lastIndexOf(item);
+		if (index != -1) {
+			rootItems.remove(index);
+		}
 	}
 
 	/**
@@ -8171,6 +8735,17 @@ public class Grid extends Canvas {
 	int newItem(final GridItem item, int index, final boolean root) {
 		int row = 0;
 
+		if (lazyItems != null) {
+			if (!root) {
+				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+			}
+			if (materializingRow != -1) {
+				// the item is created by the lazy item list, which already accounts for its row
+				item.initializeHeight(itemHeight);
+				return materializingRow;
+			}
+		}
+
 		if (!isTree) {
 			if (item.getParentItem() != null) {
 				isTree = true;
@@ -8180,7 +8755,15 @@ public class Grid extends Canvas {
 		// Have to convert indexes, this method needs a flat index, the method is called
 		// with indexes
 		// that are relative to the level
-		if (root && index != -1) {
+		if (root && batchInsertRow != -1) {
+			// the row indices of the following items are not up to date during a batch
+			index = batchInsertRow++;
+		} else if (root && lazyItems != null) {
+			// there are only root items, so the index already is a row index
+			if (index >= items.size()) {
+				index = -1;
+			}
+		} else if (root && index != -1) {
 			if (index >= rootItems.size()) {
 				index = -1;
 			} else {
@@ -8206,9 +8789,17 @@ public class Grid extends Canvas {
 		} else {
 			items.add(index, item);
 			row = index;
-			for (int i = index + 1; i < items.size(); i++) {
-				items.get(i).increaseRow();
+			if (selectedRows != null) {
+				selectedRows.insertRow(index);
 			}
+			if (rowBatch) {
+				renumberRowsFrom = Math.min(renumberRowsFrom, index + 1);
+			} else if (lazyItems == null) {
+				for (int i = index + 1; i < items.size(); i++) {
+					items.get(i).increaseRow();
+				}
+			}
+			rowHeightIndex.invalidate();
 		}
 
 		estimate(sizingGC -> {
@@ -8228,11 +8819,17 @@ public class Grid extends Canvas {
 			}
 		});
 
+		if (row == items.size() - 1) {
+			rowHeightIndex.append(item);
+		}
+
 		scrollValuesObsolete = true;
 		topIndex = -1;
 		bottomIndex = -1;
 
-		currentVisibleItems++;
+		if (item.isVisible()) {
+			currentVisibleItems++;
+		}
 
 		redraw();
 
@@ -8247,12 +8844,19 @@ public class Grid extends Canvas {
 	 */
 	void removeItem(final GridItem item) {
 
-		final Point[] cells = getCells(item);
 		boolean selectionModified = false;
 
-		final int index = item.getRowIndex();
+		final int index = indexOf(item);
+
+		if (index != -1) {
+			items.remove(index);
+		}
 
-		items.remove(item);
+		if (index == items.size()) {
+			rowHeightIndex.truncate(index);
+		} else {
+			rowHeightIndex.invalidate();
+		}
 
 		dataVisualizer.clearRow(item);
 
@@ -8260,18 +8864,20 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		for (int i = index; i < items.size(); i++) {
-			items.get(i).decreaseRow();
+		if (rowBatch) {
+			renumberRowsFrom = Math.min(renumberRowsFrom, index);
+		} else if (lazyItems == null) {
+			for (int i = index; i < items.size(); i++) {
+				items.get(i).decreaseRow();
+			}
 		}
 
-		if (selectedItems.remove(item)) {
+		if (selectedRows != null ? selectedRows.removeRow(index) : selectedItems.remove(item)) {
 			selectionModified = true;
 		}
 
-		for (final Point cell : cells) {
-			if (selectedCells.remove(cell)) {
-				selectionModified = true;
-			}
+		if (selectedCells.removeRow(index)) {
+			selectionModified = true;
 		}
 
 		if (focusItem == item) {
@@ -8343,12 +8949,55 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * Updates the cached number of visible items by the given amount.
+	 * Hides or shows the descendants of the given item, which is about to be
+	 * collapsed or expanded. Since the descendants are placed in the rows
+	 * following the item, this only updates a range of the row height index and
+	 * does not depend on the number of descendants.
+	 *
+	 * @param item     item whose expanded state changes
+	 * @param expanded the new expanded state
+	 */
+	void expandedChanging(final GridItem item, final boolean expanded) {
+		// rebuilding the index must see the old expanded state
+		final GridRowHeightIndex index = getRowHeightIndex();
+		final int from = item.getRowIndex() + 1;
+		final int to = from + item.getDescendantCount();
+		final int visibleBefore = index.getVisibleCount();
+		if (expanded) {
+			index.show(from, to);
+		} else {
+			index.hide(from, to);
+		}
+		currentVisibleItems += index.getVisibleCount() - visibleBefore;
+	}
+
+	/**
+	 * Deselects all descendants of the given item, or all of their cells if cell
+	 * selection is enabled.
 	 *
-	 * @param amount amount to update cached total
+	 * @param item item whose descendants are deselected
+	 * @return <code>true</code> if the selection changed
 	 */
-	void updateVisibleItems(final int amount) {
-		currentVisibleItems += amount;
+	boolean deselectDescendants(final GridItem item) {
+		final int count = item.getDescendantCount();
+		if (count == 0) {
+			return false;
+		}
+		final int from = item.getRowIndex() + 1;
+		final int to = from + count - 1;
+		final boolean changed;
+		if (cellSelectionEnabled) {
+			changed = selectedCells.removeRows(from, to);
+		} else {
+			changed = selectedItems.removeIf(selected -> {
+				final int row = selected.getRowIndex();
+				return row >= from && row <= to;
+			});
+		}
+		if (changed) {
+			redraw();
+		}
+		return changed;
 	}
 
 	/**
@@ -8527,7 +9176,7 @@ public class Grid extends Canvas {
 	 * @return the first visible unspanned column, or null if none exists
 	 */
 	GridColumn getVisibleColumn_DegradeLeft(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		GridColumn prevCol = col;
 
@@ -8541,7 +9190,7 @@ public class Grid extends Canvas {
 			prevCol = displayOrderedColumns.get(index - i);
 		}
 
-		index = displayOrderedColumns.indexOf(prevCol);
+		index = displayIndexOf(prevCol);
 
 		for (int j = 0; j < index; j++) {
 			final GridColumn tempCol = displayOrderedColumns.get(j);
@@ -8570,7 +9219,7 @@ public class Grid extends Canvas {
 	 * @return the first visible unspanned column, or null if none exists
 	 */
 	GridColumn getVisibleColumn_DegradeRight(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		int i = 0;
 		GridColumn nextCol = col;
@@ -8583,7 +9232,7 @@ public class Grid extends Canvas {
 			nextCol = displayOrderedColumns.get(index + i);
 		}
 
-		index = displayOrderedColumns.indexOf(nextCol);
+		index = displayIndexOf(nextCol);
 		final int startIndex = index;
 
 		while (index > 0) {
@@ -8713,7 +9362,7 @@ public class Grid extends Canvas {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 
-		selectedCells.remove(cell);
+		selectedCells.remove(cell.x, cell.y);
 		updateColumnSelection();
 		redraw();
 	}
@@ -8751,7 +9400,7 @@ public class Grid extends Canvas {
 		}
 
 		for (final Point cell : cells) {
-			selectedCells.remove(cell);
+			selectedCells.remove(cell.x, cell.y);
 		}
 
 		updateColumnSelection();
@@ -8997,9 +9646,12 @@ public class Grid extends Canvas {
 	 */
 	public void selectColumn(final int col) {
 		checkWidget();
-		final Vector<Point> cells = new Vector<>();
+		if (!cellSelectionEnabled) {
+			return;
+		}
+		final GridCellSelection cells = new GridCellSelection();
 		getCells(getColumn(col), cells);
-		selectCells(cells.toArray(new Point[0]));
+		selectCells(cells);
 	}
 
 	/**
@@ -9036,9 +9688,12 @@ public class Grid extends Canvas {
 	 */
 	public void selectColumnGroup(final GridColumnGroup colGroup) {
 		checkWidget();
-		final Vector<Point> cells = new Vector<>();
+		if (!cellSelectionEnabled) {
+			return;
+		}
+		final GridCellSelection cells = new GridCellSelection();
 		getCells(colGroup, cells);
-		selectCells(cells.toArray(new Point[0]));
+		selectCells(cells);
 	}
 
 	/**
@@ -9137,9 +9792,13 @@ public class Grid extends Canvas {
 	}
 
 	/**
-	 * Returns an array of cells that are currently selected in the receiver. The
-	 * order of the items is unspecified. An empty array indicates that no items are
-	 * selected.
+	 * Returns an array of cells that are currently selected in the receiver. An
+	 * empty array indicates that no items are selected.
+	 * <p>
+	 * The cells are not returned in the order they were selected. The first cell
+	 * is the earliest selected cell which is still selected, the other cells
+	 * follow by row index, then by column index.
+	 * </p>
 	 * <p>
 	 * Note: This is not the actual structure used by the receiver to maintain its
 	 * selection, so modifying the array will not affect the receiver.
@@ -9157,7 +9816,7 @@ public class Grid extends Canvas {
 	 */
 	public Point[] getCellSelection() {
 		checkWidget();
-		return selectedCells.toArray(new Point[selectedCells.size()]);
+		return selectedCells.toArray();
 	}
 
 	GridColumn getFocusColumn() {
@@ -9166,7 +9825,7 @@ public class Grid extends Canvas {
 
 	void updateColumnFocus() {
 		if (!focusColumn.isVisible()) {
-			final int index = displayOrderedColumns.indexOf(focusColumn);
+			final int index = displayIndexOf(focusColumn);
 			if (index > 0) {
 				GridColumn prev = displayOrderedColumns.get(index - 1);
 				prev = getVisibleColumn_DegradeLeft(focusItem, prev);
@@ -9180,10 +9839,17 @@ public class Grid extends Canvas {
 		}
 	}
 
-	private void getCells(final GridColumn col, final Vector<Point> cells) {
+	private void getCells(final GridColumn col, final GridCellSelection cells) {
 
 		final int colIndex = col.index;
 
+		if (!hasSpanning && currentVisibleItems == items.size()) {
+			if (items.size() > 0) {
+				cells.addRange(colIndex, 0, items.size() - 1);
+			}
+			return;
+		}
+
 		int columnAtPosition = 0;
 		for (final GridColumn nextCol : displayOrderedColumns) {
 			if (!nextCol.isVisible()) {
@@ -9202,6 +9868,7 @@ public class Grid extends Canvas {
 			item = getItem(0);
 		}
 
+		final BitSet rows = new BitSet();
 		while (item != null) {
 			// is cell spanned
 			final int position = -1;
@@ -9224,21 +9891,22 @@ public class Grid extends Canvas {
 			}
 
 			if (!spanned && item.getColumnSpan(colIndex) == 0) {
-				cells.add(new Point(colIndex, item.getRowIndex()));
+				rows.set(item.getRowIndex());
 			}
 
 			item = getNextVisibleItem(item);
 		}
+		addRanges(cells, colIndex, rows);
 	}
 
-	private void getCells(final GridColumnGroup colGroup, final Vector<Point> cells) {
+	private void getCells(final GridColumnGroup colGroup, final GridCellSelection cells) {
 		final GridColumn[] cols = colGroup.getColumns();
 		for (final GridColumn col : cols) {
 			getCells(col, cells);
 		}
 	}
 
-	private void getCells(final GridItem item, final Vector<Point> cells) {
+	private void getCells(final GridItem item, final GridCellSelection cells) {
 		final int itemIndex = item.getRowIndex();
 
 		int span = 0;
@@ -9256,36 +9924,27 @@ public class Grid extends Canvas {
 
 			span = item.getColumnSpan(nextCol.index);
 
-			cells.add(new Point(nextCol.index, itemIndex));
+			cells.add(nextCol.index, itemIndex);
 		}
 	}
 
 	private Point[] getCells(final GridItem item) {
-		final Vector<Point> cells = new Vector<>();
-
-		final int itemIndex = item.getRowIndex();
-
-		int span = 0;
-
-		for (final GridColumn nextCol : displayOrderedColumns) {
-
-			if (span > 0) {
-				span--;
-				continue;
-			}
+		final GridCellSelection cells = new GridCellSelection();
+		getCells(item, cells);
+		return cells.toArray();
+	}
 
-			if (!nextCol.isVisible()) {
-				continue;
+	private void getCells(final GridItem fromItem, final GridItem toItem, final GridCellSelection cells) {
+		if (!hasSpanning) {
+			final BitSet rows = getRows(fromItem, toItem);
+			for (final GridColumn column : displayOrderedColumns) {
+				if (column.isVisible()) {
+					addRanges(cells, column.index, rows);
+				}
 			}
-
-			span = item.getColumnSpan(nextCol.index);
-
-			cells.add(new Point(nextCol.index, itemIndex));
+			return;
 		}
-		return cells.toArray(new Point[] {});
-	}
 
-	private void getCells(final GridItem fromItem, final GridItem toItem, final Vector<Point> cells) {
 		final boolean descending = fromItem.getRowIndex() < toItem.getRowIndex();
 
 		GridItem iterItem = toItem;
@@ -9305,6 +9964,39 @@ public class Grid extends Canvas {
 		} while (true);
 	}
 
+	/**
+	 * Returns the cells of the given rows, as {@link #getCells(GridItem)} would
+	 * for each of them.
+	 */
+	private GridCellSelection getCells(final int fromRow, final int toRow) {
+		final GridCellSelection cells = new GridCellSelection();
+		if (fromRow > toRow) {
+			return cells;
+		}
+		if (!hasSpanning) {
+			for (final GridColumn column : displayOrderedColumns) {
+				if (column.isVisible()) {
+					cells.addRange(column.index, fromRow, toRow);
+				}
+			}
+			return cells;
+		}
+		for (int row = fromRow; row <= toRow; row++) {
+			getCells(items.get(row), cells);
+		}
+		return cells;
+	}
+
+	/**
+	 * Selects the given cells, see {@link #selectCells(Point[])}. The given
+	 * selection is modified.
+	 */
+	private void selectCells(final GridCellSelection cells) {
+		addToCellSelection(cells);
+		updateColumnSelection();
+		redraw();
+	}
+
 	private int blend(final int v1, final int v2, final int ratio) {
 		return (ratio * v1 + (100 - ratio) * v2) / 100;
 	}
@@ -9327,7 +10019,7 @@ public class Grid extends Canvas {
 	 * @return a point representing the selection range
 	 */
 	private Point getSelectionRange(GridItem fromItem, GridColumn fromColumn, GridItem toItem, GridColumn toColumn) {
-		if (displayOrderedColumns.indexOf(fromColumn) > displayOrderedColumns.indexOf(toColumn)) {
+		if (displayIndexOf(fromColumn) > displayIndexOf(toColumn)) {
 			final GridColumn temp = fromColumn;
 			fromColumn = toColumn;
 			toColumn = temp;
@@ -9543,9 +10235,12 @@ public class Grid extends Canvas {
 
 			itemHeight = computeItemHeight(items.get(0));
 
-			for (final GridItem item2 : items) {
+			for (final GridItem item2 : getLoadedItems()) {
 				item2.setHeight(itemHeight);
 			}
+			if (lazyItems != null) {
+				rowHeightIndex.invalidate();
+			}
 
 			setScrollValuesObsolete();
 			redraw();
@@ -9634,6 +10329,10 @@ public class Grid extends Canvas {
 	 */
 	public void setItemCount(int count) {
 		checkWidget();
+		if (lazyItems != null) {
+			setLazyItemCount(Math.max(count, 0));
+			return;
+		}
 		setRedraw(false);
 		if (count < 0) {
 			count = 0;
@@ -9653,6 +10352,7 @@ public class Grid extends Canvas {
 				}
 				removed.disposeOnly();
 			}
+			rowHeightIndex.truncate(count);
 			if (!disposing) {
 				updateColumnSelection();
 			}
@@ -9667,6 +10367,198 @@ public class Grid extends Canvas {
 		setRedraw(true);
 	}
 
+	/**
+	 * Changes the number of items in lazy virtual mode. New rows are not loaded,
+	 * loaded items of removed rows are disposed.
+	 *
+	 * @param count the number of items
+	 */
+	private void setLazyItemCount(final int count) {
+		final int oldCount = items.size();
+		if (count == oldCount) {
+			return;
+		}
+
+		final Collection<GridItem> removed = lazyItems.setSize(count);
+		if (count < oldCount) {
+			selectedCells.clear();
+			selectedRows.truncate(count);
+			for (final GridItem item : removed) {
+				if (focusItem == item) {
+					focusItem = null;
+				}
+				item.disposeOnly();
+			}
+			rowHeightIndex.truncate(count);
+			if (!disposing) {
+				updateColumnSelection();
+			}
+		} else {
+			rowHeightIndex.invalidate();
+			if (oldCount == 0 && !userModifiedItemHeight) {
+				// as for the first item created in eager mode
+				final GridItem first = items.get(0);
+				estimate(sizingGC -> itemHeight = computeItemHeight(first, sizingGC));
+				first.initializeHeight(itemHeight);
+				first.setHasSetData(false);
+			}
+		}
+		currentVisibleItems += count - oldCount;
+		scrollValuesObsolete = true;
+		topIndex = -1;
+		bottomIndex = -1;
+		redraw();
+	}
+
+	/**
+	 * Enables or disables the lazy virtual mode of a grid created with the
+	 * <code>SWT.VIRTUAL</code> style.
+	 * <p>
+	 * In lazy mode, {@link #setItemCount(int)} only records the number of rows.
+	 * {@link GridItem}s are created when a row is painted or accessed and are
+	 * kept in a cache of {@link #getLazyItemCacheSize()} items. Items which are
+	 * not focused are disposed again when the cache is full, the
+	 * next access creates a new item and sends a new <code>SWT.SetData</code>
+	 * event. Any state set on an item, such as its height, is lost with it.
+	 * <p>
+	 * The lazy mode is restricted to grids without child items. Methods which
+	 * return all items, like {@link #getItems()} or {@link #getSelection()},
+	 * create all of them and should be avoided. The selection only keeps the
+	 * selected row indices, so selected items may be disposed and created again
+	 * like any other item, and {@link #selectAll()} does not create any item.
+	 *
+	 * @param lazy <code>true</code> to create items on demand
+	 *
+	 * @exception IllegalArgumentException
+	 *                                     <ul>
+	 *                                     <li>ERROR_INVALID_ARGUMENT - if the
+	 *                                     receiver has not been created with the
+	 *                                     <code>SWT.VIRTUAL</code> style or
+	 *                                     contains items</li>
+	 *                                     </ul>
+	 * @exception org.eclipse.swt.SWTException
+	 *                                         <ul>
+	 *                                         <li>ERROR_WIDGET_DISPOSED - if the
+	 *                                         receiver has been disposed</li>
+	 *                                         <li>ERROR_THREAD_INVALID_ACCESS - if
+	 *                                         not called from the thread that
+	 *                                         created the receiver</li>
+	 *                                         </ul>
+	 */
+	public void setLazyItems(final boolean lazy) {
+		checkWidget();
+		if (lazy == (lazyItems != null)) {
+			return;
+		}
+		if ((getStyle() & SWT.VIRTUAL) == 0 || !items.isEmpty()) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		if (lazy) {
+			lazyItems = new LazyGridItemList(this::materializeItem, this::isPinnedItem, this::evictItem,
+					lazyItemCacheSize);
+			items = lazyItems;
+			rootItems = lazyItems;
+			selectedRows = new SelectedGridRows(lazyItems);
+			selectedItems = selectedRows;
+		} else {
+			lazyItems = null;
+			items = new ArrayList<>();
+			rootItems = new ArrayList<>();
+			selectedRows = null;
+			selectedItems = new SelectedGridItemList();
+		}
+		rowHeightIndex.invalidate();
+	}
+
+	/**
+	 * @return <code>true</code> if items are created on demand
+	 * @see #setLazyItems(boolean)
+	 */
+	public boolean isLazyItems() {
+		checkWidget();
+		return lazyItems != null;
+	}
+
+	/**
+	 * Sets the number of items kept in lazy virtual mode. The cache should be
+	 * larger than the number of rows which fit on the screen.
+	 *
+	 * @param size the number of items to keep, at least 1
+	 *
+	 * @exception IllegalArgumentException
+	 *                                     <ul>
+	 *                                     <li>ERROR_INVALID_ARGUMENT - if the size
+	 *                                     is lower than 1</li>
+	 *                                     </ul>
+	 * @see #setLazyItems(boolean)
+	 */
+	public void setLazyItemCacheSize(final int size) {
+		checkWidget();
+		if (size < 1) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		lazyItemCacheSize = size;
+		if (lazyItems != null) {
+			lazyItems.setCapacity(size);
+		}
+	}
+
+	/**
+	 * @return the number of items kept in lazy virtual mode
+	 * @see #setLazyItemCacheSize(int)
+	 */
+	public int getLazyItemCacheSize() {
+		checkWidget();
+		return lazyItemCacheSize;
+	}
+
+	/**
+	 * Creates the item of the given row in lazy virtual mode.
+	 */
+	private GridItem materializeItem(final int row) {
+		materializingRow = row;
+		try {
+			return new GridItem(this, SWT.NONE, row);
+		} finally {
+			materializingRow = -1;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the given item is referenced by the grid and
+	 *         must not be evicted in lazy virtual mode
+	 */
+	private boolean isPinnedItem(final GridItem item) {
+		return item == focusItem || item == hoveringItem || item == shiftSelectionAnchorItem
+				|| item == rowBeingResized || item == insertMarkItem;
+	}
+
+	/**
+	 * Disposes an item evicted in lazy virtual mode. The row keeps the default
+	 * height until it is loaded again.
+	 */
+	private void evictItem(final GridItem item) {
+		rowHeightIndex.update(item.getCachedRowIndex(), itemHeight + 1);
+		item.disposeOnly();
+	}
+
+	/**
+	 * @return the items which currently exist, which are all items unless the
+	 *         grid is in lazy virtual mode
+	 */
+	private Collection<GridItem> getLoadedItems() {
+		return lazyItems != null ? lazyItems.getLoadedItems() : items;
+	}
+
+	/**
+	 * @param row row index
+	 * @return the item of the given row or <code>null</code> if the grid is in
+	 *         lazy virtual mode and the item is not loaded
+	 */
+	private GridItem getLoadedItem(final int row) {
+		return lazyItems != null ? lazyItems.getLoaded(row) : items.get(row);
+	}
+
 	/**
 	 * Initialize accessibility.
 	 */
@@ -9718,12 +10610,7 @@ public class Grid extends Canvas {
 				// Grid Items
 				final GridItem item = getItem(location);
 				if (item != null) {
-					for (int i = 0; i < getItemCount(); i++) {
-						if (item.equals(getItem(i))) {
-							e.childID = i;
-							return;
-						}
-					}
+					e.childID = indexOf(item);
 				} else {
 					// Column Headers
 					final GridColumn column = overColumnHeader(location.x, location.y);
@@ -10354,8 +11241,10 @@ public class Grid extends Canvas {
 			SWT.error(SWT.ERROR_INVALID_RANGE);
 		}
 		for (int i = start; i <= end; i++) {
-			final GridItem item = items.get(i);
-			item.clear(allChildren);
+			final GridItem item = getLoadedItem(i);
+			if (item != null) {
+				item.clear(allChildren);
+			}
 		}
 		redraw();
 	}
@@ -10407,8 +11296,10 @@ public class Grid extends Canvas {
 			}
 		}
 		for (final int indice : indices) {
-			final GridItem item = items.get(indice);
-			item.clear(allChildren);
+			final GridItem item = getLoadedItem(indice);
+			if (item != null) {
+				item.clear(allChildren);
+			}
 		}
 		redraw();
 	}
@@ -10684,7 +11575,7 @@ public class Grid extends Canvas {
 	 */
 	public void refreshData() {
 		if ((getStyle() & SWT.VIRTUAL) != 0) {
-			for (final GridItem item : items) {
+			for (final GridItem item : getLoadedItems()) {
 				item.setHasSetData(false);
 			}
 		}
@@ -10711,7 +11602,7 @@ public class Grid extends Canvas {
 
 	private void computeRowHeaderWidth(final int minWidth) {
 		estimate(sizingGC -> {//
-			final int width = items.stream() //
+			final int width = getLoadedItems().stream() //
 					.mapToInt(item -> rowHeaderRenderer.computeSize(sizingGC, SWT.DEFAULT, SWT.DEFAULT, item).x) //
 					.max() //
 					.orElse(minWidth);
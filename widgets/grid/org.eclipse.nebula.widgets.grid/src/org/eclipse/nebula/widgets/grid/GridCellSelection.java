@@ -0,0 +1,582 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Set of selected cells of a {@link Grid}. Cells are stored as one row
+ * {@link BitSet} per column index, so membership tests and updates are
+ * constant-time and do not allocate {@link Point} instances.
+ * <p>
+ * The first cell that was added and is still selected is remembered, as the
+ * grid uses it as the primary selected cell (see
+ * {@link Grid#getSelectionIndex()} and {@link Grid#showSelection()}). To find
+ * the next one when it is deselected, the added cells are kept as a list of
+ * row ranges in the order they were added, adjacent ranges being merged.
+ * Ranges without selected cells are dropped from the head of the list, and a
+ * cell which is selected again is cut out of the older ranges.
+ */
+class GridCellSelection {
+
+	/**
+	 * Rows of one column which were added together.
+	 */
+	private static final class Run {
+		int column;
+		int fromRow;
+		int toRow;
+
+		Run(final int column, final int fromRow, final int toRow) {
+			this.column = column;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+		}
+	}
+
+	private BitSet[] columns = new BitSet[0];
+
+	/**
+	 * Added ranges, oldest first. Every selected cell is covered by the range
+	 * it was added with, and by no older one.
+	 */
+	private final List<Run> runs = new ArrayList<>();
+
+	/**
+	 * Cells which are covered by a range, per column. Cells may stay marked
+	 * after their range was dropped.
+	 */
+	private BitSet[] covered = new BitSet[0];
+
+	private int size;
+
+	private int firstColumn = -1;
+	private int firstRow = -1;
+
+	/**
+	 * @return the number of selected cells
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return <code>true</code> if no cell is selected
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param column column index
+	 * @param row    row index
+	 * @return <code>true</code> if the given cell is selected
+	 */
+	boolean contains(final int column, final int row) {
+		if (column < 0 || column >= columns.length || row < 0) {
+			return false;
+		}
+		final BitSet rows = columns[column];
+		return rows != null && rows.get(row);
+	}
+
+	/**
+	 * @param other selection to check
+	 * @return <code>true</code> if all cells of the given selection are selected
+	 */
+	boolean containsAll(final GridCellSelection other) {
+		for (int column = 0; column < other.columns.length; column++) {
+			final BitSet otherRows = other.columns[column];
+			if (otherRows == null || otherRows.isEmpty()) {
+				continue;
+			}
+			final BitSet missing = (BitSet) otherRows.clone();
+			if (column < columns.length && columns[column] != null) {
+				missing.andNot(columns[column]);
+			}
+			if (!missing.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param other selection to compare with
+	 * @return <code>true</code> if exactly the cells of the given selection are
+	 *         selected
+	 */
+	boolean hasSameCells(final GridCellSelection other) {
+		return size == other.size && containsAll(other);
+	}
+
+	/**
+	 * Selects the given cell.
+	 *
+	 * @param column column index
+	 * @param row    row index
+	 * @return <code>true</code> if the cell was not selected before
+	 */
+	boolean add(final int column, final int row) {
+		if (column < 0 || row < 0) {
+			return false;
+		}
+		final BitSet rows = rowsOf(column);
+		if (rows.get(row)) {
+			return false;
+		}
+		rows.set(row);
+		size++;
+		if (isCovered(column, row)) {
+			final BitSet readded = new BitSet();
+			readded.set(row);
+			uncover(column, readded);
+		}
+		appendRun(column, row, row);
+		if (firstColumn == -1) {
+			firstColumn = column;
+			firstRow = row;
+		}
+		return true;
+	}
+
+	/**
+	 * Selects all cells of the given column between the given rows.
+	 *
+	 * @param column  column index
+	 * @param fromRow first row index (inclusive)
+	 * @param toRow   last row index (inclusive)
+	 */
+	void addRange(final int column, final int fromRow, final int toRow) {
+		if (column < 0 || fromRow < 0 || toRow < fromRow) {
+			return;
+		}
+		final BitSet rows = rowsOf(column);
+		final int before = rows.cardinality();
+		if (column < covered.length && covered[column] != null) {
+			final BitSet readded = covered[column].get(fromRow, toRow + 1);
+			readded.andNot(rows.get(fromRow, toRow + 1));
+			if (!readded.isEmpty()) {
+				uncover(column, readded, fromRow);
+			}
+		}
+		rows.set(fromRow, toRow + 1);
+		size += rows.cardinality() - before;
+		appendRun(column, fromRow, toRow);
+		if (firstColumn == -1) {
+			updateFirst();
+		}
+	}
+
+	/**
+	 * Selects all cells of the given selection.
+	 *
+	 * @param other selection to add
+	 */
+	void addAll(final GridCellSelection other) {
+		for (int column = 0; column < other.columns.length; column++) {
+			final BitSet otherRows = other.columns[column];
+			if (otherRows == null || otherRows.isEmpty()) {
+				continue;
+			}
+			final BitSet rows = rowsOf(column);
+			if (column < covered.length && covered[column] != null) {
+				final BitSet readded = (BitSet) otherRows.clone();
+				readded.andNot(rows);
+				readded.and(covered[column]);
+				if (!readded.isEmpty()) {
+					uncover(column, readded);
+				}
+			}
+			final int before = rows.cardinality();
+			rows.or(otherRows);
+			size += rows.cardinality() - before;
+		}
+		// the cells of the other selection follow in the order they were added
+		// there
+		for (final Run run : other.runs) {
+			appendRun(run.column, run.fromRow, run.toRow);
+		}
+		if (firstColumn == -1) {
+			updateFirst();
+		}
+	}
+
+	/**
+	 * Deselects the given cell.
+	 *
+	 * @param column column index
+	 * @param row    row index
+	 * @return <code>true</code> if the cell was selected before
+	 */
+	boolean remove(final int column, final int row) {
+		if (!contains(column, row)) {
+			return false;
+		}
+		columns[column].clear(row);
+		size--;
+		if (column == firstColumn && row == firstRow) {
+			updateFirst();
+		}
+		return true;
+	}
+
+	/**
+	 * Deselects all cells of the given selection.
+	 *
+	 * @param other selection to remove
+	 * @return <code>true</code> if at least one cell was deselected
+	 */
+	boolean removeAll(final GridCellSelection other) {
+		final int before = size;
+		final int bound = Math.min(columns.length, other.columns.length);
+		for (int column = 0; column < bound; column++) {
+			final BitSet rows = columns[column];
+			if (rows != null && other.columns[column] != null) {
+				final int cardinality = rows.cardinality();
+				rows.andNot(other.columns[column]);
+				size -= cardinality - rows.cardinality();
+			}
+		}
+		if (size != before && !contains(firstColumn, firstRow)) {
+			updateFirst();
+		}
+		return size != before;
+	}
+
+	/**
+	 * Deselects all cells of the given column. Following columns are not
+	 * renumbered.
+	 *
+	 * @param column column index
+	 * @return <code>true</code> if at least one cell was deselected
+	 */
+	boolean clearColumn(final int column) {
+		if (!isColumnSelected(column)) {
+			return false;
+		}
+		size -= columns[column].cardinality();
+		columns[column] = null;
+		if (firstColumn == column) {
+			updateFirst();
+		}
+		return true;
+	}
+
+	/**
+	 * Deselects all cells of the given row. Rows below are not renumbered.
+	 *
+	 * @param row row index
+	 * @return <code>true</code> if at least one cell was deselected
+	 */
+	boolean removeRow(final int row) {
+		boolean removed = false;
+		for (int column = 0; column < columns.length; column++) {
+			removed |= remove(column, row);
+		}
+		return removed;
+	}
+
+	/**
+	 * Deselects all cells of the given rows. Rows below are not renumbered.
+	 *
+	 * @param fromRow first row index (inclusive)
+	 * @param toRow   last row index (inclusive)
+	 * @return <code>true</code> if at least one cell was deselected
+	 */
+	boolean removeRows(final int fromRow, final int toRow) {
+		if (fromRow < 0 || toRow < fromRow) {
+			return false;
+		}
+		final int before = size;
+		for (final BitSet rows : columns) {
+			if (rows != null) {
+				final int cardinality = rows.cardinality();
+				rows.clear(fromRow, toRow + 1);
+				size -= cardinality - rows.cardinality();
+			}
+		}
+		if (firstRow >= fromRow && firstRow <= toRow) {
+			updateFirst();
+		}
+		return size != before;
+	}
+
+	/**
+	 * Deselects all cells of the given column and shifts the cells of all
+	 * following columns one column to the left.
+	 *
+	 * @param column column index
+	 * @return <code>true</code> if the selection changed
+	 */
+	boolean removeColumn(final int column) {
+		if (column < 0 || column >= columns.length) {
+			return false;
+		}
+		boolean modified = false;
+		final BitSet removed = columns[column];
+		if (removed != null && !removed.isEmpty()) {
+			size -= removed.cardinality();
+			modified = true;
+		}
+		for (int i = column + 1; i < columns.length; i++) {
+			if (columns[i] != null && !columns[i].isEmpty()) {
+				modified = true;
+			}
+		}
+
+		final BitSet[] newColumns = new BitSet[columns.length - 1];
+		System.arraycopy(columns, 0, newColumns, 0, column);
+		System.arraycopy(columns, column + 1, newColumns, column, columns.length - column - 1);
+		columns = newColumns;
+
+		if (column < covered.length) {
+			final BitSet[] newCovered = new BitSet[covered.length - 1];
+			System.arraycopy(covered, 0, newCovered, 0, column);
+			System.arraycopy(covered, column + 1, newCovered, column, covered.length - column - 1);
+			covered = newCovered;
+		}
+		runs.removeIf(run -> run.column == column);
+		for (final Run run : runs) {
+			if (run.column > column) {
+				run.column--;
+			}
+		}
+
+		if (firstColumn == column) {
+			updateFirst();
+		} else if (firstColumn > column) {
+			firstColumn--;
+		}
+		return modified;
+	}
+
+	/**
+	 * Deselects all cells.
+	 */
+	void clear() {
+		columns = new BitSet[0];
+		runs.clear();
+		covered = new BitSet[0];
+		size = 0;
+		firstColumn = -1;
+		firstRow = -1;
+	}
+
+	/**
+	 * Replaces the content of the receiver by the content of the given selection.
+	 *
+	 * @param other selection to copy
+	 */
+	void setAll(final GridCellSelection other) {
+		clear();
+		addAll(other);
+	}
+
+	/**
+	 * @param row row index
+	 * @return <code>true</code> if at least one cell of the given row is selected
+	 */
+	boolean isRowSelected(final int row) {
+		if (row < 0) {
+			return false;
+		}
+		for (final BitSet rows : columns) {
+			if (rows != null && rows.get(row)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param column column index
+	 * @return <code>true</code> if at least one cell of the given column is
+	 *         selected
+	 */
+	boolean isColumnSelected(final int column) {
+		if (column < 0 || column >= columns.length) {
+			return false;
+		}
+		final BitSet rows = columns[column];
+		return rows != null && !rows.isEmpty();
+	}
+
+	/**
+	 * @return the number of column slots, every selected column index is lower
+	 */
+	int getColumnBound() {
+		return columns.length;
+	}
+
+	/**
+	 * @return a new set of all row indices which contain at least one selected
+	 *         cell
+	 */
+	BitSet getSelectedRows() {
+		final BitSet result = new BitSet();
+		for (final BitSet rows : columns) {
+			if (rows != null) {
+				result.or(rows);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the primary selected cell or <code>null</code> if nothing is
+	 *         selected
+	 */
+	Point getFirst() {
+		if (size == 0) {
+			return null;
+		}
+		return new Point(firstColumn, firstRow);
+	}
+
+	/**
+	 * @return the selected cells, starting with the primary cell followed by the
+	 *         others in row, then column order
+	 */
+	Point[] toArray() {
+		final Point[] result = new Point[size];
+		if (size == 0) {
+			return result;
+		}
+		int i = 0;
+		result[i++] = new Point(firstColumn, firstRow);
+		final BitSet selectedRows = getSelectedRows();
+		for (int row = selectedRows.nextSetBit(0); row >= 0; row = selectedRows.nextSetBit(row + 1)) {
+			for (int column = 0; column < columns.length; column++) {
+				if (contains(column, row) && (column != firstColumn || row != firstRow)) {
+					result[i++] = new Point(column, row);
+				}
+			}
+		}
+		return result;
+	}
+
+	private BitSet rowsOf(final int column) {
+		if (column >= columns.length) {
+			final BitSet[] newColumns = new BitSet[column + 1];
+			System.arraycopy(columns, 0, newColumns, 0, columns.length);
+			columns = newColumns;
+		}
+		BitSet rows = columns[column];
+		if (rows == null) {
+			rows = new BitSet();
+			columns[column] = rows;
+		}
+		return rows;
+	}
+
+	private boolean isCovered(final int column, final int row) {
+		return column < covered.length && covered[column] != null && covered[column].get(row);
+	}
+
+	private void appendRun(final int column, final int fromRow, final int toRow) {
+		if (!runs.isEmpty()) {
+			final Run last = runs.get(runs.size() - 1);
+			if (last.column == column && last.toRow + 1 == fromRow) {
+				last.toRow = toRow;
+				markCovered(column, fromRow, toRow);
+				return;
+			}
+		}
+		runs.add(new Run(column, fromRow, toRow));
+		markCovered(column, fromRow, toRow);
+	}
+
+	private void markCovered(final int column, final int fromRow, final int toRow) {
+		if (column >= covered.length) {
+			final BitSet[] newCovered = new BitSet[Math.max(column + 1, columns.length)];
+			System.arraycopy(covered, 0, newCovered, 0, covered.length);
+			covered = newCovered;
+		}
+		if (covered[column] == null) {
+			covered[column] = new BitSet();
+		}
+		covered[column].set(fromRow, toRow + 1);
+	}
+
+	/**
+	 * Cuts the given rows of a column out of all ranges, as they are added
+	 * again.
+	 *
+	 * @param column column index
+	 * @param rows   row indices
+	 */
+	private void uncover(final int column, final BitSet rows) {
+		uncover(column, rows, 0);
+	}
+
+	/**
+	 * Cuts the given rows of a column out of all ranges, as they are added
+	 * again.
+	 *
+	 * @param column column index
+	 * @param rows   row indices, relative to the given offset
+	 * @param offset row index of the first bit
+	 */
+	private void uncover(final int column, final BitSet rows, final int offset) {
+		for (int i = 0; i < runs.size(); i++) {
+			final Run run = runs.get(i);
+			if (run.column != column) {
+				continue;
+			}
+			final List<Run> pieces = new ArrayList<>();
+			int from = run.fromRow;
+			int cut = rows.nextSetBit(Math.max(0, from - offset));
+			while (cut >= 0 && cut + offset <= run.toRow) {
+				if (cut + offset > from) {
+					pieces.add(new Run(column, from, cut + offset - 1));
+				}
+				from = cut + offset + 1;
+				cut = rows.nextSetBit(cut + 1);
+			}
+			if (from == run.fromRow) {
+				continue;
+			}
+			if (from <= run.toRow) {
+				pieces.add(new Run(column, from, run.toRow));
+			}
+			runs.remove(i);
+			runs.addAll(i, pieces);
+			i += pieces.size() - 1;
+		}
+	}
+
+	/**
+	 * Drops the ranges without selected cells from the head of the list and
+	 * takes the first selected cell of the first range as the primary cell.
+	 */
+	private void updateFirst() {
+		firstColumn = -1;
+		firstRow = -1;
+		int dropped = 0;
+		for (final Run run : runs) {
+			if (run.column < columns.length && columns[run.column] != null) {
+				final int row = columns[run.column].nextSetBit(run.fromRow);
+				if (row >= 0 && row <= run.toRow) {
+					firstColumn = run.column;
+					firstRow = row;
+					break;
+				}
+			}
+			dropped++;
+		}
+		runs.subList(0, dropped).clear();
+	}
+}
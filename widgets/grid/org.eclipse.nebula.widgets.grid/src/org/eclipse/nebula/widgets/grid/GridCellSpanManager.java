@@ -14,28 +14,76 @@
 package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.swt.graphics.Rectangle;
 
+/**
+ * Tracks the cell spans while the rows of a {@link Grid} are painted. Spans are
+ * rectangles in (column position, row index) space.
+ * <p>
+ * Spans which have not been painted completely are indexed by column, so
+ * checking whether a cell is covered only looks at the spans of its column.
+ * All spans are additionally kept in the order they were added, which is
+ * ascending by row, to find the span covering a cell by binary search when
+ * hit-testing after the paint.
+ */
 class GridCellSpanManager {
-	List<Rectangle> listOfCellSpanRectangles = new ArrayList<>();
+	/**
+	 * Spans which still cover cells to be painted, per column position, in the
+	 * order they were added.
+	 */
+	private final List<List<Rectangle>> activeSpansByColumn = new ArrayList<>();
+
+	/**
+	 * All spans in the order they were added.
+	 */
+	private final List<Rectangle> spans = new ArrayList<>();
+
+	/**
+	 * Highest number of rows covered by a single span.
+	 */
+	private int maxSpanHeight;
+
+	/**
+	 * True as long as the spans have been added in ascending row order.
+	 */
+	private boolean sortedByRow = true;
+
 	Rectangle lastUsedCellSpanRectangle = null;
 
 	protected void addCellSpanInfo(int colIndex, int rowIndex, int colSpan,
 			int rowSpan) {
 		Rectangle rect = new Rectangle(colIndex, rowIndex, colSpan + 1,
 				rowSpan + 1);
-		this.listOfCellSpanRectangles.add(rect);
+		for (int column = colIndex; column < colIndex + rect.width; column++) {
+			while (activeSpansByColumn.size() <= column) {
+				activeSpansByColumn.add(null);
+			}
+			List<Rectangle> active = activeSpansByColumn.get(column);
+			if (active == null) {
+				active = new ArrayList<>(2);
+				activeSpansByColumn.set(column, active);
+			}
+			active.add(rect);
+		}
+		if (!spans.isEmpty() && spans.get(spans.size() - 1).y > rowIndex) {
+			sortedByRow = false;
+		}
+		spans.add(rect);
+		maxSpanHeight = Math.max(maxSpanHeight, rect.height);
 	}
 
 	private Rectangle findSpanRectangle(int columnIndex, int rowIndex) {
-		Iterator<Rectangle> iter = listOfCellSpanRectangles.iterator();
-		while (iter.hasNext()) {
-			Rectangle cellSpanRectangle = iter.next();
-			if (cellSpanRectangle.contains(columnIndex, rowIndex)) {
-				return cellSpanRectangle;
+		if (columnIndex < 0 || columnIndex >= activeSpansByColumn.size()) {
+			return null;
+		}
+		List<Rectangle> active = activeSpansByColumn.get(columnIndex);
+		if (active != null) {
+			for (Rectangle cellSpanRectangle : active) {
+				if (cellSpanRectangle.contains(columnIndex, rowIndex)) {
+					return cellSpanRectangle;
+				}
 			}
 		}
 		return null;
@@ -63,8 +111,66 @@ class GridCellSpanManager {
 					+ (rectangleToConsume.width - 1)
 					&& rowIndex >= (rectangleToConsume.y
 							+ rectangleToConsume.height - 1)) {
-				this.listOfCellSpanRectangles.remove(rectangleToConsume);
+				for (int column = rectangleToConsume.x; column < rectangleToConsume.x
+						+ rectangleToConsume.width; column++) {
+					activeSpansByColumn.get(column).remove(rectangleToConsume);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return a manager holding the spans added so far, to be used for
+	 *         {@link #getSpanAt(int, int)} after the paint
+	 */
+	GridCellSpanManager snapshot() {
+		GridCellSpanManager snapshot = new GridCellSpanManager();
+		snapshot.spans.addAll(spans);
+		snapshot.maxSpanHeight = maxSpanHeight;
+		snapshot.sortedByRow = sortedByRow;
+		return snapshot;
+	}
+
+	/**
+	 * Returns the span which covers the given cell, whether the cell has been
+	 * painted yet or not.
+	 *
+	 * @param columnIndex column position
+	 * @param rowIndex    row index
+	 * @return the span or <code>null</code> if the cell is not covered by a span
+	 */
+	Rectangle getSpanAt(int columnIndex, int rowIndex) {
+		int from = 0;
+		if (sortedByRow) {
+			// only spans starting at most maxSpanHeight - 1 rows above can cover the row
+			from = firstSpanFrom(rowIndex - maxSpanHeight + 1);
+		}
+		for (int i = from; i < spans.size(); i++) {
+			Rectangle span = spans.get(i);
+			if (sortedByRow && span.y > rowIndex) {
+				break;
+			}
+			if (span.contains(columnIndex, rowIndex)) {
+				return span;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the index of the first span starting at or after the given row
+	 */
+	private int firstSpanFrom(int rowIndex) {
+		int low = 0;
+		int high = spans.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (spans.get(mid).y < rowIndex) {
+				low = mid + 1;
+			} else {
+				high = mid;
 			}
 		}
+		return low;
 	}
 }
@@ -195,6 +195,12 @@ public class GridColumn extends Item {
 	private String headerTooltip = null;
 	int index;
 
+	/**
+	 * Position of this column in the display order of its grid, maintained by the
+	 * grid whenever the display order changes.
+	 */
+	int displayOrderIndex = -1;
+
 	private boolean fill;
 
 	/**
@@ -110,9 +110,9 @@ public class GridItem extends Item {
 	private GridItem parentItem;
 
 	/**
-	 * Is visible?
+	 * Number of all (direct and indirect) child items.
 	 */
-	private boolean visible = true;
+	private int descendantCount = 0;
 
 	/**
 	 * Row header text.
@@ -149,6 +149,11 @@ public class GridItem extends Item {
 
 	private final Object ROW_LOCK = new Object();
 
+	/**
+	 * Storage slot assigned by a {@link ColumnarDataVisualizer}, or -1.
+	 */
+	int dataSlot = -1;
+
 	/**
 	 * Creates a new instance of this class and places the item at the end of
 	 * the grid.
@@ -227,6 +232,22 @@ public class GridItem extends Item {
 		}
 	}
 
+	void setRow(int row) {
+		synchronized (ROW_LOCK) {
+			this.row = row;
+		}
+	}
+
+	/**
+	 * @return the cached grid row index, which is <code>NO_ROW</code> while the
+	 *         item is being created or after it was disposed
+	 */
+	int getCachedRowIndex() {
+		synchronized (ROW_LOCK) {
+			return row;
+		}
+	}
+
 	/**
 	 * Creates a new instance of this class as a child node of the given
 	 * GridItem and places the item at the end of the parents items.
@@ -287,10 +308,8 @@ public class GridItem extends Item {
 
 		parentItem.indexOf(this);
 
-		if (parent.isVisible() && parent.isExpanded()) {
-			setVisible(true);
-		} else {
-			setVisible(false);
+		for (GridItem ancestor = parentItem; ancestor != null; ancestor = ancestor.parentItem) {
+			ancestor.descendantCount++;
 		}
 	}
 
@@ -304,6 +323,10 @@ public class GridItem extends Item {
 
 			if (parentItem != null) {
 				parentItem.remove(this);
+				// the child items decrement the count for themselves when they are disposed below
+				for (GridItem ancestor = parentItem; ancestor != null; ancestor = ancestor.parentItem) {
+					ancestor.descendantCount--;
+				}
 			} else {
 				parent.removeRootItem(this);
 			}
@@ -1109,7 +1132,7 @@ public class GridItem extends Item {
 			setBackground(i, background);
 		}
 		defaultBackground = background;
-		parent.redraw();
+		parent.redrawRow(this);
 	}
 
 	/**
@@ -1140,7 +1163,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setBackground(this, index, background);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1159,7 +1182,7 @@ public class GridItem extends Item {
 	public void setChecked(boolean checked) {
 		checkWidget();
 		parent.getDataVisualizer().setChecked(this, 0, checked);
-		parent.redraw();
+		parent.redrawCell(this, 0);
 	}
 
 	/**
@@ -1180,7 +1203,7 @@ public class GridItem extends Item {
 	public void setChecked(int index, boolean checked) {
 		checkWidget();
 		parent.getDataVisualizer().setChecked(this, index, checked);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1225,6 +1248,9 @@ public class GridItem extends Item {
 	public void setRowSpan(int index, int span) {
 		checkWidget();
 		parent.getDataVisualizer().setRowSpan(this, index, span);
+		if (span > 0) {
+			parent.addRowSpanningItem(this);
+		}
 		parent.setHasSpanning(true);
 		parent.redraw();
 	}
@@ -1245,11 +1271,14 @@ public class GridItem extends Item {
 	 */
 	public void setExpanded(boolean expanded) {
 		checkWidget();
+		if (this.expanded != expanded && descendantCount > 0) {
+			parent.expandedChanging(this, expanded);
+		}
 		this.expanded = expanded;
 
 		// We must unselect any items that are becoming invisible
 		// and thus if we change the selection we have to fire a selection event
-		boolean unselected = doUnselect(expanded);
+		boolean unselected = !expanded && parent.deselectDescendants(this);
 
 		this.getParent().topIndex = NO_ROW;
 		this.getParent().bottomIndex = NO_ROW;
@@ -1269,78 +1298,6 @@ public class GridItem extends Item {
 		}
 	}
 
-	private boolean doUnselect(boolean expanded) {
-		boolean unselected = false;
-
-		if (hasChildren)
-			for (GridItem item : children) {
-				item.setVisible(expanded && visible);
-				if (!expanded) {
-					if (!getParent().getCellSelectionEnabled()) {
-						if (getParent().isSelected(item)) {
-							unselected = true;
-							getParent().deselect(item.getRowIndex());
-						}
-						if (deselectChildren(item)) {
-							unselected = true;
-						}
-					} else {
-						if (deselectCells(item)) {
-							unselected = true;
-						}
-					}
-				}
-			}
-		return unselected;
-	}
-
-	private boolean deselectCells(GridItem item) {
-		boolean flag = false;
-
-		int index = item.getRowIndex();
-
-		GridColumn[] columns = getParent().getColumns();
-
-		for (int i = 0; i < columns.length; i++) {
-			Point cell = new Point(columns[i].index, index);
-			if (getParent().isCellSelected(cell)) {
-				flag = true;
-				getParent().deselectCell(cell);
-			}
-		}
-
-		GridItem[] kids = item.getItems();
-		for (int i = 0; i < kids.length; i++) {
-			if (deselectCells(kids[i])) {
-				flag = true;
-			}
-		}
-
-		return flag;
-	}
-
-	/**
-	 * Deselects the given item's children recursively.
-	 *
-	 * @param item
-	 *            item to deselect children.
-	 * @return true if an item was deselected
-	 */
-	private boolean deselectChildren(GridItem item) {
-		boolean flag = false;
-		GridItem[] kids = item.getItems();
-		for (int i = 0; i < kids.length; i++) {
-			if (getParent().isSelected(kids[i])) {
-				flag = true;
-			}
-			getParent().deselect(kids[i].getRowIndex());
-			if (deselectChildren(kids[i])) {
-				flag = true;
-			}
-		}
-		return flag;
-	}
-
 	/**
 	 * Sets the font that the receiver will use to paint textual information for
 	 * this item to the font specified by the argument, or to the default font
@@ -1367,7 +1324,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		defaultFont = f;
-		parent.redraw();
+		parent.redrawRow(this);
 	}
 
 	/**
@@ -1398,7 +1355,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setFont(this, index, font);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1430,7 +1387,7 @@ public class GridItem extends Item {
 			setForeground(i, foreground);
 		}
 		defaultForeground = foreground;
-		parent.redraw();
+		parent.redrawRow(this);
 	}
 
 	/**
@@ -1461,7 +1418,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setForeground(this, index, foreground);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1482,7 +1439,7 @@ public class GridItem extends Item {
 	public void setGrayed(boolean grayed) {
 		checkWidget();
 		parent.getDataVisualizer().setGrayed(this, 0, grayed);
-		parent.redraw();
+		parent.redrawCell(this, 0);
 	}
 
 	/**
@@ -1505,7 +1462,7 @@ public class GridItem extends Item {
 	public void setGrayed(int index, boolean grayed) {
 		checkWidget();
 		parent.getDataVisualizer().setGrayed(this, index, grayed);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1527,6 +1484,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		height = newHeight;
 		parent.hasDifferingHeights = true;
+		parent.updateRowHeightIndex(this);
 		if (isVisible()) {
 			int myIndex = this.getRowIndex();
 			// note: cannot use Grid#isShown() here, because that returns false
@@ -1582,7 +1540,7 @@ public class GridItem extends Item {
 	@Override
 	public void setImage(Image image) {
 		parent.getDataVisualizer().setImage(this, 0, image);
-		parent.redraw();
+		parent.redrawCell(this, 0);
 	}
 
 	/**
@@ -1614,7 +1572,7 @@ public class GridItem extends Item {
 
 		parent.imageSetOnItem(index, this);
 
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1642,7 +1600,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 		parent.getDataVisualizer().setText(this, index, text);
-		parent.redraw();
+		parent.redrawCell(this, index);
 	}
 
 	/**
@@ -1651,7 +1609,7 @@ public class GridItem extends Item {
 	@Override
 	public void setText(String string) {
 		parent.getDataVisualizer().setText(this, 0, string);
-		parent.redraw();
+		parent.redrawCell(this, 0);
 	}
 
 	/**
@@ -1663,7 +1621,10 @@ public class GridItem extends Item {
 	private void remove(GridItem child) {
 		if (!hasChildren)
 			throw new IllegalArgumentException("GridItem has no children!");
-		children.remove(child);
+		// children are usually removed from the end, so search backwards
+		int index = children.lastIndexOf(child);
+		if (index != -1)
+			children.remove(index);
 		parent.getDataVisualizer().clearRow(child);
 		hasChildren = !children.isEmpty();
 	}
@@ -1676,7 +1637,22 @@ public class GridItem extends Item {
 	 * @return Returns the visible.
 	 */
 	public boolean isVisible() {
-		return visible;
+		for (GridItem ancestor = parentItem; ancestor != null; ancestor = ancestor.parentItem) {
+			if (!ancestor.expanded) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of all direct and indirect child items. They are
+	 * placed in the rows directly following the row of this item.
+	 *
+	 * @return the number of descendants
+	 */
+	int getDescendantCount() {
+		return descendantCount;
 	}
 
 	/**
@@ -1708,38 +1684,6 @@ public class GridItem extends Item {
 		this.hasChildren = hasChildren;
 	}
 
-	/**
-	 * Sets the visible state of this item. The visible state is determined by
-	 * the expansion state of all of its parent items. If all parent items are
-	 * expanded it is visible.
-	 *
-	 * @param visible
-	 *            The visible to set.
-	 */
-	void setVisible(boolean visible) {
-		if (this.visible == visible) {
-			return;
-		}
-
-		this.visible = visible;
-
-		if (visible) {
-			parent.updateVisibleItems(1);
-		} else {
-			parent.updateVisibleItems(NO_ROW);
-		}
-
-		if (hasChildren) {
-			boolean childrenVisible = visible;
-			if (visible) {
-				childrenVisible = expanded;
-			}
-			for (GridItem item : children) {
-				item.setVisible(childrenVisible);
-			}
-		}
-	}
-
 	/**
 	 * Returns the receiver's row header text. If the text is <code>null</code>
 	 * the row header will display the row number.
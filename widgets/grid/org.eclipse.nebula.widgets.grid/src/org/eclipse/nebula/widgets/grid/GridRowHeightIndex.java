@@ -0,0 +1,485 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Prefix sums over the rows of a {@link Grid}, used when rows do not share a
+ * common height (trees or rows with differing heights).
+ * <p>
+ * Each row has an <em>extent</em>, that is its height plus the one pixel row
+ * separator, and a <em>hidden count</em>, the number of its collapsed parent
+ * items. A row is visible if its hidden count is zero and its extent is
+ * positive. A segment tree holds for each range of rows the minimum hidden
+ * count together with the summed extents and the number of rows with a positive
+ * extent among the rows having that minimum, so converting between row
+ * indices, pixel offsets and visible row counts takes O(log n).
+ * <p>
+ * Since the descendants of an item are stored in consecutive rows, collapsing
+ * or expanding an item only changes the hidden count of one range of rows,
+ * which takes O(log n) regardless of the number of descendants. Single rows are
+ * updated in O(log n); appending and truncating rows is cheap, insertions and
+ * removals in the middle invalidate the index, which is then rebuilt in O(n)
+ * on next use.
+ */
+class GridRowHeightIndex {
+
+	/**
+	 * Hidden count of the unused leaves, which never become visible.
+	 */
+	private static final int UNUSED = Integer.MAX_VALUE / 2;
+
+	/**
+	 * Minimum hidden count per node, not including pending additions of the
+	 * ancestors.
+	 */
+	private int[] minHidden = new int[2];
+
+	/**
+	 * Summed extents of the rows having the minimum hidden count per node.
+	 */
+	private int[] extentSum = new int[2];
+
+	/**
+	 * Number of rows with a positive extent having the minimum hidden count per
+	 * node.
+	 */
+	private int[] countSum = new int[2];
+
+	/**
+	 * Hidden count to be added to all rows below an inner node.
+	 */
+	private int[] pending = new int[2];
+
+	/**
+	 * Number of leaves, a power of two.
+	 */
+	private int capacity = 1;
+	private int size;
+	private boolean valid;
+
+	/**
+	 * @return <code>true</code> if the index reflects the rows of the grid
+	 */
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Marks the index as stale, it must be rebuilt before it is used again.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Rebuilds the index from the given rows.
+	 *
+	 * @param items all rows of the grid in display order
+	 */
+	void rebuild(final List<GridItem> items) {
+		rebuild(items.size(), row -> extentOf(items.get(row)), row -> hiddenCountOf(items.get(row)));
+	}
+
+	/**
+	 * Rebuilds the index from the given row extents, all rows are expanded.
+	 *
+	 * @param count       number of rows
+	 * @param extentOfRow function returning the extent of the row with the given
+	 *                    index
+	 */
+	void rebuild(final int count, final IntUnaryOperator extentOfRow) {
+		rebuild(count, extentOfRow, row -> 0);
+	}
+
+	/**
+	 * Rebuilds the index from the given row extents and hidden counts.
+	 *
+	 * @param count       number of rows
+	 * @param extentOfRow function returning the extent of the row with the given
+	 *                    index
+	 * @param hiddenOfRow function returning the hidden count of the row with the
+	 *                    given index
+	 */
+	void rebuild(final int count, final IntUnaryOperator extentOfRow, final IntUnaryOperator hiddenOfRow) {
+		size = count;
+		allocate(Math.max(Integer.highestOneBit(Math.max(size - 1, 1)) << 1, 16));
+		for (int i = 0; i < capacity; i++) {
+			if (i < size) {
+				setLeaf(capacity + i, hiddenOfRow.applyAsInt(i), extentOfRow.applyAsInt(i));
+			} else {
+				setLeaf(capacity + i, UNUSED, 0);
+			}
+		}
+		for (int node = capacity - 1; node > 0; node--) {
+			pull(node);
+		}
+		valid = true;
+	}
+
+	private void allocate(final int leaves) {
+		capacity = leaves;
+		minHidden = new int[2 * capacity];
+		extentSum = new int[2 * capacity];
+		countSum = new int[2 * capacity];
+		pending = new int[2 * capacity];
+	}
+
+	/**
+	 * Updates the extent of a single row after its height changed.
+	 *
+	 * @param row  row index
+	 * @param item the row
+	 */
+	void update(final int row, final GridItem item) {
+		update(row, extentOf(item));
+	}
+
+	/**
+	 * Updates the extent of a single row.
+	 *
+	 * @param row    row index
+	 * @param extent new extent of the row
+	 */
+	void update(final int row, final int extent) {
+		if (!valid || row < 0 || row >= size) {
+			return;
+		}
+		final int leaf = pushTo(row);
+		setLeaf(leaf, minHidden[leaf], extent);
+		pullFrom(leaf);
+	}
+
+	/**
+	 * Hides the given rows by one more collapsed parent item.
+	 *
+	 * @param from index of the first row
+	 * @param to   index after the last row
+	 */
+	void hide(final int from, final int to) {
+		addHidden(from, to, 1);
+	}
+
+	/**
+	 * Reverts a previous {@link #hide(int, int)} of the given rows.
+	 *
+	 * @param from index of the first row
+	 * @param to   index after the last row
+	 */
+	void show(final int from, final int to) {
+		addHidden(from, to, -1);
+	}
+
+	private void addHidden(final int from, final int to, final int delta) {
+		if (valid && from < to && from >= 0 && to <= size) {
+			addHidden(1, 0, capacity, from, to, delta);
+		}
+	}
+
+	private void addHidden(final int node, final int lo, final int hi, final int from, final int to,
+			final int delta) {
+		if (from <= lo && hi <= to) {
+			minHidden[node] += delta;
+			if (node < capacity) {
+				pending[node] += delta;
+			}
+			return;
+		}
+		push(node);
+		final int mid = (lo + hi) >>> 1;
+		if (from < mid) {
+			addHidden(2 * node, lo, mid, from, to, delta);
+		}
+		if (to > mid) {
+			addHidden(2 * node + 1, mid, hi, from, to, delta);
+		}
+		pull(node);
+	}
+
+	/**
+	 * Adds a row after the last row.
+	 *
+	 * @param item the new last row
+	 */
+	void append(final GridItem item) {
+		append(extentOf(item), hiddenCountOf(item));
+	}
+
+	/**
+	 * Adds an expanded row after the last row.
+	 *
+	 * @param extent extent of the new row
+	 */
+	void append(final int extent) {
+		append(extent, 0);
+	}
+
+	private void append(final int extent, final int hidden) {
+		if (!valid) {
+			return;
+		}
+		if (size == capacity) {
+			grow();
+		}
+		final int leaf = pushTo(size);
+		setLeaf(leaf, hidden, extent);
+		pullFrom(leaf);
+		size++;
+	}
+
+	private void grow() {
+		for (int node = 1; node < capacity; node++) {
+			push(node);
+		}
+		final int[] oldHidden = minHidden;
+		final int[] oldExtents = extentSum;
+		final int oldCapacity = capacity;
+		allocate(capacity * 2);
+		for (int i = 0; i < capacity; i++) {
+			if (i < oldCapacity) {
+				setLeaf(capacity + i, oldHidden[oldCapacity + i], oldExtents[oldCapacity + i]);
+			} else {
+				setLeaf(capacity + i, UNUSED, 0);
+			}
+		}
+		for (int node = capacity - 1; node > 0; node--) {
+			pull(node);
+		}
+	}
+
+	/**
+	 * Removes all rows at and after the given index.
+	 *
+	 * @param count the new number of rows
+	 */
+	void truncate(final int count) {
+		if (valid && count >= 0 && count <= size) {
+			for (int row = count; row < size; row++) {
+				final int leaf = pushTo(row);
+				setLeaf(leaf, UNUSED, 0);
+				pullFrom(leaf);
+			}
+			size = count;
+		}
+	}
+
+	/**
+	 * @param row row index, may be equal to the number of rows
+	 * @return the pixel offset of the given row relative to the first row, that
+	 *         is the sum of the extents of all visible rows before it
+	 */
+	int getOffset(final int row) {
+		return prefixSum(extentSum, Math.min(row, size));
+	}
+
+	/**
+	 * @param row row index, may be equal to the number of rows
+	 * @return the number of visible rows before the given row
+	 */
+	int getVisibleCount(final int row) {
+		return prefixSum(countSum, Math.min(row, size));
+	}
+
+	/**
+	 * @return the number of visible rows
+	 */
+	int getVisibleCount() {
+		return visibleSum(countSum, 1, 0);
+	}
+
+	/**
+	 * @return the sum of the extents of all visible rows
+	 */
+	int getTotalOffset() {
+		return visibleSum(extentSum, 1, 0);
+	}
+
+	/**
+	 * @param offset pixel offset relative to the first row
+	 * @return the index of the visible row covering the given pixel offset or -1
+	 *         if the offset lies outside of all rows
+	 */
+	int getRowAtOffset(final int offset) {
+		if (offset < 0) {
+			return -1;
+		}
+		final int row = search(extentSum, offset);
+		return row < size ? row : -1;
+	}
+
+	/**
+	 * @param n zero-relative position among the visible rows
+	 * @return the index of the n-th visible row or -1 if there are not enough
+	 *         visible rows
+	 */
+	int getVisibleRow(final int n) {
+		if (n < 0) {
+			return -1;
+		}
+		final int row = search(countSum, n);
+		return row < size ? row : -1;
+	}
+
+	/**
+	 * @param row row index
+	 * @return the index of the last visible row before the given one or -1
+	 */
+	int getPreviousVisibleRow(final int row) {
+		return getVisibleRow(getVisibleCount(row) - 1);
+	}
+
+	/**
+	 * @param row row index
+	 * @return the index of the first visible row after the given one or -1
+	 */
+	int getNextVisibleRow(final int row) {
+		return getVisibleRow(getVisibleCount(row + 1));
+	}
+
+	/**
+	 * @param row row index
+	 * @return <code>true</code> if the given row is visible
+	 */
+	boolean isVisible(final int row) {
+		return row >= 0 && row < size && getVisibleCount(row + 1) > getVisibleCount(row);
+	}
+
+	/**
+	 * Returns the summed values of the visible rows below the given node, given
+	 * the hidden count added by its ancestors.
+	 */
+	private int visibleSum(final int[] values, final int node, final int hiddenOfAncestors) {
+		return minHidden[node] + hiddenOfAncestors == 0 ? values[node] : 0;
+	}
+
+	/**
+	 * Sums the values of the visible rows before the given row.
+	 */
+	private int prefixSum(final int[] values, final int row) {
+		int sum = 0;
+		int node = 1;
+		int lo = 0;
+		int hi = capacity;
+		int hidden = 0;
+		while (row > lo) {
+			if (row >= hi) {
+				return sum + visibleSum(values, node, hidden);
+			}
+			hidden += pending[node];
+			final int mid = (lo + hi) >>> 1;
+			if (row <= mid) {
+				node = 2 * node;
+				hi = mid;
+			} else {
+				sum += visibleSum(values, 2 * node, hidden);
+				node = 2 * node + 1;
+				lo = mid;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Finds the number of leading rows whose summed values do not exceed the
+	 * given target, which is the index of the row that covers the target.
+	 */
+	private int search(final int[] values, int target) {
+		if (target >= visibleSum(values, 1, 0)) {
+			return size;
+		}
+		int node = 1;
+		int hidden = 0;
+		while (node < capacity) {
+			hidden += pending[node];
+			final int left = visibleSum(values, 2 * node, hidden);
+			if (left <= target) {
+				target -= left;
+				node = 2 * node + 1;
+			} else {
+				node = 2 * node;
+			}
+		}
+		return node - capacity;
+	}
+
+	private void setLeaf(final int leaf, final int hidden, final int extent) {
+		minHidden[leaf] = hidden;
+		extentSum[leaf] = extent;
+		countSum[leaf] = extent > 0 ? 1 : 0;
+	}
+
+	/**
+	 * Applies the pending hidden counts on the path to the given row.
+	 *
+	 * @return the leaf of the row
+	 */
+	private int pushTo(final int row) {
+		final int leaf = capacity + row;
+		for (int shift = Integer.numberOfTrailingZeros(capacity); shift > 0; shift--) {
+			push(leaf >>> shift);
+		}
+		return leaf;
+	}
+
+	private void pullFrom(final int leaf) {
+		for (int node = leaf >>> 1; node > 0; node >>>= 1) {
+			pull(node);
+		}
+	}
+
+	private void push(final int node) {
+		final int delta = pending[node];
+		if (delta != 0) {
+			for (int child = 2 * node; child <= 2 * node + 1; child++) {
+				minHidden[child] += delta;
+				if (child < capacity) {
+					pending[child] += delta;
+				}
+			}
+			pending[node] = 0;
+		}
+	}
+
+	private void pull(final int node) {
+		final int left = 2 * node;
+		final int right = left + 1;
+		final int min = Math.min(minHidden[left], minHidden[right]);
+		minHidden[node] = min + pending[node];
+		extentSum[node] = (minHidden[left] == min ? extentSum[left] : 0)
+				+ (minHidden[right] == min ? extentSum[right] : 0);
+		countSum[node] = (minHidden[left] == min ? countSum[left] : 0)
+				+ (minHidden[right] == min ? countSum[right] : 0);
+	}
+
+	/**
+	 * @param item a row
+	 * @return the extent of the given row
+	 */
+	static int extentOf(final GridItem item) {
+		return item.getHeight() + 1;
+	}
+
+	/**
+	 * @param item a row
+	 * @return the number of collapsed parent items of the given row
+	 */
+	static int hiddenCountOf(final GridItem item) {
+		int count = 0;
+		for (GridItem parent = item.getParentItem(); parent != null; parent = parent.getParentItem()) {
+			if (!parent.isExpanded()) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Item list of a {@link Grid} in lazy virtual mode (see
+ * {@link Grid#setLazyItems(boolean)}).
+ * <p>
+ * The list only knows its size. {@link GridItem}s are created on demand by
+ * {@link #get(int)} and kept in a least recently used cache. When the cache
+ * grows beyond its capacity, the least recently used items which are not
+ * pinned by the grid (selected, focused, ...) are handed to an evictor, which
+ * disposes them again.
+ * <p>
+ * Items found pinned while evicting are parked outside of the least recently
+ * used order, so that a large selection is not scanned again on every access.
+ * Parked items are checked again once there have been as many cache misses as
+ * there are parked items, and those which are no longer pinned are evicted
+ * first.
+ * <p>
+ * Iterating over the list creates all items, use {@link #getLoadedItems()} to
+ * visit only the items which currently exist.
+ */
+class LazyGridItemList extends AbstractList<GridItem> {
+
+	private final IntFunction<GridItem> factory;
+	private final Predicate<GridItem> pinned;
+	private final Consumer<GridItem> evictor;
+
+	/**
+	 * Loaded items by row index.
+	 */
+	private Map<Integer, GridItem> loaded = new HashMap<>();
+
+	/**
+	 * Loaded items which are not parked, least recently used first.
+	 */
+	private LinkedHashSet<GridItem> recent = new LinkedHashSet<>();
+
+	/**
+	 * Loaded items which were pinned when they were last checked.
+	 */
+	private Set<GridItem> parked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private int missesSinceParkedCheck;
+
+	private int size;
+	private int capacity;
+
+	/**
+	 * @param factory  creates the item for a row index
+	 * @param pinned   returns true for items which must not be evicted
+	 * @param evictor  disposes an item which was evicted from the cache
+	 * @param capacity number of items kept in the cache
+	 */
+	LazyGridItemList(final IntFunction<GridItem> factory, final Predicate<GridItem> pinned,
+			final Consumer<GridItem> evictor, final int capacity) {
+		this.factory = factory;
+		this.pinned = pinned;
+		this.evictor = evictor;
+		this.capacity = capacity;
+	}
+
+	@Override
+	public GridItem get(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		GridItem item = loaded.get(index);
+		if (item == null) {
+			item = factory.apply(index);
+			loaded.put(index, item);
+			recent.add(item);
+			missesSinceParkedCheck++;
+			evict(item);
+		} else if (recent.remove(item)) {
+			recent.add(item);
+		}
+		return item;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void add(final int index, final GridItem item) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index < size) {
+			shift(index, 1);
+		}
+		size++;
+		loaded.put(index, item);
+		recent.add(item);
+		modCount++;
+		evict(item);
+	}
+
+	@Override
+	public GridItem remove(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		final GridItem item = loaded.remove(index);
+		forget(item);
+		size--;
+		if (index < size) {
+			shift(index + 1, -1);
+		}
+		modCount++;
+		return item;
+	}
+
+	@Override
+	public int indexOf(final Object o) {
+		if (o instanceof GridItem) {
+			final GridItem item = (GridItem) o;
+			final int row = item.getCachedRowIndex();
+			if (loaded.get(row) == item) {
+				return row;
+			}
+			for (final Map.Entry<Integer, GridItem> entry : loaded.entrySet()) {
+				if (entry.getValue() == item) {
+					return entry.getKey();
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) {
+		return indexOf(o);
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return indexOf(o) != -1;
+	}
+
+	@Override
+	public void clear() {
+		loaded = new HashMap<>();
+		recent = new LinkedHashSet<>();
+		parked = Collections.newSetFromMap(new IdentityHashMap<>());
+		missesSinceParkedCheck = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Changes the number of rows. Rows added at the end are not loaded, loaded
+	 * items of removed rows are returned so that they can be disposed.
+	 *
+	 * @param newSize new number of rows
+	 * @return the loaded items of removed rows
+	 */
+	Collection<GridItem> setSize(final int newSize) {
+		final Collection<GridItem> removed = new ArrayList<>();
+		if (newSize < size) {
+			final Iterator<Map.Entry<Integer, GridItem>> iterator = loaded.entrySet().iterator();
+			while (iterator.hasNext()) {
+				final Map.Entry<Integer, GridItem> entry = iterator.next();
+				if (entry.getKey() >= newSize) {
+					removed.add(entry.getValue());
+					forget(entry.getValue());
+					iterator.remove();
+				}
+			}
+		}
+		size = newSize;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * @param index row index
+	 * @return the item of the given row if it is loaded, otherwise
+	 *         <code>null</code>
+	 */
+	GridItem getLoaded(final int index) {
+		return loaded.get(index);
+	}
+
+	/**
+	 * @return a snapshot of all currently loaded items
+	 */
+	Collection<GridItem> getLoadedItems() {
+		return new ArrayList<>(loaded.values());
+	}
+
+	/**
+	 * @param capacity number of items kept in the cache
+	 */
+	void setCapacity(final int capacity) {
+		this.capacity = capacity;
+		evict(null);
+	}
+
+	/**
+	 * @return number of items kept in the cache
+	 */
+	int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Moves the loaded items at and after the given row by the given distance and
+	 * updates their row indices.
+	 */
+	private void shift(final int from, final int distance) {
+		final Map<Integer, GridItem> moved = new HashMap<>();
+		final Iterator<Map.Entry<Integer, GridItem>> iterator = loaded.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<Integer, GridItem> entry = iterator.next();
+			if (entry.getKey() >= from) {
+				moved.put(entry.getKey() + distance, entry.getValue());
+				iterator.remove();
+			}
+		}
+		for (final Map.Entry<Integer, GridItem> entry : moved.entrySet()) {
+			entry.getValue().setRow(entry.getKey());
+			loaded.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void forget(final GridItem item) {
+		if (item != null && !recent.remove(item)) {
+			parked.remove(item);
+		}
+	}
+
+	/**
+	 * Evicts least recently used items until the cache fits its capacity.
+	 *
+	 * @param keep item which has just been requested and must not be evicted, or
+	 *             <code>null</code>
+	 */
+	private void evict(final GridItem keep) {
+		if (loaded.size() <= capacity) {
+			return;
+		}
+		if (!parked.isEmpty() && missesSinceParkedCheck >= parked.size()) {
+			missesSinceParkedCheck = 0;
+			final Iterator<GridItem> iterator = parked.iterator();
+			while (iterator.hasNext()) {
+				final GridItem item = iterator.next();
+				if (!pinned.test(item)) {
+					iterator.remove();
+					if (loaded.size() > capacity) {
+						discard(item);
+					} else {
+						recent.add(item);
+					}
+				}
+			}
+		}
+		final Iterator<GridItem> iterator = recent.iterator();
+		while (loaded.size() > capacity && iterator.hasNext()) {
+			final GridItem item = iterator.next();
+			if (item == keep) {
+				continue;
+			}
+			iterator.remove();
+			if (pinned.test(item)) {
+				parked.add(item);
+			} else {
+				discard(item);
+			}
+		}
+	}
+
+	/**
+	 * Removes an item which is neither recent nor parked from the cache and
+	 * hands it to the evictor.
+	 */
+	private void discard(final GridItem item) {
+		final int row = item.getCachedRowIndex();
+		if (loaded.get(row) == item) {
+			loaded.remove(row);
+		} else {
+			loaded.values().remove(item);
+		}
+		evictor.accept(item);
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * List of the selected items of a {@link Grid}, in the order they were
+ * selected. The items are also counted in an identity map, so that
+ * {@link #contains(Object)} and removing an item which is not selected take
+ * constant time, which keeps deselecting single items of a large selection
+ * cheap. In lazy virtual mode the grid keeps its selection as row indices in
+ * a {@link SelectedGridRows} instead.
+ */
+class SelectedGridItemList extends AbstractList<GridItem> implements RandomAccess {
+
+	private final List<GridItem> items = new ArrayList<>();
+
+	/**
+	 * Number of occurrences of each item in {@link #items}.
+	 */
+	private final IdentityHashMap<GridItem, Integer> counts = new IdentityHashMap<>();
+
+	@Override
+	public GridItem get(final int index) {
+		return items.get(index);
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	public void add(final int index, final GridItem item) {
+		items.add(index, item);
+		count(item, 1);
+		modCount++;
+	}
+
+	@Override
+	public GridItem set(final int index, final GridItem item) {
+		final GridItem old = items.set(index, item);
+		count(old, -1);
+		count(item, 1);
+		return old;
+	}
+
+	@Override
+	public GridItem remove(final int index) {
+		final GridItem item = items.remove(index);
+		count(item, -1);
+		modCount++;
+		return item;
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		if (!contains(o)) {
+			return false;
+		}
+		items.remove(o);
+		count((GridItem) o, -1);
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean removeIf(final Predicate<? super GridItem> filter) {
+		final boolean removed = items.removeIf(item -> {
+			if (filter.test(item)) {
+				count(item, -1);
+				return true;
+			}
+			return false;
+		});
+		if (removed) {
+			modCount++;
+		}
+		return removed;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return counts.containsKey(o);
+	}
+
+	@Override
+	public int indexOf(final Object o) {
+		return contains(o) ? items.indexOf(o) : -1;
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) {
+		return contains(o) ? items.lastIndexOf(o) : -1;
+	}
+
+	@Override
+	public void clear() {
+		items.clear();
+		counts.clear();
+		modCount++;
+	}
+
+	private void count(final GridItem item, final int delta) {
+		counts.compute(item, (key, count) -> {
+			final int newCount = (count == null ? 0 : count.intValue()) + delta;
+			return newCount > 0 ? Integer.valueOf(newCount) : null;
+		});
+	}
+}
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * List of the selected items of a {@link Grid} in lazy virtual mode (see
+ * {@link Grid#setLazyItems(boolean)}). The selection is stored as a
+ * {@link BitSet} of row indices, so selecting a range of rows neither creates
+ * nor keeps its items, and a selected item may be evicted and created again
+ * without losing its selection.
+ * <p>
+ * The items are listed in row order. {@link #get(int)} and iterating create
+ * the items of the visited rows.
+ */
+class SelectedGridRows extends AbstractList<GridItem> {
+
+	private final LazyGridItemList items;
+
+	private final BitSet rows = new BitSet();
+
+	private int size;
+
+	/**
+	 * Position and row of the item last returned by {@link #get(int)}, so that
+	 * visiting the list by position does not count the rows from the start.
+	 */
+	private int cursorIndex = -1;
+	private int cursorRow = -1;
+
+	/**
+	 * @param items item list of the grid
+	 */
+	SelectedGridRows(final LazyGridItemList items) {
+		this.items = items;
+	}
+
+	@Override
+	public GridItem get(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		int i;
+		int row;
+		if (index == size - 1) {
+			i = index;
+			row = rows.length() - 1;
+		} else if (cursorIndex != -1 && cursorIndex <= index) {
+			i = cursorIndex;
+			row = cursorRow;
+		} else {
+			i = 0;
+			row = rows.nextSetBit(0);
+		}
+		for (; i < index; i++) {
+			row = rows.nextSetBit(row + 1);
+		}
+		cursorIndex = index;
+		cursorRow = row;
+		return items.get(row);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(final GridItem item) {
+		final int row = rowOf(item);
+		if (row == -1) {
+			throw new IllegalArgumentException("Item is not loaded");
+		}
+		addRow(row);
+		return true;
+	}
+
+	@Override
+	public void add(final int index, final GridItem item) {
+		add(item);
+	}
+
+	@Override
+	public GridItem remove(final int index) {
+		final GridItem item = get(index);
+		removeRow(cursorRow, false);
+		return item;
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		final int row = rowOf(o);
+		if (row == -1 || !rows.get(row)) {
+			return false;
+		}
+		removeRow(row, false);
+		return true;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		final int row = rowOf(o);
+		return row != -1 && rows.get(row);
+	}
+
+	@Override
+	public int indexOf(final Object o) {
+		final int row = rowOf(o);
+		if (row == -1 || !rows.get(row)) {
+			return -1;
+		}
+		return rows.get(0, row).cardinality();
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) {
+		return indexOf(o);
+	}
+
+	@Override
+	public void clear() {
+		if (size > 0) {
+			rows.clear();
+			size = 0;
+			modified();
+		}
+	}
+
+	@Override
+	public Iterator<GridItem> iterator() {
+		return new Iterator<GridItem>() {
+
+			private int next = rows.nextSetBit(0);
+			private int last = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next != -1;
+			}
+
+			@Override
+			public GridItem next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (next == -1) {
+					throw new NoSuchElementException();
+				}
+				last = next;
+				next = rows.nextSetBit(next + 1);
+				return items.get(last);
+			}
+
+			@Override
+			public void remove() {
+				if (last == -1) {
+					throw new IllegalStateException();
+				}
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				removeRow(last, false);
+				last = -1;
+				expectedModCount = modCount;
+			}
+		};
+	}
+
+	/**
+	 * @param row row index
+	 * @return <code>true</code> if the given row is selected
+	 */
+	boolean isRowSelected(final int row) {
+		return row >= 0 && rows.get(row);
+	}
+
+	/**
+	 * @return the lowest selected row index or -1 if no row is selected
+	 */
+	int getFirstRow() {
+		return rows.nextSetBit(0);
+	}
+
+	/**
+	 * @return the highest selected row index or -1 if no row is selected
+	 */
+	int getLastRow() {
+		return rows.length() - 1;
+	}
+
+	/**
+	 * @return the selected row indices in ascending order
+	 */
+	int[] getRows() {
+		return rows.stream().toArray();
+	}
+
+	/**
+	 * Selects the given row.
+	 *
+	 * @param row row index
+	 */
+	void addRow(final int row) {
+		if (!rows.get(row)) {
+			rows.set(row);
+			size++;
+			modified();
+		}
+	}
+
+	/**
+	 * Selects all rows between the given rows.
+	 *
+	 * @param fromRow first row index (inclusive)
+	 * @param toRow   last row index (inclusive)
+	 */
+	void addRange(final int fromRow, final int toRow) {
+		if (fromRow < 0 || toRow < fromRow) {
+			return;
+		}
+		rows.set(fromRow, toRow + 1);
+		size = rows.cardinality();
+		modified();
+	}
+
+	/**
+	 * Shifts the selection of the given row and all following rows one row down,
+	 * for a row which has been inserted.
+	 *
+	 * @param row row index of the inserted row
+	 */
+	void insertRow(final int row) {
+		if (rows.length() <= row) {
+			return;
+		}
+		final BitSet moved = rows.get(row, rows.length());
+		rows.clear(row, rows.length());
+		for (int i = moved.nextSetBit(0); i >= 0; i = moved.nextSetBit(i + 1)) {
+			rows.set(row + 1 + i);
+		}
+		modified();
+	}
+
+	/**
+	 * Deselects the given row and shifts the selection of all following rows one
+	 * row up, for a row which has been removed.
+	 *
+	 * @param row row index of the removed row
+	 * @return <code>true</code> if the row was selected
+	 */
+	boolean removeRow(final int row) {
+		final boolean selected = rows.get(row);
+		removeRow(row, true);
+		return selected;
+	}
+
+	/**
+	 * Deselects all rows at and after the given row.
+	 *
+	 * @param count number of rows which remain
+	 */
+	void truncate(final int count) {
+		if (rows.length() > count) {
+			rows.clear(count, rows.length());
+			size = rows.cardinality();
+			modified();
+		}
+	}
+
+	private void removeRow(final int row, final boolean shift) {
+		if (rows.get(row)) {
+			rows.clear(row);
+			size--;
+		}
+		if (shift && rows.length() > row) {
+			final BitSet moved = rows.get(row + 1, rows.length());
+			rows.clear(row, rows.length());
+			for (int i = moved.nextSetBit(0); i >= 0; i = moved.nextSetBit(i + 1)) {
+				rows.set(row + i);
+			}
+		}
+		modified();
+	}
+
+	private void modified() {
+		cursorIndex = -1;
+		cursorRow = -1;
+		modCount++;
+	}
+
+	/**
+	 * @return the row index of the given item if it is a loaded item of the grid,
+	 *         otherwise -1
+	 */
+	private int rowOf(final Object o) {
+		if (!(o instanceof GridItem)) {
+			return -1;
+		}
+		final GridItem item = (GridItem) o;
+		final int row = item.getCachedRowIndex();
+		return row >= 0 && items.getLoaded(row) == item ? row : -1;
+	}
+}
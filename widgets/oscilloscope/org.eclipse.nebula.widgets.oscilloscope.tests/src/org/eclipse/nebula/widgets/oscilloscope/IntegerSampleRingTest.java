@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.IntegerSampleRing;
+import org.junit.Test;
+
+public class IntegerSampleRingTest {
+
+	@Test
+	public void offerAndDrain() {
+		IntegerSampleRing ring = new IntegerSampleRing(4);
+		assertTrue(ring.offer(1));
+		assertEquals(2, ring.offer(new int[] { 9, 2, 3, 9 }, 1, 2));
+		assertEquals(3, ring.size());
+
+		List<Integer> drained = new ArrayList<>();
+		assertEquals(3, ring.drain(drained::add));
+		assertEquals(List.of(1, 2, 3), drained);
+		assertEquals(0, ring.size());
+	}
+
+	@Test
+	public void dropsWhenFull() {
+		IntegerSampleRing ring = new IntegerSampleRing(3);
+		assertEquals(3, ring.offer(new int[] { 1, 2, 3, 4, 5 }, 0, 5));
+		assertFalse(ring.offer(6));
+		assertEquals(3, ring.getDropped());
+
+		List<Integer> drained = new ArrayList<>();
+		ring.drain(drained::add);
+		assertEquals(List.of(1, 2, 3), drained);
+
+		// wraps around
+		assertEquals(2, ring.offer(new int[] { 7, 8 }, 0, 2));
+		drained.clear();
+		ring.drain(drained::add);
+		assertEquals(List.of(7, 8), drained);
+	}
+
+	@Test
+	public void replaceKeepsValuesAndDropped() {
+		IntegerSampleRing ring = new IntegerSampleRing(3);
+		ring.offer(new int[] { 1, 2, 3, 4 }, 0, 4);
+
+		IntegerSampleRing larger = new IntegerSampleRing(5, ring);
+		assertEquals(3, larger.size());
+		assertEquals(1, larger.getDropped());
+
+		IntegerSampleRing smaller = new IntegerSampleRing(2, larger);
+		// a producer which still offers to the replaced ring
+		assertTrue(larger.offer(5));
+		assertEquals(2, smaller.getDropped());
+
+		List<Integer> drained = new ArrayList<>();
+		larger.drain(drained::add);
+		smaller.drain(drained::add);
+		assertEquals(List.of(5, 1, 2), drained);
+	}
+
+	@Test
+	public void concurrentProducers() throws InterruptedException {
+		final int producers = 4;
+		final int chunks = 2000;
+		final IntegerSampleRing ring = new IntegerSampleRing(1024);
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			final int producer = p;
+			threads[p] = new Thread(() -> {
+				int[] chunk = new int[10];
+				for (int i = 0; i < chunks; i++) {
+					for (int j = 0; j < chunk.length; j++) {
+						// producer in the high bits, sequence in the low bits
+						chunk[j] = (producer << 24) | (i * chunk.length + j);
+					}
+					ring.offer(chunk, 0, chunk.length);
+				}
+			});
+			threads[p].start();
+		}
+
+		final int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		final long[] received = new long[1];
+		boolean running = true;
+		while (running) {
+			running = false;
+			for (Thread thread : threads) {
+				running |= thread.isAlive();
+			}
+			ring.drain(value -> {
+				int producer = value >>> 24;
+				int sequence = value & 0xffffff;
+				// values of one producer keep their order
+				assertTrue(sequence > last[producer]);
+				last[producer] = sequence;
+				received[0]++;
+			});
+		}
+
+		assertEquals(producers * chunks * 10L, received[0] + ring.getDropped());
+	}
+
+	@Test
+	public void concurrentSingleOffers() throws InterruptedException {
+		final int producers = 4;
+		final int count = 20000;
+		final IntegerSampleRing ring = new IntegerSampleRing(64);
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			final int producer = p;
+			threads[p] = new Thread(() -> {
+				for (int i = 0; i < count; i++) {
+					ring.offer((producer << 24) | i);
+				}
+			});
+			threads[p].start();
+		}
+
+		final int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		final long[] received = new long[1];
+		boolean running = true;
+		while (running) {
+			running = false;
+			for (Thread thread : threads) {
+				running |= thread.isAlive();
+			}
+			ring.drain(value -> {
+				int producer = value >>> 24;
+				int sequence = value & 0xffffff;
+				assertTrue(sequence > last[producer]);
+				last[producer] = sequence;
+				received[0]++;
+			});
+		}
+
+		assertEquals(producers * (long) count, received[0] + ring.getDropped());
+	}
+}
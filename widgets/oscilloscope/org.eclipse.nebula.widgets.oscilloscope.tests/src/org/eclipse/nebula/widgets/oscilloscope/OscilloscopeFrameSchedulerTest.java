@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.FrameStatistics;
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope;
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.OscilloscopeDispatcher;
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.OscilloscopeFrameScheduler;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OscilloscopeFrameSchedulerTest {
+
+	private static final int FRAME_INTERVAL = 10;
+	private static final int DELAY_LOOP = 30;
+
+	private Display display;
+	private Shell shell;
+	private Oscilloscope scope;
+	private OscilloscopeFrameScheduler scheduler;
+	private CountingDispatcher dispatcher;
+
+	/**
+	 * The time of the clock of the scheduler in milliseconds and how often the
+	 * scheduler read it.
+	 */
+	private long time;
+	private int clockReads;
+
+	private static class CountingDispatcher extends OscilloscopeDispatcher {
+
+		private int frames;
+
+		CountingDispatcher(Oscilloscope scope) {
+			super(scope);
+		}
+
+		@Override
+		public void init() {
+			// leave the attributes of the scope alone
+		}
+
+		@Override
+		public int getDelayLoop() {
+			return DELAY_LOOP;
+		}
+
+		@Override
+		public int getPulse() {
+			return NO_PULSE;
+		}
+
+		@Override
+		public void hookBeforeDraw(Oscilloscope oscilloscope, int counter) {
+			frames++;
+		}
+	}
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		shell.setSize(200, 200);
+		scope = new Oscilloscope(shell, SWT.NONE);
+		shell.open();
+
+		scheduler = new OscilloscopeFrameScheduler(display, FRAME_INTERVAL, () -> {
+			clockReads++;
+			return time * 1000000L;
+		});
+		dispatcher = new CountingDispatcher(scope);
+		dispatcher.dispatch(scheduler);
+	}
+
+	@After
+	public void tearDown() {
+		dispatcher.stop();
+		shell.dispose();
+	}
+
+	/**
+	 * Sets the clock and waits until the scheduler ticked.
+	 */
+	private void tickAt(long millis) {
+		time = millis;
+		final int reads = clockReads;
+		while (clockReads == reads) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+	}
+
+	@Test
+	public void framesAreDueAfterDelayLoop() {
+		assertEquals(1, scheduler.getDispatcherCount());
+
+		tickAt(0);
+		assertEquals(1, dispatcher.frames);
+
+		tickAt(10);
+		tickAt(20);
+		assertEquals(1, dispatcher.frames);
+
+		// due half a frame interval early
+		tickAt(25);
+		assertEquals(2, dispatcher.frames);
+
+		tickAt(55);
+		assertEquals(3, dispatcher.frames);
+
+		FrameStatistics statistics = dispatcher.getFrameStatistics();
+		assertEquals(3, statistics.getFrames());
+		assertEquals(0, statistics.getLateFrames());
+		assertEquals(0, statistics.getSkippedFrames());
+		// 25 ms, then 25 + 0.1 * (30 - 25) ms
+		assertEquals(1000 / 25.5, statistics.getFramesPerSecond(), 1e-9);
+	}
+
+	@Test
+	public void lateFramesAreCounted() {
+		tickAt(0);
+		tickAt(30);
+		tickAt(100);
+
+		FrameStatistics statistics = dispatcher.getFrameStatistics();
+		assertEquals(3, statistics.getFrames());
+		assertEquals(1, statistics.getLateFrames());
+
+		statistics.reset();
+		assertEquals(0, statistics.getFrames());
+		assertEquals(0, statistics.getFramesPerSecond(), 0);
+	}
+
+	@Test
+	public void hiddenScopeSkipsFrames() {
+		tickAt(0);
+		scope.setVisible(false);
+
+		tickAt(30);
+		assertEquals(1, dispatcher.frames);
+		assertEquals(1, dispatcher.getFrameStatistics().getSkippedFrames());
+
+		// the skipped frame restarts the delay loop
+		tickAt(40);
+		assertEquals(1, dispatcher.getFrameStatistics().getSkippedFrames());
+
+		scope.setVisible(true);
+		tickAt(200);
+		assertEquals(2, dispatcher.frames);
+
+		FrameStatistics statistics = dispatcher.getFrameStatistics();
+		assertEquals(2, statistics.getFrames());
+		assertEquals(1, statistics.getSkippedFrames());
+		// the first frame after skipped ones is not late
+		assertEquals(0, statistics.getLateFrames());
+	}
+
+	@Test
+	public void stoppedDispatcherIsRemoved() {
+		tickAt(0);
+		dispatcher.stop();
+
+		tickAt(30);
+		assertEquals(1, dispatcher.frames);
+		assertEquals(0, scheduler.getDispatcherCount());
+		assertFalse(dispatcher.isRunning());
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.SweepEnvelope;
+import org.junit.Test;
+
+public class SweepEnvelopeTest {
+
+	private static final int BASE = 100;
+
+	private static int[] polyline(SweepEnvelope sweep, int fromX, int toX) {
+		return sweep.getPolyline(fromX, toX, BASE, 1);
+	}
+
+	@Test
+	public void emptyEnvelope() {
+		SweepEnvelope sweep = new SweepEnvelope(10, 1);
+
+		assertEquals(-1, sweep.getCursor());
+		assertArrayEquals(new int[0], polyline(sweep, 0, 9));
+		assertTrue(sweep.fits(10, 1));
+		assertFalse(sweep.fits(10, 2));
+		assertFalse(sweep.fits(11, 1));
+	}
+
+	@Test
+	public void binBoundaries() {
+		SweepEnvelope sweep = new SweepEnvelope(10, 0.5);
+		sweep.add(0, 1);
+		sweep.add(0.25, 8);
+		sweep.add(0.3, -4);
+		sweep.add(0.49, 3);
+		// the first sample of the next column
+		sweep.add(0.5, 2);
+
+		assertEquals(1, sweep.getCursor());
+		// first, minimum, maximum and last value of column 0
+		assertArrayEquals(new int[] { 0, 99, 0, 104, 0, 92, 0, 97, 1, 98 }, polyline(sweep, 0, 9));
+		assertArrayEquals(new int[] { 1, 98 }, polyline(sweep, 1, 9));
+	}
+
+	@Test
+	public void singleValueColumnIsOnePoint() {
+		SweepEnvelope sweep = new SweepEnvelope(10, 1);
+		sweep.add(0, 5);
+		sweep.add(0.5, 5);
+
+		assertArrayEquals(new int[] { 0, 95 }, polyline(sweep, 0, 9));
+	}
+
+	@Test
+	public void emptyBinIsSkipped() {
+		SweepEnvelope sweep = new SweepEnvelope(10, 1);
+		sweep.add(0, 1);
+		sweep.add(2.5, 3);
+
+		assertEquals(2, sweep.getCursor());
+		assertArrayEquals(new int[] { 0, 99, 2, 97 }, polyline(sweep, 0, 9));
+		assertArrayEquals(new int[0], polyline(sweep, 1, 1));
+	}
+
+	@Test
+	public void sweepWrapsAndReplacesOlderColumns() {
+		SweepEnvelope sweep = new SweepEnvelope(4, 1);
+		for (int t = 0; t < 4; t++) {
+			sweep.add(t, t);
+		}
+		assertEquals(3, sweep.getCursor());
+
+		// column 5 of the second sweep, column 4 is passed without a sample
+		sweep.add(5, 10);
+
+		assertEquals(1, sweep.getCursor());
+		assertArrayEquals(new int[] { 1, 90 }, polyline(sweep, 0, 1));
+		assertArrayEquals(new int[] { 2, 98, 3, 97 }, polyline(sweep, 2, 3));
+	}
+
+	@Test
+	public void samplesOfReplacedColumnsAreIgnored() {
+		SweepEnvelope sweep = new SweepEnvelope(4, 1);
+		sweep.add(0, 0);
+		sweep.add(5, 10);
+
+		// column 1 was replaced by column 5
+		sweep.add(1.5, 50);
+		// column 2 still shows the sweep of the newest samples
+		sweep.add(2.5, 7);
+
+		assertEquals(1, sweep.getCursor());
+		assertArrayEquals(new int[] { 1, 90, 2, 93 }, polyline(sweep, 0, 3));
+	}
+
+	@Test
+	public void jumpOfMoreThanOneSweepClearsAllColumns() {
+		SweepEnvelope sweep = new SweepEnvelope(4, 1);
+		for (int t = 0; t < 4; t++) {
+			sweep.add(t, t);
+		}
+
+		sweep.add(102, 6);
+
+		assertEquals(2, sweep.getCursor());
+		assertArrayEquals(new int[] { 2, 94 }, polyline(sweep, 0, 3));
+	}
+
+	@Test
+	public void invalidSamplesAreIgnored() {
+		SweepEnvelope sweep = new SweepEnvelope(4, 1);
+		sweep.add(Double.NaN, 1);
+		sweep.add(1, Double.NaN);
+		assertEquals(-1, sweep.getCursor());
+
+		sweep.add(1, 1);
+		// before the first sample
+		sweep.add(0.5, 2);
+
+		assertEquals(0, sweep.getCursor());
+		assertArrayEquals(new int[] { 0, 99 }, polyline(sweep, 0, 3));
+	}
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.TimedSampleRing;
+import org.junit.Test;
+
+public class TimedSampleRingTest {
+
+	@Test
+	public void offerAndDrain() {
+		TimedSampleRing ring = new TimedSampleRing(3);
+		ring.offer(0.5, -1.25);
+		assertEquals(2, ring.offer(new double[] { 0, 1, 2, 3 }, new double[] { 0, 10, 20, 30 }, 1, 3));
+		assertFalse(ring.offer(4, 40));
+		assertEquals(2, ring.getDropped());
+
+		List<String> drained = new ArrayList<>();
+		assertEquals(3, ring.drain((time, value) -> drained.add(time + ":" + value)));
+		assertEquals(List.of("0.5:-1.25", "1.0:10.0", "2.0:20.0"), drained);
+		assertEquals(0, ring.size());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void arraysOfDifferentLength() {
+		new TimedSampleRing(3).offer(new double[2], new double[1], 0, 2);
+	}
+}
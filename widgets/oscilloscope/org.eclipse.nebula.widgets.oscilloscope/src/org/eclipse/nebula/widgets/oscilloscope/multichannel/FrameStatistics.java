@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+/**
+ * Frame time statistics of an {@link OscilloscopeDispatcher}. A frame is late
+ * if it started more than half a delay loop after it was due.
+ *
+ * @see OscilloscopeDispatcher#getFrameStatistics()
+ * @see OscilloscopeDispatcher#getDelayLoop()
+ */
+public class FrameStatistics {
+
+	/**
+	 * Weight of the newest interval in the average frame interval.
+	 */
+	private static final double SMOOTHING = 0.1;
+
+	private long lastFrameNanos = -1;
+	private double averageIntervalNanos;
+	private long frames;
+	private long lateFrames;
+	private long skippedFrames;
+
+	/**
+	 * Records a drawn frame.
+	 *
+	 * @param nanos
+	 *            the time of the frame, see {@link System#nanoTime()}
+	 * @param delayLoop
+	 *            the intended time between frames in milliseconds
+	 */
+	synchronized void frame(long nanos, int delayLoop) {
+		frames++;
+		if (lastFrameNanos >= 0) {
+			final long interval = nanos - lastFrameNanos;
+			if (interval > Math.max(1, delayLoop) * 1500000L) {
+				lateFrames++;
+			}
+			averageIntervalNanos = averageIntervalNanos == 0 ? interval
+					: averageIntervalNanos + SMOOTHING * (interval - averageIntervalNanos);
+		}
+		lastFrameNanos = nanos;
+	}
+
+	/**
+	 * Records a frame that was not drawn because the scope was not visible.
+	 * The next drawn frame does not count as late.
+	 */
+	synchronized void skipped() {
+		skippedFrames++;
+		lastFrameNanos = -1;
+	}
+
+	/**
+	 * @return the number of frames per second that were achieved recently, 0
+	 *         if less than two frames were drawn
+	 */
+	public synchronized double getFramesPerSecond() {
+		return averageIntervalNanos == 0 ? 0 : 1e9 / averageIntervalNanos;
+	}
+
+	/**
+	 * @return the number of drawn frames
+	 */
+	public synchronized long getFrames() {
+		return frames;
+	}
+
+	/**
+	 * @return the number of drawn frames which started more than half a delay
+	 *         loop too late
+	 */
+	public synchronized long getLateFrames() {
+		return lateFrames;
+	}
+
+	/**
+	 * @return the number of frames which were not drawn because the scope was
+	 *         hidden or outside of the visible area
+	 */
+	public synchronized long getSkippedFrames() {
+		return skippedFrames;
+	}
+
+	/**
+	 * Resets all statistics.
+	 */
+	public synchronized void reset() {
+		lastFrameNanos = -1;
+		averageIntervalNanos = 0;
+		frames = 0;
+		lateFrames = 0;
+		skippedFrames = 0;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A bounded ring of values which any number of threads can offer values to
+ * without locking, while a single thread drains them. The {@link Oscilloscope}
+ * uses one ring per channel, so producers never wait for the user interface
+ * thread, which drains the ring once per frame.
+ * <p/>
+ * If the ring is full, offered values are dropped and counted, see
+ * {@link #getDropped()}.
+ */
+public class IntegerSampleRing extends SampleRing {
+
+	private final int[] values;
+
+	/**
+	 * Creates a ring with the indicated capacity.
+	 *
+	 * @param capacity
+	 *            must be greater than 0
+	 */
+	public IntegerSampleRing(int capacity) {
+		super(capacity);
+		values = new int[capacity];
+	}
+
+	/**
+	 * Creates a ring with the indicated capacity which replaces the given
+	 * ring. The waiting values of the previous ring are moved into the new
+	 * one, values which do not fit are dropped. Both rings count their
+	 * dropped values together. Must be called by the thread draining the
+	 * previous ring.
+	 *
+	 * @param capacity
+	 *            must be greater than 0
+	 * @param previous
+	 *            the ring to replace
+	 */
+	public IntegerSampleRing(int capacity, IntegerSampleRing previous) {
+		super(capacity, previous);
+		values = new int[capacity];
+		previous.drain(this::offer);
+	}
+
+	/**
+	 * Offers a value. This method can be called from any thread.
+	 *
+	 * @param value
+	 * @return true if the value was accepted, false if it was dropped
+	 */
+	public boolean offer(int value) {
+		final long position = claim();
+		if (position < 0) {
+			return false;
+		}
+		values[slotOf(position)] = value;
+		publish(position);
+		return true;
+	}
+
+	/**
+	 * Offers a range of values, which keep their order. If the ring does not
+	 * have room for all of them, the first values are accepted and the others
+	 * are dropped. This method can be called from any thread.
+	 *
+	 * @param source
+	 *            the array holding the values
+	 * @param offset
+	 *            index of the first value in the array
+	 * @param length
+	 *            number of values
+	 * @return the number of accepted values
+	 */
+	public int offer(int[] source, int offset, int length) {
+		checkRange(source.length, offset, length);
+		return offerSlots(length, (slot, index) -> values[slot] = source[offset + index]);
+	}
+
+	/**
+	 * Passes the waiting values to the consumer in the order they were
+	 * offered. Values which are still being written by a producer and all
+	 * values after them are left for the next call. Only one thread at a time
+	 * may drain the ring.
+	 *
+	 * @param consumer
+	 * @return the number of drained values
+	 */
+	public int drain(IntConsumer consumer) {
+		return drainSlots(slot -> consumer.accept(values[slot]));
+	}
+}
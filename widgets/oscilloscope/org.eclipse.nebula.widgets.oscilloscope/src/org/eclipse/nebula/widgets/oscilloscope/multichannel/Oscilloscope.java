@@ -16,6 +16,7 @@ package org.eclipse.nebula.widgets.oscilloscope.multichannel;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -62,6 +63,29 @@ public class Oscilloscope extends Canvas {
 		private boolean fade;
 		private Color fg;
 		private int height = DEFAULT_HEIGHT;
+		/**
+		 * Receives the values from any thread. It is drained into the stack
+		 * once per frame.
+		 */
+		private volatile IntegerSampleRing input = new IntegerSampleRing(INPUT_CAPACITY_DEFAULT);
+		/**
+		 * The input replaced by the last {@link Oscilloscope#setInputCapacity},
+		 * drained before the input to catch the values of producers which
+		 * still offered to it.
+		 */
+		private IntegerSampleRing retiredInput;
+		/**
+		 * Receives the time stamped values in sweep mode, null otherwise.
+		 */
+		private volatile TimedSampleRing timedInput;
+		/**
+		 * The timed input replaced by the last
+		 * {@link Oscilloscope#setInputCapacity}, see {@link #retiredInput}.
+		 */
+		private TimedSampleRing retiredTimedInput;
+		private double timePerDivision;
+		private double valuePerDivision;
+		private SweepEnvelope sweep;
 		private int lineWidth = LINE_WIDTH_DEFAULT;
 		private int originalSteadyPosition = STEADYPOSITION_75PERCENT;
 
@@ -77,6 +101,11 @@ public class Oscilloscope extends Canvas {
 		private boolean percentage = false;
 		private int progression = PROGRESSION_DEFAULT;
 		private IntegerFiFoCircularStack stack;
+		/**
+		 * The number of values that were pushed out of the stack before they
+		 * were drawn.
+		 */
+		private volatile long overwritten;
 		private List<OscilloscopeStackAdapter> stackListeners;
 		private boolean steady;
 		/**
@@ -276,6 +305,14 @@ public class Oscilloscope extends Canvas {
 	public static final int[] HEARTBEAT = new int[] { 2, 10, 2, -16, 16, 44, 49, 44, 32, 14, -16, -38, -49, -47, -32, -10, 8, 6, 6, -2, 6,
 			4, 2, 0, 0, 6, 8, 6 };
 
+	/**
+	 * The default number of values per channel that can wait to be drawn
+	 * before new values are dropped.
+	 *
+	 * @see #setInputCapacity(int, int)
+	 */
+	public static final int INPUT_CAPACITY_DEFAULT = 16384;
+
 	/**
 	 * The default line width.
 	 */
@@ -456,6 +493,7 @@ public class Oscilloscope extends Canvas {
 
 			if (chan[c].stack.isEmpty() && chan[c].stackListeners != null) {
 				notifyListeners(c);
+				drainInput(c);
 			}
 
 			splitPos = chan[c].tailSize * 4;
@@ -551,6 +589,27 @@ public class Oscilloscope extends Canvas {
 		}
 	}
 
+	/**
+	 * Moves the values that were set since the last frame into the stack of
+	 * the channel. Values which do not fit are pushed out of the stack.
+	 */
+	private void drainInput(int channel) {
+		final Data data = chan[channel];
+		if (data.stack == null) {
+			return;
+		}
+		final IntConsumer push = value -> {
+			if (data.stack.isFull()) {
+				data.overwritten++;
+			}
+			data.stack.push(value);
+		};
+		if (data.retiredInput != null) {
+			data.retiredInput.drain(push);
+		}
+		data.input.drain(push);
+	}
+
 	/**
 	 * This method can be called outside of the UI thread.
 	 *
@@ -713,6 +772,13 @@ public class Oscilloscope extends Canvas {
 
 		for (int c = 0; c < chan.length; c++) {
 
+			drainInput(c);
+
+			if (chan[c].timedInput != null) {
+				paintSweep(e.gc, c);
+				continue;
+			}
+
 			if (chan[c].tailSize <= 0) {
 				chan[c].stack.popNegate(0);
 				continue;
@@ -761,6 +827,34 @@ public class Oscilloscope extends Canvas {
 		}
 	}
 
+	/**
+	 * Draws a channel in sweep mode.
+	 */
+	private void paintSweep(GC gc, int channel) {
+		final Data data = chan[channel];
+		if (data.width <= 0) {
+			return;
+		}
+		final double timePerPixel = data.timePerDivision / gridSquareSize;
+		if (data.sweep == null || !data.sweep.fits(data.width, timePerPixel)) {
+			data.sweep = new SweepEnvelope(data.width, timePerPixel);
+		}
+		final SweepEnvelope sweep = data.sweep;
+		if (data.retiredTimedInput != null) {
+			data.retiredTimedInput.drain(sweep::add);
+		}
+		data.timedInput.drain(sweep::add);
+
+		final double pixelsPerValue = gridSquareSize / data.valuePerDivision;
+		final int cursor = sweep.getCursor();
+		gc.setForeground(getForeground(channel));
+		gc.setAdvanced(true);
+		gc.setAntialias(data.antiAlias ? SWT.ON : SWT.OFF);
+		gc.setLineWidth(getLineWidth(channel));
+		gc.drawPolyline(sweep.getPolyline(0, cursor, getBase(channel), pixelsPerValue));
+		gc.drawPolyline(sweep.getPolyline(cursor + 1, sweep.getWidth() - 1, getBase(channel), pixelsPerValue));
+	}
+
 	/**
 	 * Removes a stack listener from the collection of stack listeners. This
 	 * method can be called outside of the UI thread.
@@ -1067,9 +1161,7 @@ public class Oscilloscope extends Canvas {
 	 */
 	public void setValue(int channel, int value) {
 		if (width > 0) {
-			if (chan[channel].stack.capacity > 0) {
-				chan[channel].stack.push(value);
-			}
+			chan[channel].input.offer(value);
 		}
 	}
 
@@ -1084,12 +1176,208 @@ public class Oscilloscope extends Canvas {
 	 *
 	 * @see #setValue(int, int)
 	 */
-	public synchronized void setValues(int channel, int[] values) {
+	public void setValues(int channel, int[] values) {
+		offer(channel, values, 0, values.length);
+	}
+
+	/**
+	 * Sets a range of values that will be drawn. See
+	 * {@link #setValue(int, int)} for details. The values are queued without
+	 * locking, so many threads can feed the channels at the same time. They
+	 * are moved into the stack once per frame. If more values are queued than
+	 * the input capacity of the channel, the remaining values are dropped.
+	 * <p/>
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @param values
+	 * @param offset
+	 *            index of the first value in the array
+	 * @param length
+	 *            number of values
+	 * @return the number of accepted values
+	 *
+	 * @see #setInputCapacity(int, int)
+	 * @see #getDroppedValues(int)
+	 */
+	public int offer(int channel, int[] values, int offset, int length) {
 		if (width > 0) {
-			for (int value : values) {
-				setValue(channel, value);
+			return chan[channel].input.offer(values, offset, length);
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the number of values of the channel that were never drawn,
+	 * because they were set faster than the scope draws them. These are the
+	 * values that did not fit into the input queue and the values that were
+	 * pushed out of the stack.
+	 * <p/>
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @return the number of dropped values
+	 * @see #setInputCapacity(int, int)
+	 */
+	public long getDroppedValues(int channel) {
+		final TimedSampleRing timedInput = chan[channel].timedInput;
+		return chan[channel].input.getDropped() + chan[channel].overwritten
+				+ (timedInput == null ? 0 : timedInput.getDropped());
+	}
+
+	/**
+	 * Sets the number of values that can wait to be moved into the stack of
+	 * the channel, the default is {@link #INPUT_CAPACITY_DEFAULT}. Values that
+	 * are set while the queue is full are dropped. The waiting values are kept
+	 * as far as they fit into the new capacity, and the count of dropped
+	 * values goes on. Values which are set while the capacity changes are
+	 * drawn as well.
+	 *
+	 * @param channel
+	 * @param capacity
+	 *            must be greater than 0
+	 * @see #getDroppedValues(int)
+	 */
+	public void setInputCapacity(int channel, int capacity) {
+		checkWidget();
+		final Data data = chan[channel];
+		if (data.retiredInput != null) {
+			data.retiredInput.drain(data.input::offer);
+		}
+		data.retiredInput = data.input;
+		data.input = new IntegerSampleRing(capacity, data.retiredInput);
+		if (data.timedInput != null) {
+			if (data.retiredTimedInput != null) {
+				data.retiredTimedInput.drain(data.timedInput::offer);
 			}
+			data.retiredTimedInput = data.timedInput;
+			data.timedInput = new TimedSampleRing(capacity, data.retiredTimedInput);
+		}
+	}
+
+	/**
+	 * @param channel
+	 * @return the number of values that can wait to be moved into the stack of
+	 *         the channel
+	 * @see #setInputCapacity(int, int)
+	 */
+	public int getInputCapacity(int channel) {
+		return chan[channel].input.getCapacity();
+	}
+
+	/**
+	 * Switches the channel to sweep mode or back. In sweep mode the channel
+	 * draws time stamped <code>double</code> values like a real oscilloscope:
+	 * the horizontal position is the time of the value and the line is
+	 * redrawn from the left once it reaches the right border. All values of a
+	 * pixel column are reduced to their first, last, minimum and maximum
+	 * value, so signals with many values per pixel are drawn without
+	 * decimating them first and peaks stay visible.
+	 * <p/>
+	 * A division is a square of the grid, see {@link #setGridSquareSize(int)}.
+	 * The values are drawn relative to the base of the channel, see
+	 * {@link #setBaseOffset(int, int)}. The int values, tail and fade settings
+	 * of the channel are ignored in sweep mode.
+	 *
+	 * @param channel
+	 * @param timePerDivision
+	 *            the time per division in the unit of the time stamps, zero
+	 *            or less to switch back to int values
+	 * @param valuePerDivision
+	 *            the value per division, must be greater than 0 in sweep mode
+	 *
+	 * @see #setValue(int, double, double)
+	 * @see #offer(int, double[], double[], int, int)
+	 */
+	public void setSweep(int channel, double timePerDivision, double valuePerDivision) {
+		checkWidget();
+		final Data data = chan[channel];
+		if (timePerDivision <= 0) {
+			data.timedInput = null;
+			data.retiredTimedInput = null;
+			data.sweep = null;
+			data.timePerDivision = 0;
+			return;
+		}
+		if (!(valuePerDivision > 0)) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		if (data.timePerDivision != timePerDivision || data.valuePerDivision != valuePerDivision) {
+			data.sweep = null;
+		}
+		data.timePerDivision = timePerDivision;
+		data.valuePerDivision = valuePerDivision;
+		if (data.timedInput == null) {
+			data.timedInput = new TimedSampleRing(data.input.getCapacity());
+		}
+	}
+
+	/**
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @return the time per division or 0 if the channel is not in sweep mode
+	 * @see #setSweep(int, double, double)
+	 */
+	public double getTimePerDivision(int channel) {
+		return chan[channel].timePerDivision;
+	}
+
+	/**
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @return the value per division
+	 * @see #setSweep(int, double, double)
+	 */
+	public double getValuePerDivision(int channel) {
+		return chan[channel].valuePerDivision;
+	}
+
+	/**
+	 * Sets a time stamped value of a channel in sweep mode. Values set while
+	 * the channel is not in sweep mode are ignored.
+	 * <p/>
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @param time
+	 *            the time stamp, in the unit of the time per division
+	 * @param value
+	 *
+	 * @see #setSweep(int, double, double)
+	 */
+	public void setValue(int channel, double time, double value) {
+		final TimedSampleRing timedInput = chan[channel].timedInput;
+		if (timedInput != null) {
+			timedInput.offer(time, value);
+		}
+	}
+
+	/**
+	 * Sets a range of time stamped values of a channel in sweep mode, see
+	 * {@link #setValue(int, double, double)}. Like
+	 * {@link #offer(int, int[], int, int)} the values are queued without
+	 * locking and values which do not fit in the input queue are dropped.
+	 * <p/>
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @param times
+	 *            the time stamps, in the unit of the time per division
+	 * @param values
+	 * @param offset
+	 *            index of the first value in the arrays
+	 * @param length
+	 *            number of values
+	 * @return the number of accepted values
+	 */
+	public int offer(int channel, double[] times, double[] values, int offset, int length) {
+		final TimedSampleRing timedInput = chan[channel].timedInput;
+		if (timedInput != null) {
+			return timedInput.offer(times, values, offset, length);
 		}
+		return 0;
 	}
 
 	private void tailSizeCheck(int size) {
@@ -173,6 +173,12 @@ public class OscilloscopeDispatcher {
 
 	private boolean isRunning;
 
+	private int pulseCounter;
+
+	private long lastFrameNanos = -1;
+
+	private final FrameStatistics frameStatistics = new FrameStatistics();
+
 	private Color activeForegroundColor = Display.getDefault().getSystemColor(SWT.COLOR_GREEN);
 	private Color inactiveForegroundColor = Display.getDefault().getSystemColor(SWT.COLOR_RED);
 	
@@ -239,28 +245,20 @@ public class OscilloscopeDispatcher {
 
 		isRunning = true;
 		stop = false;
+		pulseCounter = 0;
+		lastFrameNanos = -1;
 
 		init();
 
 		Runnable runnable = new Runnable() {
 
-			private int pulse;
-
 			public void run() {
 				if (getOscilloscope().isDisposed())
 					return;
 
-				hookBeforeDraw(getOscilloscope(), this.pulse);
+				beforeFrame();
 				getOscilloscope().redraw();
-				hookAfterDraw(getOscilloscope(), this.pulse);
-				this.pulse++;
-
-				if (this.pulse >= getPulse()) {
-					if (getPulse() != OscilloscopeDispatcher.NO_PULSE) {
-						hookPulse(getOscilloscope(), this.pulse);
-					}
-					this.pulse = 0;
-				}
+				afterFrame(System.nanoTime());
 
 				if (!stop)
 					if (getDelayLoop() > 1) {
@@ -278,6 +276,108 @@ public class OscilloscopeDispatcher {
 
 	}
 
+	/**
+	 * Gets the animation going like {@link #dispatch()}, but lets the shared
+	 * scheduler draw the frames instead of scheduling an own timer. Many
+	 * scopes can be animated with one scheduler, which only draws the scopes
+	 * that can be seen and batches their redraws. The scope is drawn every
+	 * {@link #getDelayLoop()} milliseconds, rounded to the frame interval of
+	 * the scheduler.
+	 * 
+	 * @param scheduler
+	 *            the scheduler, e.g.
+	 *            {@link OscilloscopeFrameScheduler#getDefault(Display)}
+	 * @see #stop()
+	 * @see #getFrameStatistics()
+	 */
+	public synchronized void dispatch(final OscilloscopeFrameScheduler scheduler) {
+
+		if (isRunning) {
+			throw new RuntimeException("Scope is already running. Call stop() to stop the scope.");
+		}
+
+		isRunning = true;
+		stop = false;
+		pulseCounter = 0;
+		lastFrameNanos = -1;
+
+		init();
+
+		getOscilloscope().getDisplay().syncExec(() -> scheduler.register(OscilloscopeDispatcher.this));
+	}
+
+	/**
+	 * Calls the hook before the scope is redrawn.
+	 */
+	void beforeFrame() {
+		hookBeforeDraw(getOscilloscope(), pulseCounter);
+	}
+
+	/**
+	 * Calls the hooks after the scope was redrawn, counts the pulse and
+	 * records the frame in the statistics.
+	 * 
+	 * @param nanos
+	 *            the time of the frame
+	 */
+	void afterFrame(long nanos) {
+		hookAfterDraw(getOscilloscope(), pulseCounter);
+		pulseCounter++;
+
+		if (pulseCounter >= getPulse()) {
+			if (getPulse() != OscilloscopeDispatcher.NO_PULSE) {
+				hookPulse(getOscilloscope(), pulseCounter);
+			}
+			pulseCounter = 0;
+		}
+		lastFrameNanos = nanos;
+		frameStatistics.frame(nanos, getDelayLoop());
+	}
+
+	/**
+	 * @param nanos
+	 *            the current time
+	 * @param tolerance
+	 *            how much earlier than the delay loop a frame may be drawn
+	 * @return true if the delay loop has passed since the last frame
+	 */
+	boolean isFrameDue(long nanos, long tolerance) {
+		return lastFrameNanos < 0 || nanos - lastFrameNanos >= getDelayLoop() * 1000000L - tolerance;
+	}
+
+	/**
+	 * Is called by the scheduler instead of drawing a frame while the scope
+	 * cannot be seen.
+	 * 
+	 * @param nanos
+	 *            the time of the frame
+	 */
+	void frameSkipped(long nanos) {
+		lastFrameNanos = nanos;
+		frameStatistics.skipped();
+	}
+
+	boolean isStopRequested() {
+		return stop;
+	}
+
+	/**
+	 * Is called by the scheduler after it removed this dispatcher.
+	 */
+	void stopped() {
+		isRunning = false;
+	}
+
+	/**
+	 * Returns the frame time statistics of this dispatcher, e.g. the achieved
+	 * frames per second and the number of late frames.
+	 * 
+	 * @return the statistics
+	 */
+	public FrameStatistics getFrameStatistics() {
+		return frameStatistics;
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		if ((this.backgroundImage != null) && !this.backgroundImage.isDisposed()) {
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Drives the animation of many {@link OscilloscopeDispatcher}s with one timer.
+ * <p/>
+ * Instead of each dispatcher scheduling its own timer, the scheduler ticks
+ * every {@link #getFrameInterval()} milliseconds and runs a frame for each
+ * registered dispatcher whose {@link OscilloscopeDispatcher#getDelayLoop()}
+ * has passed. The hooks of all due dispatchers are called before all of their
+ * scopes are redrawn, so the redraws of one tick are batched. Scopes which are
+ * hidden, minimized or scrolled out of view are skipped until they show
+ * again.
+ * <p/>
+ * Use {@link OscilloscopeDispatcher#dispatch(OscilloscopeFrameScheduler)} to
+ * register a dispatcher and {@link OscilloscopeDispatcher#stop()} to remove it.
+ * The scheduler must only be used in the user interface thread.
+ *
+ * @see OscilloscopeDispatcher#getFrameStatistics()
+ */
+public class OscilloscopeFrameScheduler {
+
+	/**
+	 * The default frame interval in milliseconds, about 60 frames per second.
+	 */
+	public static final int FRAME_INTERVAL_DEFAULT = 16;
+
+	private static final String DATA_KEY = OscilloscopeFrameScheduler.class.getName();
+
+	private final Display display;
+	private final int frameInterval;
+	private final LongSupplier clock;
+	private final List<OscilloscopeDispatcher> dispatchers = new ArrayList<>();
+	private final Runnable tick = this::tick;
+	private boolean scheduled;
+
+	/**
+	 * Returns the scheduler of the display with the default frame interval,
+	 * which is created when it is first requested.
+	 *
+	 * @param display
+	 * @return the default scheduler of the display
+	 */
+	public static OscilloscopeFrameScheduler getDefault(Display display) {
+		OscilloscopeFrameScheduler scheduler = (OscilloscopeFrameScheduler) display.getData(DATA_KEY);
+		if (scheduler == null) {
+			scheduler = new OscilloscopeFrameScheduler(display, FRAME_INTERVAL_DEFAULT);
+			display.setData(DATA_KEY, scheduler);
+		}
+		return scheduler;
+	}
+
+	/**
+	 * @param display
+	 * @param frameInterval
+	 *            the time between ticks in milliseconds, must be greater than
+	 *            0
+	 */
+	public OscilloscopeFrameScheduler(Display display, int frameInterval) {
+		this(display, frameInterval, System::nanoTime);
+	}
+
+	/**
+	 * Creates a scheduler which takes the time of the frames from the given
+	 * clock, e.g. to replay frame times in tests. The ticks are still timed by
+	 * the display.
+	 *
+	 * @param display
+	 * @param frameInterval
+	 *            the time between ticks in milliseconds, must be greater than
+	 *            0
+	 * @param clock
+	 *            the current time in nanoseconds, like
+	 *            {@link System#nanoTime()}
+	 */
+	public OscilloscopeFrameScheduler(Display display, int frameInterval, LongSupplier clock) {
+		if (frameInterval <= 0) {
+			throw new IllegalArgumentException("Frame interval must be > 0");
+		}
+		this.display = display;
+		this.frameInterval = frameInterval;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return the time between ticks in milliseconds
+	 */
+	public int getFrameInterval() {
+		return frameInterval;
+	}
+
+	/**
+	 * @return the number of registered dispatchers
+	 */
+	public int getDispatcherCount() {
+		return dispatchers.size();
+	}
+
+	void register(OscilloscopeDispatcher dispatcher) {
+		if (!dispatchers.contains(dispatcher)) {
+			dispatchers.add(dispatcher);
+		}
+		schedule(frameInterval);
+	}
+
+	private void schedule(int delay) {
+		if (!scheduled && !display.isDisposed()) {
+			scheduled = true;
+			display.timerExec(delay, tick);
+		}
+	}
+
+	private void tick() {
+		scheduled = false;
+		final long now = clock.getAsLong();
+		final long tolerance = frameInterval * 500000L;
+
+		final List<OscilloscopeDispatcher> due = new ArrayList<>();
+		for (int i = 0; i < dispatchers.size(); i++) {
+			final OscilloscopeDispatcher dispatcher = dispatchers.get(i);
+			final Oscilloscope scope = dispatcher.getOscilloscope();
+			if (dispatcher.isStopRequested() || scope == null || scope.isDisposed()) {
+				dispatchers.remove(i--);
+				dispatcher.stopped();
+				continue;
+			}
+			if (!dispatcher.isFrameDue(now, tolerance)) {
+				continue;
+			}
+			if (isShowing(scope)) {
+				due.add(dispatcher);
+			} else {
+				dispatcher.frameSkipped(now);
+			}
+		}
+
+		for (OscilloscopeDispatcher dispatcher : due) {
+			dispatcher.beforeFrame();
+		}
+		final Set<Oscilloscope> scopes = new LinkedHashSet<>();
+		for (OscilloscopeDispatcher dispatcher : due) {
+			final Oscilloscope scope = dispatcher.getOscilloscope();
+			if (!scope.isDisposed() && scopes.add(scope)) {
+				scope.redraw();
+			}
+		}
+		for (OscilloscopeDispatcher dispatcher : due) {
+			if (!dispatcher.getOscilloscope().isDisposed()) {
+				dispatcher.afterFrame(now);
+			}
+		}
+
+		if (!dispatchers.isEmpty()) {
+			// keep the cadence, the frame itself took some time
+			final long elapsed = (clock.getAsLong() - now) / 1000000L;
+			schedule((int) Math.max(1, frameInterval - elapsed));
+		}
+	}
+
+	/**
+	 * @return true if a part of the scope can be seen on the screen
+	 */
+	private static boolean isShowing(Oscilloscope scope) {
+		if (!scope.isVisible() || scope.getShell().getMinimized()) {
+			return false;
+		}
+		Rectangle visible = scope.getDisplay().map(scope, null, scope.getClientArea());
+		for (Composite parent = scope.getParent(); parent != null; parent = parent.getParent()) {
+			visible = visible.intersection(scope.getDisplay().map(parent, null, parent.getClientArea()));
+			if (visible.isEmpty()) {
+				return false;
+			}
+		}
+		return !visible.intersection(scope.getDisplay().getBounds()).isEmpty();
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Base of the bounded rings which any number of threads can offer samples to
+ * without locking, while a single thread drains them. Subclasses store the
+ * samples in arrays indexed by slot.
+ * <p/>
+ * If the ring is full, offered samples are dropped and counted.
+ */
+abstract class SampleRing {
+
+	/**
+	 * Writes the sample with the given index of the offered range into a slot.
+	 */
+	interface SlotWriter {
+		void write(int slot, int index);
+	}
+
+	private final int capacity;
+
+	/**
+	 * Holds <code>position + 1</code> for each slot once the sample of that
+	 * position has been written.
+	 */
+	private final AtomicLongArray published;
+
+	/**
+	 * The next position to be claimed by a producer.
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * The next position to be drained, only written by the consumer.
+	 */
+	private volatile long head;
+
+	/**
+	 * Counts the dropped samples, shared with the ring this one replaced.
+	 */
+	private final AtomicLong dropped;
+
+	SampleRing(int capacity) {
+		this(capacity, new AtomicLong());
+	}
+
+	/**
+	 * Creates a ring which continues the dropped count of the given ring.
+	 */
+	SampleRing(int capacity, SampleRing previous) {
+		this(capacity, previous.dropped);
+	}
+
+	private SampleRing(int capacity, AtomicLong dropped) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Ring capacity must be > 0");
+		}
+		this.capacity = capacity;
+		this.dropped = dropped;
+		published = new AtomicLongArray(capacity);
+	}
+
+	/**
+	 * @return the maximum number of samples that can wait to be drained
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * This method can be called from any thread.
+	 *
+	 * @return the number of samples waiting to be drained
+	 */
+	public int size() {
+		return (int) Math.min(capacity, Math.max(0, tail.get() - head));
+	}
+
+	/**
+	 * This method can be called from any thread.
+	 *
+	 * @return the number of samples that were dropped because the ring was
+	 *         full, including those dropped by the rings it replaced
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Claims the slot for a single sample. The caller writes the sample into
+	 * {@link #slotOf(long)} and then calls {@link #publish(long)}. If the ring
+	 * is full, the sample is counted as dropped.
+	 *
+	 * @return the claimed position, or -1 if the sample was dropped
+	 */
+	final long claim() {
+		long position;
+		do {
+			position = tail.get();
+			if (position - head >= capacity) {
+				dropped.incrementAndGet();
+				return -1;
+			}
+		} while (!tail.compareAndSet(position, position + 1));
+		return position;
+	}
+
+	/**
+	 * @return the slot holding the sample of the given position
+	 */
+	final int slotOf(long position) {
+		return (int) (position % capacity);
+	}
+
+	/**
+	 * Makes the written sample of a claimed position visible to the consumer.
+	 */
+	final void publish(long position) {
+		published.lazySet(slotOf(position), position + 1);
+	}
+
+	/**
+	 * Claims slots for the first samples of a range, lets the writer fill them
+	 * and publishes them. The other samples are dropped.
+	 *
+	 * @return the number of accepted samples
+	 */
+	final int offerSlots(int length, SlotWriter writer) {
+		long start;
+		int count;
+		do {
+			start = tail.get();
+			count = (int) Math.min(length, capacity - (start - head));
+			if (count <= 0) {
+				dropped.addAndGet(length);
+				return 0;
+			}
+		} while (!tail.compareAndSet(start, start + count));
+
+		for (int i = 0; i < count; i++) {
+			long position = start + i;
+			writer.write(slotOf(position), i);
+			publish(position);
+		}
+		if (count < length) {
+			dropped.addAndGet(length - count);
+		}
+		return count;
+	}
+
+	/**
+	 * Passes the slots of the waiting samples to the reader in the order they
+	 * were offered. Samples which are still being written and all samples after
+	 * them are left for the next call.
+	 *
+	 * @return the number of drained samples
+	 */
+	final int drainSlots(IntConsumer slotReader) {
+		final long start = head;
+		final long end = tail.get();
+		long position = start;
+		while (position < end) {
+			int slot = slotOf(position);
+			if (published.get(slot) != position + 1) {
+				break;
+			}
+			slotReader.accept(slot);
+			position++;
+		}
+		head = position;
+		return (int) (position - start);
+	}
+
+	static void checkRange(int arrayLength, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > arrayLength) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+import java.util.Arrays;
+
+/**
+ * The picture of a channel in sweep mode. Samples are placed in the pixel
+ * column of their time stamp and each column keeps the first, last, minimum
+ * and maximum value of its samples, so any number of samples per column is
+ * drawn with at most four points without losing peaks.
+ * <p/>
+ * The sweep runs from the left to the right and then starts over, replacing
+ * the columns of the previous sweep as it passes them.
+ */
+public class SweepEnvelope {
+
+	private final int width;
+	private final double timePerPixel;
+
+	/**
+	 * Per column, the first value is NaN if the column is empty.
+	 */
+	private final double[] first;
+	private final double[] last;
+	private final double[] min;
+	private final double[] max;
+
+	/**
+	 * Time stamp of column 0 of the first sweep.
+	 */
+	private double start = Double.NaN;
+
+	/**
+	 * The column of the newest sample, counted from column 0 of the first
+	 * sweep.
+	 */
+	private long cursor = -1;
+
+	/**
+	 * @param width
+	 *            the number of pixel columns
+	 * @param timePerPixel
+	 *            the time span of a column, in the unit of the time stamps
+	 */
+	public SweepEnvelope(int width, double timePerPixel) {
+		this.width = width;
+		this.timePerPixel = timePerPixel;
+		first = new double[width];
+		last = new double[width];
+		min = new double[width];
+		max = new double[width];
+		Arrays.fill(first, Double.NaN);
+	}
+
+	/**
+	 * @return true if the envelope was created for the given width and time per
+	 *         pixel
+	 */
+	public boolean fits(int width, double timePerPixel) {
+		return this.width == width && this.timePerPixel == timePerPixel;
+	}
+
+	/**
+	 * @return the number of pixel columns
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the column of the newest sample or -1 if there is none
+	 */
+	public int getCursor() {
+		return cursor < 0 ? -1 : (int) (cursor % width);
+	}
+
+	/**
+	 * Adds a sample. Samples which are older than the columns they would be
+	 * drawn in are ignored, as are NaN values.
+	 */
+	public void add(double time, double value) {
+		if (Double.isNaN(time) || Double.isNaN(value)) {
+			return;
+		}
+		if (Double.isNaN(start)) {
+			start = time;
+		}
+		final double offset = Math.floor((time - start) / timePerPixel);
+		if (offset < 0 || offset >= Long.MAX_VALUE / 2) {
+			return;
+		}
+		final long column = (long) offset;
+		if (column > cursor) {
+			advance(column);
+		} else if (column <= cursor - width) {
+			return;
+		}
+
+		final int x = (int) (column % width);
+		if (Double.isNaN(first[x])) {
+			first[x] = value;
+			last[x] = value;
+			min[x] = value;
+			max[x] = value;
+		} else {
+			last[x] = value;
+			if (value < min[x]) {
+				min[x] = value;
+			} else if (value > max[x]) {
+				max[x] = value;
+			}
+		}
+	}
+
+	/**
+	 * Moves the cursor and empties the columns it passes, they show an older
+	 * sweep.
+	 */
+	private void advance(long column) {
+		for (long c = Math.max(cursor + 1, column - width + 1); c <= column; c++) {
+			first[(int) (c % width)] = Double.NaN;
+		}
+		cursor = column;
+	}
+
+	/**
+	 * Creates the line through the given columns.
+	 *
+	 * @param fromX
+	 *            first column
+	 * @param toX
+	 *            last column
+	 * @param base
+	 *            the vertical position of the value 0
+	 * @param pixelsPerValue
+	 *            the vertical scale
+	 * @return the points of the line as x and y pairs
+	 */
+	public int[] getPolyline(int fromX, int toX, int base, double pixelsPerValue) {
+		int[] points = new int[Math.max(0, toX - fromX + 1) * 8];
+		int length = 0;
+		for (int x = Math.max(0, fromX); x <= toX && x < width; x++) {
+			if (Double.isNaN(first[x])) {
+				continue;
+			}
+			length = addPoint(points, length, x, toY(first[x], base, pixelsPerValue));
+			if (min[x] != max[x]) {
+				length = addPoint(points, length, x, toY(min[x], base, pixelsPerValue));
+				length = addPoint(points, length, x, toY(max[x], base, pixelsPerValue));
+				length = addPoint(points, length, x, toY(last[x], base, pixelsPerValue));
+			}
+		}
+		return Arrays.copyOf(points, length);
+	}
+
+	private static int addPoint(int[] points, int length, int x, int y) {
+		// skip points which do not change the line
+		if (length >= 2 && points[length - 2] == x && points[length - 1] == y) {
+			return length;
+		}
+		points[length] = x;
+		points[length + 1] = y;
+		return length + 2;
+	}
+
+	private static int toY(double value, int base, double pixelsPerValue) {
+		final double y = base - value * pixelsPerValue;
+		// keep the coordinates within the range that all platforms can draw
+		return (int) Math.round(Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, y)));
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.oscilloscope.multichannel;
+
+/**
+ * A bounded ring of samples with a time stamp and a <code>double</code>
+ * value, which any number of threads can offer samples to without locking,
+ * while a single thread drains them. It feeds a channel of the
+ * {@link Oscilloscope} in sweep mode.
+ * <p/>
+ * If the ring is full, offered samples are dropped and counted, see
+ * {@link #getDropped()}.
+ *
+ * @see Oscilloscope#setSweep(int, double, double)
+ */
+public class TimedSampleRing extends SampleRing {
+
+	/**
+	 * Receives the drained samples.
+	 */
+	public interface SampleConsumer {
+		void accept(double time, double value);
+	}
+
+	private final double[] times;
+	private final double[] values;
+
+	/**
+	 * Creates a ring with the indicated capacity.
+	 *
+	 * @param capacity
+	 *            must be greater than 0
+	 */
+	public TimedSampleRing(int capacity) {
+		super(capacity);
+		times = new double[capacity];
+		values = new double[capacity];
+	}
+
+	/**
+	 * Creates a ring with the indicated capacity which replaces the given
+	 * ring. The waiting samples of the previous ring are moved into the new
+	 * one, samples which do not fit are dropped. Both rings count their
+	 * dropped samples together. Must be called by the thread draining the
+	 * previous ring.
+	 *
+	 * @param capacity
+	 *            must be greater than 0
+	 * @param previous
+	 *            the ring to replace
+	 */
+	public TimedSampleRing(int capacity, TimedSampleRing previous) {
+		super(capacity, previous);
+		times = new double[capacity];
+		values = new double[capacity];
+		previous.drain(this::offer);
+	}
+
+	/**
+	 * Offers a sample. This method can be called from any thread.
+	 *
+	 * @param time
+	 * @param value
+	 * @return true if the sample was accepted, false if it was dropped
+	 */
+	public boolean offer(double time, double value) {
+		final long position = claim();
+		if (position < 0) {
+			return false;
+		}
+		final int slot = slotOf(position);
+		times[slot] = time;
+		values[slot] = value;
+		publish(position);
+		return true;
+	}
+
+	/**
+	 * Offers a range of samples, which keep their order. If the ring does not
+	 * have room for all of them, the first samples are accepted and the others
+	 * are dropped. This method can be called from any thread.
+	 *
+	 * @param sourceTimes
+	 *            the array holding the time stamps
+	 * @param sourceValues
+	 *            the array holding the values
+	 * @param offset
+	 *            index of the first sample in the arrays
+	 * @param length
+	 *            number of samples
+	 * @return the number of accepted samples
+	 */
+	public int offer(double[] sourceTimes, double[] sourceValues, int offset, int length) {
+		checkRange(sourceTimes.length, offset, length);
+		checkRange(sourceValues.length, offset, length);
+		return offerSlots(length, (slot, index) -> {
+			times[slot] = sourceTimes[offset + index];
+			values[slot] = sourceValues[offset + index];
+		});
+	}
+
+	/**
+	 * Passes the waiting samples to the consumer in the order they were
+	 * offered. Samples which are still being written by a producer and all
+	 * samples after them are left for the next call. Only one thread at a time
+	 * may drain the ring.
+	 *
+	 * @param consumer
+	 * @return the number of drained samples
+	 */
+	public int drain(SampleConsumer consumer) {
+		return drainSlots(slot -> consumer.accept(times[slot], values[slot]));
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.PredefinedColorMap;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Test;
+
+public class ColorMapTest {
+
+	private final ColorMap colorMap = new ColorMap(PredefinedColorMap.JET, true, true);
+
+	@Test
+	public void testDrawImage() {
+		double[] data = createData(600, 500, 0);
+		ImageData imageData = colorMap.drawImage(new DoubleArrayWrapper(data), 600, 500, 1, -1, null, false);
+
+		assertPixels(data, 600, 500, imageData, false);
+	}
+
+	@Test
+	public void testDrawShrunkImage() {
+		double[] data = createData(700, 300, 0);
+		ImageData imageData = new ImageData(250, 120, 24, colorMap.getPalette());
+		colorMap.drawImage(new DoubleArrayWrapper(data), 700, 300, 1, -1, imageData, true);
+
+		assertPixels(data, 700, 300, imageData, true);
+	}
+
+	@Test
+	public void testDrawShrunkWideImage() {
+		// 40000 << 16 does not fit into an int
+		double[] data = createData(40000, 3, 0);
+		ImageData imageData = new ImageData(400, 3, 24, colorMap.getPalette());
+		colorMap.drawImage(new DoubleArrayWrapper(data), 40000, 3, 1, -1, imageData, true);
+
+		assertPixels(data, 40000, 3, imageData, true);
+	}
+
+	@Test
+	public void testDrawRegion() {
+		double[] data = createData(400, 300, 0);
+		ImageData imageData = colorMap.drawImage(new DoubleArrayWrapper(data), 400, 300, 1, -1, null, false);
+		ImageData before = (ImageData) imageData.clone();
+
+		double[] changed = createData(400, 300, 1);
+		Rectangle region = new Rectangle(50, 20, 100, 30);
+		colorMap.drawImage(new DoubleArrayWrapper(changed), 400, 300, 1, -1, imageData, false, region);
+
+		for (int y = 0; y < 300; y++) {
+			for (int x = 0; x < 400; x++) {
+				if (region.contains(x, y))
+					assertEquals(expectedPixel(changed[y * 400 + x]), imageData.getPixel(x, y));
+				else
+					assertEquals(before.getPixel(x, y), imageData.getPixel(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testDrawShrunkRegion() {
+		double[] data = createData(800, 600, 0);
+		ImageData imageData = new ImageData(300, 200, 24, colorMap.getPalette());
+		colorMap.drawImage(new DoubleArrayWrapper(data), 800, 600, 1, -1, imageData, true);
+
+		double[] changed = createData(800, 600, 2);
+		for (int y = 0; y < 600; y++) {
+			for (int x = 0; x < 800; x++) {
+				if (!new Rectangle(100, 100, 200, 150).contains(x, y))
+					changed[y * 800 + x] = data[y * 800 + x];
+			}
+		}
+		colorMap.drawImage(new DoubleArrayWrapper(changed), 800, 600, 1, -1, imageData, true,
+				new Rectangle(100, 100, 200, 150));
+
+		assertPixels(changed, 800, 600, imageData, true);
+	}
+
+	private static double[] createData(int width, int height, int seed) {
+		double[] data = new double[width * height];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = Math.sin(i * 0.001 + seed);
+		}
+		return data;
+	}
+
+	private int expectedPixel(double value) {
+		int index = (int) ((value - -1) / 2 * 255);
+		index = Math.max(0, Math.min(255, index));
+		return colorMap.getPalette().getPixel(colorMap.getColorsLookupTable()[index]);
+	}
+
+	private void assertPixels(double[] data, int dataWidth, int dataHeight, ImageData imageData, boolean shrink) {
+		int xRatio = shrink ? (int) (((long) dataWidth << 16) / imageData.width) + 1 : 1 << 16;
+		int yRatio = shrink ? (int) (((long) dataHeight << 16) / imageData.height) + 1 : 1 << 16;
+		for (int y = 0; y < imageData.height; y++) {
+			for (int x = 0; x < imageData.width; x++) {
+				double value = data[(int) (((long) y * yRatio) >> 16) * dataWidth + (int) (((long) x * xRatio) >> 16)];
+				assertEquals(expectedPixel(value), imageData.getPixel(x, y));
+			}
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.visualization.widgets.datadefinition.MipMapPyramid.Reduction;
+import org.junit.Test;
+
+public class MipMapPyramidTest {
+
+	// 5 x 3 values
+	private final DoubleArrayWrapper data = new DoubleArrayWrapper(new double[] {
+			1, 2, 3, 4, 5,
+			6, 7, 8, 9, 10,
+			11, 12, 13, 14, 15 });
+
+	@Test
+	public void testLevelSizes() {
+		MipMapPyramid pyramid = new MipMapPyramid(data, 5, 3, Reduction.MEAN);
+
+		assertEquals(4, pyramid.getLevelCount());
+		assertEquals(3, pyramid.getLevelWidth(1));
+		assertEquals(2, pyramid.getLevelHeight(1));
+		assertEquals(1, pyramid.getLevelWidth(3));
+		assertEquals(1, pyramid.getLevelHeight(3));
+		assertSame(data, pyramid.getLevelData(0));
+	}
+
+	@Test
+	public void testMean() {
+		MipMapPyramid pyramid = new MipMapPyramid(data, 5, 3, Reduction.MEAN);
+		IPrimaryArrayWrapper level = pyramid.buildLevel(1);
+
+		assertEquals(6, level.getSize());
+		assertEquals(4, level.get(0), 0);
+		assertEquals(7.5, level.get(2), 0);
+		assertEquals(11.5, level.get(3), 0);
+		assertEquals(15, level.get(5), 0);
+		assertEquals(8, pyramid.buildLevel(3).get(0), 0);
+	}
+
+	@Test
+	public void testMax() {
+		MipMapPyramid pyramid = new MipMapPyramid(data, 5, 3, Reduction.MAX);
+		IPrimaryArrayWrapper level = pyramid.buildLevel(1);
+
+		assertEquals(7, level.get(0), 0);
+		assertEquals(10, level.get(2), 0);
+		assertEquals(14, level.get(4), 0);
+		assertEquals(15, pyramid.buildLevel(2).get(1), 0);
+	}
+
+	@Test
+	public void testUpdate() {
+		double[] values = new double[64 * 48];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i % 7;
+		MipMapPyramid pyramid = new MipMapPyramid(new DoubleArrayWrapper(values), 64, 48, Reduction.MEAN);
+		IPrimaryArrayWrapper level2 = pyramid.buildLevel(2);
+		IPrimaryArrayWrapper level4 = pyramid.buildLevel(4);
+
+		// change a region which is not aligned to the blocks
+		double[] changed = values.clone();
+		for (int y = 5; y < 13; y++)
+			for (int x = 30; x < 41; x++)
+				changed[y * 64 + x] = 100 + x - y;
+		assertTrue(pyramid.update(new DoubleArrayWrapper(changed), 30, 5, 11, 8));
+
+		MipMapPyramid rebuilt = new MipMapPyramid(new DoubleArrayWrapper(changed), 64, 48, Reduction.MEAN);
+		assertSameValues(rebuilt.buildLevel(2), level2);
+		assertSameValues(rebuilt.buildLevel(4), level4);
+		assertNull(pyramid.getLevelData(1));
+	}
+
+	@Test
+	public void testUpdateWhileBuilding() {
+		double[] values = new double[16];
+		MipMapPyramid pyramid = new MipMapPyramid(new DoubleArrayWrapper(values), 4, 4, Reduction.MAX);
+		Runnable[] build = new Runnable[1];
+		assertNull(pyramid.requestLevel(1, command -> build[0] = command, null));
+
+		values[15] = 9;
+		pyramid.update(new DoubleArrayWrapper(values), 3, 3, 1, 1);
+		build[0].run();
+
+		assertEquals(9, pyramid.getLevelData(1).get(3), 0);
+	}
+
+	@Test
+	public void testUpdateSmallerData() {
+		MipMapPyramid pyramid = new MipMapPyramid(data, 5, 3, Reduction.MEAN);
+
+		assertFalse(pyramid.update(new DoubleArrayWrapper(new double[14]), 0, 0, 1, 1));
+	}
+
+	@Test
+	public void testNaNIsSkipped() {
+		MipMapPyramid pyramid = new MipMapPyramid(
+				new DoubleArrayWrapper(new double[] { Double.NaN, 2, Double.NaN, Double.NaN }), 2, 2, Reduction.MEAN);
+
+		assertEquals(2, pyramid.buildLevel(1).get(0), 0);
+
+		pyramid = new MipMapPyramid(new DoubleArrayWrapper(new double[] { Double.NaN }), 1, 1, Reduction.MAX);
+		assertEquals(1, pyramid.getLevelCount());
+	}
+
+	@Test
+	public void testGetLevel() {
+		MipMapPyramid pyramid = new MipMapPyramid(new DoubleArrayWrapper(new double[4000 * 3000]), 4000, 3000,
+				Reduction.MEAN);
+
+		assertEquals(0, pyramid.getLevel(4000, 3000, 4000, 3000));
+		assertEquals(2, pyramid.getLevel(4000, 3000, 800, 600));
+		assertEquals(1, pyramid.getLevel(4000, 1300, 800, 600));
+		assertEquals(0, pyramid.getLevel(400, 300, 800, 600));
+	}
+
+	@Test
+	public void testRequestLevel() throws InterruptedException {
+		MipMapPyramid pyramid = new MipMapPyramid(data, 5, 3, Reduction.MAX);
+		CountDownLatch built = new CountDownLatch(1);
+
+		assertNull(pyramid.requestLevel(1, r -> new Thread(r).start(), built::countDown));
+		assertEquals(true, built.await(10, TimeUnit.SECONDS));
+		assertNotNull(pyramid.getLevelData(1));
+		assertSame(pyramid.getLevelData(1), pyramid.requestLevel(1, r -> {
+			throw new AssertionError();
+		}, null));
+
+		pyramid.dispose();
+		assertNull(pyramid.getLevelData(1));
+	}
+
+	private static void assertSameValues(IPrimaryArrayWrapper expected, IPrimaryArrayWrapper actual) {
+		assertEquals(expected.getSize(), actual.getSize());
+		for (int i = 0; i < expected.getSize(); i++)
+			assertEquals(expected.get(i), actual.get(i), 0);
+	}
+}
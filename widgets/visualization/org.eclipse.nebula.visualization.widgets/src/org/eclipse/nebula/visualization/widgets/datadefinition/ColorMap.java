@@ -12,10 +12,13 @@ package org.eclipse.nebula.visualization.widgets.datadefinition;
 
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**Color Map data type.
  * @author Xihui Chen
@@ -80,6 +83,11 @@ public class ColorMap {
 		
 	}
 	
+	/**
+	 * Number of pixels up to which a band of rows is colored by one task.
+	 */
+	private static final int BAND_PIXELS = 64 * 1024;
+
 	private LinkedHashMap<Double, RGB> colorMap;
 	private PredefinedColorMap predefinedColorMap;
 	private boolean autoScale;
@@ -194,10 +202,31 @@ public class ColorMap {
 	 */
 	public ImageData drawImage(IPrimaryArrayWrapper dataArray, 
 			int dataWidth, int dataHeight, double max, double min, ImageData imageData, boolean shrink){
+		return drawImage(dataArray, dataWidth, dataHeight, max, min, imageData, shrink, null);
+	}
+
+	/**Calculate the image data from source data based on the color map, only recoloring
+	 * the pixels which show the given region of the source data. Large areas are split
+	 * into bands of rows which are colored in parallel.
+	 * @param dataArray the source data
+	 * @param dataWidth number of columns of dataArray; This will be the width of image data.
+	 * @param dataHeight number of rows of dataArray; This will be the height of image data.
+	 * @param max the upper limit of the data in dataArray
+	 * @param min the lower limit of the data in dataArray
+	 * @param imageData the imageData to be filled. null if a new instance should be created.
+	 * @param shrink true if area size of image data is smaller than dataWidth*dataHeight.
+	 * @param region the changed region in data coordinates. null to recolor the whole image, which
+	 * is also done if a new image data is created.
+	 * @return the image data. null if dataWidth or dataHeight is less than 1.
+	 */
+	public ImageData drawImage(IPrimaryArrayWrapper dataArray, int dataWidth, int dataHeight,
+			double max, double min, ImageData imageData, boolean shrink, Rectangle region){
 		if(dataWidth <1 || dataHeight < 1 || dataWidth *dataHeight > dataArray.getSize()|| dataWidth * dataHeight < 0)
 			return null;
-		if(imageData == null)
-			imageData = new ImageData(dataWidth,dataHeight, 24, palette);	
+		if(imageData == null){
+			imageData = new ImageData(dataWidth,dataHeight, 24, palette);
+			region = null;
+		}
 		if(colorsLookupTable == null)
 			getColorsLookupTable();
 		
@@ -205,47 +234,100 @@ public class ColorMap {
 			min = colorMapMin;
 			max = colorMapMax;
 		}
-			if(shrink){				
-				int height = imageData.height;
-				int width = imageData.width;
-				    // EDIT: added +1 to account for an early rounding problem
-				    int x_ratio = (int)((dataWidth<<16)/width) +1;
-				    int y_ratio = (int)((dataHeight<<16)/height) +1;
-				    //int x_ratio = (int)((w1<<16)/w2) ;
-				    //int y_ratio = (int)((h1<<16)/h2) ;
-				    int x2, y2 ;
-				    for (int i=0;i<height;i++) {
-				        for (int j=0;j<width;j++) {
-				            x2 = ((j*x_ratio)>>16) ;
-				            y2 = ((i*y_ratio)>>16) ;
-				            int index = (int) ((dataArray.get(y2 * dataWidth + x2) - min) / (max - min) * 255);
-							if (index < 0)
-								index = 0;
-							else if (index > 255)
-								index = 255;
-							int pixel = pixelLookupTable[index];
-				            imageData.setPixel(j,i,pixel); ;
-				        }                
-				    }  
-				
-					
-			}else{
-				for (int y = 0; y < dataHeight; y++) {
-					for (int x = 0; x < dataWidth; x++) {
-						// the index of the value in the color table array
-						int index = (int) ((dataArray.get(y * dataWidth + x) - min) / (max - min) * 255);
-						if (index < 0)
-							index = 0;
-						else if (index > 255)
-							index = 255;
-						int pixel = pixelLookupTable[index];
-						imageData.setPixel(x, y, pixel);
-					}
+
+		final int width = shrink ? imageData.width : dataWidth;
+		final int height = shrink ? imageData.height : dataHeight;
+		// EDIT: added +1 to account for an early rounding problem
+		final int xRatio = shrink ? (int)(((long) dataWidth<<16)/width) +1 : 1 << 16;
+		final int yRatio = shrink ? (int)(((long) dataHeight<<16)/height) +1 : 1 << 16;
+
+		// the image pixels which show the region
+		int left = 0, top = 0, right = width, bottom = height;
+		if(region != null){
+			left = Math.max(left, firstPixelOf(region.x, xRatio));
+			top = Math.max(top, firstPixelOf(region.y, yRatio));
+			right = Math.min(right, firstPixelOf(region.x + region.width, xRatio));
+			bottom = Math.min(bottom, firstPixelOf(region.y + region.height, yRatio));
+		}
+		if(left >= right || top >= bottom)
+			return imageData;
+
+		final RowBandTask task = new RowBandTask(dataArray, dataWidth, min, max - min, imageData,
+				xRatio, yRatio, left, right, top, bottom);
+		if((long)(right - left) * (bottom - top) < 2 * BAND_PIXELS)
+			task.compute();
+		else
+			ForkJoinPool.commonPool().invoke(task);
+		return imageData;
+	}
+
+	/**
+	 * @return the first image pixel which shows the given data index or a larger one
+	 */
+	private static int firstPixelOf(int dataIndex, int ratio){
+		return (int) ((((long) dataIndex << 16) + ratio - 1) / ratio);
+	}
+
+	/**
+	 * Colors a band of image rows, splitting it while it has more than {@link #BAND_PIXELS} pixels.
+	 */
+	private final class RowBandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IPrimaryArrayWrapper dataArray;
+		private final int dataWidth;
+		private final double min, range;
+		private final ImageData imageData;
+		private final int xRatio, yRatio;
+		private final int left, right, top, bottom;
+
+		RowBandTask(IPrimaryArrayWrapper dataArray, int dataWidth, double min, double range,
+				ImageData imageData, int xRatio, int yRatio, int left, int right, int top, int bottom) {
+			this.dataArray = dataArray;
+			this.dataWidth = dataWidth;
+			this.min = min;
+			this.range = range;
+			this.imageData = imageData;
+			this.xRatio = xRatio;
+			this.yRatio = yRatio;
+			this.left = left;
+			this.right = right;
+			this.top = top;
+			this.bottom = bottom;
+		}
+
+		@Override
+		protected void compute() {
+			if(bottom - top > 1 && (long)(right - left) * (bottom - top) > BAND_PIXELS){
+				final int middle = (top + bottom) >>> 1;
+				invokeAll(new RowBandTask(dataArray, dataWidth, min, range, imageData, xRatio, yRatio, left, right, top, middle),
+						new RowBandTask(dataArray, dataWidth, min, range, imageData, xRatio, yRatio, left, right, middle, bottom));
+				return;
+			}
+			final int[] pixels = pixelLookupTable;
+			// 24 bit image data is written directly, in the byte order of ImageData.setPixel
+			final boolean direct = imageData.depth == 24;
+			final byte[] data = imageData.data;
+			for (int i = top; i < bottom; i++) {
+				final int rowStart = (int) (((long) i * yRatio) >> 16) * dataWidth;
+				int offset = i * imageData.bytesPerLine + 3 * left;
+				for (int j = left; j < right; j++) {
+					// the index of the value in the color table array
+					int index = (int) ((dataArray.get(rowStart + (int) (((long) j * xRatio) >> 16)) - min) / range * 255);
+					if (index < 0)
+						index = 0;
+					else if (index > 255)
+						index = 255;
+					final int pixel = pixels[index];
+					if(direct){
+						data[offset++] = (byte) (pixel >> 16);
+						data[offset++] = (byte) (pixel >> 8);
+						data[offset++] = (byte) pixel;
+					}else
+						imageData.setPixel(j, i, pixel);
 				}
 			}
-				
-			
-			return imageData;
+		}
 	}
 		
 	/**Calculate the image data from source data based on the color map.
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * A mip-map style pyramid over a 2D data array, which is stored row by row in
+ * an {@link IPrimaryArrayWrapper}. Level <code>n</code> reduces each block of
+ * <code>2^n * 2^n</code> values to one value, so a zoomed out view can be
+ * drawn from a level which has about as many values as there are pixels
+ * instead of shrinking the full resolution data.
+ * <p>
+ * Levels are built on demand, each directly from the data, so only the levels
+ * which are actually displayed take memory. A level with <code>n &gt; 0</code>
+ * takes at most a quarter of the data size in floats. If a region of the data
+ * changes, {@link #update(IPrimaryArrayWrapper, int, int, int, int)} reduces
+ * the blocks of the built levels which cover it again.
+ */
+public class MipMapPyramid {
+
+	/**
+	 * How a block of values is reduced to one value of a level.
+	 */
+	public enum Reduction {
+		/**
+		 * The mean of the values, which keeps the overall brightness.
+		 */
+		MEAN,
+		/**
+		 * The maximum of the values, which keeps single hot pixels visible.
+		 */
+		MAX
+	}
+
+	private volatile IPrimaryArrayWrapper data;
+	private final int width;
+	private final int height;
+	private final Reduction reduction;
+
+	private final IPrimaryArrayWrapper[] levels;
+	private final float[][] levelValues;
+	private final boolean[] pending;
+
+	/**
+	 * Region of the data which changed while a level was being built, as
+	 * <code>{x0, y0, x1, y1}</code> with exclusive ends.
+	 */
+	private final int[][] staleRegions;
+	private volatile boolean disposed;
+
+	/**
+	 * @param data
+	 *            the data, row by row
+	 * @param width
+	 *            number of values per row
+	 * @param height
+	 *            number of rows
+	 * @param reduction
+	 *            how blocks are reduced
+	 */
+	public MipMapPyramid(IPrimaryArrayWrapper data, int width, int height, Reduction reduction) {
+		if (width <= 0 || height <= 0 || (long) width * height > data.getSize())
+			throw new IllegalArgumentException();
+		this.data = data;
+		this.width = width;
+		this.height = height;
+		this.reduction = reduction;
+		int count = 1;
+		while (((width - 1) >> (count - 1)) > 0 || ((height - 1) >> (count - 1)) > 0)
+			count++;
+		levels = new IPrimaryArrayWrapper[count];
+		levelValues = new float[count][];
+		pending = new boolean[count];
+		staleRegions = new int[count][];
+		levels[0] = data;
+	}
+
+	/**
+	 * @return the number of levels including level 0, the data itself. The
+	 *         last level has a single value.
+	 */
+	public int getLevelCount() {
+		return levels.length;
+	}
+
+	/**
+	 * @return the reduction of this pyramid
+	 */
+	public Reduction getReduction() {
+		return reduction;
+	}
+
+	/**
+	 * @param level
+	 *            the level
+	 * @return number of values per row of the level
+	 */
+	public int getLevelWidth(int level) {
+		return (int) (((long) width + (1L << level) - 1) >> level);
+	}
+
+	/**
+	 * @param level
+	 *            the level
+	 * @return number of rows of the level
+	 */
+	public int getLevelHeight(int level) {
+		return (int) (((long) height + (1L << level) - 1) >> level);
+	}
+
+	/**
+	 * Finds the coarsest level which still has at least one value per pixel
+	 * when a region of the data is shown in a view of the given size.
+	 *
+	 * @param regionWidth
+	 *            width of the shown region in data values
+	 * @param regionHeight
+	 *            height of the shown region in data values
+	 * @param viewWidth
+	 *            width of the view in pixels
+	 * @param viewHeight
+	 *            height of the view in pixels
+	 * @return the level
+	 */
+	public int getLevel(int regionWidth, int regionHeight, int viewWidth, int viewHeight) {
+		int level = 0;
+		while (level + 1 < levels.length && (regionWidth >> (level + 1)) >= Math.max(1, viewWidth)
+				&& (regionHeight >> (level + 1)) >= Math.max(1, viewHeight))
+			level++;
+		return level;
+	}
+
+	/**
+	 * @param level
+	 *            the level
+	 * @return the values of the level row by row, or <code>null</code> if it
+	 *         has not been built yet
+	 */
+	public synchronized IPrimaryArrayWrapper getLevelData(int level) {
+		return levels[level];
+	}
+
+	/**
+	 * Returns the given level, or starts building it with the given executor
+	 * if it has not been built yet.
+	 *
+	 * @param level
+	 *            the level
+	 * @param executor
+	 *            the executor building the level
+	 * @param onBuilt
+	 *            called by the executor after the level was built, may be
+	 *            <code>null</code>
+	 * @return the values of the level or <code>null</code> if it is being
+	 *         built
+	 */
+	public synchronized IPrimaryArrayWrapper requestLevel(final int level, Executor executor,
+			final Runnable onBuilt) {
+		if (levels[level] != null || pending[level] || disposed)
+			return levels[level];
+		pending[level] = true;
+		executor.execute(new Runnable() {
+			public void run() {
+				if (buildLevel(level) != null && onBuilt != null)
+					onBuilt.run();
+			}
+		});
+		return null;
+	}
+
+	/**
+	 * Builds the given level in the calling thread, unless it has already been
+	 * built.
+	 *
+	 * @param level
+	 *            the level
+	 * @return the values of the level or <code>null</code> if the pyramid was
+	 *         disposed while building it
+	 */
+	public IPrimaryArrayWrapper buildLevel(int level) {
+		IPrimaryArrayWrapper result = getLevelData(level);
+		if (result != null)
+			return result;
+		final float[] values = new float[getLevelWidth(level) * getLevelHeight(level)];
+		final boolean built = reduce(level, values, 0, 0, width, height);
+		synchronized (this) {
+			pending[level] = false;
+			final int[] stale = staleRegions[level];
+			staleRegions[level] = null;
+			if (!built || disposed)
+				return null;
+			if (levels[level] == null) {
+				// the data changed while the level was built
+				if (stale != null)
+					reduce(level, values, stale[0], stale[1], stale[2], stale[3]);
+				levelValues[level] = values;
+				levels[level] = new FloatArrayWrapper(values);
+			}
+			return levels[level];
+		}
+	}
+
+	/**
+	 * Updates the pyramid after the values in the given region of the data
+	 * changed: the blocks of the built levels which cover the region are
+	 * reduced again, levels which are being built are updated once they are
+	 * built.
+	 *
+	 * @param data
+	 *            the data, which may be another wrapper than before
+	 * @param x
+	 *            first changed column
+	 * @param y
+	 *            first changed row
+	 * @param regionWidth
+	 *            number of changed columns
+	 * @param regionHeight
+	 *            number of changed rows
+	 * @return <code>false</code> if the pyramid was disposed or the data is
+	 *         smaller than the pyramid, which then has to be created again
+	 */
+	public synchronized boolean update(IPrimaryArrayWrapper data, int x, int y, int regionWidth, int regionHeight) {
+		if (disposed || (long) width * height > data.getSize())
+			return false;
+		this.data = data;
+		levels[0] = data;
+		final int x0 = Math.max(0, x);
+		final int y0 = Math.max(0, y);
+		final int x1 = (int) Math.min(width, (long) x + regionWidth);
+		final int y1 = (int) Math.min(height, (long) y + regionHeight);
+		if (x0 >= x1 || y0 >= y1)
+			return true;
+		for (int level = 1; level < levels.length; level++) {
+			if (levelValues[level] != null)
+				reduce(level, levelValues[level], x0, y0, x1, y1);
+			else if (pending[level]) {
+				final int[] stale = staleRegions[level];
+				staleRegions[level] = stale == null ? new int[] { x0, y0, x1, y1 }
+						: new int[] { Math.min(x0, stale[0]), Math.min(y0, stale[1]), Math.max(x1, stale[2]),
+								Math.max(y1, stale[3]) };
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stops building levels and releases the built levels.
+	 */
+	public synchronized void dispose() {
+		disposed = true;
+		for (int i = 1; i < levels.length; i++) {
+			levels[i] = null;
+			levelValues[i] = null;
+		}
+	}
+
+	/**
+	 * Reduces the blocks of a level which cover the given region of the data
+	 * (exclusive ends).
+	 *
+	 * @return <code>false</code> if the pyramid was disposed meanwhile
+	 */
+	private boolean reduce(int level, float[] result, int x0, int y0, int x1, int y1) {
+		final IPrimaryArrayWrapper data = this.data;
+		final int block = 1 << level;
+		final int levelWidth = getLevelWidth(level);
+		final int firstLevelX = x0 >> level;
+		final int lastLevelX = (x1 - 1) >> level;
+		final int firstX = firstLevelX << level;
+		final int lastX = Math.min(width, (lastLevelX + 1) << level);
+		final boolean max = reduction == Reduction.MAX;
+		final double[] row = new double[levelWidth];
+		final int[] counts = new int[levelWidth];
+		for (int levelY = y0 >> level; levelY <= (y1 - 1) >> level; levelY++) {
+			if (disposed)
+				return false;
+			Arrays.fill(row, firstLevelX, lastLevelX + 1, max ? Double.NEGATIVE_INFINITY : 0);
+			Arrays.fill(counts, firstLevelX, lastLevelX + 1, 0);
+			final int lastY = Math.min(height, (levelY + 1) * block);
+			for (int y = levelY * block; y < lastY; y++) {
+				final int offset = y * width;
+				for (int x = firstX; x < lastX; x++) {
+					final double value = data.get(offset + x);
+					// NaN values are skipped, so they only show if the whole block is NaN
+					if (Double.isNaN(value))
+						continue;
+					final int levelX = x >> level;
+					if (max) {
+						if (value > row[levelX])
+							row[levelX] = value;
+					} else
+						row[levelX] += value;
+					counts[levelX]++;
+				}
+			}
+			final int offset = levelY * levelWidth;
+			for (int levelX = firstLevelX; levelX <= lastLevelX; levelX++) {
+				if (counts[levelX] == 0)
+					result[offset + levelX] = Float.NaN;
+				else
+					result[offset + levelX] = (float) (max ? row[levelX] : row[levelX] / counts[levelX]);
+			}
+		}
+		return true;
+	}
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Cursors;
@@ -42,6 +43,7 @@ import org.eclipse.nebula.visualization.widgets.datadefinition.FloatArrayWrapper
 import org.eclipse.nebula.visualization.widgets.datadefinition.IPrimaryArrayWrapper;
 import org.eclipse.nebula.visualization.widgets.datadefinition.IntArrayWrapper;
 import org.eclipse.nebula.visualization.widgets.datadefinition.LongArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.MipMapPyramid;
 import org.eclipse.nebula.visualization.widgets.datadefinition.ShortArrayWrapper;
 import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.PredefinedColorMap;
 import org.eclipse.nebula.visualization.widgets.figureparts.ColorMapRamp;
@@ -171,6 +173,36 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		}
 	}
 
+	/**
+	 * A view of a rectangular region of an array, which is stored row by row.
+	 */
+	private static class RegionArrayWrapper implements IPrimaryArrayWrapper {
+
+		private final IPrimaryArrayWrapper array;
+		private final int arrayWidth;
+		private final int left, top, width, height;
+
+		public RegionArrayWrapper(IPrimaryArrayWrapper array, int arrayWidth,
+				int left, int top, int width, int height) {
+			this.array = array;
+			this.arrayWidth = arrayWidth;
+			this.left = left;
+			this.top = top;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public double get(int i) {
+			return array.get((top + i / width) * arrayWidth + left + i % width);
+		}
+
+		@Override
+		public int getSize() {
+			return width * height;
+		}
+	}
+
 	class SinglePixelProfileCrossHair extends Figure {
 		/**
 		 * Center coordinates 
@@ -390,6 +422,68 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		}
 		
 		
+		/**Recolor the pixels of the buffered image which show the dirty region.
+		 * @param clientArea the client area
+		 * @return false if the whole image has to be redrawn instead.
+		 */
+		private boolean updateDirtyRegion(Rectangle clientArea){
+			final Rectangle region = dirtyRegion.getIntersection(new Rectangle(0, 0, dataWidth, dataHeight));
+			dirtyRegion = null;
+			if(region.isEmpty())
+				return true;
+			//a cropped data array is a copy of the data
+			if(inRGBMode || cropLeft != 0 || cropRight != 0 || cropTop != 0 || cropBottom != 0
+					|| dataArray.getSize() < dataWidth * dataHeight)
+				return false;
+			croppedDataArray = unsignedBits > 0 ? new UnsignedPrimitiveArrayWrapper(dataArray, unsignedBits) : dataArray;
+
+			//the image may be drawn from a pyramid level, which has been updated already
+			IPrimaryArrayWrapper imageArray = croppedDataArray;
+			int imageWidth = croppedDataWidth;
+			int imageHeight = croppedDataHeight;
+			Rectangle imageRegion = region;
+			if(drawnLevel > 0){
+				imageArray = pyramid == null ? null : pyramid.getLevelData(drawnLevel);
+				if(imageArray == null)
+					return false;
+				imageWidth = pyramid.getLevelWidth(drawnLevel);
+				imageHeight = pyramid.getLevelHeight(drawnLevel);
+				final int levelLeft = region.x >> drawnLevel;
+				final int levelTop = region.y >> drawnLevel;
+				imageRegion = new Rectangle(levelLeft, levelTop, ((region.right() - 1) >> drawnLevel) - levelLeft + 1,
+						((region.bottom() - 1) >> drawnLevel) - levelTop + 1);
+			}
+			final boolean shrink = clientArea.width*clientArea.height < imageHeight * imageWidth;
+			final int width = shrink ? clientArea.width : imageWidth;
+			final int height = shrink ? clientArea.height : imageHeight;
+			if(bufferedImageData == null || bufferedImageData.width != width || bufferedImageData.height != height)
+				return false;
+
+			fireProfileDataChanged(croppedDataArray, croppedDataWidth, croppedDataHeight);
+			colorMap.drawImage(imageArray, imageWidth, imageHeight, max, min, bufferedImageData, shrink,
+					new org.eclipse.swt.graphics.Rectangle(imageRegion.x, imageRegion.y, imageRegion.width,
+							imageRegion.height));
+
+			//copy the recolored pixels (with a margin for rounding) into the buffered image
+			final int left = Math.max(0, (int) ((long) imageRegion.x * width / imageWidth) - 1);
+			final int top = Math.max(0, (int) ((long) imageRegion.y * height / imageHeight) - 1);
+			final int right = Math.min(width, (int) ((long) imageRegion.right() * width / imageWidth) + 2);
+			final int bottom = Math.min(height, (int) ((long) imageRegion.bottom() * height / imageHeight) + 2);
+			final ImageData changedData = new ImageData(right - left, bottom - top, 24, bufferedImageData.palette);
+			for(int y = top; y < bottom; y++)
+				System.arraycopy(bufferedImageData.data, y * bufferedImageData.bytesPerLine + 3 * left,
+						changedData.data, (y - top) * changedData.bytesPerLine, 3 * (right - left));
+			final Image changedImage = new Image(Display.getCurrent(), changedData);
+			final GC gc = new GC(bufferedImage);
+			try {
+				gc.drawImage(changedImage, left, top);
+			} finally {
+				gc.dispose();
+				changedImage.dispose();
+			}
+			return true;
+		}
+		
 		/**Get data index location on cropped data array from geometry location.
 		 * @param x x much be inside graph area.
 		 * @param y y much be inside graph area
@@ -423,9 +517,13 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			if(dataArray == null)
 				return;
 			Rectangle clientArea = getClientArea();
+			//recolor only the changed region if possible
+			if(!dataDirty && bufferedImage != null && dirtyRegion != null && !updateDirtyRegion(clientArea))
+				dataDirty = true;
 			//draw image if data is dirty or bufferedImage has not been created yet
 			if(dataDirty || bufferedImage == null){
 				dataDirty = false;
+				dirtyRegion = null;
 				if(bufferedImage != null){
 					bufferedImage.dispose();
 					bufferedImage = null;
@@ -453,10 +551,41 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 				if(dataWidth - cropLeft - cropRight < 0 || dataHeight - cropTop - cropBottom < 0)
 					return;
 				
-				croppedDataArray = cropDataArray(cropLeft, cropRight, cropTop, cropBottom);
+				//the array, width and height the image is drawn from
+				IPrimaryArrayWrapper imageArray;
+				int imageWidth = croppedDataWidth;
+				int imageHeight = croppedDataHeight;
+				drawnLevel = 0;
+				if(pyramidReduction != null && !inRGBMode){
+					//a view instead of a copy of the cropped data
+					croppedDataArray = unsignedBits > 0 ? new UnsignedPrimitiveArrayWrapper(dataArray, unsignedBits) : dataArray;
+					if(pyramid == null)
+						pyramid = new MipMapPyramid(croppedDataArray, dataWidth, dataHeight, pyramidReduction);
+					if(croppedDataWidth != dataWidth || croppedDataHeight != dataHeight)
+						croppedDataArray = new RegionArrayWrapper(croppedDataArray, dataWidth,
+								cropLeft, cropTop, croppedDataWidth, croppedDataHeight);
+					imageArray = croppedDataArray;
+					int level = pyramid.getLevel(croppedDataWidth, croppedDataHeight, clientArea.width, clientArea.height);
+					IPrimaryArrayWrapper levelData = level > 0 ? requestPyramidLevel(level) : null;
+					//use the finest built level until the requested level is built
+					while(levelData == null && --level > 0)
+						levelData = pyramid.getLevelData(level);
+					if(levelData != null){
+						final int levelLeft = cropLeft >> level;
+						final int levelTop = cropTop >> level;
+						imageWidth = Math.max(1, pyramid.getLevelWidth(level) - levelLeft - (cropRight >> level));
+						imageHeight = Math.max(1, pyramid.getLevelHeight(level) - levelTop - (cropBottom >> level));
+						imageArray = new RegionArrayWrapper(levelData, pyramid.getLevelWidth(level),
+								levelLeft, levelTop, imageWidth, imageHeight);
+						drawnLevel = level;
+					}
+				}else{
+					croppedDataArray = cropDataArray(cropLeft, cropRight, cropTop, cropBottom);
 
-				if(unsignedBits > 0) {
-					croppedDataArray = new UnsignedPrimitiveArrayWrapper(croppedDataArray, unsignedBits);
+					if(unsignedBits > 0) {
+						croppedDataArray = new UnsignedPrimitiveArrayWrapper(croppedDataArray, unsignedBits);
+					}
+					imageArray = croppedDataArray;
 				}
 
 				fireProfileDataChanged(croppedDataArray, croppedDataWidth, croppedDataHeight);
@@ -464,7 +593,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 //					roiFigure.fireROIUpdated();
 //				}
 				boolean shrink= false;
-				if(clientArea.width*clientArea.height < croppedDataHeight * croppedDataWidth){
+				if(clientArea.width*clientArea.height < imageHeight * imageWidth){
 					shrink = true;
 				}
 				
@@ -474,16 +603,16 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 							|| bufferedImageData.height !=clientArea.height){
 						bufferedImageData = new ImageData(clientArea.width, clientArea.height, 24, colorMap.getPalette());
 					}					
-				}else if(bufferedImageData == null || bufferedImageData.width != croppedDataWidth
-						|| bufferedImageData.height !=croppedDataHeight)
-					bufferedImageData = new ImageData(croppedDataWidth, croppedDataHeight, 24, colorMap.getPalette());
+				}else if(bufferedImageData == null || bufferedImageData.width != imageWidth
+						|| bufferedImageData.height !=imageHeight)
+					bufferedImageData = new ImageData(imageWidth, imageHeight, 24, colorMap.getPalette());
 
 					
 				ImageData imageData = null;
 				if(inRGBMode)
 					try {
-						imageData = drawRGBImage(croppedDataArray,
-								croppedDataWidth, croppedDataHeight,
+						imageData = drawRGBImage(imageArray,
+								imageWidth, imageHeight,
 								max, min, bufferedImageData, shrink);
 					} catch (IllegalArgumentException e) {
 						graphics.drawText("Drawing Exception: RGB value is not between 0 and 255." +
@@ -491,8 +620,8 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 								clientArea.getLocation());
 					}
 				else
-					imageData = colorMap.drawImage(croppedDataArray,
-								croppedDataWidth, croppedDataHeight,
+					imageData = colorMap.drawImage(imageArray,
+								imageWidth, imageHeight,
 								max, min, bufferedImageData, shrink);		
 
 				if(imageData == null)
@@ -514,6 +643,25 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 
 		}
 		
+		/**Get a level of the pyramid, or start building it in background and
+		 * redraw the image once it is built.
+		 * @param level the level
+		 * @return the level or null if it is being built
+		 */
+		private IPrimaryArrayWrapper requestPyramidLevel(int level){
+			final Display display = Display.getCurrent();
+			final MipMapPyramid requested = pyramid;
+			return pyramid.requestLevel(level, ForkJoinPool.commonPool(), () -> {
+				if(!display.isDisposed())
+					display.asyncExec(() -> {
+						if(requested == pyramid){
+							dataDirty = true;
+							graphArea.repaint();
+						}
+					});
+			});
+		}
+		
 		private synchronized void updateTextCursor(MouseEvent me) {
 			if(SWT.getPlatform().startsWith("rap")) //$NON-NLS-1$
 				return;
@@ -687,6 +835,10 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 	private boolean armed;
 	
 	private boolean dataDirty;  //true if the image need to be redrawn
+	private Rectangle dirtyRegion; //data region to be recolored if the image is not dirty
+	private MipMapPyramid.Reduction pyramidReduction; //null if no pyramid is used
+	private MipMapPyramid pyramid; //built lazily for the current data
+	private int drawnLevel; //pyramid level the buffered image was drawn from, 0 for the data
 	private ImageData bufferedImageData;
 	private Image bufferedImage; //the buffered image 
 	private List<IProfileDataChangeLisenter> profileListeners;
@@ -1379,19 +1531,58 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 	public synchronized final void setDataArray(IPrimaryArrayWrapper dataWrapper){
 		dataArray = dataWrapper;
 		croppedDataArray = null;
+		disposePyramid();
 		dataDirty = true;
 		graphArea.repaint();
 	}
 
+	/**Set the double[] data array for the intensity graph, where only the values
+	 * in the given region changed since the last call. It must be called in UI thread.
+	 * @param data the dataArray to set
+	 * @param roi the changed region in data coordinates (x and y index, width and height)
+	 * @see #setDataArray(IPrimaryArrayWrapper, Rectangle)
+	 */
+	public final void setDataArray(double[] data, Rectangle roi) {
+		if(dataArray instanceof DoubleArrayWrapper){
+			((DoubleArrayWrapper)dataArray).setData(data);
+		}else
+			dataArray = new DoubleArrayWrapper(data);
+		setDataArray(dataArray, roi);
+	}
+
+	/**Set the data array wrapper for the intensity graph, where only the values
+	 * in the given region changed since the last call. It must be called in UI thread.
+	 * Only the pixels showing this region are recolored, which makes updates of small
+	 * regions of a large image much cheaper. The whole image is redrawn
+	 * if it is cropped, in RGB mode or if its size changed. The mipmap pyramid
+	 * is kept, only its blocks covering this region are reduced again.
+	 * @param dataWrapper the dataArray to set
+	 * @param roi the changed region in data coordinates (x and y index, width and height)
+	 */
+	public synchronized final void setDataArray(IPrimaryArrayWrapper dataWrapper, Rectangle roi){
+		dataArray = dataWrapper;
+		//the pyramid is kept for data of the same size, only the blocks covering the region are reduced again
+		if(pyramid != null && !pyramid.update(
+				unsignedBits > 0 ? new UnsignedPrimitiveArrayWrapper(dataWrapper, unsignedBits) : dataWrapper,
+				roi.x, roi.y, roi.width, roi.height))
+			disposePyramid();
+		if(dirtyRegion == null)
+			dirtyRegion = roi.getCopy();
+		else
+			dirtyRegion.union(roi);
+		graphArea.repaint();
+	}
+
 	/**
 	 * @param dataHeight the dataHeight to set
 	 */
 	public final void setDataHeight(int dataHeight) {
-		if(dataHeight <0|| dataWidth * dataHeight > MAX_ARRAY_SIZE || dataWidth * dataHeight < 0)
+		if(dataHeight <0|| dataWidth * dataHeight > getMaxDataSize() || dataWidth * dataHeight < 0)
 			throw new IllegalArgumentException();
 		if(this.dataHeight == dataHeight)
 			return;
 		this.dataHeight = dataHeight;
+		disposePyramid();
 		updateCroppedDataSize();
 		dataDirty = true;
 		repaint();
@@ -1402,11 +1593,12 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 	 * @param dataWidth the dataWidth to set
 	 */
 	public final void setDataWidth(int dataWidth) {
-		if(dataWidth < 0 || dataWidth * dataHeight > MAX_ARRAY_SIZE || dataWidth * dataHeight < 0)
+		if(dataWidth < 0 || dataWidth * dataHeight > getMaxDataSize() || dataWidth * dataHeight < 0)
 			throw new IllegalArgumentException();
 		if(this.dataWidth == dataWidth)
 			return;
 		this.dataWidth = dataWidth;
+		disposePyramid();
 		updateCroppedDataSize();
 		dataDirty = true;
 		repaint();
@@ -1429,6 +1621,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			colorMapRamp.setVisible(savedShowRamp);
 		
 		this.inRGBMode = inRGBMode;
+		disposePyramid();
 		dataDirty = true;
 		repaint();
 	}
@@ -1476,6 +1669,44 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		if (bits > 1023)
 			throw new IllegalArgumentException("The value given is higher than 1023!");
 		this.unsignedBits = bits;
+		disposePyramid();
+	}
+
+	/**Set how the image is reduced if the data is larger than the graph area.
+	 * If it is not null, the image is drawn from a level of a multi-resolution
+	 * pyramid of the data, which has about one value per pixel. Levels are built
+	 * in background when they are needed, in the meantime a finer level or the
+	 * data itself is shown. This allows data larger than the default limit of
+	 * 10,000,000 values, so it must be set before the data size.
+	 * It is ignored in RGB mode.
+	 * @param reduction MEAN or MAX of the reduced values, or null to shrink the
+	 * data without a pyramid (default).
+	 */
+	public synchronized void setPyramidReduction(MipMapPyramid.Reduction reduction) {
+		if(pyramidReduction == reduction)
+			return;
+		pyramidReduction = reduction;
+		disposePyramid();
+		dataDirty = true;
+		repaint();
+	}
+
+	/**
+	 * @return how the image is reduced, or null if no pyramid is used.
+	 */
+	public MipMapPyramid.Reduction getPyramidReduction() {
+		return pyramidReduction;
+	}
+
+	private int getMaxDataSize() {
+		return pyramidReduction == null ? MAX_ARRAY_SIZE : Integer.MAX_VALUE;
+	}
+
+	private void disposePyramid() {
+		if(pyramid != null){
+			pyramid.dispose();
+			pyramid = null;
+		}
 	}
 
 
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class CircularBufferDataProviderTest {
+
+	@Test
+	public void testDataRangeOfFullBuffer() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(false);
+		provider.setBufferSize(3);
+		for (double value : new double[] { 9, -5, 1, 2, 3 }) {
+			provider.addSample(new Sample(value, value));
+			assertEquals(scan(provider, true), provider.getXDataMinMax());
+			assertEquals(scan(provider, false), provider.getYDataMinMax());
+		}
+
+		assertEquals(new Range(1, 3), provider.getYDataMinMax());
+	}
+
+	@Test
+	public void testDataRangeWithErrors() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(false);
+		provider.addSample(new Sample(1, 10, 1, 2, 0.5, 0.25));
+		provider.addSample(new Sample(2, 20));
+
+		assertEquals(new Range(8, 20), provider.getYDataMinMax());
+		assertEquals(new Range(0.75, 2), provider.getXDataMinMax());
+	}
+
+	@Test
+	public void testDataRangeAfterClearAndResize() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(false);
+		provider.addSample(new Sample(1, 100));
+		provider.clearTrace();
+		provider.addSample(new Sample(2, 5));
+		provider.addSample(new Sample(3, -5));
+		provider.addSample(new Sample(4, 7));
+
+		assertEquals(new Range(-5, 7), provider.getYDataMinMax());
+
+		provider.setBufferSize(1);
+
+		assertEquals(new Range(7, 7), provider.getYDataMinMax());
+		assertEquals(new Range(4, 4), provider.getXDataMinMax());
+	}
+
+	@Test
+	public void testClippedDataRange() {
+		ClippedCircularBufferDataProvider provider = new ClippedCircularBufferDataProvider(false, 10, 2);
+		for (double value : new double[] { 9, -5, 1, 2, 3, 0 }) {
+			provider.addSample(new Sample(value, value));
+		}
+
+		// the last clipping window + 1 samples
+		assertEquals(new Range(0, 3), provider.getYDataMinMax());
+		assertEquals(new Range(-5, 9), provider.getDataRange(false, false, 0));
+	}
+
+	private static Range scan(CircularBufferDataProvider provider, boolean isXAxis) {
+		double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < provider.getSize(); i++) {
+			ISample sample = provider.getSample(i);
+			double value = isXAxis ? sample.getXValue() : sample.getYValue();
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		return new Range(min, max);
+	}
+}
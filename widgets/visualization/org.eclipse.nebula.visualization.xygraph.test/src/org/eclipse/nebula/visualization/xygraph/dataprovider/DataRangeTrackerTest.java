@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class DataRangeTrackerTest {
+
+	private final DataRangeTracker tracker = new DataRangeTracker();
+
+	@Test
+	public void testRange() {
+		tracker.add(1, 2);
+		tracker.add(-3, 0);
+		tracker.add(4, 5);
+
+		assertEquals(3, tracker.size());
+		assertEquals(new Range(-3, 5), tracker.getRange(false, 0));
+		assertEquals(new Range(1, 5), tracker.getRange(true, 0));
+		assertEquals(new Range(-3, 5), tracker.getRange(false, 1));
+	}
+
+	@Test
+	public void testRemoveOldest() {
+		tracker.add(-3, 9);
+		tracker.add(1, 2);
+		tracker.add(4, 5);
+		tracker.removeOldest(1);
+
+		assertEquals(2, tracker.size());
+		assertEquals(new Range(1, 5), tracker.getRange(false, 0));
+		assertEquals(new Range(4, 5), tracker.getRange(false, 1));
+	}
+
+	@Test
+	public void testDiscardedSuffix() {
+		tracker.add(1, 1);
+		tracker.add(2, 2);
+
+		assertEquals(new Range(2, 2), tracker.getRange(false, 1));
+		assertNull(tracker.getRange(false, 0));
+	}
+
+	@Test
+	public void testPositiveOnlyWithoutPositiveValues() {
+		tracker.add(-2, -1);
+
+		assertEquals(new Range(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY), tracker.getRange(true, 0));
+	}
+
+	@Test
+	public void testNaN() {
+		tracker.add(Double.NaN, Double.NaN);
+		tracker.add(2, 3);
+
+		assertEquals(new Range(2, 3), tracker.getRange(false, 0));
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		Random random = new Random(7);
+		List<Double> window = new ArrayList<Double>();
+		for (int i = 0; i < 2000; i++) {
+			double value = random.nextInt(200) - 100;
+			tracker.add(value, value);
+			window.add(value);
+			if (window.size() > 50) {
+				tracker.removeOldest(1);
+				window.remove(0);
+			}
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (double v : window) {
+				min = Math.min(min, v);
+				max = Math.max(max, v);
+			}
+			assertEquals(new Range(min, max), tracker.getRange(false, 0));
+		}
+	}
+}
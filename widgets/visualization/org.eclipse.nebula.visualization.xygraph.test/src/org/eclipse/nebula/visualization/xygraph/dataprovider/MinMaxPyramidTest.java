@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MinMaxPyramidTest {
+
+	@Test
+	public void testMinMax() {
+		double[] values = { 3, 1, 4, 1, 5, 9, 2, 6 };
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+
+		assertEquals(1, pyramid.getMinPosition(0, 7));
+		assertEquals(5, pyramid.getMaxPosition(0, 7));
+		assertEquals(3, pyramid.getMinPosition(2, 4));
+		assertEquals(4, pyramid.getMaxPosition(2, 4));
+		assertEquals(6, pyramid.getMinPosition(6, 6));
+		assertEquals(-1, pyramid.getMinPosition(5, 4));
+		assertEquals(-1, pyramid.getMaxPosition(0, 8));
+	}
+
+	@Test
+	public void testUpdate() {
+		double[] values = { 3, 1, 4, 1, 5 };
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+
+		values[2] = -1;
+		values[3] = 10;
+		pyramid.update(2, 4);
+
+		assertEquals(2, pyramid.getMinPosition(0, 4));
+		assertEquals(3, pyramid.getMaxPosition(0, 4));
+	}
+
+	@Test
+	public void testNaN() {
+		double[] values = { Double.NaN, 2, Double.NaN, 1, Double.NaN };
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+
+		assertEquals(3, pyramid.getMinPosition(0, 4));
+		assertEquals(1, pyramid.getMaxPosition(0, 4));
+		assertEquals(4, pyramid.getMinPosition(4, 4));
+	}
+
+	@Test
+	public void testFirstNaN() {
+		double[] values = { 1, Double.NaN, 2, 3, 4, Double.NaN, 5 };
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+
+		assertEquals(1, pyramid.getFirstNaNPosition(0, 6));
+		assertEquals(5, pyramid.getFirstNaNPosition(2, 6));
+		assertEquals(-1, pyramid.getFirstNaNPosition(2, 4));
+		assertEquals(-1, pyramid.getFirstNaNPosition(6, 6));
+
+		values[1] = 0;
+		values[3] = Double.NaN;
+		pyramid.update(1, 4);
+
+		assertEquals(3, pyramid.getFirstNaNPosition(0, 6));
+		assertEquals(5, pyramid.getFirstNaNPosition(4, 6));
+	}
+
+	@Test
+	public void testMinPositive() {
+		double[] values = { -1, 4, 0, Double.NaN, 2, -5, 3 };
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+
+		assertEquals(4, pyramid.getMinPositivePosition(0, 6));
+		assertEquals(1, pyramid.getMinPositivePosition(0, 3));
+		assertEquals(-1, pyramid.getMinPositivePosition(2, 3));
+		assertEquals(6, pyramid.getMinPositivePosition(5, 6));
+
+		values[2] = 0.5;
+		values[4] = -2;
+		pyramid.update(2, 5);
+
+		assertEquals(2, pyramid.getMinPositivePosition(0, 6));
+		assertEquals(6, pyramid.getMinPositivePosition(3, 6));
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(42);
+		double[] values = new double[1000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(100);
+		}
+		MinMaxPyramid pyramid = new MinMaxPyramid(values);
+		for (int n = 0; n < 200; n++) {
+			int from = random.nextInt(values.length);
+			int to = from + random.nextInt(values.length - from);
+			int min = from;
+			int max = from;
+			for (int i = from; i <= to; i++) {
+				if (values[i] < values[min])
+					min = i;
+				if (values[i] > values[max])
+					max = i;
+			}
+			assertEquals(min, pyramid.getMinPosition(from, to));
+			assertEquals(max, pyramid.getMaxPosition(from, to));
+
+			int changed = random.nextInt(values.length);
+			values[changed] = random.nextInt(100);
+			pyramid.update(changed, changed + 1);
+		}
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class PrimitiveCircularBufferDataProviderTest {
+
+	private final PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 5);
+
+	@Test
+	public void testAppend() {
+		for (int i = 0; i < 3; i++) {
+			provider.append(i, 10 * i);
+		}
+
+		assertEquals(3, provider.getSize());
+		assertEquals(1, provider.getSample(1).getXValue(), 0);
+		assertEquals(20, provider.getSample(2).getYValue(), 0);
+		assertEquals(20, provider.getYValue(2), 0);
+		assertNull(provider.getSample(3));
+	}
+
+	@Test
+	public void testOverwritesOldestSamples() {
+		for (int i = 0; i < 12; i++) {
+			provider.append(i, i);
+		}
+
+		assertEquals(5, provider.getSize());
+		assertEquals(7, provider.getXValue(0), 0);
+		assertEquals(11, provider.getXValue(4), 0);
+	}
+
+	@Test
+	public void testBulkAppend() {
+		provider.append(3, 3);
+		provider.append(new double[] { 4, 5, 6, 7 }, new double[] { 40, 50, 60, 70 });
+
+		assertEquals(5, provider.getSize());
+		assertEquals(3, provider.getXValue(0), 0);
+		assertEquals(70, provider.getYValue(4), 0);
+	}
+
+	@Test
+	public void testBulkAppendLargerThanCapacity() {
+		double[] values = new double[13];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+		provider.append(values, values, 1, 12);
+
+		assertEquals(5, provider.getSize());
+		assertEquals(8, provider.getXValue(0), 0);
+		assertEquals(12, provider.getXValue(4), 0);
+	}
+
+	@Test
+	public void testIndicesAreStableUntilGetSize() {
+		provider.append(new double[] { 1, 2, 3, 4 }, new double[] { 1, 2, 3, 4 });
+		assertEquals(4, provider.getSize());
+
+		provider.append(5, 5);
+		provider.append(6, 6);
+
+		assertEquals(2, provider.getXValue(1), 0);
+		assertNull(provider.getSample(4));
+		assertEquals(5, provider.getSize());
+		assertEquals(3, provider.getXValue(1), 0);
+		assertEquals(6, provider.getSample(4).getXValue(), 0);
+	}
+
+	@Test
+	public void testIndicesArePerThread() throws InterruptedException {
+		provider.append(new double[] { 1, 2 }, new double[] { 1, 2 });
+		assertEquals(2, provider.getSize());
+
+		provider.append(new double[] { 3, 4 }, new double[] { 3, 4 });
+		Thread reader = new Thread(() -> provider.getSize());
+		reader.start();
+		reader.join();
+
+		assertEquals(1, provider.getXValue(0), 0);
+		assertNull(provider.getSample(2));
+	}
+
+	@Test
+	public void testReadWithoutGetSize() throws InterruptedException {
+		provider.append(new double[] { 1, 2, 3 }, new double[] { 10, 20, 30 });
+		double[] read = new double[3];
+		int[] minIndex = new int[1];
+		Thread reader = new Thread(() -> {
+			read[0] = provider.getXValue(1);
+			read[1] = provider.getSample(2).getYValue();
+			read[2] = provider.getYValue(0);
+			minIndex[0] = provider.getMinYIndex(0, 2);
+		});
+		reader.start();
+		reader.join();
+
+		assertEquals(2, read[0], 0);
+		assertEquals(30, read[1], 0);
+		assertEquals(10, read[2], 0);
+		assertEquals(0, minIndex[0]);
+	}
+
+	@Test
+	public void testClear() {
+		provider.append(1, 1);
+		provider.clear();
+
+		assertEquals(0, provider.getSize());
+		assertNull(provider.getXDataMinMax());
+
+		provider.append(2, 2);
+
+		assertEquals(1, provider.getSize());
+		assertEquals(2, provider.getXValue(0), 0);
+	}
+
+	@Test
+	public void testDataRange() {
+		provider.append(new double[] { 1, 2, 3 }, new double[] { -4, 8, 2 });
+
+		assertEquals(new Range(1, 3), provider.getXDataMinMax());
+		assertEquals(new Range(-4, 8), provider.getYDataMinMax());
+		assertEquals(new Range(2, 8), provider.getYDataMinMax(true));
+	}
+
+	@Test
+	public void testPositiveDataRangeWrapsAround() {
+		provider.append(new double[] { -3, -2, -1, 0, 1, 2, 3 }, new double[] { 0.5, 1, 4, -9, 3, 0, 2 });
+
+		// samples 3 to 7 with x values -1, 0, 1, 2, 3 and y values 4, -9, 3, 0, 2
+		assertEquals(new Range(2, 4), provider.getYDataMinMax(true));
+		assertEquals(new Range(-9, 4), provider.getYDataMinMax(false));
+		assertEquals(new Range(1, 3), provider.getXDataMinMax(true));
+		assertEquals(new Range(-1, 3), provider.getXDataMinMax(false));
+		assertEquals(new Range(2, 3), provider.getDataRange(true, true, 3));
+		assertEquals(new Range(2, 2), provider.getDataRange(true, false, 3));
+	}
+
+	@Test
+	public void testPositiveDataRangeWithoutPositiveValues() {
+		provider.append(new double[] { -2, -1, 0 }, new double[] { -1, Double.NaN, 0 });
+
+		Range infinite = new Range(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+		assertEquals(infinite, provider.getXDataMinMax(true));
+		assertEquals(infinite, provider.getYDataMinMax(true));
+	}
+
+	@Test
+	public void testDataRangeOfUnsortedX() {
+		PrimitiveCircularBufferDataProvider unsorted = new PrimitiveCircularBufferDataProvider(false, 5);
+		unsorted.append(new double[] { 3, -1, 7, 2 }, new double[] { 0, 0, 0, 0 });
+
+		assertEquals(new Range(-1, 7), unsorted.getXDataMinMax());
+		assertEquals(new Range(2, 7), unsorted.getXDataMinMax(true));
+	}
+
+	@Test
+	public void testErrors() {
+		PrimitiveCircularBufferDataProvider withErrors = new PrimitiveCircularBufferDataProvider(true, 5, true);
+		withErrors.append(1, 10, 0.5, 0.25, 2, 1);
+
+		assertTrue(withErrors.hasErrors());
+		assertFalse(provider.hasErrors());
+		assertEquals(1, withErrors.getSize());
+		assertEquals(2, withErrors.getSample(0).getYPlusError(), 0);
+		assertEquals(new Range(9, 12), withErrors.getYDataMinMax());
+	}
+
+	@Test
+	public void testSamplesFetchedAgainAreEqual() {
+		PrimitiveCircularBufferDataProvider withErrors = new PrimitiveCircularBufferDataProvider(true, 5, true);
+		withErrors.append(1, 10, 0.5, 0.25, 2, 1);
+		withErrors.append(1, 10, 0.5, 0.25, 3, 1);
+
+		ISample sample = withErrors.getSample(0);
+		assertEquals(sample, withErrors.getSample(0));
+		assertEquals(sample.hashCode(), withErrors.getSample(0).hashCode());
+		// same values, other errors
+		assertFalse(sample.equals(withErrors.getSample(1)));
+
+		// the sample keeps its values when its slot is overwritten
+		for (int i = 0; i < 5; i++) {
+			withErrors.append(2, 20);
+		}
+		assertEquals(1, sample.getXValue(), 0);
+		assertEquals(2, sample.getYPlusError(), 0);
+	}
+
+	@Test
+	public void testMinMaxIndex() {
+		provider.append(new double[] { 1, 2, 3 }, new double[] { 5, -2, 7 });
+
+		assertEquals(3, provider.getSize());
+		assertEquals(1, provider.getMinYIndex(0, 2));
+		assertEquals(2, provider.getMaxYIndex(0, 2));
+		assertEquals(0, provider.getMaxYIndex(0, 1));
+		assertEquals(-1, provider.getMinYIndex(0, 3));
+	}
+
+	@Test
+	public void testMinMaxIndexWrapsAround() {
+		provider.append(new double[] { 1, 2, 3, 4, 5, 6, 7 }, new double[] { 0, 0, 4, 9, -3, 8, 2 });
+
+		// samples 3 to 7 with y values 4, 9, -3, 8, 2
+		assertEquals(5, provider.getSize());
+		assertEquals(2, provider.getMinYIndex(0, 4));
+		assertEquals(1, provider.getMaxYIndex(0, 4));
+		assertEquals(3, provider.getMaxYIndex(2, 4));
+		assertEquals(4, provider.getMinYIndex(3, 4));
+
+		provider.append(8, 20);
+		provider.getSize();
+
+		assertEquals(4, provider.getMaxYIndex(0, 4));
+	}
+
+	@Test
+	public void testFirstNaNIndexWrapsAround() {
+		provider.append(new double[] { 1, 2, 3, 4, 5, 6, 7 },
+				new double[] { 0, 0, 4, Double.NaN, 1, Double.NaN, 2 });
+		provider.getSize();
+
+		// samples 3 to 7 with y values 4, NaN, 1, NaN, 2
+		assertEquals(1, provider.getFirstNaNYIndex(0, 4));
+		assertEquals(3, provider.getFirstNaNYIndex(2, 4));
+		assertEquals(-1, provider.getFirstNaNYIndex(4, 4));
+		assertEquals(2, provider.getMinYIndex(0, 4));
+	}
+
+	@Test
+	public void testConcurrentWriter() throws InterruptedException {
+		PrimitiveCircularBufferDataProvider large = new PrimitiveCircularBufferDataProvider(true, 1000);
+		Thread writer = new Thread(() -> {
+			double[] chunk = new double[100];
+			for (int i = 0; i < 1000; i++) {
+				for (int j = 0; j < chunk.length; j++) {
+					chunk[j] = i * chunk.length + j;
+				}
+				large.append(chunk, chunk);
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			int size = large.getSize();
+			for (int i = 1; i < size; i++) {
+				// samples may be overwritten by newer ones, but never by older ones
+				assertTrue(large.getXValue(i) >= i);
+			}
+		}
+		writer.join();
+
+		assertEquals(1000, large.getSize());
+		assertEquals(99999, large.getXValue(999), 0);
+	}
+}
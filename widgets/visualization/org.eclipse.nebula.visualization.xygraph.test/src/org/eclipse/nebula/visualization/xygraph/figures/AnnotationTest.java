@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.PrimitiveCircularBufferDataProvider;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AnnotationTest {
+
+	private static final int SIZE = 100;
+
+	private Display display;
+	private Image image;
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		image = new Image(display, SIZE, SIZE);
+	}
+
+	@After
+	public void tearDown() {
+		image.dispose();
+	}
+
+	@Test
+	public void testSnappedSampleKeptWhenSampleAppended() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 100);
+		for (int i = 0; i < 10; i++) {
+			provider.append(i, 2 * i);
+		}
+		Axis xAxis = new Axis("x", false);
+		Axis yAxis = new Axis("y", true);
+		xAxis.setRange(0, 20);
+		yAxis.setRange(0, 40);
+		xAxis.setBounds(new Rectangle(0, 0, SIZE, SIZE));
+		yAxis.setBounds(new Rectangle(0, 0, SIZE, SIZE));
+		Trace trace = new Trace("trace", xAxis, yAxis, provider);
+		trace.setTraceColor(display.getSystemColor(SWT.COLOR_BLUE));
+		trace.setBounds(new Rectangle(0, 0, SIZE, SIZE));
+		paint(trace);
+
+		Annotation annotation = new Annotation("annotation", trace);
+		// not the middle sample, which is the default position
+		annotation.setCurrentSnappedSample(trace.getHotSampleList().get(2), false);
+		assertEquals(2, annotation.getXValue(), 0);
+
+		provider.append(10, 20);
+		// the trace fetches new samples when it is painted again
+		paint(trace);
+		assertTrue(trace.isHotSample(provider.getSample(2)));
+		while (display.readAndDispatch()) {
+			// run the change notifications
+		}
+
+		assertEquals(2, annotation.getXValue(), 0);
+		assertEquals(4, annotation.getYValue(), 0);
+	}
+
+	private void paint(Trace trace) {
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			trace.paint(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+	}
+}
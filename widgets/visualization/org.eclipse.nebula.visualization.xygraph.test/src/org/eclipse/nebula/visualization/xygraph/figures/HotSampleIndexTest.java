@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.junit.Test;
+
+public class HotSampleIndexTest {
+
+	@Test
+	public void testEmpty() {
+		HotSampleIndex index = new HotSampleIndex(Collections.<ISample> emptyList(), new int[0], new int[0]);
+
+		assertNull(index.findNearest(10, 10));
+		assertFalse(index.contains(new Sample(1, 1)));
+	}
+
+	@Test
+	public void testContains() {
+		List<ISample> samples = new ArrayList<ISample>();
+		samples.add(new Sample(1, 2));
+		HotSampleIndex index = new HotSampleIndex(samples, new int[] { 5 }, new int[] { 5 });
+
+		assertTrue(index.contains(new Sample(1, 2)));
+		assertFalse(index.contains(new Sample(2, 1)));
+	}
+
+	@Test
+	public void testFindNearest() {
+		Random random = new Random(3);
+		for (int n = 0; n < 50; n++) {
+			int count = 1 + random.nextInt(500);
+			int spread = n % 2 == 0 ? 400 : 50000;
+			List<ISample> samples = new ArrayList<ISample>();
+			int[] x = new int[count];
+			int[] y = new int[count];
+			for (int i = 0; i < count; i++) {
+				samples.add(new Sample(i, i));
+				x[i] = random.nextInt(spread);
+				y[i] = random.nextInt(300);
+			}
+			HotSampleIndex index = new HotSampleIndex(samples, x, y);
+
+			for (int q = 0; q < 50; q++) {
+				int qx = random.nextInt(spread + 200) - 100;
+				int qy = random.nextInt(500) - 100;
+				int nearest = 0;
+				for (int i = 1; i < count; i++) {
+					if (distance(x[i], y[i], qx, qy) < distance(x[nearest], y[nearest], qx, qy))
+						nearest = i;
+				}
+				assertSame(samples.get(nearest), index.findNearest(qx, qy));
+			}
+		}
+	}
+
+	private static long distance(int x0, int y0, int x1, int y1) {
+		long dx = x1 - x0;
+		long dy = y1 - y0;
+		return dx * dx + dy * dy;
+	}
+}
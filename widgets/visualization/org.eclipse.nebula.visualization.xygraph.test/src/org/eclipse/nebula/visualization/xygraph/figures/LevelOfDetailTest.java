@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.PrimitiveCircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.junit.Test;
+
+public class LevelOfDetailTest {
+
+	private static final int COLUMN = 40;
+
+	@Test
+	public void testFewSamples() {
+		PrimitiveCircularBufferDataProvider provider = createProvider(new double[40]);
+
+		assertNull(LevelOfDetail.reduce(provider, 0, 39, 10, i -> i / COLUMN));
+	}
+
+	@Test
+	public void testFourSamplesPerColumn() {
+		double[] y = new double[400];
+		for (int i = 0; i < y.length; i++) {
+			y[i] = i % 7;
+		}
+		y[13] = -1;
+		y[17] = 9;
+
+		int[] indices = LevelOfDetail.reduce(createProvider(y), 0, 399, 10, i -> i / COLUMN);
+
+		assertTrue(indices.length <= 4 * 10);
+		assertArrayEquals(new int[] { 0, 13, 17, 39 }, Arrays.copyOf(indices, 4));
+	}
+
+	@Test
+	public void testKeepsNaNSamples() {
+		double[] y = new double[400];
+		for (int i = 0; i < y.length; i++) {
+			y[i] = i % 7;
+		}
+		y[45] = Double.NaN;
+		y[50] = Double.NaN;
+		y[51] = Double.NaN;
+		y[60] = -1;
+
+		int[] indices = LevelOfDetail.reduce(createProvider(y), 0, 399, 10, i -> i / COLUMN);
+
+		// the first column is 0, 6, 39, the second one is split into the runs
+		// 40-44, 46-49 and 52-79
+		assertArrayEquals(new int[] { 40, 41, 42, 44, 45, 46, 48, 49, 50, 51, 52, 55, 60, 79 },
+				Arrays.copyOfRange(indices, 3, 17));
+	}
+
+	@Test
+	public void testSameAsWithoutMinMaxProvider() {
+		double[] y = new double[1000];
+		for (int i = 0; i < y.length; i++) {
+			y[i] = Math.sin(i / 10.0) * (i % 13);
+			if (i % 97 == 0 || i % 101 == 0)
+				y[i] = Double.NaN;
+		}
+		CircularBufferDataProvider samples = new CircularBufferDataProvider(true);
+		samples.setBufferSize(y.length);
+		for (int i = 0; i < y.length; i++) {
+			samples.addSample(new Sample(i, y[i]));
+		}
+
+		assertArrayEquals(LevelOfDetail.reduce(createProvider(y), 0, 999, 20, i -> i / 50),
+				LevelOfDetail.reduce(samples, 0, 999, 20, i -> i / 50));
+	}
+
+	private static PrimitiveCircularBufferDataProvider createProvider(double[] y) {
+		double[] x = new double[y.length];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = i;
+		}
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, y.length);
+		provider.append(x, y);
+		provider.getSize();
+		return provider;
+	}
+}
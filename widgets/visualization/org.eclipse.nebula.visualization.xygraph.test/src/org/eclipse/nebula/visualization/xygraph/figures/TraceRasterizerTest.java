@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Executor;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.PrimitiveCircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.eclipse.nebula.visualization.xygraph.figures.Trace.TraceType;
+import org.eclipse.nebula.visualization.xygraph.figures.TraceRasterizer.Frame;
+import org.eclipse.nebula.visualization.xygraph.figures.TraceRasterizer.Frames;
+import org.eclipse.nebula.visualization.xygraph.figures.TraceRasterizer.Projection;
+import org.eclipse.nebula.visualization.xygraph.figures.TraceRasterizer.Raster;
+import org.eclipse.nebula.visualization.xygraph.figures.TraceRasterizer.Request;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+public class TraceRasterizerTest {
+
+	private static final int WIDTH = 20;
+	private static final int HEIGHT = 10;
+
+	@Test
+	public void testProjection() {
+		Projection projection = new Projection(0, 10, 0, 100);
+
+		assertEquals(0, projection.position(0), 0);
+		assertEquals(50, projection.position(5), 0);
+		assertEquals(-10, projection.position(-1), 0);
+		assertTrue(projection.inRange(10));
+		assertFalse(projection.inRange(10.5));
+
+		Projection inverted = new Projection(0, 10, 99, 0);
+		assertEquals(99, inverted.position(0), 0);
+		assertEquals(0, inverted.position(10), 0);
+	}
+
+	@Test
+	public void testHorizontalLineIsClipped() {
+		Raster raster = new Raster(request(TraceType.SOLID_LINE, true));
+
+		raster.drawLine(-50, 4, 70, 4);
+
+		for (int x = 0; x < WIDTH; x++) {
+			assertTrue(isSet(raster.imageData, x, 4));
+		}
+		assertEquals(WIDTH, countSet(raster.imageData));
+	}
+
+	@Test
+	public void testSteepLineIsClipped() {
+		Raster raster = new Raster(request(TraceType.SOLID_LINE, true));
+
+		raster.drawLine(5, -100, 6, 100);
+
+		for (int y = 0; y < HEIGHT; y++) {
+			assertTrue(isSet(raster.imageData, 5, y) || isSet(raster.imageData, 6, y));
+		}
+		assertEquals(HEIGHT, countSet(raster.imageData));
+	}
+
+	@Test
+	public void testLineAcrossCornerIsClipped() {
+		Raster raster = new Raster(request(TraceType.SOLID_LINE, true));
+
+		// enters through the top edge and leaves through the right edge
+		raster.drawLine(WIDTH - 10, -5, WIDTH + 5, 10);
+
+		assertTrue(isSet(raster.imageData, WIDTH - 5, 0));
+		assertTrue(isSet(raster.imageData, WIDTH - 1, 4));
+		assertEquals(5, countSet(raster.imageData));
+	}
+
+	@Test
+	public void testLineOutsideIsNotDrawn() {
+		Raster raster = new Raster(request(TraceType.SOLID_LINE, true));
+
+		raster.drawLine(-10, -10, -3, HEIGHT + 10);
+		raster.drawLine(0, -5, WIDTH, -5);
+		raster.drawLine(WIDTH + 3, 0, WIDTH + 30, HEIGHT);
+
+		assertEquals(0, countSet(raster.imageData));
+	}
+
+	@Test
+	public void testRenderBreaksAtNaN() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 5);
+		provider.append(new double[] { 0, 1, 2, 3, 4 }, new double[] { 5, 5, Double.NaN, 5, 5 });
+
+		ImageData image = TraceRasterizer.render(request(TraceType.SOLID_LINE, true), provider).imageData;
+
+		// x values are 5 pixels apart, y value 5 is in row 4
+		assertTrue(isSet(image, 0, 4));
+		assertTrue(isSet(image, 5, 4));
+		assertFalse(isSet(image, 7, 4));
+		assertFalse(isSet(image, 13, 4));
+		assertTrue(isSet(image, 15, 4));
+		assertTrue(isSet(image, 19, 4));
+		// NaN marker on the x axis
+		assertTrue(isSet(image, 10, HEIGHT - 1));
+	}
+
+	@Test
+	public void testRenderStepContinuesUntilNaN() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 5);
+		provider.append(new double[] { 0, 1, 2, 3 }, new double[] { 5, 5, Double.NaN, 5 });
+
+		ImageData image = TraceRasterizer.render(request(TraceType.STEP_HORIZONTALLY, true), provider).imageData;
+
+		assertTrue(isSet(image, 8, 4));
+		assertFalse(isSet(image, 13, 4));
+	}
+
+	@Test
+	public void testRenderKeepsSpikesOfReducedSamples() {
+		int count = 100000;
+		double[] x = new double[count];
+		double[] y = new double[count];
+		for (int i = 0; i < count; i++) {
+			x[i] = 4.0 * i / count;
+		}
+		y[count / 2 + 7] = 9;
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, count);
+		provider.append(x, y);
+
+		ImageData image = TraceRasterizer.render(request(TraceType.SOLID_LINE, true), provider).imageData;
+
+		assertTrue(isSet(image, 10, 0));
+		assertTrue(isSet(image, 3, HEIGHT - 1));
+	}
+
+	@Test
+	public void testRenderSameWithoutPrimitiveAccess() {
+		double[] y = { 1, 7, Double.NaN, 3, 9 };
+		PrimitiveCircularBufferDataProvider primitive = new PrimitiveCircularBufferDataProvider(true, 5);
+		primitive.append(new double[] { 0, 1, 2, 3, 4 }, y);
+		CircularBufferDataProvider samples = new CircularBufferDataProvider(true);
+		for (int i = 0; i < y.length; i++) {
+			samples.addSample(new Sample(i, y[i]));
+		}
+
+		ImageData expected = TraceRasterizer.render(request(TraceType.SOLID_LINE, true), primitive).imageData;
+		ImageData actual = TraceRasterizer.render(request(TraceType.SOLID_LINE, true), samples).imageData;
+
+		for (int j = 0; j < HEIGHT; j++) {
+			for (int i = 0; i < WIDTH; i++) {
+				assertEquals(isSet(expected, i, j), isSet(actual, i, j));
+			}
+		}
+	}
+
+	@Test
+	public void testFailedRequestIsNotRenderedAgain() {
+		int[] calls = new int[1];
+		Executor direct = Runnable::run;
+		Frames frames = new Frames((request, dataProvider) -> {
+			calls[0]++;
+			throw new IllegalStateException("test"); //$NON-NLS-1$
+		}, direct);
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 5);
+		Request request = request(TraceType.SOLID_LINE, true);
+
+		frames.request(request, provider, direct, () -> {
+		});
+		assertEquals(1, calls[0]);
+		assertTrue(frames.hasFailed(request));
+		assertNull(frames.getFrame());
+
+		frames.request(request(TraceType.SOLID_LINE, true), provider, direct, () -> {
+		});
+		assertEquals(1, calls[0]);
+
+		// a changed request is rendered again
+		Request changed = new Request(WIDTH, HEIGHT, request.x, request.y, request.color, 1, TraceType.SOLID_LINE,
+				1, HEIGHT - 1, true, 1);
+		assertFalse(frames.hasFailed(changed));
+		frames.request(changed, provider, direct, () -> {
+		});
+		assertEquals(2, calls[0]);
+	}
+
+	@Test
+	public void testCompletedRequestIsNotRenderedAgain() {
+		int[] calls = new int[1];
+		Executor direct = Runnable::run;
+		Frames frames = new Frames((request, dataProvider) -> {
+			calls[0]++;
+			return TraceRasterizer.render(request, dataProvider);
+		}, direct);
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 5);
+		int[] done = new int[1];
+
+		frames.request(request(TraceType.SOLID_LINE, true), provider, direct, () -> done[0]++);
+		Frame frame = frames.getFrame();
+		frames.request(request(TraceType.SOLID_LINE, true), provider, direct, () -> done[0]++);
+
+		assertEquals(1, calls[0]);
+		assertEquals(1, done[0]);
+		assertSame(frame, frames.getFrame());
+	}
+
+	/**
+	 * @return a request for x values 0 to 4, 5 pixels apart, and y values 0 to
+	 *         9, one row apart
+	 */
+	private static Request request(TraceType traceType, boolean chronological) {
+		return new Request(WIDTH, HEIGHT, new Projection(0, 4, 0, WIDTH), new Projection(0, 9, HEIGHT - 1, 0),
+				new RGB(255, 0, 0), 1, traceType, 1, HEIGHT - 1, chronological, 0);
+	}
+
+	private static boolean isSet(ImageData image, int x, int y) {
+		return image.alphaData[y * image.width + x] != 0;
+	}
+
+	private static int countSet(ImageData image) {
+		int count = 0;
+		for (byte alpha : image.alphaData) {
+			if (alpha != 0)
+				count++;
+		}
+		return count;
+	}
+}
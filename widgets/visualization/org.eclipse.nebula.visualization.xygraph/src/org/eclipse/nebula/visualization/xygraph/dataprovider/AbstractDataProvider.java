@@ -31,6 +31,18 @@ public abstract class AbstractDataProvider implements IDataProvider {
 	protected Range xDataMinMax = null;
 	protected Range yDataMinMax = null;
 
+	/**
+	 * Incrementally maintained data ranges, <code>null</code> if the ranges
+	 * are computed by visiting all samples.
+	 */
+	private DataRangeTracker xRangeTracker;
+	private DataRangeTracker yRangeTracker;
+
+	/**
+	 * Whether the trackers have to be rebuilt from all samples.
+	 */
+	private boolean rangeTrackersInvalid;
+
 	/**
 	 * @param trace
 	 *            the trace which the data provider will provide data to.
@@ -107,7 +119,12 @@ public abstract class AbstractDataProvider implements IDataProvider {
 	 * @param lowerBound
 	 *            by default it should be 0
 	 */
-	public Range getDataRange(final boolean positiveOnly, final boolean isXAxis, final int lowerBound) {
+	synchronized public Range getDataRange(final boolean positiveOnly, final boolean isXAxis, final int lowerBound) {
+		if (xRangeTracker != null) {
+			final Range range = getTrackedDataRange(positiveOnly, isXAxis, lowerBound);
+			if (range != null)
+				return range;
+		}
 		Range range = null;
 		if (getSize() > 0) { // does not handle NaNs
 			double min = Double.POSITIVE_INFINITY;
@@ -136,6 +153,91 @@ public abstract class AbstractDataProvider implements IDataProvider {
 		return range;
 	}
 
+	synchronized private Range getTrackedDataRange(final boolean positiveOnly, final boolean isXAxis, final int lowerBound) {
+		final int size = getSize();
+		if (size <= 0 || lowerBound >= size)
+			return null;
+		if (rangeTrackersInvalid || xRangeTracker.size() != size) {
+			rebuildRangeTrackers(size);
+		}
+		Range range = (isXAxis ? xRangeTracker : yRangeTracker).getRange(positiveOnly, lowerBound);
+		if (range == null) {
+			// an earlier query discarded older samples
+			rebuildRangeTrackers(size);
+			range = (isXAxis ? xRangeTracker : yRangeTracker).getRange(positiveOnly, lowerBound);
+		}
+		return range;
+	}
+
+	private void rebuildRangeTrackers(final int size) {
+		xRangeTracker = new DataRangeTracker();
+		yRangeTracker = new DataRangeTracker();
+		rangeTrackersInvalid = false;
+		for (int i = 0; i < size; i++) {
+			trackSample(getSample(i));
+		}
+	}
+
+	private void trackSample(final ISample sample) {
+		xRangeTracker.add(sample.getXValue() - sample.getXMinusError(), sample.getXValue() + sample.getXPlusError());
+		yRangeTracker.add(sample.getYValue() - sample.getYMinusError(), sample.getYValue() + sample.getYPlusError());
+	}
+
+	/**
+	 * Enables or disables incremental maintenance of the data ranges. If
+	 * enabled, the data provider has to report every change of its samples by
+	 * calling {@link #sampleAdded(ISample)}, {@link #oldestSamplesRemoved(int)}
+	 * or {@link #samplesChanged()}. Data providers which append samples and
+	 * drop the oldest ones then compute the data ranges in O(1) amortized time
+	 * per sample instead of visiting all samples on every call.
+	 *
+	 * @param enabled
+	 *            true to maintain the data ranges incrementally
+	 */
+	protected synchronized void setIncrementalDataRange(final boolean enabled) {
+		if (enabled) {
+			xRangeTracker = new DataRangeTracker();
+			yRangeTracker = new DataRangeTracker();
+			rangeTrackersInvalid = true;
+		} else {
+			xRangeTracker = null;
+			yRangeTracker = null;
+		}
+	}
+
+	/**
+	 * Reports a sample which was appended after all other samples.
+	 *
+	 * @param sample
+	 *            the new sample
+	 */
+	protected synchronized void sampleAdded(final ISample sample) {
+		if (xRangeTracker != null && !rangeTrackersInvalid)
+			trackSample(sample);
+	}
+
+	/**
+	 * Reports that the oldest samples were removed.
+	 *
+	 * @param count
+	 *            the number of removed samples
+	 */
+	protected synchronized void oldestSamplesRemoved(final int count) {
+		if (xRangeTracker != null && !rangeTrackersInvalid) {
+			xRangeTracker.removeOldest(count);
+			yRangeTracker.removeOldest(count);
+		}
+	}
+
+	/**
+	 * Reports any other change of the samples, e.g. a sample which was
+	 * modified or inserted. The data ranges are computed from all samples on
+	 * the next call.
+	 */
+	protected synchronized void samplesChanged() {
+		rangeTrackersInvalid = true;
+	}
+
 	/**
 	 * @param chronological
 	 *            the chronological to set
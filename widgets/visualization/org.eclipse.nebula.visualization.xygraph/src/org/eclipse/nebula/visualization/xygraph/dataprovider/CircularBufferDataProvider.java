@@ -111,6 +111,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	public CircularBufferDataProvider(boolean chronological) {
 		super(chronological);
 		traceData = new CircularBuffer<ISample>(100);
+		setIncrementalDataRange(true);
 		fireUpdate = new Runnable() {
 			public void run() {
 				for (IDataProviderListener listener : listeners) {
@@ -149,7 +150,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	public synchronized void addSample(ISample sample) {
 		if (traceData.size() == traceData.getBufferSize() && plotMode == PlotMode.N_STOP)
 			return;
-		traceData.add(sample);
+		addToTrace(sample);
 		fireDataChange();
 	}
 
@@ -223,7 +224,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	private void addDataPoint() {
 		double newXValue;
 		if (!concatenate_data)
-			traceData.clear();
+			clearTraceData();
 		if (chronological) {
 			if (xAxisDateEnabled) {
 				if (updateMode != UpdateMode.TRIGGER)
@@ -239,7 +240,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		} else {
 			newXValue = currentXData;
 		}
-		traceData.add(new Sample(newXValue, currentYData));
+		addToTrace(new Sample(newXValue, currentYData));
 		currentXDataChanged = false;
 		currentYDataChanged = false;
 		// currentYDataTimestampChanged = false;
@@ -303,7 +304,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 */
 	private void addDataArray() {
 		if (!concatenate_data)
-			traceData.clear();
+			clearTraceData();
 
 		if (chronological) {
 			double[] newXValueArray;
@@ -318,7 +319,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 				}
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(newXValueArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(newXValueArray[i], currentYDataArray[i]));
+				addToTrace(new Sample(newXValueArray[i], currentYDataArray[i]));
 			}
 		} else {
 			// newXValueArray = currentXDataArray;
@@ -327,7 +328,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 			// just ignore the tail data.
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(currentXDataArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(currentXDataArray[i], currentYDataArray[i]));
+				addToTrace(new Sample(currentXDataArray[i], currentYDataArray[i]));
 			}
 		}
 
@@ -341,7 +342,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 * Clear all data on in the data provider.
 	 */
 	public synchronized void clearTrace() {
-		traceData.clear();
+		clearTraceData();
 		currentXDataArray = new double[] {};
 		currentYDataArray = new double[] {};
 		currentXDataChanged = false;
@@ -351,6 +352,22 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		fireDataChange();
 	}
 
+	/**
+	 * Appends a sample to the trace data, dropping the oldest one if the
+	 * buffer is full.
+	 */
+	private void addToTrace(ISample sample) {
+		if (traceData.size() == traceData.getBufferSize())
+			oldestSamplesRemoved(1);
+		traceData.add(sample);
+		sampleAdded(sample);
+	}
+
+	private void clearTraceData() {
+		traceData.clear();
+		samplesChanged();
+	}
+
 	public Iterator<ISample> iterator() {
 		return traceData.iterator();
 	}
@@ -360,7 +377,9 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 *            the bufferSize to set
 	 */
 	public synchronized void setBufferSize(int bufferSize) {
+		final int size = traceData.size();
 		traceData.setBufferSize(bufferSize, false);
+		oldestSamplesRemoved(size - traceData.size());
 	}
 
 	/**
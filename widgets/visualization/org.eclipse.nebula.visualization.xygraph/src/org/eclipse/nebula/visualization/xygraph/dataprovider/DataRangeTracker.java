@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Incrementally maintained data range of one axis over a sliding window of
+ * samples, where samples are appended at the end and removed at the start.
+ * Monotonic deques of the lower (value minus error) and upper (value plus
+ * error) bounds give the range of any suffix of the window in O(1) amortized
+ * time per sample.
+ * <p>
+ * Samples are numbered by a sequence which counts all samples ever added. Data
+ * before a queried suffix is discarded, so a later query for an older suffix
+ * fails and the owner rebuilds the tracker.
+ */
+final class DataRangeTracker {
+
+	/**
+	 * Sequence of the next added sample.
+	 */
+	private long next;
+
+	/**
+	 * Sequence of the oldest sample which was not removed.
+	 */
+	private long first;
+
+	/**
+	 * Sequence of the oldest sample which is still represented in the deques.
+	 */
+	private long retained;
+
+	private final MonotonicDeque min = new MonotonicDeque(false);
+	private final MonotonicDeque positiveMin = new MonotonicDeque(false);
+	private final MonotonicDeque max = new MonotonicDeque(true);
+
+	/**
+	 * @return the number of samples which were added and not removed
+	 */
+	int size() {
+		return (int) (next - first);
+	}
+
+	/**
+	 * Adds a sample at the end.
+	 *
+	 * @param lower
+	 *            value minus error of the sample
+	 * @param upper
+	 *            value plus error of the sample
+	 */
+	void add(double lower, double upper) {
+		// NaN values never take part in a range
+		if (!Double.isNaN(lower)) {
+			min.add(next, lower);
+			if (lower > 0)
+				positiveMin.add(next, lower);
+		}
+		if (!Double.isNaN(upper))
+			max.add(next, upper);
+		next++;
+	}
+
+	/**
+	 * Removes the oldest samples.
+	 *
+	 * @param count
+	 *            number of samples to remove
+	 */
+	void removeOldest(int count) {
+		first = Math.min(next, first + count);
+		discardBefore(first);
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	void clear() {
+		first = next;
+		discardBefore(first);
+	}
+
+	/**
+	 * Computes the range of the samples from the given index (relative to the
+	 * oldest sample) to the newest one. Like
+	 * {@link AbstractDataProvider#getDataRange(boolean, boolean, int)}, a
+	 * positive only range ignores lower bounds which are not positive.
+	 *
+	 * @param positiveOnly
+	 *            if data is positive only (for log scale mode)
+	 * @param lowerBound
+	 *            index of the first sample of the range
+	 * @return the range or <code>null</code> if samples before the given index
+	 *         were discarded by an earlier query
+	 */
+	Range getRange(boolean positiveOnly, int lowerBound) {
+		final long from = first + Math.max(lowerBound, 0);
+		if (from < retained)
+			return null;
+		discardBefore(from);
+		double lower = (positiveOnly ? positiveMin : min).peek(Double.POSITIVE_INFINITY);
+		double upper = max.peek(Double.NEGATIVE_INFINITY);
+		if (positiveOnly) {
+			upper = Math.max(upper, 0);
+			if (upper < lower)
+				upper = lower;
+		}
+		return new Range(lower, upper);
+	}
+
+	private void discardBefore(long sequence) {
+		if (sequence > retained) {
+			retained = sequence;
+			min.removeBefore(sequence);
+			positiveMin.removeBefore(sequence);
+			max.removeBefore(sequence);
+		}
+	}
+
+	/**
+	 * Deque of (sequence, value) pairs with ascending sequences and ascending
+	 * (or for a maximum, descending) values, so the head is the extremum of
+	 * all values added since the oldest retained sequence.
+	 */
+	private static final class MonotonicDeque {
+
+		private final boolean max;
+
+		private long[] sequences = new long[16];
+		private double[] values = new double[16];
+		private int head;
+		private int size;
+
+		MonotonicDeque(boolean max) {
+			this.max = max;
+		}
+
+		void add(long sequence, double value) {
+			// drop values which can never be the extremum again
+			while (size > 0) {
+				final double last = values[index(size - 1)];
+				if (max ? last > value : last < value)
+					break;
+				size--;
+			}
+			if (size == sequences.length)
+				grow();
+			final int index = index(size++);
+			sequences[index] = sequence;
+			values[index] = value;
+		}
+
+		void removeBefore(long sequence) {
+			while (size > 0 && sequences[head] < sequence) {
+				head = index(1);
+				size--;
+			}
+		}
+
+		double peek(double empty) {
+			return size == 0 ? empty : values[head];
+		}
+
+		private int index(int offset) {
+			return (head + offset) & (sequences.length - 1);
+		}
+
+		private void grow() {
+			final long[] newSequences = new long[2 * sequences.length];
+			final double[] newValues = new double[2 * values.length];
+			for (int i = 0; i < size; i++) {
+				newSequences[i] = sequences[index(i)];
+				newValues[i] = values[index(i)];
+			}
+			sequences = newSequences;
+			values = newValues;
+			head = 0;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+/**
+ * A data provider which can find the samples with the minimum and maximum y
+ * value of a range of samples faster than by visiting every sample, e.g. by
+ * maintaining a {@link MinMaxPyramid}. A trace with level of detail rendering
+ * uses this to reduce the samples to a few per pixel column, which are split
+ * at samples with a NaN y value.
+ * <p>
+ * The indices are the same as for {@link #getSample(int)}.
+ */
+public interface IMinMaxDataProvider extends IDataProvider {
+
+	/**
+	 * @param from
+	 *            first sample index (inclusive)
+	 * @param to
+	 *            last sample index (inclusive)
+	 * @return the index of the sample with the minimum y value in the given
+	 *         range or -1 if the range is empty
+	 */
+	public int getMinYIndex(int from, int to);
+
+	/**
+	 * @param from
+	 *            first sample index (inclusive)
+	 * @param to
+	 *            last sample index (inclusive)
+	 * @return the index of the sample with the maximum y value in the given
+	 *         range or -1 if the range is empty
+	 */
+	public int getMaxYIndex(int from, int to);
+
+	/**
+	 * @param from
+	 *            first sample index (inclusive)
+	 * @param to
+	 *            last sample index (inclusive)
+	 * @return the index of the first sample with a NaN y value in the given
+	 *         range or -1 if there is none
+	 */
+	public int getFirstNaNYIndex(int from, int to);
+
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+/**
+ * A data provider which gives access to the values of its samples without
+ * creating {@link ISample} instances. Traces use this e.g. to binary search
+ * the visible samples of chronological data.
+ * <p>
+ * The indices are the same as for {@link #getSample(int)}.
+ */
+public interface IPrimitiveDataProvider extends IDataProvider {
+
+	/**
+	 * @param index
+	 *            sample index, 0...<code>getSize()-1</code>
+	 * @return the x value of the sample
+	 */
+	public double getXValue(int index);
+
+	/**
+	 * @param index
+	 *            sample index, 0...<code>getSize()-1</code>
+	 * @return the y value of the sample
+	 */
+	public double getYValue(int index);
+
+}
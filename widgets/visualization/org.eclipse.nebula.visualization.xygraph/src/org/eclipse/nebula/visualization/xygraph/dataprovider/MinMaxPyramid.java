@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+/**
+ * A multi-resolution minimum/maximum pyramid over the positions of a
+ * <code>double</code> array. Each level halves the resolution of the level
+ * below and stores for every block the position of its minimum and maximum
+ * value, so the minimum or maximum of any range of positions is found by
+ * combining O(log n) blocks.
+ * <p>
+ * The owner of the array calls {@link #update(int, int)} after changing
+ * values. NaN values are never reported as minimum or maximum unless a range
+ * only contains NaN, {@link #getFirstNaNPosition(int, int)} finds them in
+ * O(log n) as well. The smallest positive value, e.g. for a logarithmic scale,
+ * is found by {@link #getMinPositivePosition(int, int)}.
+ */
+public class MinMaxPyramid {
+
+	private final double[] values;
+
+	/**
+	 * Number of leaves, a power of two.
+	 */
+	private final int leaves;
+
+	/**
+	 * Position of the minimum and maximum value per node, -1 for nodes
+	 * without positions. Node 1 is the root, node <code>leaves + i</code> is
+	 * position <code>i</code>.
+	 */
+	private final int[] minPositions;
+	private final int[] maxPositions;
+
+	/**
+	 * Position of the smallest value greater than 0 per node, -1 for nodes
+	 * without such a value.
+	 */
+	private final int[] minPositivePositions;
+
+	/**
+	 * Number of NaN values per node.
+	 */
+	private final int[] nanCounts;
+
+	/**
+	 * Creates a pyramid over the given array, which initially is built from its
+	 * current values.
+	 *
+	 * @param values
+	 *            the values
+	 */
+	public MinMaxPyramid(double[] values) {
+		this.values = values;
+		leaves = Math.max(1, Integer.highestOneBit(Math.max(values.length - 1, 1)) << 1);
+		minPositions = new int[2 * leaves];
+		maxPositions = new int[2 * leaves];
+		minPositivePositions = new int[2 * leaves];
+		nanCounts = new int[2 * leaves];
+		for (int i = 0; i < leaves; i++) {
+			final int position = i < values.length ? i : -1;
+			minPositions[leaves + i] = position;
+			maxPositions[leaves + i] = position;
+			minPositivePositions[leaves + i] = position >= 0 && values[i] > 0 ? position : -1;
+			nanCounts[leaves + i] = position >= 0 && Double.isNaN(values[i]) ? 1 : 0;
+		}
+		for (int node = leaves - 1; node > 0; node--) {
+			pull(node);
+		}
+	}
+
+	/**
+	 * Updates the pyramid after the values at the given positions changed.
+	 *
+	 * @param from
+	 *            first changed position (inclusive)
+	 * @param to
+	 *            last changed position (exclusive)
+	 */
+	public void update(int from, int to) {
+		if (from >= to)
+			return;
+		for (int i = from; i < to; i++) {
+			minPositivePositions[leaves + i] = values[i] > 0 ? i : -1;
+			nanCounts[leaves + i] = Double.isNaN(values[i]) ? 1 : 0;
+		}
+		// parents of the changed leaves, level by level
+		int first = (leaves + from) >>> 1;
+		int last = (leaves + to - 1) >>> 1;
+		while (first > 0) {
+			for (int node = first; node <= last; node++) {
+				pull(node);
+			}
+			first >>>= 1;
+			last >>>= 1;
+		}
+	}
+
+	/**
+	 * @param from
+	 *            first position (inclusive)
+	 * @param to
+	 *            last position (inclusive)
+	 * @return the position of the minimum value in the given range or -1 if
+	 *         the range is empty
+	 */
+	public int getMinPosition(int from, int to) {
+		return query(minPositions, from, to, false);
+	}
+
+	/**
+	 * @param from
+	 *            first position (inclusive)
+	 * @param to
+	 *            last position (inclusive)
+	 * @return the position of the maximum value in the given range or -1 if
+	 *         the range is empty
+	 */
+	public int getMaxPosition(int from, int to) {
+		return query(maxPositions, from, to, true);
+	}
+
+	/**
+	 * @param from
+	 *            first position (inclusive)
+	 * @param to
+	 *            last position (inclusive)
+	 * @return the position of the smallest value greater than 0 in the given
+	 *         range or -1 if the range contains no such value
+	 */
+	public int getMinPositivePosition(int from, int to) {
+		return query(minPositivePositions, from, to, false);
+	}
+
+	/**
+	 * @param from
+	 *            first position (inclusive)
+	 * @param to
+	 *            last position (inclusive)
+	 * @return the lowest position of a NaN value in the given range or -1 if
+	 *         the range contains no NaN
+	 */
+	public int getFirstNaNPosition(int from, int to) {
+		if (from < 0 || to >= values.length || from > to)
+			return -1;
+		return findNaN(1, 0, leaves - 1, from, to);
+	}
+
+	private int findNaN(int node, int lo, int hi, int from, int to) {
+		if (nanCounts[node] == 0 || hi < from || lo > to)
+			return -1;
+		if (node >= leaves)
+			return lo;
+		final int mid = (lo + hi) >>> 1;
+		final int left = findNaN(2 * node, lo, mid, from, to);
+		return left >= 0 ? left : findNaN(2 * node + 1, mid + 1, hi, from, to);
+	}
+
+	private int query(int[] positions, int from, int to, boolean max) {
+		if (from < 0 || to >= values.length || from > to)
+			return -1;
+		int result = -1;
+		for (int lo = leaves + from, hi = leaves + to + 1; lo < hi; lo >>>= 1, hi >>>= 1) {
+			if ((lo & 1) != 0)
+				result = select(result, positions[lo++], max);
+			if ((hi & 1) != 0)
+				result = select(result, positions[--hi], max);
+		}
+		return result;
+	}
+
+	private void pull(int node) {
+		minPositions[node] = select(minPositions[2 * node], minPositions[2 * node + 1], false);
+		maxPositions[node] = select(maxPositions[2 * node], maxPositions[2 * node + 1], true);
+		minPositivePositions[node] = select(minPositivePositions[2 * node], minPositivePositions[2 * node + 1], false);
+		nanCounts[node] = nanCounts[2 * node] + nanCounts[2 * node + 1];
+	}
+
+	/**
+	 * @return the position of the smaller (or larger) value, preferring non
+	 *         NaN values and the lower position on ties
+	 */
+	private int select(int a, int b, boolean max) {
+		if (a < 0)
+			return b;
+		if (b < 0)
+			return a;
+		final double va = values[a];
+		final double vb = values[b];
+		if (Double.isNaN(va))
+			return Double.isNaN(vb) ? Math.min(a, b) : b;
+		if (Double.isNaN(vb) || va == vb)
+			return va == vb ? Math.min(a, b) : a;
+		return (max ? va > vb : va < vb) ? a : b;
+	}
+}
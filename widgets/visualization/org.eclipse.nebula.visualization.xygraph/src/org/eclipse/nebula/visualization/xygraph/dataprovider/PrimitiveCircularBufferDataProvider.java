@@ -0,0 +1,676 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * A circular buffer data provider which keeps its samples in primitive arrays
+ * instead of {@link ISample} objects, for traces with high sample rates.
+ * <p>
+ * Samples are appended by a single writer thread, e.g. the acquisition thread,
+ * using {@link #append(double, double)} or the bulk
+ * {@link #append(double[], double[])}. Appending does not lock the provider:
+ * the values are written into the arrays first and then published by a
+ * volatile sample counter, so painting and acquisition never wait for each
+ * other. Once the buffer is full, the oldest samples are overwritten.
+ * <p>
+ * Readers see the samples as of their last call to {@link #getSize()} on the
+ * same thread, as the XY Graph always asks for the size before iterating over
+ * the samples; a thread which reads samples without asking for the size first
+ * sees them as of its first access. Painting and background rendering threads
+ * therefore each keep their own indices. If the writer overwrites samples
+ * while a reader iterates, the reader may observe newer values for the oldest
+ * samples, but never inconsistent indices.
+ * {@link #getSample(int)} returns lightweight copies of the values and errors,
+ * which are equal if their values and errors are;
+ * {@link #getXValue(int)} and {@link #getYValue(int)} read the values without
+ * creating any objects.
+ * <p>
+ * Listeners are not notified on the writer thread: the first change after a
+ * notification posts one to the display of the thread which added the first
+ * listener, later changes are coalesced into it. If no listener was added on a
+ * display thread, listeners are notified right away.
+ * <p>
+ * Errors are only stored if enabled in the constructor. The timestamp of a
+ * sample is the time in milliseconds when it was appended.
+ * <p>
+ * A {@link MinMaxPyramid} over the y values is maintained while appending, so
+ * traces with level of detail rendering find the minimum and maximum of a
+ * range of samples in O(log n), as does {@link #getDataRange} for the y axis.
+ * The y values and the pyramid are written and queried under a lock of their
+ * own, which is only held for the O(log n) updates and queries, so readers
+ * never see half updated pyramid nodes.
+ * The x range of chronological samples is taken from the first and last
+ * sample.
+ */
+public class PrimitiveCircularBufferDataProvider extends AbstractDataProvider
+		implements IMinMaxDataProvider, IPrimitiveDataProvider {
+
+	/**
+	 * Samples a reader works on: the sequence numbers of the first retained
+	 * and the next sample to be written.
+	 */
+	private static final class Frame {
+		final long start;
+		final long end;
+
+		Frame(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+
+	/**
+	 * A copy of the values and errors of a sample, without meta data. Like
+	 * {@link Sample}, views with the same values and errors are equal, so a
+	 * sample fetched again is found in the hot samples of a trace.
+	 */
+	private static final class SampleView implements ISample {
+		private final double x;
+		private final double y;
+		private final double xPlusError;
+		private final double yPlusError;
+		private final double xMinusError;
+		private final double yMinusError;
+
+		SampleView(double x, double y, double xPlusError, double yPlusError, double xMinusError,
+				double yMinusError) {
+			this.x = x;
+			this.y = y;
+			this.xPlusError = xPlusError;
+			this.yPlusError = yPlusError;
+			this.xMinusError = xMinusError;
+			this.yMinusError = yMinusError;
+		}
+
+		@Override
+		public double getXValue() {
+			return x;
+		}
+
+		@Override
+		public double getYValue() {
+			return y;
+		}
+
+		@Override
+		public double getXPlusError() {
+			return xPlusError;
+		}
+
+		@Override
+		public double getYPlusError() {
+			return yPlusError;
+		}
+
+		@Override
+		public double getXMinusError() {
+			return xMinusError;
+		}
+
+		@Override
+		public double getYMinusError() {
+			return yMinusError;
+		}
+
+		@Override
+		public String getInfo() {
+			return ""; //$NON-NLS-1$
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + hashOf(x);
+			result = prime * result + hashOf(y);
+			result = prime * result + hashOf(xPlusError);
+			result = prime * result + hashOf(yPlusError);
+			result = prime * result + hashOf(xMinusError);
+			result = prime * result + hashOf(yMinusError);
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || getClass() != obj.getClass())
+				return false;
+			final SampleView other = (SampleView) obj;
+			return Double.doubleToLongBits(x) == Double.doubleToLongBits(other.x)
+					&& Double.doubleToLongBits(y) == Double.doubleToLongBits(other.y)
+					&& Double.doubleToLongBits(xPlusError) == Double.doubleToLongBits(other.xPlusError)
+					&& Double.doubleToLongBits(yPlusError) == Double.doubleToLongBits(other.yPlusError)
+					&& Double.doubleToLongBits(xMinusError) == Double.doubleToLongBits(other.xMinusError)
+					&& Double.doubleToLongBits(yMinusError) == Double.doubleToLongBits(other.yMinusError);
+		}
+
+		private static int hashOf(double value) {
+			final long bits = Double.doubleToLongBits(value);
+			return (int) (bits ^ (bits >>> 32));
+		}
+
+		@Override
+		public String toString() {
+			return "Sample(" + x + ", " + y + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private final int capacity;
+	private final double[] xValues;
+	private final double[] yValues;
+	private final long[] timestamps;
+	private final double[] xPlusErrors;
+	private final double[] xMinusErrors;
+	private final double[] yPlusErrors;
+	private final double[] yMinusErrors;
+	private final MinMaxPyramid yPyramid;
+
+	/**
+	 * Guards {@link #yValues} and {@link #yPyramid}.
+	 */
+	private final Object yLock = new Object();
+
+	/**
+	 * Number of samples ever appended, written by the writer after the values.
+	 */
+	private volatile long written;
+
+	/**
+	 * Sequence number of the first sample after the last {@link #clear()}.
+	 */
+	private volatile long cleared;
+
+	/**
+	 * Samples as of the last {@link #getSize()} of each reader thread,
+	 * <code>null</code> for threads which did not read yet.
+	 */
+	private final ThreadLocal<Frame> frame = new ThreadLocal<>();
+
+	/**
+	 * Display the listeners are notified on, <code>null</code> to notify them
+	 * on the writer thread.
+	 */
+	private volatile Display display;
+
+	/**
+	 * Whether a notification has been posted to the display and not run yet.
+	 */
+	private final AtomicBoolean changePending = new AtomicBoolean();
+
+	private final Runnable fireUpdate = () -> {
+		changePending.set(false);
+		super.fireDataChange();
+	};
+
+	/**
+	 * Creates a data provider without errors.
+	 *
+	 * @param chronological
+	 *            true if the samples are appended in ascending x order
+	 * @param capacity
+	 *            maximum number of samples to keep
+	 */
+	public PrimitiveCircularBufferDataProvider(boolean chronological, int capacity) {
+		this(chronological, capacity, false);
+	}
+
+	/**
+	 * @param chronological
+	 *            true if the samples are appended in ascending x order
+	 * @param capacity
+	 *            maximum number of samples to keep
+	 * @param withErrors
+	 *            true to store x/y errors per sample
+	 */
+	public PrimitiveCircularBufferDataProvider(boolean chronological, int capacity, boolean withErrors) {
+		super(chronological);
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity); //$NON-NLS-1$
+		this.capacity = capacity;
+		xValues = new double[capacity];
+		yValues = new double[capacity];
+		timestamps = new long[capacity];
+		if (withErrors) {
+			xPlusErrors = new double[capacity];
+			xMinusErrors = new double[capacity];
+			yPlusErrors = new double[capacity];
+			yMinusErrors = new double[capacity];
+		} else {
+			xPlusErrors = xMinusErrors = yPlusErrors = yMinusErrors = null;
+		}
+		yPyramid = new MinMaxPyramid(yValues);
+	}
+
+	/**
+	 * @return the maximum number of samples
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public boolean hasErrors() {
+		return xPlusErrors != null;
+	}
+
+	/**
+	 * Appends a sample. Must only be called by one thread at a time.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 */
+	public void append(double x, double y) {
+		final long sequence = written;
+		final int slot = slotOf(sequence);
+		xValues[slot] = x;
+		timestamps[slot] = System.currentTimeMillis();
+		clearErrors(slot);
+		synchronized (yLock) {
+			yValues[slot] = y;
+			yPyramid.update(slot, slot + 1);
+		}
+		written = sequence + 1;
+		fireDataChange();
+	}
+
+	/**
+	 * Appends a sample with errors. Must only be called by one thread at a
+	 * time. The errors are ignored if the provider does not store errors.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 * @param xPlusError
+	 *            plus error on x
+	 * @param xMinusError
+	 *            minus error on x
+	 * @param yPlusError
+	 *            plus error on y
+	 * @param yMinusError
+	 *            minus error on y
+	 */
+	public void append(double x, double y, double xPlusError, double xMinusError, double yPlusError,
+			double yMinusError) {
+		final long sequence = written;
+		final int slot = slotOf(sequence);
+		xValues[slot] = x;
+		timestamps[slot] = System.currentTimeMillis();
+		if (hasErrors()) {
+			xPlusErrors[slot] = xPlusError;
+			xMinusErrors[slot] = xMinusError;
+			yPlusErrors[slot] = yPlusError;
+			yMinusErrors[slot] = yMinusError;
+		}
+		synchronized (yLock) {
+			yValues[slot] = y;
+			yPyramid.update(slot, slot + 1);
+		}
+		written = sequence + 1;
+		fireDataChange();
+	}
+
+	/**
+	 * Appends the given samples. Must only be called by one thread at a time.
+	 * Listeners are notified once.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values
+	 */
+	public void append(double[] x, double[] y) {
+		append(x, y, 0, Math.min(x.length, y.length));
+	}
+
+	/**
+	 * Appends the given samples. Must only be called by one thread at a time.
+	 * Listeners are notified once. If more samples than the capacity are given,
+	 * only the last ones are kept.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values
+	 * @param offset
+	 *            index of the first sample in the arrays
+	 * @param length
+	 *            number of samples
+	 */
+	public void append(double[] x, double[] y, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > x.length || offset + length > y.length)
+			throw new IndexOutOfBoundsException();
+		if (length == 0)
+			return;
+		// samples which would be overwritten right away are skipped
+		final int skipped = Math.max(0, length - capacity);
+		final long sequence = written + skipped;
+		final long timestamp = System.currentTimeMillis();
+		int done = 0;
+		final int count = length - skipped;
+		while (done < count) {
+			final int slot = slotOf(sequence + done);
+			final int chunk = Math.min(count - done, capacity - slot);
+			System.arraycopy(x, offset + skipped + done, xValues, slot, chunk);
+			Arrays.fill(timestamps, slot, slot + chunk, timestamp);
+			if (hasErrors()) {
+				Arrays.fill(xPlusErrors, slot, slot + chunk, 0);
+				Arrays.fill(xMinusErrors, slot, slot + chunk, 0);
+				Arrays.fill(yPlusErrors, slot, slot + chunk, 0);
+				Arrays.fill(yMinusErrors, slot, slot + chunk, 0);
+			}
+			synchronized (yLock) {
+				System.arraycopy(y, offset + skipped + done, yValues, slot, chunk);
+				yPyramid.update(slot, slot + chunk);
+			}
+			done += chunk;
+		}
+		written = sequence + count;
+		fireDataChange();
+	}
+
+	/**
+	 * Removes all samples. Must only be called by the writer thread.
+	 */
+	public void clear() {
+		cleared = written;
+		fireDataChange();
+	}
+
+	@Override
+	public int getSize() {
+		final Frame current = currentFrame();
+		frame.set(current);
+		return (int) (current.end - current.start);
+	}
+
+	@Override
+	public ISample getSample(int index) {
+		final Frame current = readerFrame();
+		final long sequence = current.start + index;
+		if (index < 0 || sequence >= current.end)
+			return null;
+		final int slot = slotOf(sequence);
+		return new SampleView(xValues[slot], yValues[slot], errorOf(xPlusErrors, slot), errorOf(yPlusErrors, slot),
+				errorOf(xMinusErrors, slot), errorOf(yMinusErrors, slot));
+	}
+
+	/**
+	 * @param index
+	 *            sample index, 0...<code>getSize()-1</code>
+	 * @return the x value of the sample
+	 */
+	@Override
+	public double getXValue(int index) {
+		return xValues[slotOf(sequenceOf(index))];
+	}
+
+	/**
+	 * @param index
+	 *            sample index, 0...<code>getSize()-1</code>
+	 * @return the y value of the sample
+	 */
+	@Override
+	public double getYValue(int index) {
+		return yValues[slotOf(sequenceOf(index))];
+	}
+
+	/**
+	 * @param index
+	 *            sample index, 0...<code>getSize()-1</code>
+	 * @return the time in milliseconds when the sample was appended
+	 */
+	public long getTimestamp(int index) {
+		return timestamps[slotOf(sequenceOf(index))];
+	}
+
+	@Override
+	public int getMinYIndex(int from, int to) {
+		return findYIndex(from, to, false);
+	}
+
+	@Override
+	public int getMaxYIndex(int from, int to) {
+		return findYIndex(from, to, true);
+	}
+
+	@Override
+	public int getFirstNaNYIndex(int from, int to) {
+		final Frame current = readerFrame();
+		if (from < 0 || from > to || to >= current.end - current.start)
+			return -1;
+		final int first = slotOf(current.start + from);
+		final int last = slotOf(current.start + to);
+		int slot;
+		synchronized (yLock) {
+			if (first <= last) {
+				slot = yPyramid.getFirstNaNPosition(first, last);
+			} else {
+				// the range wraps around the end of the arrays
+				slot = yPyramid.getFirstNaNPosition(first, capacity - 1);
+				if (slot < 0)
+					slot = yPyramid.getFirstNaNPosition(0, last);
+			}
+		}
+		return slot < 0 ? -1 : from + (slot - first + capacity) % capacity;
+	}
+
+	private int findYIndex(int from, int to, boolean max) {
+		final Frame current = readerFrame();
+		if (from < 0 || from > to || to >= current.end - current.start)
+			return -1;
+		final int first = slotOf(current.start + from);
+		final int slot;
+		synchronized (yLock) {
+			slot = findYSlot(current.start + from, current.start + to, max);
+		}
+		return from + (slot - first + capacity) % capacity;
+	}
+
+	/**
+	 * Must be called with {@link #yLock} held.
+	 *
+	 * @return the slot of the minimum or maximum y value of the samples with
+	 *         the given sequences (inclusive)
+	 */
+	private int findYSlot(long fromSequence, long toSequence, boolean max) {
+		final int first = slotOf(fromSequence);
+		final int last = slotOf(toSequence);
+		final int slot;
+		if (first <= last) {
+			slot = max ? yPyramid.getMaxPosition(first, last) : yPyramid.getMinPosition(first, last);
+		} else {
+			// the range wraps around the end of the arrays
+			final int tail = max ? yPyramid.getMaxPosition(first, capacity - 1)
+					: yPyramid.getMinPosition(first, capacity - 1);
+			final int head = max ? yPyramid.getMaxPosition(0, last) : yPyramid.getMinPosition(0, last);
+			final double tailValue = yValues[tail];
+			final double headValue = yValues[head];
+			if (Double.isNaN(tailValue))
+				slot = head;
+			else if (Double.isNaN(headValue))
+				slot = tail;
+			else
+				slot = (max ? headValue > tailValue : headValue < tailValue) ? head : tail;
+		}
+		return slot;
+	}
+
+	@Override
+	public Range getDataRange(final boolean positiveOnly, final boolean isXAxis, final int lowerBound) {
+		final Frame current = currentFrame();
+		if (current.end == current.start)
+			return null;
+		final long from = current.start + Math.max(lowerBound, 0);
+		if (!hasErrors() && from < current.end) {
+			if (!isXAxis) {
+				synchronized (yLock) {
+					return getYRange(from, current.end - 1, positiveOnly);
+				}
+			}
+			if (isChronological())
+				return getChronologicalXRange(from, current.end - 1, positiveOnly);
+		}
+		final double[] values = isXAxis ? xValues : yValues;
+		final double[] minusErrors = isXAxis ? xMinusErrors : yMinusErrors;
+		final double[] plusErrors = isXAxis ? xPlusErrors : yPlusErrors;
+		double min = Double.POSITIVE_INFINITY;
+		double max = positiveOnly ? 0 : Double.NEGATIVE_INFINITY;
+		for (long sequence = from; sequence < current.end; sequence++) {
+			final int slot = slotOf(sequence);
+			double value = values[slot] - (minusErrors == null ? 0 : minusErrors[slot]);
+			if ((!positiveOnly || value > 0) && min > value)
+				min = value;
+			value = values[slot] + (plusErrors == null ? 0 : plusErrors[slot]);
+			if (max < value)
+				max = value;
+		}
+		if (positiveOnly && max < min)
+			max = min;
+		return new Range(min, max);
+	}
+
+	/**
+	 * Finds the y range of the samples with the given sequences (inclusive) in
+	 * O(log n) with the y pyramid. Must be called with {@link #yLock} held.
+	 */
+	private Range getYRange(long fromSequence, long toSequence, boolean positiveOnly) {
+		final double largest = yValues[findYSlot(fromSequence, toSequence, true)];
+		if (!positiveOnly) {
+			final double smallest = yValues[findYSlot(fromSequence, toSequence, false)];
+			return Double.isNaN(smallest) ? new Range(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY)
+					: new Range(smallest, largest);
+		}
+		final int minSlot = findMinPositiveYSlot(fromSequence, toSequence);
+		final double min = minSlot < 0 ? Double.POSITIVE_INFINITY : yValues[minSlot];
+		final double max = Double.isNaN(largest) ? 0 : Math.max(0, largest);
+		return new Range(min, Math.max(min, max));
+	}
+
+	/**
+	 * Must be called with {@link #yLock} held.
+	 *
+	 * @return the slot of the smallest positive y value of the samples with the
+	 *         given sequences (inclusive) or -1 if there is none
+	 */
+	private int findMinPositiveYSlot(long fromSequence, long toSequence) {
+		final int first = slotOf(fromSequence);
+		final int last = slotOf(toSequence);
+		if (first <= last)
+			return yPyramid.getMinPositivePosition(first, last);
+		// the range wraps around the end of the arrays
+		final int tail = yPyramid.getMinPositivePosition(first, capacity - 1);
+		final int head = yPyramid.getMinPositivePosition(0, last);
+		if (tail < 0 || head < 0)
+			return Math.max(tail, head);
+		return yValues[head] < yValues[tail] ? head : tail;
+	}
+
+	/**
+	 * Finds the x range of the samples with the given sequences (inclusive),
+	 * which are in ascending x order: the first and last sample in O(1), the
+	 * first positive sample by a binary search.
+	 */
+	private Range getChronologicalXRange(long fromSequence, long toSequence, boolean positiveOnly) {
+		final double last = xValues[slotOf(toSequence)];
+		if (!positiveOnly)
+			return new Range(xValues[slotOf(fromSequence)], last);
+		long low = fromSequence;
+		long high = toSequence + 1;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (xValues[slotOf(mid)] > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		final double min = low > toSequence ? Double.POSITIVE_INFINITY : xValues[slotOf(low)];
+		return new Range(min, Math.max(min, Math.max(0, last)));
+	}
+
+	@Override
+	public void addDataProviderListener(final IDataProviderListener listener) {
+		if (display == null)
+			display = Display.getCurrent();
+		super.addDataProviderListener(listener);
+	}
+
+	@Override
+	protected void fireDataChange() {
+		final Display current = display;
+		if (current == null || current.isDisposed()) {
+			super.fireDataChange();
+			return;
+		}
+		if (changePending.compareAndSet(false, true)) {
+			try {
+				current.asyncExec(fireUpdate);
+			} catch (final SWTException e) {
+				// the display has been disposed meanwhile
+				changePending.set(false);
+			}
+		}
+	}
+
+	private Frame currentFrame() {
+		final long end = written;
+		final long start = Math.min(end, Math.max(cleared, end - capacity));
+		return new Frame(start, end);
+	}
+
+	/**
+	 * @return the samples of the calling thread, as of its last
+	 *         {@link #getSize()} or its first access
+	 */
+	private Frame readerFrame() {
+		Frame current = frame.get();
+		if (current == null) {
+			current = currentFrame();
+			frame.set(current);
+		}
+		return current;
+	}
+
+	private long sequenceOf(int index) {
+		final Frame current = readerFrame();
+		final long sequence = current.start + index;
+		if (index < 0 || sequence >= current.end)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (current.end - current.start)); //$NON-NLS-1$ //$NON-NLS-2$
+		return sequence;
+	}
+
+	private int slotOf(long sequence) {
+		return (int) (sequence % capacity);
+	}
+
+	private void clearErrors(int slot) {
+		if (hasErrors()) {
+			xPlusErrors[slot] = 0;
+			xMinusErrors[slot] = 0;
+			yPlusErrors[slot] = 0;
+			yMinusErrors[slot] = 0;
+		}
+	}
+
+	private static double errorOf(double[] errors, int slot) {
+		return errors == null ? 0 : errors[slot];
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+
+/**
+ * Uniform grid over the pixel positions of the hot samples of a trace, so the
+ * sample nearest to a position is found by visiting the cells around it
+ * instead of all samples. Works for chronological as well as scatter data.
+ */
+final class HotSampleIndex {
+
+	private static final int CELL_SIZE = 16;
+	private static final int MAX_CELLS_PER_AXIS = 1024;
+
+	private final List<ISample> samples;
+	private final int[] xPositions;
+	private final int[] yPositions;
+	private final Set<ISample> members;
+
+	private final int left, top;
+	private final long cellWidth, cellHeight;
+	private final int columns, rows;
+
+	/**
+	 * Sample indices sorted by cell, the samples of cell <code>c</code> are at
+	 * <code>cellStarts[c]</code> to <code>cellStarts[c + 1] - 1</code>.
+	 */
+	private final int[] cellStarts;
+	private final int[] cellSamples;
+
+	/**
+	 * @param samples
+	 *            the hot samples
+	 * @param xPositions
+	 *            the x pixel positions of the samples
+	 * @param yPositions
+	 *            the y pixel positions of the samples
+	 */
+	HotSampleIndex(List<ISample> samples, int[] xPositions, int[] yPositions) {
+		this.samples = samples;
+		this.xPositions = xPositions;
+		this.yPositions = yPositions;
+		members = new HashSet<ISample>(samples);
+
+		final int count = samples.size();
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < count; i++) {
+			minX = Math.min(minX, xPositions[i]);
+			maxX = Math.max(maxX, xPositions[i]);
+			minY = Math.min(minY, yPositions[i]);
+			maxY = Math.max(maxY, yPositions[i]);
+		}
+		left = count == 0 ? 0 : minX;
+		top = count == 0 ? 0 : minY;
+		final long width = count == 0 ? 0 : (long) maxX - minX;
+		final long height = count == 0 ? 0 : (long) maxY - minY;
+		cellWidth = Math.max(CELL_SIZE, width / MAX_CELLS_PER_AXIS + 1);
+		cellHeight = Math.max(CELL_SIZE, height / MAX_CELLS_PER_AXIS + 1);
+		columns = (int) (width / cellWidth + 1);
+		rows = (int) (height / cellHeight + 1);
+
+		// counting sort of the samples by cell
+		cellStarts = new int[columns * rows + 1];
+		for (int i = 0; i < count; i++) {
+			cellStarts[cellOf(i) + 1]++;
+		}
+		for (int c = 0; c < columns * rows; c++) {
+			cellStarts[c + 1] += cellStarts[c];
+		}
+		cellSamples = new int[count];
+		final int[] next = cellStarts.clone();
+		for (int i = 0; i < count; i++) {
+			cellSamples[next[cellOf(i)]++] = i;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the given sample is a hot sample, like
+	 *         {@link List#contains(Object)}
+	 */
+	boolean contains(ISample sample) {
+		return members.contains(sample);
+	}
+
+	/**
+	 * @return the sample nearest to the given position or <code>null</code> if
+	 *         there are no samples. Of several samples at the same distance the
+	 *         first one in the list is returned.
+	 */
+	ISample findNearest(int x, int y) {
+		final int column = clamp(Math.floorDiv((long) x - left, cellWidth), columns);
+		final int row = clamp(Math.floorDiv((long) y - top, cellHeight), rows);
+		final int maxRing = Math.max(columns, rows);
+		int best = -1;
+		long bestDistance = Long.MAX_VALUE;
+		for (int ring = 0; ring <= maxRing; ring++) {
+			// samples in this and further rings are at least this far away
+			final long bound = (ring - 1) * Math.min(cellWidth, cellHeight);
+			if (best >= 0 && ring > 0 && bestDistance < bound * bound)
+				break;
+			for (int r = row - ring; r <= row + ring; r++) {
+				if (r < 0 || r >= rows)
+					continue;
+				final boolean edge = r == row - ring || r == row + ring;
+				for (int c = column - ring; c <= column + ring; c += edge ? 1 : 2 * ring) {
+					if (c < 0 || c >= columns)
+						continue;
+					final int cell = r * columns + c;
+					for (int k = cellStarts[cell]; k < cellStarts[cell + 1]; k++) {
+						final int i = cellSamples[k];
+						final long dx = (long) xPositions[i] - x;
+						final long dy = (long) yPositions[i] - y;
+						final long distance = dx * dx + dy * dy;
+						if (distance < bestDistance || (distance == bestDistance && i < best)) {
+							bestDistance = distance;
+							best = i;
+						}
+					}
+				}
+			}
+		}
+		return best < 0 ? null : samples.get(best);
+	}
+
+	private int cellOf(int i) {
+		final int column = clamp(((long) xPositions[i] - left) / cellWidth, columns);
+		final int row = clamp(((long) yPositions[i] - top) / cellHeight, rows);
+		return row * columns + column;
+	}
+
+	private static int clamp(long value, int size) {
+		return value < 0 ? 0 : value >= size ? size - 1 : (int) value;
+	}
+}
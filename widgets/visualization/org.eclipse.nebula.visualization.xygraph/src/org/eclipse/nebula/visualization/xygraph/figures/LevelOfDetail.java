@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IMinMaxDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IPrimitiveDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+
+/**
+ * Reduces the samples of a chronological trace to the first, minimum, maximum
+ * and last sample of every pixel column, which draws the same polyline as all
+ * samples (M4 aggregation).
+ * <p>
+ * Samples with a NaN y value break the polyline, so they are always kept and
+ * the samples between them are reduced separately. The minimum, maximum and
+ * NaN samples are looked up in the data provider if it is an
+ * {@link IMinMaxDataProvider}.
+ */
+final class LevelOfDetail {
+
+	private final IDataProvider dataProvider;
+	private final IMinMaxDataProvider minMaxProvider;
+	private final IPrimitiveDataProvider primitiveProvider;
+
+	private int[] indices;
+	private int size;
+
+	private LevelOfDetail(IDataProvider dataProvider, int width) {
+		this.dataProvider = dataProvider;
+		minMaxProvider = dataProvider instanceof IMinMaxDataProvider ? (IMinMaxDataProvider) dataProvider : null;
+		primitiveProvider = dataProvider instanceof IPrimitiveDataProvider ? (IPrimitiveDataProvider) dataProvider
+				: null;
+		indices = new int[4 * (width + 2)];
+	}
+
+	/**
+	 * <b>This method only works for chronological data.</b>
+	 *
+	 * @param dataProvider
+	 *            the data provider
+	 * @param startIndex
+	 *            first sample index (inclusive)
+	 * @param endIndex
+	 *            last sample index (inclusive)
+	 * @param width
+	 *            number of pixel columns
+	 * @param pixelOfIndex
+	 *            the pixel column of a sample index, ascending with the index
+	 * @return the ascending indices of the samples to draw or <code>null</code>
+	 *         if there are not more samples than four per pixel column
+	 */
+	static int[] reduce(IDataProvider dataProvider, int startIndex, int endIndex, int width,
+			IntUnaryOperator pixelOfIndex) {
+		width = Math.max(1, width);
+		if (endIndex - startIndex + 1 <= 4 * width)
+			return null;
+		final LevelOfDetail reduction = new LevelOfDetail(dataProvider, width);
+		int first = startIndex;
+		while (first <= endIndex) {
+			// last index in the pixel column of the first index
+			final int pixel = pixelOfIndex.applyAsInt(first);
+			int last = first;
+			int high = endIndex;
+			while (last < high) {
+				final int mid = (last + high + 1) >>> 1;
+				if (pixelOfIndex.applyAsInt(mid) == pixel)
+					last = mid;
+				else
+					high = mid - 1;
+			}
+			reduction.addColumn(first, last);
+			first = last + 1;
+		}
+		return Arrays.copyOf(reduction.indices, reduction.size);
+	}
+
+	/**
+	 * Adds the samples to draw of one pixel column, split at NaN samples.
+	 */
+	private void addColumn(int first, int last) {
+		int from = first;
+		while (from <= last) {
+			final int nan = findNaN(from, last);
+			if (nan < 0) {
+				addRun(from, last);
+				return;
+			}
+			if (nan > from)
+				addRun(from, nan - 1);
+			add(nan);
+			from = nan + 1;
+		}
+	}
+
+	/**
+	 * Adds the first, minimum, maximum and last sample of a run of samples.
+	 */
+	private void addRun(int first, int last) {
+		int minIndex, maxIndex;
+		if (minMaxProvider != null) {
+			minIndex = minMaxProvider.getMinYIndex(first, last);
+			maxIndex = minMaxProvider.getMaxYIndex(first, last);
+		} else {
+			minIndex = maxIndex = -1;
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int i = first; i <= last; i++) {
+				final double y = getYValue(i);
+				if (y < min) {
+					min = y;
+					minIndex = i;
+				}
+				if (y > max) {
+					max = y;
+					maxIndex = i;
+				}
+			}
+		}
+		// ascending and without duplicates, -1 if there is no minimum
+		add(first);
+		final int lower = Math.min(minIndex, maxIndex);
+		final int upper = Math.max(minIndex, maxIndex);
+		if (lower > first)
+			add(lower);
+		if (upper > indices[size - 1])
+			add(upper);
+		if (last > indices[size - 1])
+			add(last);
+	}
+
+	/**
+	 * @return the index of the first NaN sample between the given indices or -1
+	 */
+	private int findNaN(int from, int to) {
+		if (minMaxProvider != null)
+			return minMaxProvider.getFirstNaNYIndex(from, to);
+		for (int i = from; i <= to; i++) {
+			if (Double.isNaN(getYValue(i)))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the y value of the sample at the given index, NaN for missing
+	 *         samples
+	 */
+	private double getYValue(int index) {
+		if (primitiveProvider != null)
+			return primitiveProvider.getYValue(index);
+		final ISample sample = dataProvider.getSample(index);
+		return sample == null ? Double.NaN : sample.getYValue();
+	}
+
+	private void add(int index) {
+		if (size == indices.length)
+			indices = Arrays.copyOf(indices, 2 * indices.length);
+		indices[size++] = index;
+	}
+}
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.Graphics;
@@ -33,6 +34,7 @@ import org.eclipse.nebula.visualization.xygraph.Messages;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProviderListener;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IMetaData;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IPrimitiveDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
 import org.eclipse.nebula.visualization.xygraph.linearscale.AbstractScale.LabelSide;
@@ -42,6 +44,7 @@ import org.eclipse.nebula.visualization.xygraph.util.Preferences;
 import org.eclipse.nebula.visualization.xygraph.util.SWTConstants;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 
@@ -279,10 +282,43 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	 */
 	private Color errorBarColor;
 	private boolean drawYErrorInArea = false;
+
+	/**
+	 * If enabled, chronological data with more samples than pixel columns is
+	 * reduced to the first, minimum, maximum and last sample per pixel column.
+	 */
+	private boolean levelOfDetail = false;
+
+	/**
+	 * If enabled, the trace is rasterized on a background thread and painting
+	 * only draws the latest completed frame.
+	 */
+	private boolean backgroundRendering = false;
+
+	/**
+	 * Incremented on every data change, part of the render request.
+	 */
+	private final AtomicLong dataVersion = new AtomicLong();
+
+	/**
+	 * Frames of the background renderer, only accessed on the UI thread.
+	 */
+	private final TraceRasterizer.Frames renderedFrames = new TraceRasterizer.Frames();
+
+	/**
+	 * Image of {@link #renderedImageFrame}, created on the UI thread.
+	 */
+	private Image renderedImage;
+	private TraceRasterizer.Frame renderedImageFrame;
 	private IXYGraph xyGraph;
 
 	private List<ISample> hotSampleist;
 
+	/**
+	 * Spatial index of the hot samples, created on demand after painting.
+	 */
+	private HotSampleIndex hotSampleIndex;
+
 	private IPointStyleProvider fPointStyleProvider;
 
 	/**
@@ -631,8 +667,14 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		boolean predpInRange = false;
 		Point dpPos = null;
 		hotSampleist.clear();
+		hotSampleIndex = null;
 		if (traceDataProvider == null)
 			throw new RuntimeException("No DataProvider defined for trace: " + name); //$NON-NLS-1$
+		if (backgroundRendering && TraceRasterizer.supports(traceType,
+				pointStyle != PointStyle.NONE || fPointStyleProvider != null, errorBarEnabled)
+				&& paintRenderedFrame(graphics)) {
+			return;
+		}
 		// Lock data provider to prevent changes while painting
 		synchronized (traceDataProvider) {
 			if (traceDataProvider.getSize() > 0) {
@@ -667,7 +709,14 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 				Point minInRegion = null;
 				Point lastInRegion = null;
 
-				for (int i = startIndex; i <= endIndex; i++) {
+				// Indices of the samples to draw, null for all samples
+				final int[] lodIndices = levelOfDetail && traceDataProvider.isChronological()
+						? getLevelOfDetailIndices(startIndex, endIndex)
+						: null;
+				final int sampleCount = lodIndices == null ? endIndex - startIndex + 1 : lodIndices.length;
+
+				for (int k = 0; k < sampleCount; k++) {
+					final int i = lodIndices == null ? startIndex + k : lodIndices[k];
 					ISample dp = traceDataProvider.getSample(i);
 					if (dp == null) {
 						continue;
@@ -1498,6 +1547,7 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	}
 
 	public void dataChanged(IDataProvider dataProvider) {
+		dataVersion.incrementAndGet();
 		// if the axis has been repainted, it will cause the trace to be
 		// repainted autoly,
 		// the trace doesn't have to be repainted again.
@@ -1519,71 +1569,111 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	 */
 	private Range getIndexRangeOnXAxis() {
 		Range axisRange = xAxis.getRange();
-		if (traceDataProvider.getSize() <= 0)
+		final int size = traceDataProvider.getSize();
+		if (size <= 0)
 			return null;
 		double min = axisRange.getLower() > axisRange.getUpper() ? axisRange.getUpper() : axisRange.getLower();
 		double max = axisRange.getUpper() > axisRange.getLower() ? axisRange.getUpper() : axisRange.getLower();
 
-		if (min > traceDataProvider.getSample(traceDataProvider.getSize() - 1).getXValue()
-				|| max < traceDataProvider.getSample(0).getXValue())
+		if (min > getXValue(size - 1) || max < getXValue(0))
 			return null;
 
-		int lowIndex = 0;
-		int highIndex = traceDataProvider.getSize() - 1;
-		if (min > traceDataProvider.getSample(0).getXValue())
-			lowIndex = nearBinarySearchX(min, true);
-		if (max < traceDataProvider.getSample(highIndex).getXValue())
-			highIndex = nearBinarySearchX(max, false);
+		// the sample before the first and after the last sample in range
+		final int lowIndex = Math.max(0, firstIndexAtOrAbove(min) - 1);
+		final int highIndex = Math.min(size - 1, firstIndexAtOrAbove(Math.nextUp(max)));
 		return new Range(lowIndex, highIndex);
 	}
 
-	// It will return the index on the closest left(if left is true) or right of
-	// the data
-	// Like public version, but without range checks.
-	private int nearBinarySearchX(double key, boolean left) {
+	/**
+	 * Binary search on chronological data.
+	 * 
+	 * @return the index of the first sample with an x value not below the given
+	 *         one, or the size if there is none
+	 */
+	private int firstIndexAtOrAbove(double x) {
 		int low = 0;
-		int high = traceDataProvider.getSize() - 1;
-
-		while (low <= high) {
-			int mid = (low + high) >>> 1;
-			double midVal = traceDataProvider.getSample(mid).getXValue();
-
-			int cmp;
-			if (midVal < key) {
-				cmp = -1; // Neither val is NaN, thisVal is smaller
-			} else if (midVal > key) {
-				cmp = 1; // Neither val is NaN, thisVal is larger
-			} else {
-				long midBits = Double.doubleToLongBits(midVal);
-				long keyBits = Double.doubleToLongBits(key);
-				cmp = (midBits == keyBits ? 0 : // Values are equal
-						(midBits < keyBits ? -1 : // (-0.0, 0.0) or (!NaN, NaN)
-								1)); // (0.0, -0.0) or (NaN, !NaN)
-			}
-
-			if (cmp < 0) {
-				if (mid < traceDataProvider.getSize() - 1 && key < traceDataProvider.getSample(mid + 1).getXValue()) {
-					if (left)
-						return mid;
-					else
-						return mid + 1;
-				}
+		int high = traceDataProvider.getSize();
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (getXValue(mid) < x)
 				low = mid + 1;
-			}
+			else
+				high = mid;
+		}
+		return low;
+	}
 
-			else if (cmp > 0) {
-				if (mid > 0 && key > traceDataProvider.getSample(mid - 1).getXValue())
-					if (left)
-						return mid - 1;
-					else
-						return mid;
-				high = mid - 1;
-			}
+	/**
+	 * @return the x value of the sample at the given index, read without
+	 *         creating a sample if the data provider supports it
+	 */
+	private double getXValue(int index) {
+		if (traceDataProvider instanceof IPrimitiveDataProvider)
+			return ((IPrimitiveDataProvider) traceDataProvider).getXValue(index);
+		final ISample sample = traceDataProvider.getSample(index);
+		return sample == null ? Double.NaN : sample.getXValue();
+	}
 
-			else
-				return mid; // key found
+	/**
+	 * Draws the latest frame of the background renderer and requests a new
+	 * one if the data, the axes or the appearance changed since.
+	 * 
+	 * @return <code>false</code> if rendering the current state failed and the
+	 *         trace has to be painted directly
+	 */
+	private boolean paintRenderedFrame(Graphics graphics) {
+		final Rectangle bounds = getBounds();
+		final TraceRasterizer.Request request = new TraceRasterizer.Request(bounds.width, bounds.height,
+				new TraceRasterizer.Projection(xAxis, bounds.x), new TraceRasterizer.Projection(yAxis, bounds.y),
+				traceColor.getRGB(), lineWidth, traceType, MARKER_SIZE,
+				yAxis.getValuePosition(xAxis.getTickLabelSide() == LabelSide.Primary ? yAxis.getRange().getLower()
+						: yAxis.getRange().getUpper(), false) - bounds.y,
+				traceDataProvider.isChronological(), dataVersion.get());
+		if (renderedFrames.hasFailed(request))
+			return false;
+		final Display display = Display.getCurrent();
+		renderedFrames.request(request, traceDataProvider, runnable -> {
+			if (!display.isDisposed())
+				display.asyncExec(runnable);
+		}, () -> {
+			if (backgroundRendering)
+				repaint();
+		});
+		final TraceRasterizer.Frame frame = renderedFrames.getFrame();
+		if (frame == null)
+			return true;
+		if (renderedImageFrame != frame) {
+			disposeRenderedImage();
+			renderedImage = new Image(display, frame.imageData);
+			renderedImageFrame = frame;
+		}
+		graphics.drawImage(renderedImage, bounds.x, bounds.y);
+		return true;
+	}
+
+	private void disposeRenderedImage() {
+		if (renderedImage != null) {
+			renderedImage.dispose();
+			renderedImage = null;
+			renderedImageFrame = null;
 		}
-		return -(low + 1); // key not found.
+	}
+
+	/**
+	 * Reduces the samples between the given indices to a few per pixel column,
+	 * see {@link LevelOfDetail}. <b>This method only works for chronological
+	 * data.</b>
+	 * 
+	 * @return the ascending indices of the samples to draw or <code>null</code>
+	 *         if there are not more samples than four per pixel column
+	 */
+	private int[] getLevelOfDetailIndices(int startIndex, int endIndex) {
+		return LevelOfDetail.reduce(traceDataProvider, startIndex, endIndex, getBounds().width, this::getXPixel);
+	}
+
+	private int getXPixel(int index) {
+		final double x = getXValue(index);
+		return Double.isNaN(x) ? Integer.MIN_VALUE : xAxis.getValuePosition(x, false);
 	}
 
 	public void axisRevalidated(Axis axis) {
@@ -1609,6 +1699,62 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		this.errorBarEnabled = errorBarEnabled;
 	}
 
+	/**
+	 * Enables level of detail rendering: for chronological data with more
+	 * samples than four per pixel column, only the first, minimum, maximum
+	 * and last sample of every pixel column is drawn. The drawn line looks the
+	 * same, but point styles, error bars and hot samples only cover the drawn
+	 * samples. Disabled by default.
+	 * 
+	 * @param levelOfDetail
+	 *            <code>true</code> to enable level of detail rendering
+	 */
+	public void setLevelOfDetail(boolean levelOfDetail) {
+		if (this.levelOfDetail == levelOfDetail)
+			return;
+		this.levelOfDetail = levelOfDetail;
+		repaint();
+	}
+
+	/**
+	 * @return <code>true</code> if level of detail rendering is enabled
+	 */
+	public boolean isLevelOfDetail() {
+		return levelOfDetail;
+	}
+
+	/**
+	 * Enables background rendering: the trace is rasterized into an image on a
+	 * worker thread, which only locks the data provider while copying the
+	 * visible samples, and painting draws the latest completed image. Data
+	 * producers are thus not blocked while the trace is painted. Disabled by
+	 * default.
+	 * <p>
+	 * Only solid and step line traces without point styles and error bars are
+	 * rendered in the background, other traces are painted as usual. Hot
+	 * samples are not collected for traces rendered in the background.
+	 * 
+	 * @param backgroundRendering
+	 *            <code>true</code> to enable background rendering
+	 */
+	public void setBackgroundRendering(boolean backgroundRendering) {
+		if (this.backgroundRendering == backgroundRendering)
+			return;
+		this.backgroundRendering = backgroundRendering;
+		if (!backgroundRendering) {
+			renderedFrames.clear();
+			disposeRenderedImage();
+		}
+		repaint();
+	}
+
+	/**
+	 * @return <code>true</code> if background rendering is enabled
+	 */
+	public boolean isBackgroundRendering() {
+		return backgroundRendering;
+	}
+
 	/**
 	 * @param errorBarType
 	 *            the yErrorBarType to set
@@ -1660,6 +1806,46 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		return hotSampleist;
 	}
 
+	/**
+	 * Finds the hot sample which is drawn nearest to the given location.
+	 * 
+	 * @param location
+	 *            location in the coordinates of the plot area
+	 * @return the nearest hot sample or <code>null</code> if there are no hot
+	 *         samples
+	 */
+	public ISample getNearestHotSample(Point location) {
+		return getHotSampleIndex().findNearest(location.x, location.y);
+	}
+
+	/**
+	 * Checks whether a sample is a hot sample, which unlike
+	 * <code>getHotSampleList().contains(sample)</code> does not visit all hot
+	 * samples.
+	 * 
+	 * @param sample
+	 *            a sample
+	 * @return <code>true</code> if the given sample is in the hot sample list
+	 */
+	public boolean isHotSample(ISample sample) {
+		return sample != null && getHotSampleIndex().contains(sample);
+	}
+
+	private HotSampleIndex getHotSampleIndex() {
+		if (hotSampleIndex == null) {
+			final int count = hotSampleist.size();
+			final int[] xPositions = new int[count];
+			final int[] yPositions = new int[count];
+			for (int i = 0; i < count; i++) {
+				final ISample sample = hotSampleist.get(i);
+				xPositions[i] = xAxis.getValuePosition(sample.getXValue(), false);
+				yPositions[i] = yAxis.getValuePosition(sample.getYValue(), false);
+			}
+			hotSampleIndex = new HotSampleIndex(hotSampleist, xPositions, yPositions);
+		}
+		return hotSampleIndex;
+	}
+
 	/**
 	 * @return the baseLine
 	 */
@@ -1765,9 +1951,13 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	public void dispose() {
 		if (getParent() != null)
 			getParent().remove(this);
+		backgroundRendering = false;
+		renderedFrames.clear();
+		disposeRenderedImage();
 		removeAll();
 		if (getHotSampleList() != null)
 			getHotSampleList().clear();
+		hotSampleIndex = null;
 		this.name = null;
 		this.traceDataProvider = null;
 		this.xAxis = null;
@@ -0,0 +1,544 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IPrimitiveDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.figures.Trace.TraceType;
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * Rasterizes a {@link Trace} into an {@link ImageData} without using a GC, so
+ * it can run on a background thread. Everything which depends on figures or
+ * widgets is captured on the UI thread into a {@link Request}; the worker then
+ * only holds the data provider lock while copying the visible samples, which
+ * are reduced to a few per pixel column for chronological data (see
+ * {@link LevelOfDetail}).
+ * <p>
+ * Only line traces (solid and step) without point styles and error bars are
+ * supported, see {@link #supports(TraceType, boolean, boolean)}.
+ */
+final class TraceRasterizer {
+
+	private static ExecutorService executor;
+
+	private TraceRasterizer() {
+	}
+
+	/**
+	 * @return the shared pool of daemon threads which render traces
+	 */
+	static synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			final ThreadFactory factory = runnable -> {
+				final Thread thread = new Thread(runnable, "XYGraph Trace Renderer"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			};
+			executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+					factory);
+		}
+		return executor;
+	}
+
+	/**
+	 * @return <code>true</code> if a trace with the given properties can be
+	 *         rendered in the background
+	 */
+	static boolean supports(TraceType traceType, boolean points, boolean errorBars) {
+		if (points || errorBars)
+			return false;
+		return traceType == TraceType.SOLID_LINE || traceType == TraceType.STEP_HORIZONTALLY
+				|| traceType == TraceType.STEP_VERTICALLY;
+	}
+
+	/**
+	 * Linear or logarithmic mapping of axis values to pixels relative to the
+	 * trace bounds.
+	 */
+	static final class Projection {
+		private final boolean log;
+		private final double value0, value1;
+		private final double pixel0, pixel1;
+		private final double pixelNonPositive;
+		private final double lower, upper;
+
+		/**
+		 * Captures the current mapping of an axis. Must be called on the UI
+		 * thread.
+		 *
+		 * @param axis
+		 *            the axis
+		 * @param origin
+		 *            the pixel position of the trace bounds on the axis
+		 */
+		Projection(Axis axis, int origin) {
+			final Range range = axis.getRange();
+			log = axis.isLogScaleEnabled();
+			lower = Math.min(range.getLower(), range.getUpper());
+			upper = Math.max(range.getLower(), range.getUpper());
+			// the mapping is affine in the (log) value, two points define it
+			double v0 = range.getLower();
+			double v1 = range.getUpper();
+			if (log) {
+				v0 = v0 > 0 ? v0 : 1;
+				v1 = v1 > v0 ? v1 : v0 * 10;
+			} else if (v1 == v0) {
+				v1 = v0 + 1;
+			}
+			value0 = log ? Math.log10(v0) : v0;
+			value1 = log ? Math.log10(v1) : v1;
+			pixel0 = axis.getValuePrecisePosition(v0, false) - origin;
+			pixel1 = axis.getValuePrecisePosition(v1, false) - origin;
+			pixelNonPositive = log ? axis.getValuePrecisePosition(0, false) - origin : 0;
+		}
+
+		/**
+		 * Linear mapping of the given value range to the given pixel range.
+		 *
+		 * @param lower
+		 *            value at the first pixel
+		 * @param upper
+		 *            value at the second pixel
+		 * @param pixelLower
+		 *            first pixel
+		 * @param pixelUpper
+		 *            second pixel
+		 */
+		Projection(double lower, double upper, double pixelLower, double pixelUpper) {
+			log = false;
+			this.lower = Math.min(lower, upper);
+			this.upper = Math.max(lower, upper);
+			value0 = lower;
+			value1 = upper == lower ? lower + 1 : upper;
+			pixel0 = pixelLower;
+			pixel1 = pixelUpper;
+			pixelNonPositive = 0;
+		}
+
+		double position(double value) {
+			if (log) {
+				if (value <= 0)
+					return pixelNonPositive;
+				value = Math.log10(value);
+			}
+			return pixel0 + (value - value0) / (value1 - value0) * (pixel1 - pixel0);
+		}
+
+		boolean inRange(double value) {
+			return value >= lower && value <= upper;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Projection))
+				return false;
+			final Projection other = (Projection) obj;
+			return log == other.log && value0 == other.value0 && value1 == other.value1 && pixel0 == other.pixel0
+					&& pixel1 == other.pixel1 && pixelNonPositive == other.pixelNonPositive;
+		}
+
+		@Override
+		public int hashCode() {
+			return Double.hashCode(value0) * 31 + Double.hashCode(pixel0);
+		}
+	}
+
+	/**
+	 * Everything needed to render a trace, captured on the UI thread.
+	 */
+	static final class Request {
+		final int width, height;
+		final Projection x, y;
+		final RGB color;
+		final int lineWidth;
+		final TraceType traceType;
+		final int markerSize;
+		final int markerY;
+		final boolean chronological;
+		final long dataVersion;
+
+		Request(int width, int height, Projection x, Projection y, RGB color, int lineWidth, TraceType traceType,
+				int markerSize, int markerY, boolean chronological, long dataVersion) {
+			this.width = width;
+			this.height = height;
+			this.x = x;
+			this.y = y;
+			this.color = color;
+			this.lineWidth = lineWidth;
+			this.traceType = traceType;
+			this.markerSize = markerSize;
+			this.markerY = markerY;
+			this.chronological = chronological;
+			this.dataVersion = dataVersion;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Request))
+				return false;
+			final Request other = (Request) obj;
+			return width == other.width && height == other.height && x.equals(other.x) && y.equals(other.y)
+					&& color.equals(other.color) && lineWidth == other.lineWidth && traceType == other.traceType
+					&& markerSize == other.markerSize && markerY == other.markerY
+					&& chronological == other.chronological && dataVersion == other.dataVersion;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) dataVersion * 31 + width * 17 + height;
+		}
+	}
+
+	/**
+	 * A completed rendering.
+	 */
+	static final class Frame {
+		final Request request;
+		final ImageData imageData;
+
+		Frame(Request request, ImageData imageData) {
+			this.request = request;
+			this.imageData = imageData;
+		}
+	}
+
+	/**
+	 * Renders a request into a frame, see
+	 * {@link TraceRasterizer#render(Request, IDataProvider)}.
+	 */
+	interface Renderer {
+		Frame render(Request request, IDataProvider dataProvider);
+	}
+
+	/**
+	 * The frames of one trace: hands requests to the worker threads, one at a
+	 * time, and keeps the latest completed frame. A request whose rendering
+	 * failed is not rendered again, the trace paints itself directly until
+	 * the request changes. Only used on the UI thread, the worker hands its
+	 * result back through the UI executor.
+	 */
+	static final class Frames {
+		private static final Logger LOGGER = Logger.getLogger(TraceRasterizer.class.getName());
+
+		private final Renderer renderer;
+		private final Executor executor;
+		private Frame frame;
+		private Request pendingRequest;
+		private Request failedRequest;
+
+		Frames() {
+			this(TraceRasterizer::render, getExecutor());
+		}
+
+		Frames(Renderer renderer, Executor executor) {
+			this.renderer = renderer;
+			this.executor = executor;
+		}
+
+		/**
+		 * @return the latest completed frame or <code>null</code> if there is
+		 *         none
+		 */
+		Frame getFrame() {
+			return frame;
+		}
+
+		/**
+		 * @return <code>true</code> if rendering the given request failed
+		 */
+		boolean hasFailed(Request request) {
+			return request.equals(failedRequest);
+		}
+
+		/**
+		 * Renders the given request on a worker thread unless it is the
+		 * latest frame, it failed before or another request is being
+		 * rendered.
+		 *
+		 * @param request
+		 *            the request
+		 * @param dataProvider
+		 *            the data provider of the trace
+		 * @param uiExecutor
+		 *            runs the completion on the UI thread
+		 * @param done
+		 *            called on the UI thread once the rendering completed or
+		 *            failed
+		 */
+		void request(final Request request, final IDataProvider dataProvider, final Executor uiExecutor,
+				final Runnable done) {
+			if (pendingRequest != null || hasFailed(request) || (frame != null && frame.request.equals(request)))
+				return;
+			pendingRequest = request;
+			executor.execute(() -> {
+				Frame result = null;
+				try {
+					result = renderer.render(request, dataProvider);
+				} catch (RuntimeException e) {
+					LOGGER.log(Level.WARNING, "Rendering trace failed", e); //$NON-NLS-1$
+				}
+				final Frame rendered = result;
+				uiExecutor.execute(() -> {
+					pendingRequest = null;
+					if (rendered != null)
+						frame = rendered;
+					else
+						failedRequest = request;
+					done.run();
+				});
+			});
+		}
+
+		/**
+		 * Forgets the latest frame and the failed request.
+		 */
+		void clear() {
+			frame = null;
+			failedRequest = null;
+		}
+	}
+
+	/**
+	 * Renders a trace. May be called on any thread.
+	 *
+	 * @param request
+	 *            the captured trace state
+	 * @param dataProvider
+	 *            the data provider of the trace
+	 * @return the rendered frame
+	 */
+	static Frame render(Request request, IDataProvider dataProvider) {
+		final double[] xValues;
+		final double[] yValues;
+		synchronized (dataProvider) {
+			final int size = dataProvider.getSize();
+			int from = 0;
+			int to = size - 1;
+			int[] indices = null;
+			if (request.chronological && size > 0) {
+				// one sample outside the x range on both sides connects the
+				// line to the border
+				from = Math.max(0, firstIndexAtOrAbove(dataProvider, request.x.lower) - 1);
+				to = Math.min(size - 1, firstIndexAtOrAbove(dataProvider, Math.nextUp(request.x.upper)));
+				indices = LevelOfDetail.reduce(dataProvider, from, to, request.width,
+						index -> getXPixel(request, dataProvider, index));
+			}
+			final int count = indices != null ? indices.length : Math.max(0, to - from + 1);
+			xValues = new double[count];
+			yValues = new double[count];
+			for (int i = 0; i < count; i++) {
+				final int index = indices != null ? indices[i] : from + i;
+				xValues[i] = getXValue(dataProvider, index);
+				yValues[i] = getYValue(dataProvider, index);
+			}
+		}
+
+		final Raster raster = new Raster(request);
+		boolean previous = false;
+		double previousX = 0, previousY = 0;
+		for (int i = 0; i < xValues.length; i++) {
+			final double px = request.x.position(xValues[i]);
+			if (Double.isNaN(yValues[i]) || Double.isNaN(px)) {
+				if (!Double.isNaN(px) && request.x.inRange(xValues[i])) {
+					raster.fillRectangle((int) Math.round(px) - request.markerSize / 2,
+							request.markerY - request.markerSize / 2, request.markerSize, request.markerSize);
+					// in step modes, continue the last value until the gap
+					if (previous && request.traceType != TraceType.SOLID_LINE)
+						raster.drawLine(previousX, previousY, px, previousY);
+				}
+				previous = false;
+				continue;
+			}
+			final double py = request.y.position(yValues[i]);
+			if (previous) {
+				switch (request.traceType) {
+				case STEP_HORIZONTALLY:
+					raster.drawLine(previousX, previousY, px, previousY);
+					raster.drawLine(px, previousY, px, py);
+					break;
+				case STEP_VERTICALLY:
+					raster.drawLine(previousX, previousY, previousX, py);
+					raster.drawLine(previousX, py, px, py);
+					break;
+				default:
+					raster.drawLine(previousX, previousY, px, py);
+					break;
+				}
+			}
+			previous = true;
+			previousX = px;
+			previousY = py;
+		}
+		return new Frame(request, raster.imageData);
+	}
+
+	/**
+	 * @return the index of the first sample with an x value not below the given
+	 *         one, or the size if there is none
+	 */
+	private static int firstIndexAtOrAbove(IDataProvider dataProvider, double x) {
+		int low = 0;
+		int high = dataProvider.getSize();
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (getXValue(dataProvider, mid) < x)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @return the pixel column of the sample at the given index
+	 */
+	private static int getXPixel(Request request, IDataProvider dataProvider, int index) {
+		final double position = request.x.position(getXValue(dataProvider, index));
+		return Double.isNaN(position) ? Integer.MIN_VALUE : (int) Math.floor(position);
+	}
+
+	/**
+	 * @return the x value of the sample at the given index, read without
+	 *         creating a sample if the data provider supports it
+	 */
+	private static double getXValue(IDataProvider dataProvider, int index) {
+		if (dataProvider instanceof IPrimitiveDataProvider)
+			return ((IPrimitiveDataProvider) dataProvider).getXValue(index);
+		final ISample sample = dataProvider.getSample(index);
+		return sample == null ? Double.NaN : sample.getXValue();
+	}
+
+	/**
+	 * @return the y value of the sample at the given index, read without
+	 *         creating a sample if the data provider supports it
+	 */
+	private static double getYValue(IDataProvider dataProvider, int index) {
+		if (dataProvider instanceof IPrimitiveDataProvider)
+			return ((IPrimitiveDataProvider) dataProvider).getYValue(index);
+		final ISample sample = dataProvider.getSample(index);
+		return sample == null ? Double.NaN : sample.getYValue();
+	}
+
+	/**
+	 * 24 bit image with an alpha channel, transparent where nothing was drawn.
+	 */
+	static final class Raster {
+		final ImageData imageData;
+		private final int width, height;
+		private final byte red, green, blue;
+		private final int lineWidth;
+
+		Raster(Request request) {
+			width = Math.max(1, request.width);
+			height = Math.max(1, request.height);
+			imageData = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+			imageData.alphaData = new byte[width * height];
+			red = (byte) request.color.red;
+			green = (byte) request.color.green;
+			blue = (byte) request.color.blue;
+			lineWidth = Math.max(1, request.lineWidth);
+		}
+
+		void fillRectangle(int x, int y, int w, int h) {
+			final int x0 = Math.max(0, x);
+			final int y0 = Math.max(0, y);
+			final int x1 = Math.min(width, x + w);
+			final int y1 = Math.min(height, y + h);
+			for (int j = y0; j < y1; j++) {
+				for (int i = x0; i < x1; i++) {
+					setPixel(i, j);
+				}
+			}
+		}
+
+		/**
+		 * Draws a line, clipped to the image (Liang-Barsky) before it is
+		 * rasterized (Bresenham).
+		 */
+		void drawLine(double x0, double y0, double x1, double y1) {
+			final double margin = lineWidth;
+			final double dx = x1 - x0;
+			final double dy = y1 - y0;
+			double t0 = 0, t1 = 1;
+			final double[] p = { -dx, dx, -dy, dy };
+			final double[] q = { x0 + margin, width + margin - x0, y0 + margin, height + margin - y0 };
+			for (int i = 0; i < 4; i++) {
+				if (p[i] == 0) {
+					if (q[i] < 0)
+						return;
+				} else {
+					final double t = q[i] / p[i];
+					if (p[i] < 0) {
+						if (t > t1)
+							return;
+						t0 = Math.max(t0, t);
+					} else {
+						if (t < t0)
+							return;
+						t1 = Math.min(t1, t);
+					}
+				}
+			}
+			int ax = (int) Math.round(x0 + t0 * dx);
+			int ay = (int) Math.round(y0 + t0 * dy);
+			final int bx = (int) Math.round(x0 + t1 * dx);
+			final int by = (int) Math.round(y0 + t1 * dy);
+			final int sx = ax < bx ? 1 : -1;
+			final int sy = ay < by ? 1 : -1;
+			final int ex = Math.abs(bx - ax);
+			final int ey = -Math.abs(by - ay);
+			int error = ex + ey;
+			while (true) {
+				plot(ax, ay);
+				if (ax == bx && ay == by)
+					break;
+				final int e2 = 2 * error;
+				if (e2 >= ey) {
+					error += ey;
+					ax += sx;
+				}
+				if (e2 <= ex) {
+					error += ex;
+					ay += sy;
+				}
+			}
+		}
+
+		private void plot(int x, int y) {
+			if (lineWidth == 1) {
+				if (x >= 0 && x < width && y >= 0 && y < height)
+					setPixel(x, y);
+			} else {
+				fillRectangle(x - lineWidth / 2, y - lineWidth / 2, lineWidth, lineWidth);
+			}
+		}
+
+		private void setPixel(int x, int y) {
+			final int offset = y * imageData.bytesPerLine + 3 * x;
+			imageData.data[offset] = red;
+			imageData.data[offset + 1] = green;
+			imageData.data[offset + 2] = blue;
+			imageData.alphaData[y * width + x] = (byte) 0xFF;
+		}
+	}
+}
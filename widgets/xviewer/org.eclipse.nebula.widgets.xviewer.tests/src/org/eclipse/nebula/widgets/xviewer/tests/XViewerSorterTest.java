@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.nebula.widgets.xviewer.IXViewerLabelProvider;
+import org.eclipse.nebula.widgets.xviewer.XViewer;
+import org.eclipse.nebula.widgets.xviewer.XViewerSorter;
+import org.eclipse.nebula.widgets.xviewer.core.model.SortDataType;
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerAlign;
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
+import org.eclipse.nebula.widgets.xviewer.customize.CustomizeManager;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that {@link XViewerSorter#sort(org.eclipse.jface.viewers.Viewer, Object[])}, which sorts on keys, orders the
+ * elements as sorting with {@link XViewerSorter#compare(org.eclipse.jface.viewers.Viewer, Object, Object)} does.
+ */
+public class XViewerSorterTest {
+
+   private XViewer viewer;
+   private CustomizeManager customizeMgr;
+   private final List<XViewerColumn> sortXCols = new ArrayList<>();
+
+   /**
+    * Element of the viewer with the texts of its columns and the backing data of date columns.
+    */
+   private static class Row {
+      private final String[] texts;
+      private final Date date;
+
+      Row(Date date, String... texts) {
+         this.texts = texts;
+         this.date = date;
+      }
+
+      Row(String... texts) {
+         this(null, texts);
+      }
+
+      @Override
+      public String toString() {
+         return Arrays.toString(texts) + " " + date;
+      }
+   }
+
+   @Before
+   public void setUp() throws Exception {
+      viewer = mock(XViewer.class);
+      customizeMgr = mock(CustomizeManager.class);
+      IBaseLabelProvider labelProvider =
+         mock(IBaseLabelProvider.class, withSettings().extraInterfaces(IXViewerLabelProvider.class));
+      when(viewer.getCustomizeMgr()).thenReturn(customizeMgr);
+      when(viewer.getLabelProvider()).thenReturn(labelProvider);
+      when(viewer.getColumnText(any(), anyInt())).thenAnswer(invocation -> {
+         Row row = invocation.getArgument(0);
+         int column = invocation.getArgument(1);
+         return row.texts[column];
+      });
+      when(((IXViewerLabelProvider) labelProvider).getBackingData(any(), any(), anyInt())).thenAnswer(
+         invocation -> ((Row) invocation.getArgument(0)).date);
+      when(customizeMgr.getSortXCols()).thenReturn(sortXCols);
+   }
+
+   private void addSortColumn(SortDataType sortDataType, boolean forward) {
+      XViewerColumn column = new XViewerColumn("column" + sortXCols.size(), "Column " + sortXCols.size(), 100,
+         XViewerAlign.Left, true, sortDataType, false, null);
+      column.setSortForward(forward);
+      when(customizeMgr.getColumnNumFromXViewerColumn(column)).thenReturn(sortXCols.size());
+      sortXCols.add(column);
+   }
+
+   /**
+    * Sorts the rows with {@link XViewerSorter#sort} and compares the order with the one of the compare method.
+    *
+    * @return the sorted rows
+    */
+   private Row[] assertSortsAsCompare(XViewerSorter sorter, Row... rows) {
+      Row[] expected = rows.clone();
+      Arrays.sort(expected, (row1, row2) -> sorter.compare(viewer, row1, row2));
+      Row[] actual = rows.clone();
+      sorter.sort(viewer, actual);
+      assertArrayEquals(expected, actual);
+      return actual;
+   }
+
+   @Test
+   public void testStringColumn() {
+      addSortColumn(SortDataType.String, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("beta"), new Row("Alpha"), new Row(""), new Row("gamma"),
+         new Row((String) null), new Row("alpha"), new Row("Beta"), new Row("beta"));
+   }
+
+   @Test
+   public void testStringColumnBackward() {
+      addSortColumn(SortDataType.String, false);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("beta"), new Row("Alpha"), new Row("gamma"),
+         new Row((String) null), new Row("delta"));
+   }
+
+   @Test
+   public void testIntegerColumn() {
+      addSortColumn(SortDataType.Integer, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("10"), new Row("n/a"), new Row("-3"), new Row("2"),
+         new Row(""), new Row("10"), new Row("99999999999"), new Row("0"));
+   }
+
+   @Test
+   public void testLongColumn() {
+      addSortColumn(SortDataType.Long, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("99999999999"), new Row("n/a"), new Row("-3"),
+         new Row("2"), new Row("1.5"), new Row("-99999999999"));
+   }
+
+   @Test
+   public void testFloatColumn() {
+      addSortColumn(SortDataType.Float, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("1.5"), new Row("n/a"), new Row("-3"), new Row("1e3"),
+         new Row("1.50"), new Row("abc"), new Row("0.25"));
+   }
+
+   @Test
+   public void testPercentColumn() {
+      addSortColumn(SortDataType.Percent, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("50"), new Row("100"), new Row("0"), new Row("5"),
+         new Row("x"), new Row("99"), new Row("1"), new Row("100"));
+   }
+
+   @Test
+   public void testParagraphNumberColumn() {
+      addSortColumn(SortDataType.Paragraph_Number, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("1.10"), new Row("1.2"), new Row("1.2.1"), new Row("2"),
+         new Row("1.b"), new Row("1.a.3"), new Row("10"), new Row("1.2"));
+   }
+
+   @Test
+   public void testDateColumn() {
+      addSortColumn(SortDataType.Date, true);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row(new Date(3000), "c"), new Row(new Date(1000), "a"),
+         new Row((Date) null, "none"), new Row(new Date(2000), "b"), new Row(new Date(1000), "a"));
+   }
+
+   @Test
+   public void testSecondColumnBreaksTies() {
+      addSortColumn(SortDataType.Integer, true);
+      addSortColumn(SortDataType.String, false);
+
+      assertSortsAsCompare(new XViewerSorter(viewer), new Row("2", "a"), new Row("1", "b"), new Row("2", "c"),
+         new Row("1", "a"), new Row("2", "b"), new Row("1", "b"));
+   }
+
+   @Test
+   public void testOverriddenCompareIsUsed() {
+      addSortColumn(SortDataType.Integer, true);
+      XViewerSorter descending = new XViewerSorter(viewer) {
+         @Override
+         public int getCompareForInteger(String int1, String int2) {
+            return super.getCompareForInteger(int2, int1);
+         }
+      };
+
+      Row[] rows = assertSortsAsCompare(descending, new Row("2"), new Row("3"), new Row("1"));
+
+      assertArrayEquals(new String[] {"3", "2", "1"},
+         Arrays.stream(rows).map(row -> row.texts[0]).toArray(String[]::new));
+   }
+}
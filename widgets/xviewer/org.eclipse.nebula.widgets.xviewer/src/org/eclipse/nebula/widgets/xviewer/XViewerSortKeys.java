@@ -0,0 +1,369 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.nebula.widgets.xviewer.core.model.SortDataType;
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
+
+/**
+ * The sort keys of the elements sorted by an {@link XViewerSorter}. The column text of every element is taken and
+ * parsed once per sort column, into numbers, dates, split paragraph numbers or collation keys, so that comparing two
+ * elements only compares these keys. The order is the one of the compare methods of {@link XViewerSorter}.
+ */
+class XViewerSortKeys {
+
+   private final Column[] columns;
+   private final int size;
+
+   /**
+    * Extracts the keys of the elements for every sort column.
+    *
+    * @param comparator the comparator of the sorter, used for texts that are compared as strings
+    * @throws Exception if the label provider fails to return the backing data of an element
+    */
+   XViewerSortKeys(XViewer viewer, List<XViewerColumn> sortXCols, Comparator<? super String> comparator, Object[] elements) throws Exception {
+      size = elements.length;
+      columns = new Column[sortXCols.size()];
+      IBaseLabelProvider labelProvider = viewer.getLabelProvider();
+      for (int c = 0; c < columns.length; c++) {
+         XViewerColumn sortXCol = sortXCols.get(c);
+         int columnNum = viewer.getCustomizeMgr().getColumnNumFromXViewerColumn(sortXCol);
+
+         String[] texts = new String[size];
+         for (int i = 0; i < size; i++) {
+            texts[i] = viewer.getColumnText(elements[i], columnNum);
+         }
+         Object[] backingData = new Object[size];
+         if (sortXCol.getSortDataType() == SortDataType.Date && labelProvider instanceof IXViewerLabelProvider) {
+            for (int i = 0; i < size; i++) {
+               backingData[i] = ((IXViewerLabelProvider) labelProvider).getBackingData(elements[i], sortXCol, columnNum);
+            }
+         }
+         columns[c] = createColumn(sortXCol.getSortDataType(), sortXCol.isSortForward(), texts, backingData, comparator);
+      }
+   }
+
+   private static Column createColumn(SortDataType type, boolean forward, String[] texts, Object[] backingData, Comparator<? super String> comparator) {
+      if (type == SortDataType.Date) {
+         return new DateColumn(forward, texts, backingData);
+      } else if (type == SortDataType.Percent) {
+         return new LongColumn(forward, texts, comparator, true, true);
+      } else if (type == SortDataType.Float) {
+         return new DoubleColumn(forward, texts, comparator);
+      } else if (type == SortDataType.Integer) {
+         return new LongColumn(forward, texts, comparator, true, false);
+      } else if (type == SortDataType.Long) {
+         return new LongColumn(forward, texts, comparator, false, false);
+      } else if (type == SortDataType.Paragraph_Number) {
+         return new ParagraphNumberColumn(forward, texts);
+      }
+      return new StringColumn(forward, texts, comparator);
+   }
+
+   /**
+    * Sorts the elements the keys were extracted from. The sort is stable and moves every element once.
+    */
+   void sort(Object[] elements) {
+      int[] order = new int[size];
+      for (int i = 0; i < size; i++) {
+         order[i] = i;
+      }
+      mergeSort(order, new int[size], 0, size);
+
+      Object[] unsorted = elements.clone();
+      for (int i = 0; i < size; i++) {
+         elements[i] = unsorted[order[i]];
+      }
+   }
+
+   private void mergeSort(int[] order, int[] buffer, int from, int to) {
+      if (to - from < 2) {
+         return;
+      }
+      int middle = (from + to) >>> 1;
+      mergeSort(order, buffer, from, middle);
+      mergeSort(order, buffer, middle, to);
+      if (compare(order[middle - 1], order[middle]) <= 0) {
+         return;
+      }
+      System.arraycopy(order, from, buffer, from, to - from);
+      int left = from;
+      int right = middle;
+      for (int i = from; i < to; i++) {
+         if (right >= to || left < middle && compare(buffer[left], buffer[right]) <= 0) {
+            order[i] = buffer[left++];
+         } else {
+            order[i] = buffer[right++];
+         }
+      }
+   }
+
+   private int compare(int index1, int index2) {
+      for (Column column : columns) {
+         int result = column.compare(index1, index2);
+         if (result != 0) {
+            return result;
+         }
+      }
+      return 0;
+   }
+
+   private static abstract class Column {
+      private final int direction;
+      protected final String[] texts;
+
+      Column(boolean forward, String[] texts) {
+         this.direction = forward ? 1 : -1;
+         this.texts = texts;
+      }
+
+      int compare(int index1, int index2) {
+         int result;
+         if (texts[index1] == null) {
+            result = texts[index2] == null ? 0 : -1;
+         } else if (texts[index2] == null) {
+            result = 1;
+         } else {
+            result = compareKeys(index1, index2);
+         }
+         return direction * result;
+      }
+
+      /**
+       * Compares two elements whose texts are not null.
+       */
+      abstract int compareKeys(int index1, int index2);
+   }
+
+   /**
+    * Keys of texts compared by the comparator of the sorter. If that is a {@link Collator}, as it is by default, the
+    * texts are turned into collation keys once instead of being collated on every comparison.
+    */
+   private static class TextKeys {
+      private final Comparator<? super String> comparator;
+      private final Collator collator;
+      private final Object[] keys;
+
+      TextKeys(Comparator<? super String> comparator, int size) {
+         this.comparator = comparator;
+         this.collator = comparator instanceof Collator ? (Collator) comparator : null;
+         this.keys = new Object[size];
+      }
+
+      void add(int index, String text) {
+         keys[index] = collator != null ? collator.getCollationKey(text) : text;
+      }
+
+      int compare(int index1, int index2) {
+         if (collator != null) {
+            return ((CollationKey) keys[index1]).compareTo((CollationKey) keys[index2]);
+         }
+         return comparator.compare((String) keys[index1], (String) keys[index2]);
+      }
+   }
+
+   private static class StringColumn extends Column {
+      private final TextKeys keys;
+
+      StringColumn(boolean forward, String[] texts, Comparator<? super String> comparator) {
+         super(forward, texts);
+         keys = new TextKeys(comparator, texts.length);
+         for (int i = 0; i < texts.length; i++) {
+            if (texts[i] != null) {
+               keys.add(i, texts[i]);
+            }
+         }
+      }
+
+      @Override
+      int compareKeys(int index1, int index2) {
+         return keys.compare(index1, index2);
+      }
+   }
+
+   /**
+    * Integer, long and percent columns. Texts that are no number sort before numbers and among themselves as strings.
+    */
+   private static class LongColumn extends Column {
+      private final long[] values;
+      private final boolean[] parsed;
+      private final TextKeys unparsed;
+
+      LongColumn(boolean forward, String[] texts, Comparator<? super String> comparator, boolean intValues, boolean percent) {
+         super(forward, texts);
+         values = new long[texts.length];
+         parsed = new boolean[texts.length];
+         unparsed = new TextKeys(comparator, texts.length);
+         for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null) {
+               continue;
+            }
+            try {
+               long value = intValues ? Integer.parseInt(texts[i]) : Long.parseLong(texts[i]);
+               if (percent && value == 0) {
+                  value = Long.MIN_VALUE;
+               } else if (percent && value == 100) {
+                  value = Long.MAX_VALUE;
+               }
+               values[i] = value;
+               parsed[i] = true;
+            } catch (NumberFormatException ex) {
+               unparsed.add(i, texts[i]);
+            }
+         }
+      }
+
+      @Override
+      int compareKeys(int index1, int index2) {
+         if (parsed[index1] && parsed[index2]) {
+            return Long.compare(values[index1], values[index2]);
+         } else if (parsed[index2]) {
+            return -1;
+         } else if (parsed[index1]) {
+            return 1;
+         }
+         return unparsed.compare(index1, index2);
+      }
+   }
+
+   private static class DoubleColumn extends Column {
+      private final double[] values;
+      private final boolean[] parsed;
+      private final TextKeys unparsed;
+
+      DoubleColumn(boolean forward, String[] texts, Comparator<? super String> comparator) {
+         super(forward, texts);
+         values = new double[texts.length];
+         parsed = new boolean[texts.length];
+         unparsed = new TextKeys(comparator, texts.length);
+         for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null) {
+               continue;
+            }
+            try {
+               values[i] = Double.parseDouble(texts[i]);
+               parsed[i] = true;
+            } catch (NumberFormatException ex) {
+               unparsed.add(i, texts[i]);
+            }
+         }
+      }
+
+      @Override
+      int compareKeys(int index1, int index2) {
+         if (parsed[index1] && parsed[index2]) {
+            return XViewerSorter.getCompareForFloat(values[index1], values[index2]);
+         } else if (parsed[index2]) {
+            return -1;
+         } else if (parsed[index1]) {
+            return 1;
+         }
+         return unparsed.compare(index1, index2);
+      }
+   }
+
+   /**
+    * Date columns sort by the backing data: elements without backing data first, then the ones whose backing data is
+    * no date, then the dates.
+    */
+   private static class DateColumn extends Column {
+      private static final byte NO_DATA = 0;
+      private static final byte NO_DATE = 1;
+      private static final byte DATE = 2;
+
+      private final long[] millis;
+      private final byte[] kinds;
+
+      DateColumn(boolean forward, String[] texts, Object[] backingData) {
+         super(forward, texts);
+         millis = new long[texts.length];
+         kinds = new byte[texts.length];
+         for (int i = 0; i < texts.length; i++) {
+            if (backingData[i] instanceof Date) {
+               millis[i] = ((Date) backingData[i]).getTime();
+               kinds[i] = DATE;
+            } else {
+               kinds[i] = backingData[i] == null ? NO_DATA : NO_DATE;
+            }
+         }
+      }
+
+      @Override
+      int compareKeys(int index1, int index2) {
+         if (kinds[index1] != kinds[index2]) {
+            return kinds[index1] < kinds[index2] ? -1 : 1;
+         }
+         return kinds[index1] == DATE ? Long.compare(millis[index1], millis[index2]) : 0;
+      }
+   }
+
+   /**
+    * Paragraph numbers such as 1.2.10, split at the dots once. Parts that are numbers in both texts compare as numbers,
+    * other parts as strings.
+    */
+   private static class ParagraphNumberColumn extends Column {
+      private final String[][] parts;
+      private final int[][] numbers;
+      private final boolean[][] parsed;
+
+      ParagraphNumberColumn(boolean forward, String[] texts) {
+         super(forward, texts);
+         parts = new String[texts.length][];
+         numbers = new int[texts.length][];
+         parsed = new boolean[texts.length][];
+         for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null) {
+               continue;
+            }
+            StringTokenizer tokenizer = new StringTokenizer(texts[i], ".");
+            int count = tokenizer.countTokens();
+            parts[i] = new String[count];
+            numbers[i] = new int[count];
+            parsed[i] = new boolean[count];
+            for (int p = 0; p < count; p++) {
+               parts[i][p] = tokenizer.nextToken();
+               try {
+                  numbers[i][p] = Integer.parseInt(parts[i][p]);
+                  parsed[i][p] = true;
+               } catch (NumberFormatException ex) {
+                  // compared as string
+               }
+            }
+         }
+      }
+
+      @Override
+      int compareKeys(int index1, int index2) {
+         int count = Math.min(parts[index1].length, parts[index2].length);
+         for (int p = 0; p < count; p++) {
+            int result;
+            if (parsed[index1][p] && parsed[index2][p]) {
+               result = Integer.compare(numbers[index1][p], numbers[index2][p]);
+            } else {
+               result = parts[index1][p].compareTo(parts[index2][p]);
+            }
+            if (result != 0) {
+               return result;
+            }
+         }
+         return texts[index1].compareTo(texts[index2]);
+      }
+   }
+
+}
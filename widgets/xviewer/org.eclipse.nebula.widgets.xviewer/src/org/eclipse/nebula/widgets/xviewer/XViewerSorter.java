@@ -37,11 +37,65 @@ import org.eclipse.nebula.widgets.xviewer.util.internal.XViewerLog;
  */
 public class XViewerSorter extends ViewerSorter {
    private final XViewer treeViewer;
+   private final boolean sortOnKeys;
    public final static SimpleDateFormat format10 = new SimpleDateFormat("MM/dd/yyyy");
 
    public XViewerSorter(XViewer treeViewer) {
       super();
       this.treeViewer = treeViewer;
+      this.sortOnKeys = !overridesCompare(getClass());
+   }
+
+   /**
+    * Sorts the elements on keys that are extracted once per element and sort column, see {@link XViewerSortKeys},
+    * instead of getting and parsing the column texts of both elements on every comparison. Subclasses that override
+    * any of the compare methods are sorted through {@link #compare(Viewer, Object, Object)}.
+    */
+   @Override
+   public void sort(Viewer viewer, Object[] elements) {
+      if (!sortOnKeys || elements.length < 2 || treeViewer.getCustomizeMgr().isLoading()) {
+         super.sort(viewer, elements);
+         return;
+      }
+      List<XViewerColumn> sortXCols = treeViewer.getCustomizeMgr().getSortXCols();
+      if (sortXCols == null || sortXCols.isEmpty()) {
+         return;
+      }
+      XViewerSortKeys keys;
+      try {
+         keys = new XViewerSortKeys(treeViewer, sortXCols, getComparator(), elements);
+      } catch (Exception ex) {
+         // compare per element, which logs and skips the elements that fail
+         super.sort(viewer, elements);
+         return;
+      }
+      keys.sort(elements);
+   }
+
+   private static boolean overridesCompare(Class<?> sorterClass) {
+      if (sorterClass == XViewerSorter.class) {
+         return false;
+      }
+      try {
+         return overrides(sorterClass, "compare", Viewer.class, Object.class, Object.class, int.class) //
+            || overrides(sorterClass, "compare", Viewer.class, Object.class, Object.class) //
+            || overrides(sorterClass, "getCompareBasedOnDirection", XViewerColumn.class, int.class, Viewer.class,
+               Object.class, Object.class, int.class) //
+            || overrides(sorterClass, "paragraphNumberCompare", String.class, String.class) //
+            || overrides(sorterClass, "getCompareForFloat", String.class, String.class) //
+            || overrides(sorterClass, "getCompareForInteger", String.class, String.class) //
+            || overrides(sorterClass, "getCompareForLong", String.class, String.class) //
+            || overrides(sorterClass, "getCompareForDate", String.class, Object.class, String.class, Object.class) //
+            || overrides(sorterClass, "getCompareForDate", Date.class, Date.class) //
+            || overrides(sorterClass, "getCompareForPercent", String.class, String.class) //
+            || overrides(sorterClass, "getCompareForPercent", int.class, int.class);
+      } catch (NoSuchMethodException ex) {
+         return true;
+      }
+   }
+
+   private static boolean overrides(Class<?> sorterClass, String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+      return sorterClass.getMethod(name, parameterTypes).getDeclaringClass() != XViewerSorter.class;
    }
 
    public int compare(Viewer viewer, Object o1, Object o2, int sortXColIndex) {